@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.Purchase;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base for benchmarks needing a {@link org.hibernate.SessionFactory} backed by an in-memory
+ * H2 database.  Each benchmark state gets its own database and {@code SessionFactory}; the
+ * schema is exported on setup and dropped on tear down.
+ * <p/>
+ * Subclasses must be annotated with {@link org.openjdk.jmh.annotations.State}.
+ */
+public abstract class AbstractSessionFactoryBenchmark {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	protected SessionFactoryImplementor sessionFactory;
+
+	private StandardServiceRegistry serviceRegistry;
+
+	@Setup(Level.Trial)
+	public void buildSessionFactory() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" );
+		settings.put( AvailableSettings.DRIVER, "org.h2.Driver" );
+		settings.put(
+				AvailableSettings.URL,
+				"jdbc:h2:mem:bench" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+		);
+		settings.put( AvailableSettings.USER, "sa" );
+		settings.put( AvailableSettings.PASS, "" );
+		settings.put( AvailableSettings.POOL_SIZE, "5" );
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+		settings.put( AvailableSettings.SHOW_SQL, "false" );
+		applySettings( settings );
+
+		serviceRegistry = new StandardServiceRegistryBuilder().applySettings( settings ).build();
+		try {
+			sessionFactory = (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Customer.class )
+					.addAnnotatedClass( Purchase.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+
+		populate();
+	}
+
+	@TearDown(Level.Trial)
+	public void closeSessionFactory() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+			sessionFactory = null;
+		}
+		if ( serviceRegistry != null ) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			serviceRegistry = null;
+		}
+	}
+
+	/**
+	 * Hook to adjust the configuration settings before the {@code SessionFactory} is built.
+	 */
+	protected void applySettings(Map<String, Object> settings) {
+	}
+
+	/**
+	 * Hook to insert the data needed by the benchmark, called once after the
+	 * {@code SessionFactory} has been built.
+	 */
+	protected void populate() {
+	}
+
+	protected void persistCustomers(int count) {
+		inTransaction(
+				session -> {
+					for ( long i = 1; i <= count; i++ ) {
+						session.persist( new Customer( i, "customer #" + i, "customer" + i + "@example.org" ) );
+						if ( i % 50 == 0 ) {
+							session.flush();
+							session.clear();
+						}
+					}
+				}
+		);
+	}
+
+	protected void inTransaction(Consumer<Session> work) {
+		try (Session session = sessionFactory.openSession()) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				work.accept( session );
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.Purchase;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flushing interleaved parent and child inserts through {@code BatchingBatch}, with and
+ * without {@value AvailableSettings#ORDER_INSERTS}.  Every unit of work is rolled back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark extends AbstractSessionFactoryBenchmark {
+	private static final int CUSTOMER_COUNT = 10;
+	private static final int PURCHASES_PER_CUSTOMER = 100;
+
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	@Param({ "false", "true" })
+	public boolean orderInserts;
+
+	@Override
+	protected void applySettings(Map<String, Object> settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ) );
+		settings.put( AvailableSettings.ORDER_INSERTS, Boolean.toString( orderInserts ) );
+	}
+
+	@Benchmark
+	public void insert() {
+		try (Session session = sessionFactory.openSession()) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				for ( long i = 1; i <= CUSTOMER_COUNT; i++ ) {
+					final Customer customer = new Customer( i, "customer #" + i, "customer" + i + "@example.org" );
+					session.persist( customer );
+					for ( int j = 0; j < PURCHASES_PER_CUSTOMER; j++ ) {
+						session.persist( new Purchase( customer, "sku-" + j, BigDecimal.valueOf( j ) ) );
+					}
+				}
+				session.flush();
+			}
+			finally {
+				transaction.rollback();
+			}
+		}
+	}
+}
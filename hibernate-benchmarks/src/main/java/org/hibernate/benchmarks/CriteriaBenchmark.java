@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.query.Query;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JPA Criteria queries built for each execution, with the same structure but different literal values, sharing
+ * their JPQL rendering, and a parameterized Criteria query built once and executed again.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CriteriaBenchmark extends AbstractSessionFactoryBenchmark {
+	private static final int CUSTOMER_COUNT = 1000;
+
+	private Session session;
+	private int nextId;
+
+	private CriteriaQuery<Customer> parameterizedCriteria;
+	private ParameterExpression<String> nameParameter;
+
+	@Override
+	protected void populate() {
+		persistCustomers( CUSTOMER_COUNT );
+
+		final CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+		parameterizedCriteria = builder.createQuery( Customer.class );
+		nameParameter = builder.parameter( String.class );
+		final Root<Customer> customer = parameterizedCriteria.from( Customer.class );
+		parameterizedCriteria.select( customer )
+				.where( builder.equal( customer.get( "name" ), nameParameter ) )
+				.orderBy( builder.asc( customer.get( "id" ) ) );
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeSession() {
+		session.close();
+	}
+
+	@Benchmark
+	public Query<Customer> compile() {
+		nextId = nextId % CUSTOMER_COUNT + 1;
+		return session.createQuery( criteria( nextId ) );
+	}
+
+	@Benchmark
+	public Query<Customer> compileParameterized() {
+		nextId = nextId % CUSTOMER_COUNT + 1;
+		return session.createQuery( parameterizedCriteria ).setParameter( nameParameter, "customer #" + nextId );
+	}
+
+	@Benchmark
+	public List<Customer> execute() {
+		nextId = nextId % CUSTOMER_COUNT + 1;
+		final List<Customer> result = session.createQuery( criteria( nextId ) ).list();
+		session.clear();
+		return result;
+	}
+
+	private CriteriaQuery<Customer> criteria(int id) {
+		final CriteriaBuilder builder = session.getCriteriaBuilder();
+		final CriteriaQuery<Customer> criteria = builder.createQuery( Customer.class );
+		final Root<Customer> customer = criteria.from( Customer.class );
+		criteria.select( customer )
+				.where(
+						builder.equal( customer.get( "name" ), "customer #" + id ),
+						builder.greaterThanOrEqualTo( customer.get( "loyaltyPoints" ), id % 10 )
+				)
+				.orderBy( builder.asc( customer.get( "id" ) ) );
+		return criteria;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.benchmarks.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flush of a session managing {@link #entityCount} entities, {@link #dirtyPercent} percent of
+ * which have been modified.  With no dirty entities this measures the cost of dirty checking
+ * alone; the session is rolled back after every flush.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlushBenchmark extends AbstractSessionFactoryBenchmark {
+	private static final int CUSTOMER_COUNT = 10_000;
+
+	@Param({ "100", "1000", "10000" })
+	public int entityCount;
+
+	@Param({ "0", "1", "100" })
+	public int dirtyPercent;
+
+	private Session session;
+	private Transaction transaction;
+
+	@Override
+	protected void populate() {
+		persistCustomers( CUSTOMER_COUNT );
+	}
+
+	@Setup(Level.Invocation)
+	public void loadEntities() {
+		session = sessionFactory.openSession();
+		transaction = session.beginTransaction();
+		final List<Customer> customers = session.createQuery( "from Customer c where c.id <= :max", Customer.class )
+				.setParameter( "max", (long) entityCount )
+				.list();
+		final int dirtyCount = entityCount * dirtyPercent / 100;
+		for ( int i = 0; i < dirtyCount; i++ ) {
+			final Customer customer = customers.get( i );
+			customer.setLoyaltyPoints( customer.getLoyaltyPoints() + 1 );
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void rollback() {
+		transaction.rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		session.flush();
+	}
+}
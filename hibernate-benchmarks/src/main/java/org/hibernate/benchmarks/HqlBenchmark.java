@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * HQL translation (bypassing the {@code QueryPlanCache}), {@code QueryPlanCache} lookups and
+ * query execution through the {@code Loader}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HqlBenchmark extends AbstractSessionFactoryBenchmark {
+	private static final String HQL = "select c from Customer c where c.name = :name order by c.id";
+	private static final int CUSTOMER_COUNT = 1000;
+
+	private Session session;
+	private int nextId;
+
+	@Override
+	protected void populate() {
+		persistCustomers( CUSTOMER_COUNT );
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeSession() {
+		session.close();
+	}
+
+	@Benchmark
+	public HQLQueryPlan compile() {
+		return new HQLQueryPlan( HQL, false, Collections.emptyMap(), sessionFactory );
+	}
+
+	@Benchmark
+	public HQLQueryPlan planCacheHit() {
+		return sessionFactory.getQueryPlanCache().getHQLQueryPlan( HQL, false, Collections.emptyMap() );
+	}
+
+	@Benchmark
+	public List<Customer> execute() {
+		nextId = nextId % CUSTOMER_COUNT + 1;
+		final List<Customer> result = session.createQuery( HQL, Customer.class )
+				.setParameter( "name", "customer #" + nextId )
+				.list();
+		session.clear();
+		return result;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Transaction;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.Purchase;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sorting of the queued inserts of {@link #customerCount} customers, each persisted together
+ * with {@link #purchasesPerCustomer} purchases, as done on flush with {@code hibernate.order_inserts}.
+ * Only the sort is measured; the session is rolled back afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertOrderingBenchmark extends AbstractSessionFactoryBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	public int customerCount;
+
+	@Param({ "1", "4" })
+	public int purchasesPerCustomer;
+
+	private SessionImplementor session;
+	private Transaction transaction;
+
+	@Override
+	protected void applySettings(Map<String, Object> settings) {
+		settings.put( AvailableSettings.ORDER_INSERTS, "true" );
+	}
+
+	@Setup(Level.Invocation)
+	public void queueInserts() {
+		session = (SessionImplementor) sessionFactory.openSession();
+		transaction = session.beginTransaction();
+		for ( int i = 0; i < customerCount; i++ ) {
+			final Customer customer = new Customer( (long) i, "customer " + i, "customer" + i + "@example.org" );
+			session.persist( customer );
+			for ( int j = 0; j < purchasesPerCustomer; j++ ) {
+				session.persist( new Purchase( customer, "sku " + j, BigDecimal.ONE ) );
+			}
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void rollback() {
+		transaction.rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void sortInserts() {
+		session.getActionQueue().sortActions();
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Entity load by identifier: {@code Session#get} resolved from the persistence context, and
+ * resolved from the database through the entity {@code Loader}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark extends AbstractSessionFactoryBenchmark {
+	private static final int CUSTOMER_COUNT = 1000;
+
+	private Session session;
+	private long nextId;
+
+	@Override
+	protected void populate() {
+		persistCustomers( CUSTOMER_COUNT );
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = sessionFactory.openSession();
+		// make every customer managed, so that #getManaged always hits the persistence context
+		session.createQuery( "from Customer", Customer.class ).list();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeSession() {
+		session.close();
+	}
+
+	@Benchmark
+	public Customer getManaged() {
+		return session.get( Customer.class, nextId() );
+	}
+
+	@Benchmark
+	public Customer getFromDatabase() {
+		try (Session session = sessionFactory.openSession()) {
+			return session.get( Customer.class, nextId() );
+		}
+	}
+
+	private Long nextId() {
+		nextId = nextId % CUSTOMER_COUNT + 1;
+		return nextId;
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Entity load by identifier in a fresh session, served by the second-level cache through
+ * {@link CachingRegionFactory}, a {@code RegionFactoryTemplate} implementation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecondLevelCacheBenchmark extends AbstractSessionFactoryBenchmark {
+	private static final int CUSTOMER_COUNT = 1000;
+
+	private long nextId;
+
+	@Override
+	protected void applySettings(Map<String, Object> settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() );
+	}
+
+	@Override
+	protected void populate() {
+		persistCustomers( CUSTOMER_COUNT );
+		// loading each customer once puts it into the second-level cache
+		try (Session session = sessionFactory.openSession()) {
+			for ( long id = 1; id <= CUSTOMER_COUNT; id++ ) {
+				session.get( Customer.class, id );
+			}
+		}
+	}
+
+	@Benchmark
+	public Customer getCached() {
+		nextId = nextId % CUSTOMER_COUNT + 1;
+		try (Session session = sessionFactory.openSession()) {
+			return session.get( Customer.class, nextId );
+		}
+	}
+}
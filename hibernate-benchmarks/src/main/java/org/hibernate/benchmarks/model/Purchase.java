@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.benchmarks.model;
+
+import java.math.BigDecimal;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+/**
+ * A child of {@link Customer} with a sequence generated identifier, so that inserts of it
+ * can be batched.
+ */
+@Entity
+@Table(name = "purchases")
+public class Purchase {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_seq")
+	@SequenceGenerator(name = "purchase_seq", sequenceName = "purchase_seq", allocationSize = 50)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Customer customer;
+
+	private String sku;
+
+	private BigDecimal amount;
+
+	public Purchase() {
+	}
+
+	public Purchase(Customer customer, String sku, BigDecimal amount) {
+		this.customer = customer;
+		this.sku = sku;
+		this.amount = amount;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public String getSku() {
+		return sku;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+}
@@ -118,6 +118,23 @@ public abstract class AbstractEntityInsertAction extends EntityAction {
 		}
 	}
 
+	/**
+	 * Replaces the stand-ins for the identifiers of other entities, whose delayed inserts were
+	 * executed since this action was created, by the identifiers generated for them in the entity
+	 * state maintained by this action (e.g. the owner key of a backref).
+	 */
+	protected final void resolveDelayedIdentifiers() {
+		final Object[] state = getState();
+		for ( int i = 0; i < state.length; i++ ) {
+			if ( state[i] instanceof DelayedPostInsertIdentifier ) {
+				final Serializable generatedIdentifier = ( (DelayedPostInsertIdentifier) state[i] ).getGeneratedIdentifier();
+				if ( generatedIdentifier != null ) {
+					state[i] = generatedIdentifier;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Make the entity "managed" by the persistence context.
 	 */
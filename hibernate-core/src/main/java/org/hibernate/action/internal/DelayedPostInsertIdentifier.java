@@ -26,6 +26,7 @@ public class DelayedPostInsertIdentifier implements Serializable, Comparable<Del
 	private static final AtomicLong SEQUENCE = new AtomicLong( 0 );
 
 	private final long identifier;
+	private Serializable generatedIdentifier;
 
 	/**
 	 * Constructs a DelayedPostInsertIdentifier
@@ -44,6 +45,19 @@ public class DelayedPostInsertIdentifier implements Serializable, Comparable<Del
 		this.identifier = value;
 	}
 
+	/**
+	 * The identifier generated by the delayed insert, once executed.
+	 *
+	 * @return The generated identifier, or {@code null} if the insert was not executed yet
+	 */
+	public Serializable getGeneratedIdentifier() {
+		return generatedIdentifier;
+	}
+
+	void setGeneratedIdentifier(Serializable generatedIdentifier) {
+		this.generatedIdentifier = generatedIdentifier;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -7,6 +7,8 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -70,10 +72,7 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 	@Override
 	public void execute() throws HibernateException {
 		nullifyTransientReferencesIfNotAlready();
-
-		final EntityPersister persister = getPersister();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
+		resolveDelayedIdentifiers();
 
 		setVeto( preInsert() );
 
@@ -81,20 +80,80 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 		// else inserted the same pk first, the insert would fail
 
 		if ( !isVeto() ) {
-			generatedId = persister.insert( getState(), instance, session );
-			if ( persister.hasInsertGeneratedProperties() ) {
-				persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
+			inserted( getPersister().insert( getState(), getInstance(), getSession() ) );
+		}
+
+		executed();
+	}
+
+	/**
+	 * Can this insert be executed in a JDBC batch, by {@link #executeBatch}?
+	 *
+	 * @return True if the insert is delayed and its entity supports batched identity inserts.
+	 */
+	public boolean isBatchable() {
+		return isDelayed && getPersister().isIdentityInsertBatchable();
+	}
+
+	/**
+	 * Executes batchable inserts of instances of a same entity as a single JDBC batch.
+	 *
+	 * @param actions The {@link #isBatchable() batchable} inserts
+	 *
+	 * @throws HibernateException Indicates a problem executing the inserts
+	 */
+	public static void executeBatch(List<EntityIdentityInsertAction> actions) throws HibernateException {
+		final List<EntityIdentityInsertAction> inserts = new ArrayList<>( actions.size() );
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.nullifyTransientReferencesIfNotAlready();
+			action.resolveDelayedIdentifiers();
+			action.setVeto( action.preInsert() );
+			if ( !action.isVeto() ) {
+				inserts.add( action );
 			}
-			//need to do that here rather than in the save event listener to let
-			//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-			persister.setIdentifier( instance, generatedId, session );
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			persistenceContext.registerInsertedKey( getPersister(), generatedId );
-			entityKey = session.generateEntityKey( generatedId, persister );
-			persistenceContext.checkUniqueness( entityKey, getInstance() );
 		}
 
+		if ( !inserts.isEmpty() ) {
+			final Object[][] states = new Object[inserts.size()][];
+			final Object[] instances = new Object[inserts.size()];
+			for ( int i = 0; i < instances.length; i++ ) {
+				states[i] = inserts.get( i ).getState();
+				instances[i] = inserts.get( i ).getInstance();
+			}
+			final EntityIdentityInsertAction first = inserts.get( 0 );
+			final Serializable[] generatedIds = first.getPersister().insertBatch( states, instances, first.getSession() );
+			for ( int i = 0; i < generatedIds.length; i++ ) {
+				inserts.get( i ).inserted( generatedIds[i] );
+			}
+		}
+
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.executed();
+		}
+	}
+
+	private void inserted(Serializable generatedId) {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+
+		this.generatedId = generatedId;
+		if ( isDelayed ) {
+			getDelayedId().setGeneratedIdentifier( generatedId );
+		}
+		if ( persister.hasInsertGeneratedProperties() ) {
+			persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
+		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier( instance, generatedId, session );
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		persistenceContext.registerInsertedKey( persister, generatedId );
+		entityKey = session.generateEntityKey( generatedId, persister );
+		persistenceContext.checkUniqueness( entityKey, instance );
+	}
 
+	private void executed() {
 		//TODO: this bit actually has to be called after all cascades!
 		//      but since identity insert is called *synchronously*,
 		//      instead of asynchronously as other actions, it isn't
@@ -105,7 +164,7 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 
 		postInsert();
 
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
 			statistics.insertEntity( getPersister().getEntityName() );
 		}
@@ -91,6 +91,7 @@ public class EntityInsertAction extends AbstractEntityInsertAction {
 	@Override
 	public void execute() throws HibernateException {
 		nullifyTransientReferencesIfNotAlready();
+		resolveDelayedIdentifiers();
 
 		final EntityPersister persister = getPersister();
 		final SharedSessionContractImplementor session = getSession();
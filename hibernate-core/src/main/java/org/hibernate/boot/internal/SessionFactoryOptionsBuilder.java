@@ -71,8 +71,10 @@ import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
+import static org.hibernate.cfg.AvailableSettings.AUTO_FLUSH_QUERY_SPACES_ONLY;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_IDENTITY_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
@@ -87,6 +89,8 @@ import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_TRACKED_DIRTY_ENTITIES_ONLY;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
@@ -97,6 +101,7 @@ import static org.hibernate.cfg.AvailableSettings.JDBC_TYLE_PARAMS_ZERO_BASE;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERT_SIZE;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE;
 import static org.hibernate.cfg.AvailableSettings.OMIT_JOIN_OF_SUPERCLASS_TABLES;
@@ -106,14 +111,20 @@ import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_SIMPLE_TRANSLATION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING_THREADS;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
+import static org.hibernate.cfg.AvailableSettings.SESSION_MANAGED_ENTITY_LIMIT;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.SESSION_SHARED_LOADED_VALUE_LIMIT;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE_ADAPTIVE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE_MAX_MEMORY;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
@@ -196,6 +207,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean flushTrackedDirtyEntitiesOnlyEnabled;
+	private int parallelDirtyCheckingThreshold;
+	private boolean autoFlushQuerySpacesOnlyEnabled;
+	private int managedEntityLimit;
+	private int sharedLoadedValueLimit;
+	private int multiRowInsertSize;
 	private boolean postInsertIdentifierDelayed;
 	private boolean enhancementAsProxyEnabled;
 
@@ -209,6 +226,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// Queries
 	private Map querySubstitutions;
 	private boolean namedQueryStartupCheckingEnabled;
+	private int namedQueryStartupCheckingThreads;
+	private boolean simpleQueryTranslationEnabled;
 	private boolean conventionalJavaConstants;
 	private final boolean procedureParameterNullPassingEnabled;
 	private final boolean collectionJoinSubqueryRewriteEnabled;
@@ -232,7 +251,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private boolean identityInsertBatchingEnabled;
 	private Integer jdbcFetchSize;
+	private boolean adaptiveJdbcFetchSizeEnabled;
+	private int adaptiveJdbcFetchSizeMaxMemory;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -350,6 +372,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 		this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
+		this.flushTrackedDirtyEntitiesOnlyEnabled = ConfigurationHelper.getBoolean( FLUSH_TRACKED_DIRTY_ENTITIES_ONLY, configurationSettings );
+		this.parallelDirtyCheckingThreshold = ConfigurationHelper.getInt( FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD, configurationSettings, 0 );
+		this.autoFlushQuerySpacesOnlyEnabled = ConfigurationHelper.getBoolean( AUTO_FLUSH_QUERY_SPACES_ONLY, configurationSettings );
+		this.managedEntityLimit = ConfigurationHelper.getInt( SESSION_MANAGED_ENTITY_LIMIT, configurationSettings, 0 );
+		this.sharedLoadedValueLimit = ConfigurationHelper.getInt( SESSION_SHARED_LOADED_VALUE_LIMIT, configurationSettings, 0 );
+		this.multiRowInsertSize = ConfigurationHelper.getInt( MULTI_ROW_INSERT_SIZE, configurationSettings, 1 );
 		this.enhancementAsProxyEnabled = ConfigurationHelper.getBoolean( ALLOW_ENHANCEMENT_AS_PROXY, configurationSettings );
 
 		this.callbacksEnabled = ConfigurationHelper.getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
@@ -358,6 +386,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.querySubstitutions = ConfigurationHelper.toMap( QUERY_SUBSTITUTIONS, " ,=;:\n\t\r\f", configurationSettings );
 		this.namedQueryStartupCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		this.namedQueryStartupCheckingThreads = ConfigurationHelper.getInt(
+				QUERY_STARTUP_CHECKING_THREADS,
+				configurationSettings,
+				Runtime.getRuntime().availableProcessors()
+		);
+		this.simpleQueryTranslationEnabled = cfgService.getSetting( QUERY_SIMPLE_TRANSLATION, BOOLEAN, false );
 		this.conventionalJavaConstants = cfgService.getSetting(
 				CONVENTIONAL_JAVA_CONSTANTS, BOOLEAN, true );
 		this.procedureParameterNullPassingEnabled = cfgService.getSetting( PROCEDURE_NULL_PARAM_PASSING, BOOLEAN, false );
@@ -427,6 +461,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.identityInsertBatchingEnabled = ConfigurationHelper.getBoolean( BATCH_IDENTITY_INSERTS, configurationSettings );
 		this.scrollableResultSetsEnabled = ConfigurationHelper.getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -443,6 +478,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = ConfigurationHelper.getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.adaptiveJdbcFetchSizeEnabled = ConfigurationHelper.getBoolean( STATEMENT_FETCH_SIZE_ADAPTIVE, configurationSettings );
+		this.adaptiveJdbcFetchSizeMaxMemory = ConfigurationHelper.getInt( STATEMENT_FETCH_SIZE_MAX_MEMORY, configurationSettings, 2 * 1024 * 1024 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = ConfigurationHelper.getBoolean(
@@ -1072,6 +1109,61 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return omitJoinOfSuperclassTablesEnabled;
 	}
 
+	@Override
+	public boolean isFlushTrackedDirtyEntitiesOnlyEnabled() {
+		return flushTrackedDirtyEntitiesOnlyEnabled;
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return parallelDirtyCheckingThreshold;
+	}
+
+	@Override
+	public boolean isAutoFlushQuerySpacesOnlyEnabled() {
+		return autoFlushQuerySpacesOnlyEnabled;
+	}
+
+	@Override
+	public int getManagedEntityLimit() {
+		return managedEntityLimit;
+	}
+
+	@Override
+	public int getSharedLoadedValueLimit() {
+		return sharedLoadedValueLimit;
+	}
+
+	@Override
+	public int getMultiRowInsertSize() {
+		return multiRowInsertSize;
+	}
+
+	@Override
+	public boolean isAdaptiveJdbcFetchSizeEnabled() {
+		return adaptiveJdbcFetchSizeEnabled;
+	}
+
+	@Override
+	public int getAdaptiveJdbcFetchSizeMaxMemory() {
+		return adaptiveJdbcFetchSizeMaxMemory;
+	}
+
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return identityInsertBatchingEnabled;
+	}
+
+	@Override
+	public int getNamedQueryStartupCheckingThreads() {
+		return namedQueryStartupCheckingThreads;
+	}
+
+	@Override
+	public boolean isSimpleQueryTranslationEnabled() {
+		return simpleQueryTranslationEnabled;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// In-flight mutation access
@@ -452,4 +452,59 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return delegate.isOmitJoinOfSuperclassTablesEnabled();
 	}
+
+	@Override
+	public boolean isFlushTrackedDirtyEntitiesOnlyEnabled() {
+		return delegate.isFlushTrackedDirtyEntitiesOnlyEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public boolean isAutoFlushQuerySpacesOnlyEnabled() {
+		return delegate.isAutoFlushQuerySpacesOnlyEnabled();
+	}
+
+	@Override
+	public int getManagedEntityLimit() {
+		return delegate.getManagedEntityLimit();
+	}
+
+	@Override
+	public int getSharedLoadedValueLimit() {
+		return delegate.getSharedLoadedValueLimit();
+	}
+
+	@Override
+	public int getMultiRowInsertSize() {
+		return delegate.getMultiRowInsertSize();
+	}
+
+	@Override
+	public boolean isAdaptiveJdbcFetchSizeEnabled() {
+		return delegate.isAdaptiveJdbcFetchSizeEnabled();
+	}
+
+	@Override
+	public int getAdaptiveJdbcFetchSizeMaxMemory() {
+		return delegate.getAdaptiveJdbcFetchSizeMaxMemory();
+	}
+
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return delegate.isIdentityInsertBatchingEnabled();
+	}
+
+	@Override
+	public int getNamedQueryStartupCheckingThreads() {
+		return delegate.getNamedQueryStartupCheckingThreads();
+	}
+
+	@Override
+	public boolean isSimpleQueryTranslationEnabled() {
+		return delegate.isSimpleQueryTranslationEnabled();
+	}
 }
@@ -316,4 +316,106 @@ public interface SessionFactoryOptions {
 	}
 
 	boolean isOmitJoinOfSuperclassTablesEnabled();
+
+	/**
+	 * Should flushes skip the unchanged entities tracking their own dirtiness?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_TRACKED_DIRTY_ENTITIES_ONLY
+	 */
+	default boolean isFlushTrackedDirtyEntitiesOnlyEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of entities to flush from which on they are dirty checked in parallel, {@code 0} if disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 */
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Should auto flushes only dirty check the entities which may affect the tables of the query?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#AUTO_FLUSH_QUERY_SPACES_ONLY
+	 */
+	default boolean isAutoFlushQuerySpacesOnlyEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of entities a session may manage before evicting the least recently accessed clean ones,
+	 * {@code 0} if unlimited.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SESSION_MANAGED_ENTITY_LIMIT
+	 */
+	default int getManagedEntityLimit() {
+		return 0;
+	}
+
+	/**
+	 * The number of distinct values of each immutable basic property a session shares between the entities
+	 * it loads, {@code 0} if values are not shared.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SESSION_SHARED_LOADED_VALUE_LIMIT
+	 */
+	default int getSharedLoadedValueLimit() {
+		return 0;
+	}
+
+	/**
+	 * The number of rows of the multi-row statements used for batched entity inserts, {@code 1} if
+	 * batched inserts are sent row by row.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+	 */
+	default int getMultiRowInsertSize() {
+		return 1;
+	}
+
+	/**
+	 * Should the JDBC fetch size of queries grow with the number of rows read?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE_ADAPTIVE
+	 */
+	default boolean isAdaptiveJdbcFetchSizeEnabled() {
+		return false;
+	}
+
+	/**
+	 * The estimated memory, in bytes, the rows of a single fetch may take once the fetch size is adaptive.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE_MAX_MEMORY
+	 */
+	default int getAdaptiveJdbcFetchSizeMaxMemory() {
+		return 2 * 1024 * 1024;
+	}
+
+	/**
+	 * Should the inserts of entities with IDENTITY generated identifiers be batched?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean isIdentityInsertBatchingEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of threads checking the named queries in parallel during startup.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING_THREADS
+	 */
+	default int getNamedQueryStartupCheckingThreads() {
+		return 1;
+	}
+
+	/**
+	 * Should simple HQL queries be translated without the full HQL parser?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_SIMPLE_TRANSLATION
+	 */
+	default boolean isSimpleQueryTranslationEnabled() {
+		return false;
+	}
 }
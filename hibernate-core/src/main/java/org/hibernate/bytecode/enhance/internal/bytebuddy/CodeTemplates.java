@@ -14,6 +14,7 @@ import java.util.Map;
 import org.hibernate.Hibernate;
 import org.hibernate.bytecode.enhance.internal.tracker.CompositeOwnerTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.EntityChangeNotifier;
 import org.hibernate.bytecode.enhance.internal.tracker.NoopCollectionTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleCollectionTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
@@ -64,12 +65,14 @@ class CodeTemplates {
 	static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
+				@Advice.This Object self,
 				@Advice.Argument(0) String name,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
 				$$_hibernate_tracker = new SimpleFieldTracker();
 			}
 			$$_hibernate_tracker.add( name );
+			EntityChangeNotifier.entityChanged( self );
 		}
 	}
 
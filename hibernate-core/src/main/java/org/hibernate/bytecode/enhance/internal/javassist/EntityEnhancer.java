@@ -20,6 +20,7 @@ import javassist.Modifier;
 import javassist.NotFoundException;
 
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.EntityChangeNotifier;
 import org.hibernate.bytecode.enhance.internal.tracker.NoopCollectionTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleCollectionTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
@@ -29,8 +30,8 @@ import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.NotifyingSelfDirtinessTracker;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
-import org.hibernate.engine.spi.SelfDirtinessTracker;
 
 /**
  * enhancer for regular entities
@@ -46,6 +47,7 @@ public class EntityEnhancer extends PersistentAttributesEnhancer {
 	// assuming the number of fields is not very high, SimpleFieldTracker implementation it's the fastest
 	private static final String DIRTY_TRACKER_IMPL = SimpleFieldTracker.class.getName();
 	private static final String COLLECTION_TRACKER_IMPL = SimpleCollectionTracker.class.getName();
+	private static final String ENTITY_CHANGE_NOTIFIER = EntityChangeNotifier.class.getName();
 
 	public void enhance(CtClass managedCtClass) {
 		// add the ManagedEntity interface
@@ -112,7 +114,7 @@ public class EntityEnhancer extends PersistentAttributesEnhancer {
 	}
 
 	private void addInLineDirtyHandling(CtClass managedCtClass) {
-		managedCtClass.addInterface( loadCtClassFromClass( SelfDirtinessTracker.class ) );
+		managedCtClass.addInterface( loadCtClassFromClass( NotifyingSelfDirtinessTracker.class ) );
 
 		FieldWriter.addField(
 				managedCtClass,
@@ -140,10 +142,12 @@ public class EntityEnhancer extends PersistentAttributesEnhancer {
 					"public void %1$s(String name) {%n" +
 							"  if (%2$s == null) { %2$s = new %3$s(); }%n" +
 							"  %2$s.add(name);%n" +
+							"  %4$s.entityChanged(this);%n" +
 							"}",
 					EnhancerConstants.TRACKER_CHANGER_NAME,
 					EnhancerConstants.TRACKER_FIELD_NAME,
-					DIRTY_TRACKER_IMPL
+					DIRTY_TRACKER_IMPL,
+					ENTITY_CHANGE_NOTIFIER
 			);
 
 			MethodWriter.write(
@@ -203,10 +207,12 @@ public class EntityEnhancer extends PersistentAttributesEnhancer {
 							"public void %1$s(String name) {%n" +
 							"  if (%2$s == null) { %2$s = new %3$s(); }%n" +
 							"  %2$s.add(name);%n" +
+							"  %4$s.entityChanged(this);%n" +
 							"}",
 					EnhancerConstants.TRACKER_CHANGER_NAME,
 					EnhancerConstants.TRACKER_FIELD_NAME,
-					DIRTY_TRACKER_IMPL
+					DIRTY_TRACKER_IMPL,
+					ENTITY_CHANGE_NOTIFIER
 			);
 
 			createCollectionDirtyCheckMethod( managedCtClass );
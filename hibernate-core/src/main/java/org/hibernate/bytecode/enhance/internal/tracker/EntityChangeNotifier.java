@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.enhance.internal.tracker;
+
+import org.hibernate.engine.internal.AbstractEntityEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.PersistenceContext;
+
+/**
+ * Reports the changes tracked by enhanced entities to the persistence context they are associated with.
+ * Called from the enhanced {@code $$_hibernate_trackChange} method.
+ *
+ * @see org.hibernate.engine.spi.NotifyingSelfDirtinessTracker
+ */
+public final class EntityChangeNotifier {
+
+	private EntityChangeNotifier() {
+	}
+
+	public static void entityChanged(Object entity) {
+		if ( !( entity instanceof ManagedEntity ) ) {
+			return;
+		}
+		final EntityEntry entry = ( (ManagedEntity) entity ).$$_hibernate_getEntityEntry();
+		// detached, or immutable (whose entry might be shared by several persistence contexts)
+		if ( !( entry instanceof AbstractEntityEntry ) || !entry.getPersister().isMutable() ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = ( (AbstractEntityEntry) entry ).getPersistenceContext();
+		if ( persistenceContext != null ) {
+			persistenceContext.entityChanged( entity );
+		}
+	}
+}
@@ -906,6 +906,29 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads checking the named queries in parallel during startup, when
+	 * {@link #QUERY_STARTUP_CHECKING enabled}, {@code 1} using the thread building the {@code SessionFactory}.
+	 * It is also the number of background threads warming the query plan cache up with the queries of the
+	 * {@link #QUERY_PLAN_CACHE_ARCHIVE query plan archive}.
+	 * <p/>
+	 * The default value is the number of available processors.
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_STARTUP_CHECKING_THREADS = "hibernate.query.startup_check_threads";
+
+	/**
+	 * Should simple HQL queries, selecting a single entity restricted by equality to parameters and possibly
+	 * ordered, be translated directly from the entity persister instead of going through the full HQL parser?
+	 * The generated SQL is the same; other queries are always fully translated.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_SIMPLE_TRANSLATION = "hibernate.query.simple_translation";
+
 	/**
 	 * Setting which indicates whether or not Java constant follow the Java Naming conventions.
 	 * <p/>
@@ -952,6 +975,253 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Should flushing skip the entities which track their own dirtiness and have not been changed?
+	 * <p/>
+	 * When enabled, entities enhanced with inline dirty tracking register themselves with their
+	 * persistence context as soon as one of their attributes changes, and a flush only visits
+	 * those entities (plus all entities which cannot be proven clean without a dirty check, such
+	 * as non-enhanced entities or entities owning collections).  The cost of a flush then depends
+	 * on the number of changed entities rather than on the number of managed entities.
+	 * <p/>
+	 * Custom {@link org.hibernate.event.spi.FlushEntityEventListener}s are not notified of the
+	 * skipped entities.  Entity classes must have been enhanced with this version of Hibernate,
+	 * classes enhanced with earlier versions are always dirty checked.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String FLUSH_TRACKED_DIRTY_ENTITIES_ONLY = "hibernate.flush.tracked_dirty_entities_only";
+
+	/**
+	 * The number of entities a flush has to visit from which on their current state is read and compared
+	 * with their loaded state in parallel, using the common {@link java.util.concurrent.ForkJoinPool},
+	 * before updates get scheduled one entity at a time as usual.
+	 * <p/>
+	 * Only applies to entities not tracking their own dirtiness, and only when the default
+	 * {@link org.hibernate.event.spi.FlushEntityEventListener} is the sole one registered.  Property accessors
+	 * must not have side effects.  Once {@link org.hibernate.Interceptor#onFlushDirty}, a JPA
+	 * {@link javax.persistence.PreUpdate} callback or an entity listener was invoked for a dirty entity, the
+	 * state of the entities visited after it is read again, as it might have been changed by the callback.
+	 * <p/>
+	 * The default value is {@code 0}, which disables parallel dirty checking.
+	 *
+	 * @since 5.4
+	 */
+	String FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
+	/**
+	 * When enabled, an auto flush before a query first checks whether any pending change may affect the
+	 * tables of the query, only dirty checking the entities whose tables, or the tables of the collections
+	 * they own or cascade to on flush, are queried.  The other entities are skipped entirely, and if none
+	 * of the checked ones changed, the auto flush is skipped without the usual dirty checking of the whole
+	 * persistence context.  Otherwise the auto flush happens as usual.
+	 * <p/>
+	 * Only applies to queries with known query spaces, in sessions without a custom
+	 * {@link org.hibernate.Interceptor}, {@link org.hibernate.CustomEntityDirtinessStrategy} or
+	 * {@link org.hibernate.event.spi.FlushEntityEventListener}.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String AUTO_FLUSH_QUERY_SPACES_ONLY = "hibernate.flush.auto_query_spaces_only";
+
+	/**
+	 * The number of entities a session may manage before it starts evicting, at the end of
+	 * {@code find()}/{@code get()}/{@code load()} operations, queries and flushes, the least recently
+	 * accessed entities which can be evicted without losing any change: entities which are neither new,
+	 * removed nor dirty, which do not own dirty collections, and whose eviction would not cascade to
+	 * other entities.  Entities loaded or accessed through the session since its last flush are never evicted,
+	 * so that the entities returned by a query stay managed at least until the next (automatic or explicit)
+	 * flush, even when there are more of them than the limit.
+	 * <p/>
+	 * Evicted entities are detached, but the session keeps their loaded state for as long as they are
+	 * reachable, so that their eviction never loses a change: an evicted entity is associated with the session
+	 * again when accessed through its identifier (by {@code find()}, a query or an association), or by the
+	 * next flush if it was changed since, in which case the flush writes its changes.  The session therefore
+	 * only saves the memory of the entities the application no longer refers to.
+	 * <p/>
+	 * Meant for long running (batch) sessions which would otherwise need to be cleared manually; the limit
+	 * should comfortably exceed the number of entities each unit of work of such a session refers to.
+	 * <p/>
+	 * The default value is {@code 0}, which disables the limit.
+	 *
+	 * @since 5.4
+	 * @see org.hibernate.stat.SessionStatistics#getManagedEntityLimit()
+	 */
+	String SESSION_MANAGED_ENTITY_LIMIT = "hibernate.session.managed_entity_limit";
+
+	/**
+	 * The number of distinct values of each immutable basic property (strings, numbers, enums, ...) which
+	 * a session shares between the entities it loads.  Each loaded value equal to one loaded before for
+	 * the same property is replaced by that earlier value, so that the entities and their loaded state
+	 * snapshots refer to a single instance instead of one instance per row, and for primitive properties
+	 * the snapshots share the boxed value.  A property stops being shared once it has had more distinct
+	 * values than this limit.
+	 * <p/>
+	 * Meant for sessions loading many entities whose properties have few distinct values, such as codes,
+	 * statuses or amounts.  Only the values of immutable Java types whose {@code equals} is exact are shared:
+	 * strings, boxed primitives, {@code BigInteger}, {@code BigDecimal}, enums and {@code java.time} values,
+	 * including those mapped by user types or attribute converters.  Other values (dates, byte arrays, custom
+	 * value classes, ...) are never shared.
+	 * <p/>
+	 * The default value is {@code 0}, which disables the sharing.
+	 *
+	 * @since 5.4
+	 */
+	String SESSION_SHARED_LOADED_VALUE_LIMIT = "hibernate.session.shared_loaded_value_limit";
+
+	/**
+	 * The number of rows of a single {@code INSERT ... VALUES (...), (...)} statement used for batched
+	 * entity inserts.  When greater than {@code 1}, JDBC batching is enabled (see {@link #STATEMENT_BATCH_SIZE})
+	 * and the {@link org.hibernate.dialect.Dialect#supportsMultiRowInsert() Dialect supports it}, the rows
+	 * inserted for an entity are not added to a JDBC batch one by one, but sent as statements inserting that
+	 * many rows at once.  This cuts the statement executions even with drivers which don't rewrite JDBC batches.
+	 * <p/>
+	 * Entities with custom or callable insert SQL are always inserted row by row.  For each insert SQL, the
+	 * number of rows is capped by the {@link org.hibernate.dialect.Dialect#getMultiRowInsertRowLimit() row limit}
+	 * of the dialect, and so that the parameters of all the rows stay within its
+	 * {@link org.hibernate.dialect.Dialect#getParameterCountLimit() parameter limit}.
+	 * <p/>
+	 * The default value is {@code 1}, which disables multi-row inserts.
+	 *
+	 * @since 5.4
+	 */
+	String MULTI_ROW_INSERT_SIZE = "hibernate.jdbc.multi_row_insert_size";
+
+	/**
+	 * Should the JDBC batch size be tuned for each batched statement by the measured execution time per row?
+	 * The {@link #STATEMENT_BATCH_SIZE configured size} is the size each statement starts with, and also
+	 * needs to be greater than {@code 1}.  From there the size is doubled or halved within
+	 * {@link #STATEMENT_BATCH_MIN_SIZE} and {@link #STATEMENT_BATCH_MAX_SIZE} for as long as that makes full
+	 * batches execute faster per row.  The sizes in use are exposed by
+	 * {@link org.hibernate.engine.jdbc.batch.internal.BatchBuilderMXBean#getJdbcBatchSizes()}.
+	 * <p/>
+	 * Sessions with a {@link org.hibernate.Session#setJdbcBatchSize session batch size} use that size as is.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String STATEMENT_BATCH_ADAPTIVE = "hibernate.jdbc.batch_size.adaptive";
+
+	/**
+	 * The smallest JDBC batch size an {@link #STATEMENT_BATCH_ADAPTIVE adaptive} batch size is tuned to.
+	 * The default value is {@code 1}.
+	 *
+	 * @since 5.4
+	 */
+	String STATEMENT_BATCH_MIN_SIZE = "hibernate.jdbc.batch_size.min";
+
+	/**
+	 * The largest JDBC batch size an {@link #STATEMENT_BATCH_ADAPTIVE adaptive} batch size is tuned to.
+	 * The default value is {@code 1000}.
+	 *
+	 * @since 5.4
+	 */
+	String STATEMENT_BATCH_MAX_SIZE = "hibernate.jdbc.batch_size.max";
+
+	/**
+	 * The number of prepared statements Hibernate keeps open for each physical JDBC connection.  Released
+	 * statements are kept in a cache attached to their connection, keyed by SQL and result set type, and reused
+	 * by the next execution of the same SQL on that connection, also by later sessions obtaining the same
+	 * connection from a pool.  The least recently used statements are closed beyond this size.
+	 * <p/>
+	 * Meant for drivers and connection pools which don't cache statements themselves.  Callable statements
+	 * and statements returning generated keys are never cached.  Connections are told apart by identity, so
+	 * the statements are only reused with pools handing out the same {@code Connection} instance again.
+	 * Pools handing out a new proxy for each checkout, such as HikariCP, c3p0 or Agroal, close the statements
+	 * of the proxy when it is returned, so with them statements are only reused within a session, and the
+	 * entries of returned proxies are only dropped once evicted.
+	 * Cache hits and misses are counted by {@link org.hibernate.stat.Statistics}.
+	 * <p/>
+	 * The default value is {@code 0}, which disables the cache.
+	 *
+	 * @since 5.4
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache.size";
+
+	/**
+	 * The number of physical JDBC connections the {@link #STATEMENT_CACHE_SIZE statement cache} keeps
+	 * statements for.  The statements of the least recently used connection are closed beyond it, so it
+	 * should be at least the maximum size of the connection pool.
+	 * <p/>
+	 * The default value is {@code 64}.
+	 *
+	 * @since 5.4
+	 */
+	String STATEMENT_CACHE_MAX_CONNECTIONS = "hibernate.jdbc.statement_cache.max_connections";
+
+	/**
+	 * Prefix of the settings configuring the connections to the read replica of a
+	 * {@link org.hibernate.engine.jdbc.connections.internal.ReadReplicaConnectionProviderImpl}.  They override the
+	 * corresponding {@code hibernate.connection} settings of the primary database, e.g.
+	 * {@code hibernate.connection.replica.url} overrides {@link #URL}.
+	 *
+	 * @since 5.4
+	 */
+	String CONNECTION_REPLICA_PREFIX = "hibernate.connection.replica";
+
+	/**
+	 * The time, in milliseconds, during which read-only queries and loads of tables written to keep reading from the
+	 * primary database rather than from the read replica, so that the writes are read back even if the replica lags.
+	 * The SessionFactory records when the tables were last written to through it, and read-only transactions, which
+	 * may read any table, use the primary database during the window following any write.
+	 * <p/>
+	 * The default value is {@code 0}, not tracking writes at all.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.internal.ReadReplicaConnectionProviderImpl
+	 * @since 5.4
+	 */
+	String CONNECTION_REPLICA_READ_YOUR_WRITES_WINDOW = "hibernate.connection.replica_read_your_writes_window";
+
+	/**
+	 * Should the JDBC fetch size of queries grow with the number of rows read?  Queries without a
+	 * {@link org.hibernate.query.Query#setFetchSize fetch size of their own} then start with the
+	 * {@link #STATEMENT_FETCH_SIZE configured fetch size}, or 16 rows, and double it each time all the rows
+	 * fetched so far were read, as long as the rows of a fetch are estimated to fit in
+	 * {@link #STATEMENT_FETCH_SIZE_MAX_MEMORY}.  Row sizes are estimated from the column types of the loaded
+	 * entities and collections.
+	 * <p/>
+	 * This keeps small results from being fetched in many round trips, while large scrolled or streamed
+	 * results are never buffered whole by drivers honoring the fetch size.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String STATEMENT_FETCH_SIZE_ADAPTIVE = "hibernate.jdbc.fetch_size.adaptive";
+
+	/**
+	 * The estimated memory, in bytes, the rows of a single fetch may take once the fetch size is
+	 * {@link #STATEMENT_FETCH_SIZE_ADAPTIVE adaptive}.
+	 * <p/>
+	 * The default value is {@code 2097152} (2 MB).
+	 *
+	 * @since 5.4
+	 */
+	String STATEMENT_FETCH_SIZE_MAX_MEMORY = "hibernate.jdbc.fetch_size.max_memory";
+
+	/**
+	 * Should the inserts of entities with an IDENTITY generated identifier be executed as JDBC batches, reading
+	 * the generated identifiers back through {@link java.sql.Statement#getGeneratedKeys()}?  This requires
+	 * {@link #STATEMENT_BATCH_SIZE JDBC batching},
+	 * {@link #USE_GET_GENERATED_KEYS getGeneratedKeys} and a
+	 * {@link org.hibernate.dialect.identity.IdentityColumnSupport#supportsBatchedGetGeneratedKeys() Dialect}
+	 * whose driver returns the keys of all the rows of a batch.
+	 * <p/>
+	 * The inserts of entities made persistent by {@code persist()} are then delayed until
+	 * flush time, even within a transaction, and the identifiers of these entities are only assigned then.
+	 * Entities with a natural id, custom insert SQL or dynamic inserts are always inserted one by one.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
 	/**
 	 * JPA Callbacks are enabled by default. Set this to {@code false} to disable them.
 	 * Mostly useful to save a bit of memory when they are not used.
@@ -1232,6 +1502,9 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 * </ul>
 	 *
 	 * maintained by {@link org.hibernate.engine.query.spi.QueryPlanCache}. Default is 2048.
+	 * <p/>
+	 * The JPQL renderings of JPA Criteria queries, shared by the queries of the same structure, are bounded
+	 * by the same number.
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
@@ -1241,6 +1514,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * The location of the file archiving the HQL queries of the {@link org.hibernate.engine.query.spi.QueryPlanCache}
+	 * when the {@code SessionFactory} is closed, to warm the cache of the next {@code SessionFactory} up.  Once built,
+	 * it translates the archived queries in the background, using up to {@link #QUERY_STARTUP_CHECKING_THREADS}
+	 * threads, unless its mapping differs.  The archive holds the query strings, not precompiled plans, so this does
+	 * not shorten startup, but moves the translations off the first requests; see
+	 * {@link org.hibernate.engine.query.spi.QueryPlanCache#awaitWarmUp} to wait for them.
+	 * <p/>
+	 * No archive is used by default.
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_PLAN_CACHE_ARCHIVE = "hibernate.query.plan_cache_archive";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
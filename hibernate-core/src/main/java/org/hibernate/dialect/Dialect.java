@@ -2958,6 +2958,38 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect/database support inserting several rows with a single
+	 * INSERT statement (e.g. insert into t (a, b) values (?, ?), (?, ?) )
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Return the limit that the underlying database places on the number of rows inserted by a single
+	 * multi-row INSERT statement.
+	 * If the database defines no such limits, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getMultiRowInsertRowLimit() {
+		return 0;
+	}
+
+	/**
+	 * Return the limit that the underlying database, or its driver, places on the number of parameters bound
+	 * to a single statement.
+	 * If the database defines no such limits, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * Does this dialect/database support SKIP_LOCKED timeout.
 	 *
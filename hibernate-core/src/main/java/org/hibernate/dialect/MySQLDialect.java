@@ -610,4 +610,15 @@ public class MySQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// the parameter count of a prepared statement is an unsigned 16-bit integer
+		return 65535;
+	}
+
 }
@@ -62,6 +62,17 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// the parameter count of a Bind message is a 16-bit integer
+		return 32767;
+	}
+
 	public boolean supportsRowValueConstructorSyntaxInInList() {
 		return true;
 	}
@@ -61,4 +61,15 @@ public class SQLServer2008Dialect extends SQLServer2005Dialect {
 	public boolean supportsValuesList() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertRowLimit() {
+		// the row limit of a table value constructor
+		return 1000;
+	}
 }
@@ -12,12 +12,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.id.insert.AbstractReturningDelegate;
+import org.hibernate.id.insert.Binder;
 import org.hibernate.id.insert.IdentifierGeneratingInsert;
 import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
+import org.hibernate.pretty.MessageHelper;
 
 /**
  * Delegate for dealing with IDENTITY columns using JDBC3 getGeneratedKeys
@@ -71,4 +74,72 @@ public class GetGeneratedKeysDelegate
 			}
 		}
 	}
+
+	/**
+	 * Perform the indicated insert SQL statement once per binder, as a single JDBC batch, and read the
+	 * identifier values generated for all the inserted rows.  Only valid when the
+	 * {@link IdentityColumnSupport#supportsBatchedGetGeneratedKeys() driver returns them}.
+	 *
+	 * @param insertSQL The INSERT statement string
+	 * @param session The session in which we are operating
+	 * @param binders The param binders, one per inserted row
+	 *
+	 * @return The generated identifier values, in the order of the binders.
+	 */
+	public Serializable[] performBatchInsert(
+			String insertSQL,
+			SharedSessionContractImplementor session,
+			Binder[] binders) {
+		try {
+			final PreparedStatement insert = prepare( insertSQL, session );
+			try {
+				for ( Binder binder : binders ) {
+					binder.bindValues( insert );
+					insert.addBatch();
+				}
+				return executeBatchAndExtract( insert, binders.length, session );
+			}
+			finally {
+				releaseStatement( insert, session );
+			}
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not insert: " + MessageHelper.infoString( persister ),
+					insertSQL
+			);
+		}
+	}
+
+	private Serializable[] executeBatchAndExtract(
+			PreparedStatement insert,
+			int rowCount,
+			SharedSessionContractImplementor session) throws SQLException {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		try {
+			jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+			insert.executeBatch();
+		}
+		finally {
+			jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+		}
+
+		final Serializable[] ids = new Serializable[rowCount];
+		final ResultSet rs = insert.getGeneratedKeys();
+		try {
+			for ( int i = 0; i < rowCount; i++ ) {
+				ids[i] = IdentifierGeneratorHelper.getGeneratedIdentity(
+						rs,
+						persister.getRootTableKeyColumnNames()[0],
+						persister.getIdentifierType(),
+						session.getJdbcServices().getJdbcEnvironment().getDialect()
+				);
+			}
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( rs, insert );
+		}
+		return ids;
+	}
 }
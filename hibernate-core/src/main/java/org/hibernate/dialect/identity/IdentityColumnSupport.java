@@ -103,4 +103,16 @@ public interface IdentityColumnSupport {
 	GetGeneratedKeysDelegate buildGetGeneratedKeysDelegate(
 			PostInsertIdentityPersister persister,
 			Dialect dialect);
+
+	/**
+	 * Does the JDBC driver return the IDENTITY values generated for all the rows of an executed
+	 * batch from {@link java.sql.Statement#getGeneratedKeys()}, in the order the rows were added?
+	 *
+	 * @return True if batched inserts return all their generated keys; false otherwise.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean supportsBatchedGetGeneratedKeys() {
+		return false;
+	}
 }
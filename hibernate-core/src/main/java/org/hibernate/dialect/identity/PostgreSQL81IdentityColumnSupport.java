@@ -33,4 +33,9 @@ public class PostgreSQL81IdentityColumnSupport extends IdentityColumnSupportImpl
 	public boolean hasDataTypeInIdentityColumn() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsBatchedGetGeneratedKeys() {
+		return true;
+	}
 }
@@ -11,7 +11,9 @@ import org.hibernate.LockMode;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.NotifyingSelfDirtinessTracker;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.Status;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 
@@ -20,6 +22,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.Map;
 
@@ -55,11 +58,21 @@ public class EntityEntryContext {
 	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = new Map.Entry[0];
 	private transient boolean dirty;
 
+	// the entities the next flush has to visit, in registration order; only maintained when flushes skip
+	// the unchanged NotifyingSelfDirtinessTracker entities (see AvailableSettings#FLUSH_TRACKED_DIRTY_ENTITIES_ONLY).
+	// flushCandidateOrder may hold stale or duplicate references, flushCandidates decides membership
+	private transient IdentityHashMap<ManagedEntity,Boolean> flushCandidates;
+	private transient ArrayList<ManagedEntity> flushCandidateOrder;
+
 	/**
 	 * Constructs a EntityEntryContext
 	 */
 	public EntityEntryContext(PersistenceContext persistenceContext) {
 		this.persistenceContext = persistenceContext;
+		if ( persistenceContext.getSession().getFactory().getSessionFactoryOptions().isFlushTrackedDirtyEntitiesOnlyEnabled() ) {
+			this.flushCandidates = new IdentityHashMap<>();
+			this.flushCandidateOrder = new ArrayList<>();
+		}
 	}
 
 	/**
@@ -122,6 +135,10 @@ public class EntityEntryContext {
 		// associate the EntityEntry with the entity
 		managedEntity.$$_hibernate_setEntityEntry( entityEntry );
 
+		if ( flushCandidates != null ) {
+			addFlushCandidate( managedEntity );
+		}
+
 		if ( alreadyAssociated ) {
 			// if the entity was already associated with the context, skip the linking step.
 			return;
@@ -247,6 +264,10 @@ public class EntityEntryContext {
 
 		dirty = true;
 
+		if ( flushCandidates != null ) {
+			removeFlushCandidate( managedEntity );
+		}
+
 		if ( ImmutableManagedEntityHolder.class.isInstance( managedEntity ) ) {
 			assert entity == ( (ImmutableManagedEntityHolder) managedEntity ).managedEntity;
 			immutableManagedEntityXref.remove( (ManagedEntity) entity );
@@ -325,6 +346,95 @@ public class EntityEntryContext {
 		return reentrantSafeEntries;
 	}
 
+	/**
+	 * Return an array of the entity/EntityEntry pairs a flush has to visit, in the same reentrant-safe manner as
+	 * {@link #reentrantSafeEntityEntries()}.
+	 * <p/>
+	 * When flushes skip the unchanged {@link NotifyingSelfDirtinessTracker} entities, only the entities registered
+	 * since they were last found unchanged are returned.  Otherwise all entity/EntityEntry pairs are returned.
+	 *
+	 * @return The safe array
+	 */
+	@SuppressWarnings( {"unchecked"})
+	public Map.Entry<Object, EntityEntry>[] reentrantSafeEntityEntriesToFlush() {
+		if ( flushCandidates == null ) {
+			return reentrantSafeEntityEntries();
+		}
+
+		final ManagedEntity[] candidates = flushCandidateOrder.toArray( new ManagedEntity[flushCandidateOrder.size()] );
+		flushCandidateOrder.clear();
+
+		final ArrayList<ManagedEntity> retained = new ArrayList<>( flushCandidates.size() );
+		for ( ManagedEntity managedEntity : candidates ) {
+			if ( flushCandidates.remove( managedEntity ) == null ) {
+				// a duplicate, or removed from the context since its registration
+				continue;
+			}
+			if ( !isUnchangedSelfDirtinessTracker(
+					managedEntity.$$_hibernate_getEntityInstance(),
+					managedEntity.$$_hibernate_getEntityEntry()
+			) ) {
+				retained.add( managedEntity );
+			}
+		}
+
+		// everything we could not prove unchanged stays registered, until it is
+		final Map.Entry<Object, EntityEntry>[] entries = new EntityEntryCrossRefImpl[retained.size()];
+		for ( int i = 0; i < entries.length; i++ ) {
+			final ManagedEntity managedEntity = retained.get( i );
+			addFlushCandidate( managedEntity );
+			entries[i] = new EntityEntryCrossRefImpl(
+					managedEntity.$$_hibernate_getEntityInstance(),
+					managedEntity.$$_hibernate_getEntityEntry()
+			);
+		}
+		return entries;
+	}
+
+	/**
+	 * Register a change to the given entity, so that it is returned by the next
+	 * {@link #reentrantSafeEntityEntriesToFlush()}.
+	 *
+	 * @param entity The changed entity
+	 */
+	public void entityChanged(Object entity) {
+		if ( flushCandidates != null ) {
+			final ManagedEntity managedEntity = getAssociatedManagedEntity( entity );
+			if ( managedEntity != null ) {
+				addFlushCandidate( managedEntity );
+			}
+		}
+	}
+
+	private void addFlushCandidate(ManagedEntity managedEntity) {
+		if ( flushCandidates.put( managedEntity, Boolean.TRUE ) == null ) {
+			flushCandidateOrder.add( managedEntity );
+		}
+	}
+
+	private void removeFlushCandidate(ManagedEntity managedEntity) {
+		if ( flushCandidates.remove( managedEntity ) != null
+				&& flushCandidateOrder.size() > 2 * flushCandidates.size() + 16 ) {
+			// don't let evicted entities pile up between flushes
+			flushCandidateOrder.removeIf( candidate -> !flushCandidates.containsKey( candidate ) );
+		}
+	}
+
+	/**
+	 * Can a flush skip the given entity?  That is the case for an entity which would not be dirty checked
+	 * (see {@link AbstractEntityEntry#requiresDirtyCheck}) and has no collections to search by reachability.
+	 */
+	private static boolean isUnchangedSelfDirtinessTracker(Object entity, EntityEntry entityEntry) {
+		if ( !( entity instanceof NotifyingSelfDirtinessTracker ) ) {
+			return false;
+		}
+		final Status status = entityEntry.getStatus();
+		return ( status == Status.MANAGED || status == Status.READ_ONLY )
+				&& entityEntry.getLoadedState() != null
+				&& !entityEntry.getPersister().hasCollections()
+				&& !( (NotifyingSelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+	}
+
 	/**
 	 * Clear this context of all managed entities
 	 */
@@ -356,6 +466,11 @@ public class EntityEntryContext {
 		count = 0;
 
 		reentrantSafeEntries = null;
+
+		if ( flushCandidates != null ) {
+			flushCandidates.clear();
+			flushCandidateOrder.clear();
+		}
 	}
 
 	/**
@@ -468,6 +583,10 @@ public class EntityEntryContext {
 			}
 			managedEntity.$$_hibernate_setEntityEntry( entry );
 
+			if ( context.flushCandidates != null ) {
+				context.addFlushCandidate( managedEntity );
+			}
+
 			if ( previous == null ) {
 				context.head = managedEntity;
 			}
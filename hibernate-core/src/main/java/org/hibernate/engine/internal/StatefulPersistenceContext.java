@@ -11,16 +11,31 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -33,7 +48,9 @@ import org.hibernate.MappingException;
 import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
 import org.hibernate.TransientObjectException;
+import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
@@ -44,6 +61,8 @@ import org.hibernate.engine.loading.internal.LoadContexts;
 import org.hibernate.engine.spi.AssociationKey;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
@@ -53,6 +72,7 @@ import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -61,15 +81,19 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.LinearProbingHashMap;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.stat.internal.StatsHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -90,8 +114,36 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			StatefulPersistenceContext.class.getName()
 	);
 
+	private static final Set<Class<?>> SHAREABLE_LOADED_VALUE_CLASSES = new HashSet<>( Arrays.asList(
+			String.class,
+			Boolean.class,
+			Character.class,
+			Byte.class,
+			Short.class,
+			Integer.class,
+			Long.class,
+			Float.class,
+			Double.class,
+			BigInteger.class,
+			BigDecimal.class,
+			Instant.class,
+			LocalDate.class,
+			LocalTime.class,
+			LocalDateTime.class,
+			OffsetTime.class,
+			OffsetDateTime.class,
+			ZonedDateTime.class,
+			Duration.class
+	) );
+
 	private static final int INIT_COLL_SIZE = 8;
 
+	private static final LinearProbingHashMap.KeyMatcher<EntityKey, Serializable, EntityPersister> ENTITY_KEY_MATCHER =
+			EntityKey::matches;
+
+	private static final LinearProbingHashMap.LongKeyMatcher<EntityKey, EntityPersister> NUMERIC_ENTITY_KEY_MATCHER =
+			EntityKey::matches;
+
 	/*
 		Eagerly Initialized Fields
 		the following fields are used in all circumstances, and are not worth (or not suited) to being converted into lazy
@@ -107,8 +159,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		as this is a very central component of our library.
 	 */
 
-	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	// Loaded entity instances, by EntityKey; open addressing avoids a node object per managed entity
+	private LinearProbingHashMap<EntityKey, Object> entitiesByKey;
+
+	// Loaded entity instances, by EntityKey, least recently accessed first; only tracked with a managed entity limit
+	private LinkedHashMap<EntityKey, AccessedEntity> entitiesByAccess;
+	// Number of flushes so far, telling apart the entities accessed since the last one
+	private int flushCount;
+	// Entities evicted over the managed entity limit, with their loaded state, as long as they are reachable
+	private HashMap<EntityKey, EvictedEntity> evictedEntitiesByKey;
+	private ReferenceQueue<Object> evictedEntityQueue;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -118,7 +178,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private LinearProbingHashMap<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection> arrayHolders;
@@ -127,7 +187,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection> collectionsByKey;
+	private LinearProbingHashMap<CollectionKey, PersistentCollection> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -147,6 +207,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// May be empty or not contains all relation
 	private IdentityHashMap<Object,Object> parentsByChild;
 
+	// Values of the immutable basic properties shared between loaded entities, by persister and property index;
+	// a property no longer shared has no map
+	private HashMap<EntityPersister, Map<Object, Object>[]> sharedLoadedValues;
+
 	private int cascading;
 	private int loadCounter;
 	private int removeOrphanBeforeUpdatesCounter;
@@ -154,6 +218,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private boolean defaultReadOnly;
 	private boolean hasNonReadOnlyEntities;
+	private final boolean entityAccessTracked;
+	private final int sharedLoadedValueLimit;
 
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
@@ -166,6 +232,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.entityAccessTracked = session.getFactory().getSessionFactoryOptions().getManagedEntityLimit() > 0;
+		this.sharedLoadedValueLimit = session.getFactory().getSessionFactoryOptions().getSharedLoadedValueLimit();
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -248,9 +316,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		arrayHolders = null;
 		entitiesByKey = null;
+		entitiesByAccess = null;
+		evictedEntitiesByKey = null;
+		evictedEntityQueue = null;
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
 		parentsByChild = null;
+		sharedLoadedValues = null;
 		entitySnapshotsByKey = null;
 		collectionsByKey = null;
 		nonlazyCollections = null;
@@ -288,6 +360,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void setEntryStatus(EntityEntry entry, Status status) {
 		entry.setStatus( status );
 		setHasNonReadOnlyEnties( status );
+		if ( status == Status.DELETED && entitiesByKey != null ) {
+			// deleted entities must be visited by the next flush, even the unchanged ones
+			final Object entity = entitiesByKey.get( entry.getEntityKey() );
+			if ( entity != null ) {
+				entityEntryContext.entityChanged( entity );
+			}
+		}
 	}
 
 	private void setHasNonReadOnlyEnties(Status status) {
@@ -319,7 +398,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
+				entitySnapshotsByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -392,9 +471,15 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
+		if ( entityAccessTracked ) {
+			if ( entitiesByAccess == null ) {
+				entitiesByAccess = new LinkedHashMap<>( INIT_COLL_SIZE, .75f, true );
+			}
+			entitiesByAccess.put( key, new AccessedEntity( entity, flushCount ) );
+		}
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
 		if ( fetchQueue != null ) {
 			fetchQueue.removeBatchLoadableEntityKey( key );
@@ -403,7 +488,367 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object getEntity(EntityKey key) {
-		return entitiesByKey == null ? null : entitiesByKey.get( key );
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		final Object entity = entitiesByKey.get( key );
+		if ( entity != null && entitiesByAccess != null ) {
+			accessed( key );
+		}
+		else if ( entity == null && evictedEntitiesByKey != null ) {
+			return reattachEvictedEntity( key );
+		}
+		return entity;
+	}
+
+	@Override
+	public Object getEntity(Serializable id, EntityPersister persister) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		// probe without allocating an EntityKey: a very hot path for Session#get and association resolution
+		final Object entity = entitiesByKey.get( EntityKey.generateHashCode( id, persister ), id, persister, ENTITY_KEY_MATCHER );
+		if ( entity != null && entitiesByAccess != null ) {
+			final EntityEntry entry = entityEntryContext.getEntityEntry( entity );
+			if ( entry != null ) {
+				accessed( entry.getEntityKey() );
+			}
+		}
+		else if ( entity == null && evictedEntitiesByKey != null ) {
+			return reattachEvictedEntity( new EntityKey( id, persister ) );
+		}
+		return entity;
+	}
+
+	private void accessed(EntityKey key) {
+		// moves the entity to the most recently accessed end
+		final AccessedEntity accessedEntity = entitiesByAccess.get( key );
+		if ( accessedEntity != null ) {
+			accessedEntity.flushCount = flushCount;
+		}
+	}
+
+	@Override
+	public EntityKey getEntityKey(long id, EntityPersister persister) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		return entitiesByKey.getKey( EntityKey.generateHashCode( id, persister ), id, persister, NUMERIC_ENTITY_KEY_MATCHER );
+	}
+
+	@Override
+	public List<Object> getLeastRecentlyAccessedEvictableEntities(int maxCount) {
+		if ( entitiesByAccess == null || maxCount <= 0 ) {
+			return Collections.emptyList();
+		}
+		final List<Object> evictable = new ArrayList<>();
+		for ( Entry<EntityKey, AccessedEntity> me : entitiesByAccess.entrySet() ) {
+			if ( me.getValue().flushCount == flushCount ) {
+				// accessed since the last flush, as are all the following ones: the caller may be about to change it
+				break;
+			}
+			final Object entity = me.getValue().entity;
+			// enhanced proxies are tracked by key, but have no entry
+			final EntityEntry entry = entityEntryContext.getEntityEntry( entity );
+			if ( entry != null && isEvictable( entity, entry ) ) {
+				// evicting the proxy evicts the entity too
+				final Object proxy = proxiesByKey == null ? null : proxiesByKey.get( me.getKey() );
+				evictable.add( proxy == null ? entity : proxy );
+				if ( evictable.size() == maxCount ) {
+					break;
+				}
+			}
+		}
+		return evictable;
+	}
+
+	@Override
+	public void shareLoadedValues(EntityPersister persister, Object[] values) {
+		if ( sharedLoadedValueLimit <= 0 ) {
+			return;
+		}
+		if ( sharedLoadedValues == null ) {
+			sharedLoadedValues = new HashMap<>( INIT_COLL_SIZE );
+		}
+		final Map<Object, Object>[] valuesByProperty = sharedLoadedValues.computeIfAbsent(
+				persister,
+				StatefulPersistenceContext::createSharedLoadedValueMaps
+		);
+		for ( int i = 0; i < values.length; i++ ) {
+			final Map<Object, Object> sharedValues = valuesByProperty[i];
+			final Object value = values[i];
+			if ( sharedValues == null
+					|| value == null
+					|| value == LazyPropertyInitializer.UNFETCHED_PROPERTY
+					|| value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				continue;
+			}
+			final Object sharedValue = sharedValues.putIfAbsent( value, value );
+			if ( sharedValue != null ) {
+				values[i] = sharedValue;
+			}
+			else if ( sharedValues.size() > sharedLoadedValueLimit ) {
+				// too many distinct values for sharing to pay off
+				valuesByProperty[i] = null;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Object, Object>[] createSharedLoadedValueMaps(EntityPersister persister) {
+		final Type[] types = persister.getPropertyTypes();
+		final Map<Object, Object>[] valuesByProperty = new Map[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( isShareableLoadedValueType( types[i] ) ) {
+				valuesByProperty[i] = new HashMap<>();
+			}
+		}
+		return valuesByProperty;
+	}
+
+	/**
+	 * Values are shared by {@link Object#equals}, which must therefore mean the values are interchangeable: only the
+	 * immutable Java types whose equality is exact qualify, whatever the type mapping them (user types and attribute
+	 * converters included).  Entities, collections and components never do.
+	 */
+	private static boolean isShareableLoadedValueType(Type type) {
+		final Class returnedClass = type.getReturnedClass();
+		return returnedClass != null
+				&& ( returnedClass.isEnum() || SHAREABLE_LOADED_VALUE_CLASSES.contains( returnedClass ) );
+	}
+
+	private boolean isEvictable(Object entity, EntityEntry entry) {
+		final Status status = entry.getStatus();
+		if ( status != Status.MANAGED && status != Status.READ_ONLY ) {
+			return false;
+		}
+		if ( !entry.isExistsInDatabase() ) {
+			// its insertion is still queued
+			return false;
+		}
+
+		final EntityPersister persister = entry.getPersister();
+		if ( persister.hasCascades() ) {
+			for ( CascadeStyle cascadeStyle : persister.getPropertyCascadeStyles() ) {
+				if ( cascadeStyle.doCascade( CascadingActions.EVICT ) ) {
+					return false;
+				}
+			}
+		}
+
+		if ( status == Status.READ_ONLY || !entry.isModifiableEntity() ) {
+			return true;
+		}
+		return !hasChanges( entity, persister, entry.getLoadedState() );
+	}
+
+	/**
+	 * Was the given entity, or one of the collections it owns, changed since it was in the given loaded state?
+	 * The changes to collections owned by components are not tracked: entities having such collections are
+	 * deemed changed.
+	 */
+	private boolean hasChanges(Object entity, EntityPersister persister, Object[] loadedState) {
+		final boolean selfDirtinessTracker = entity instanceof SelfDirtinessTracker;
+		if ( selfDirtinessTracker && ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes() ) {
+			return true;
+		}
+		if ( selfDirtinessTracker && !persister.hasCollections() ) {
+			return false;
+		}
+
+		if ( loadedState == null ) {
+			return true;
+		}
+		final Type[] types = persister.getPropertyTypes();
+		final Object[] values = persister.getPropertyValues( entity );
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( types[i].isCollectionType() ) {
+				if ( values[i] != loadedState[i] ) {
+					// replaced, or not wrapped yet
+					return true;
+				}
+				if ( values[i] instanceof PersistentCollection && ( (PersistentCollection) values[i] ).isDirty() ) {
+					return true;
+				}
+			}
+			else if ( types[i].isComponentType() && persister.hasCollections() && hasCollection( (CompositeType) types[i] ) ) {
+				return true;
+			}
+			else if ( !selfDirtinessTracker && !types[i].isSame( loadedState[i], values[i] ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasCollection(CompositeType componentType) {
+		for ( Type type : componentType.getSubtypes() ) {
+			if ( type.isCollectionType() || type.isComponentType() && hasCollection( (CompositeType) type ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void retainEvictedEntity(Object entityOrProxy) {
+		final Object entity;
+		if ( entityOrProxy instanceof HibernateProxy ) {
+			final LazyInitializer li = ( (HibernateProxy) entityOrProxy ).getHibernateLazyInitializer();
+			final EntityPersister persister = session.getFactory().getMetamodel().entityPersister( li.getEntityName() );
+			entity = entitiesByKey == null ? null : entitiesByKey.get( new EntityKey( li.getIdentifier(), persister ) );
+		}
+		else {
+			entity = entityOrProxy;
+		}
+		final EntityEntry entry = entity == null ? null : entityEntryContext.getEntityEntry( entity );
+		if ( entry == null || entry.getStatus() != Status.MANAGED || !entry.isModifiableEntity() ) {
+			// the changes to read-only entities are never written
+			return;
+		}
+
+		if ( evictedEntitiesByKey == null ) {
+			evictedEntitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			evictedEntityQueue = new ReferenceQueue<>();
+		}
+		else {
+			expungeUnreachableEvictedEntities();
+		}
+		evictedEntitiesByKey.put(
+				entry.getEntityKey(),
+				new EvictedEntity( entity, evictedEntityQueue, entry.getEntityKey(), entry.getLoadedState(), entry.getVersion() )
+		);
+	}
+
+	@Override
+	public void reattachChangedEvictedEntities() {
+		if ( evictedEntitiesByKey == null ) {
+			return;
+		}
+		expungeUnreachableEvictedEntities();
+		for ( EvictedEntity evicted : evictedEntitiesByKey.values().toArray( new EvictedEntity[0] ) ) {
+			final Object entity = evicted.get();
+			if ( entity == null || !hasChanges( entity, evicted.key.getPersister(), evicted.loadedState ) ) {
+				continue;
+			}
+			if ( entitiesByKey != null && entitiesByKey.containsKey( evicted.key ) ) {
+				// another instance was associated with the session since the eviction
+				throw new NonUniqueObjectException( evicted.key.getIdentifier(), evicted.key.getEntityName() );
+			}
+			reattachEvictedEntity( evicted.key );
+		}
+	}
+
+	private void expungeUnreachableEvictedEntities() {
+		EvictedEntity unreachable;
+		while ( ( unreachable = (EvictedEntity) evictedEntityQueue.poll() ) != null ) {
+			evictedEntitiesByKey.remove( unreachable.key, unreachable );
+		}
+	}
+
+	/**
+	 * Reassociates the evicted entity of the given key, if still reachable, exactly as it was when evicted: with
+	 * its loaded state and version, and the collections it owns.
+	 *
+	 * @return The reassociated entity, or {@code null}
+	 */
+	private Object reattachEvictedEntity(EntityKey key) {
+		final EvictedEntity evicted = evictedEntitiesByKey.remove( key );
+		final Object entity = evicted == null ? null : evicted.get();
+		if ( entity == null ) {
+			return null;
+		}
+
+		final EntityPersister persister = key.getPersister();
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Reassociating evicted entity {0}", MessageHelper.infoString( persister, key.getIdentifier(), session.getFactory() ) );
+		}
+		addEntity( entity, Status.MANAGED, evicted.loadedState, key, evicted.version, LockMode.NONE, true, persister, false );
+		if ( persister.hasCollections() ) {
+			reattachEvictedCollections( entity, key.getIdentifier(), persister, evicted.loadedState );
+		}
+		persister.afterReassociate( entity, session );
+		// it may have been changed while evicted
+		entityEntryContext.entityChanged( entity );
+		return entity;
+	}
+
+	/**
+	 * Reassociates the collections of a reassociated evicted entity, as done by
+	 * {@link org.hibernate.event.internal.OnUpdateVisitor} on update, except that the collections evicted along with
+	 * their owner are still associated with the session.
+	 */
+	private void reattachEvictedCollections(Object entity, Serializable id, EntityPersister persister, Object[] loadedState) {
+		final Type[] types = persister.getPropertyTypes();
+		final Object[] values = persister.getPropertyValues( entity );
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( !types[i].isCollectionType() || values[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				continue;
+			}
+			final CollectionType collectionType = (CollectionType) types[i];
+			final CollectionPersister collectionPersister = session.getFactory()
+					.getMetamodel()
+					.collectionPersister( collectionType.getRole() );
+			final Serializable collectionKey = collectionType.useLHSPrimaryKey()
+					? id
+					: (Serializable) persister.getPropertyValue( entity, collectionType.getLHSPropertyName() );
+			if ( values[i] instanceof PersistentCollection ) {
+				final PersistentCollection collection = (PersistentCollection) values[i];
+				collection.setCurrentSession( session );
+				if ( collection.getRole() == null
+						|| !collection.getRole().equals( collectionPersister.getRole() )
+						|| !collectionKey.equals( collection.getKey() ) ) {
+					// the collection of another owner
+					removeEvictedCollection( entity, collectionPersister, collectionKey );
+				}
+				if ( collection.wasInitialized() ) {
+					addInitializedDetachedCollection( collectionPersister, collection );
+				}
+				else {
+					addUninitializedDetachedCollection( collectionPersister, collection );
+				}
+			}
+			else if ( values[i] != loadedState[i] ) {
+				// replaced by null, or by a new collection created by the flush
+				removeEvictedCollection( entity, collectionPersister, collectionKey );
+			}
+		}
+	}
+
+	private void removeEvictedCollection(Object owner, CollectionPersister collectionPersister, Serializable collectionKey) {
+		final EventSource source = (EventSource) session;
+		source.getActionQueue().addAction( new CollectionRemoveAction( owner, collectionPersister, collectionKey, false, source ) );
+	}
+
+	/**
+	 * An entity evicted over the managed entity limit, along with its state when evicted.
+	 */
+	private static final class EvictedEntity extends WeakReference<Object> {
+		private final EntityKey key;
+		private final Object[] loadedState;
+		private final Object version;
+
+		private EvictedEntity(
+				Object entity,
+				ReferenceQueue<Object> queue,
+				EntityKey key,
+				Object[] loadedState,
+				Object version) {
+			super( entity, queue );
+			this.key = key;
+			this.loadedState = loadedState;
+			this.version = version;
+		}
+	}
+
+	private static final class AccessedEntity {
+		private final Object entity;
+		private int flushCount;
+
+		private AccessedEntity(Object entity, int flushCount) {
+			this.entity = entity;
+			this.flushCount = flushCount;
+		}
 	}
 
 	@Override
@@ -416,6 +861,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		final Object entity;
 		if ( entitiesByKey != null ) {
 			entity = entitiesByKey.remove( key );
+			if ( entitiesByAccess != null ) {
+				entitiesByAccess.remove( key );
+			}
 			if ( entitiesByUniqueKey != null ) {
 				final Iterator itr = entitiesByUniqueKey.values().iterator();
 				while ( itr.hasNext() ) {
@@ -688,6 +1136,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void checkUniqueness(EntityKey key, Object object) throws HibernateException {
+		if ( evictedEntitiesByKey != null ) {
+			final EvictedEntity evicted = evictedEntitiesByKey.get( key );
+			if ( evicted != null && evicted.get() == object ) {
+				// the evicted entity is being reassociated by the caller
+				evictedEntitiesByKey.remove( key );
+			}
+		}
 		final Object entity = getEntity( key );
 		if ( entity == object ) {
 			throw new AssertionFailure( "object already associated, but no entry was found" );
@@ -775,7 +1230,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -1059,6 +1514,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return proxiesByKey == null ? null : proxiesByKey.get( key );
 	}
 
+	@Override
+	public Object getProxy(Serializable id, EntityPersister persister) {
+		if ( proxiesByKey == null || proxiesByKey.isEmpty() ) {
+			return null;
+		}
+		return proxiesByKey.get( session.generateEntityKey( id, persister ) );
+	}
+
 	@Override
 	public void addProxy(EntityKey key, Object proxy) {
 		getOrInitializeProxiesByKey().put( key, proxy );
@@ -1174,6 +1637,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.flushing = flushing;
 		if ( afterFlush ) {
 			getNaturalIdHelper().cleanupFromSynchronizations();
+			flushCount++;
 		}
 	}
 
@@ -1246,6 +1710,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.reentrantSafeEntityEntries();
 	}
 
+	@Override
+	public Entry<Object,EntityEntry>[] reentrantSafeEntityEntriesToFlush() {
+		return entityEntryContext.reentrantSafeEntityEntriesToFlush();
+	}
+
+	@Override
+	public void entityChanged(Object entity) {
+		entityEntryContext.entityChanged( entity );
+	}
+
 	@Override
 	public Serializable getOwnerId(String entityName, String propertyName, Object childEntity, Map mergeMap) {
 		final String collectionRole = entityName + '.' + propertyName;
@@ -1536,6 +2010,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void replaceDelayedEntityIdentityInsertKeys(EntityKey oldKey, Serializable generatedId) {
 		final Object entity = entitiesByKey == null ? null : entitiesByKey.remove( oldKey );
+		if ( entitiesByAccess != null ) {
+			entitiesByAccess.remove( oldKey );
+		}
 		final EntityEntry oldEntry = entityEntryContext.removeEntityEntry( entity );
 		this.parentsByChild = null;
 
@@ -1715,10 +2192,17 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = new LinearProbingHashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
+			if ( rtn.entityAccessTracked ) {
+				// the access order is not serialized, start over from the order of the entities
+				rtn.entitiesByAccess = new LinkedHashMap<>( rtn.entitiesByKey.size(), .75f, true );
+				rtn.entitiesByKey.forEach(
+						(key, entity) -> rtn.entitiesByAccess.put( key, new AccessedEntity( entity, rtn.flushCount ) )
+				);
+			}
 
 			count = ois.readInt();
 			if ( LOG.isTraceEnabled() ) {
@@ -1754,7 +2238,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByKey = new LinearProbingHashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1765,7 +2249,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.collectionsByKey = new LinearProbingHashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put( CollectionKey.deserialize( ois, session ), (PersistentCollection) ois.readObject() );
 			}
@@ -1911,7 +2395,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection addCollectionByKey(CollectionKey collectionKey, PersistentCollection persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = new HashMap<>( INIT_COLL_SIZE );
+			collectionsByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 		}
 		final PersistentCollection old = collectionsByKey.put( collectionKey, persistentCollection );
 		return old;
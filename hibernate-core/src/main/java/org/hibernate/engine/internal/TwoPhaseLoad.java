@@ -249,6 +249,7 @@ public final class TwoPhaseLoad {
 			}
 		}
 
+		persistenceContext.shareLoadedValues( persister, hydratedState );
 		persister.setPropertyValues( entity, hydratedState );
 
 		final SessionFactoryImplementor factory = session.getFactory();
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * A builder for {@link Batch} instances whose size is tuned for each {@link BatchKey} by the measured batch
+ * executions, see {@link AdaptiveBatchSize}.  The {@link #getJdbcBatchSize() configured size} is the initial
+ * size of each key.
+ *
+ * @see AvailableSettings#STATEMENT_BATCH_ADAPTIVE
+ */
+public class AdaptiveBatchBuilderImpl extends BatchBuilderImpl {
+	private int minJdbcBatchSize;
+	private int maxJdbcBatchSize;
+
+	private final ConcurrentHashMap<BatchKey, AdaptiveBatchSize> adaptiveBatchSizes = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a AdaptiveBatchBuilderImpl
+	 *
+	 * @param jdbcBatchSize The initial batch size.
+	 * @param minJdbcBatchSize The smallest batch size to use.
+	 * @param maxJdbcBatchSize The largest batch size to use.
+	 */
+	public AdaptiveBatchBuilderImpl(int jdbcBatchSize, int minJdbcBatchSize, int maxJdbcBatchSize) {
+		super( jdbcBatchSize );
+		this.minJdbcBatchSize = minJdbcBatchSize;
+		this.maxJdbcBatchSize = maxJdbcBatchSize;
+	}
+
+	@Override
+	public void configure(Map configurationValues) {
+		super.configure( configurationValues );
+		minJdbcBatchSize = ConfigurationHelper.getInt(
+				AvailableSettings.STATEMENT_BATCH_MIN_SIZE,
+				configurationValues,
+				minJdbcBatchSize
+		);
+		maxJdbcBatchSize = ConfigurationHelper.getInt(
+				AvailableSettings.STATEMENT_BATCH_MAX_SIZE,
+				configurationValues,
+				maxJdbcBatchSize
+		);
+	}
+
+	@Override
+	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+		if ( getJdbcBatchSize() <= 1
+				|| jdbcCoordinator.getJdbcSessionOwner().getJdbcBatchSize() != null
+				|| key instanceof MultiRowInsertBatchKey ) {
+			return super.buildBatch( key, jdbcCoordinator );
+		}
+		AdaptiveBatchSize adaptiveBatchSize = adaptiveBatchSizes.get( key );
+		if ( adaptiveBatchSize == null ) {
+			adaptiveBatchSize = new AdaptiveBatchSize( getJdbcBatchSize(), minJdbcBatchSize, maxJdbcBatchSize );
+			final AdaptiveBatchSize existing = adaptiveBatchSizes.putIfAbsent( key, adaptiveBatchSize );
+			if ( existing != null ) {
+				adaptiveBatchSize = existing;
+			}
+		}
+		return new BatchingBatch( key, jdbcCoordinator, adaptiveBatchSize );
+	}
+
+	@Override
+	public void setJdbcBatchSize(int jdbcBatchSize) {
+		super.setJdbcBatchSize( jdbcBatchSize );
+		// start tuning again from the new size
+		adaptiveBatchSizes.clear();
+	}
+
+	@Override
+	public Map<String, Integer> getJdbcBatchSizes() {
+		final Map<String, Integer> jdbcBatchSizes = new TreeMap<>();
+		for ( Map.Entry<BatchKey, AdaptiveBatchSize> entry : adaptiveBatchSizes.entrySet() ) {
+			jdbcBatchSizes.put( entry.getKey().toString(), entry.getValue().getSize() );
+		}
+		return jdbcBatchSizes;
+	}
+}
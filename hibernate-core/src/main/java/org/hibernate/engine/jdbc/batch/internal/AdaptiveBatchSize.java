@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+/**
+ * The JDBC batch size of the statements of one {@link org.hibernate.engine.jdbc.batch.spi.BatchKey}, tuned
+ * within bounds by the measured execution time per row.
+ * <p/>
+ * Once a number of full batches have been executed at the current size, the size is doubled, or halved,
+ * for as long as this lowers the execution time per row.  When a step does not pay off, the size moves back
+ * and the other direction is probed, so that the size follows changing tables and latencies.  Once steps in
+ * both directions were rejected, the size is kept for a number of sample periods growing with each rejection.
+ */
+public class AdaptiveBatchSize {
+	/**
+	 * The number of full batches measured at each size.
+	 */
+	public static final int SAMPLE_COUNT = 8;
+
+	/**
+	 * The fraction of the execution time per row a step must save to be kept.
+	 */
+	private static final double MIN_IMPROVEMENT = 0.05;
+
+	private static final int MAX_HOLDING_PERIODS = 64;
+
+	private final int minSize;
+	private final int maxSize;
+
+	private volatile int size;
+	private boolean growing = true;
+	private int previousSize;
+	private double previousNanosPerRow = -1;
+	private int rejectedSteps;
+	private int holdingPeriods;
+
+	private int sampledExecutions;
+	private long sampledRows;
+	private long sampledNanos;
+
+	public AdaptiveBatchSize(int initialSize, int minSize, int maxSize) {
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.size = Math.max( minSize, Math.min( maxSize, initialSize ) );
+		this.previousSize = size;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Records the execution of a full batch.
+	 *
+	 * @param rowCount The number of rows of the batch
+	 * @param executionNanos The time spent executing it
+	 */
+	public synchronized void batchExecuted(int rowCount, long executionNanos) {
+		if ( rowCount <= 0 ) {
+			return;
+		}
+		sampledExecutions++;
+		sampledRows += rowCount;
+		sampledNanos += executionNanos;
+		if ( sampledExecutions < SAMPLE_COUNT ) {
+			return;
+		}
+
+		final double nanosPerRow = (double) sampledNanos / sampledRows;
+		sampledExecutions = 0;
+		sampledRows = 0;
+		sampledNanos = 0;
+
+		if ( holdingPeriods > 0 ) {
+			holdingPeriods--;
+		}
+		else if ( previousNanosPerRow < 0 || nanosPerRow < previousNanosPerRow * ( 1 - MIN_IMPROVEMENT ) ) {
+			// first measurement at this size, or the last step paid off: keep going the same way
+			if ( previousNanosPerRow >= 0 ) {
+				rejectedSteps = 0;
+			}
+			previousSize = size;
+			previousNanosPerRow = nanosPerRow;
+			int nextSize = step( size, growing );
+			if ( nextSize == size ) {
+				growing = !growing;
+				nextSize = step( size, growing );
+			}
+			size = nextSize;
+		}
+		else {
+			// the last step did not pay off: measure the previous size again and then probe the other way
+			rejectedSteps++;
+			if ( rejectedSteps % 2 == 0 ) {
+				holdingPeriods = Math.min( MAX_HOLDING_PERIODS, 1 << Math.min( rejectedSteps / 2, 6 ) );
+			}
+			growing = !growing;
+			size = previousSize;
+			previousNanosPerRow = -1;
+		}
+	}
+
+	private int step(int size, boolean growing) {
+		return growing
+				? (int) Math.min( maxSize, 2L * size )
+				: Math.max( minSize, size / 2 );
+	}
+}
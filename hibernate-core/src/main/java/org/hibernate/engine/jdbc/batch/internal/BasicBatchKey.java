@@ -59,4 +59,9 @@ public class BasicBatchKey implements BatchKey {
 		return comparison.hashCode();
 	}
 
+	@Override
+	public String toString() {
+		return comparison;
+	}
+
 }
@@ -66,8 +66,11 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
 				this.jdbcBatchSize :
 				sessionJdbcBatchSize;
-		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
-				: new NonBatchingBatch( key, jdbcCoordinator );
+		if ( jdbcBatchSizeToUse <= 1 ) {
+			return new NonBatchingBatch( key, jdbcCoordinator );
+		}
+		return key instanceof MultiRowInsertBatchKey
+				? new MultiRowInsertBatch( (MultiRowInsertBatchKey) key, jdbcCoordinator )
+				: new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse );
 	}
 }
@@ -6,6 +6,9 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * The BatchBuilderImpl JMX management interface
  *
@@ -14,4 +17,14 @@ package org.hibernate.engine.jdbc.batch.internal;
 public interface BatchBuilderMXBean {
 	int getJdbcBatchSize();
 	void setJdbcBatchSize(int size);
+
+	/**
+	 * The batch sizes currently used for each batch key, by the description of the key, when batch sizes
+	 * are {@link org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_ADAPTIVE adapted}.
+	 *
+	 * @return The batch size of each batch key, empty if all batches use the configured size
+	 */
+	default Map<String, Integer> getJdbcBatchSizes() {
+		return Collections.emptyMap();
+	}
 }
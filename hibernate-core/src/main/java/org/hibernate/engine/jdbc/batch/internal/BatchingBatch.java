@@ -32,7 +32,8 @@ public class BatchingBatch extends AbstractBatchImpl {
 	// IMPL NOTE : Until HHH-5797 is fixed, there will only be 1 statement in a batch
 
 	private int batchSize;
-	private final int configuredBatchSize;
+	private int configuredBatchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 	private int batchPosition;
 	private boolean batchExecuted;
 	private int statementPosition;
@@ -54,6 +55,27 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 		this.batchSize = batchSize;
 		this.configuredBatchSize = batchSize;
+		this.adaptiveBatchSize = null;
+	}
+
+	/**
+	 * Constructs a BatchingBatch whose size is tuned by the measured batch executions
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param adaptiveBatchSize The size tuned for the batch key
+	 */
+	BatchingBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			AdaptiveBatchSize adaptiveBatchSize) {
+		super( key, jdbcCoordinator );
+		if ( ! key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.batchSize = adaptiveBatchSize.getSize();
+		this.configuredBatchSize = batchSize;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 	}
 
 	private String currentStatementSql;
@@ -84,9 +106,14 @@ public class BatchingBatch extends AbstractBatchImpl {
 		statementPosition++;
 		if ( statementPosition >= getKey().getBatchedStatementCount() ) {
 			batchPosition++;
-			if ( batchPosition == batchSize ) {
+			if ( batchPosition >= batchSize ) {
 				notifyObserversImplicitExecution();
-				performExecution();
+				if ( adaptiveBatchSize == null ) {
+					performExecution();
+				}
+				else {
+					performAdaptedExecution();
+				}
 				batchPosition = 0;
 				batchExecuted = true;
 			}
@@ -140,6 +167,16 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 	}
 
+	private void performAdaptedExecution() {
+		// only full batches are measured, those explicitly executed may be of any size
+		final int rowCount = batchPosition;
+		final long start = System.nanoTime();
+		performExecution();
+		adaptiveBatchSize.batchExecuted( rowCount, System.nanoTime() - start );
+		configuredBatchSize = adaptiveBatchSize.getSize();
+		batchSize = configuredBatchSize * getStatements().size();
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatement ps) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / getStatements().size() ) {
@@ -0,0 +1,275 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation for entity inserts which sends the rows as
+ * multi-row {@code INSERT ... VALUES (...), (...)} statements instead of JDBC batches.
+ * <p/>
+ * The parameters bound for each row are recorded, and once the configured number of rows has been added for an
+ * insert, they are bound to the statement inserting all of them at once, which is executed.  That number of rows
+ * is capped by the {@link Dialect#getMultiRowInsertRowLimit() row} and {@link Dialect#getParameterCountLimit()
+ * parameter} limits of the dialect.  The rows left over when the batch is explicitly executed are inserted by a
+ * statement of their own width.
+ * <p/>
+ * The insert SQL must be the one rendered by {@link org.hibernate.sql.Insert}; SQL without a values list is
+ * inserted row by row.
+ */
+public class MultiRowInsertBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( MultiRowInsertBatch.class );
+
+	private static final String VALUES = ") values (";
+
+	private final int rowsPerStatement;
+	private final Dialect dialect;
+	private final LinkedHashMap<String, PendingRows> pendingRowsBySql = new LinkedHashMap<>();
+	private PendingRows currentRows;
+	private boolean batchExecuted;
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 */
+	public MultiRowInsertBatch(MultiRowInsertBatchKey key, JdbcCoordinator jdbcCoordinator) {
+		super( key, jdbcCoordinator );
+		if ( ! key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.rowsPerStatement = key.getRowsPerStatement();
+		this.dialect = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect();
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		if ( callable ) {
+			throw new HibernateException( "attempting to insert multiple rows with a callable statement" );
+		}
+		if ( sql == null ) {
+			throw new IllegalArgumentException( "sql must be non-null." );
+		}
+		final PreparedStatement statement = getStatement( sql );
+		PendingRows rows = pendingRowsBySql.get( sql );
+		if ( rows == null ) {
+			rows = new PendingRows( sql, statement, rowsPerStatement, dialect );
+			pendingRowsBySql.put( sql, rows );
+		}
+		currentRows = rows;
+		return rows.recorder;
+	}
+
+	/**
+	 * Unlike {@link AbstractBatchImpl#getBatchStatement}, which executes the rows added so far when preparing
+	 * a statement, prepares the statements of this batch while keeping its rows pending.
+	 */
+	private PreparedStatement getStatement(String sql) {
+		PreparedStatement statement = getStatements().get( sql );
+		if ( statement == null ) {
+			statement = getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
+			getStatements().put( sql, statement );
+		}
+		else {
+			LOG.debug( "Reusing batch statement" );
+			sqlStatementLogger().logStatement( sql );
+		}
+		return statement;
+	}
+
+	@Override
+	public void addToBatch() {
+		currentRows.addRow();
+		if ( currentRows.rowCount == currentRows.maxRowCount ) {
+			notifyObserversImplicitExecution();
+			// the rows of the statements used before may be referenced by the ones of this statement
+			for ( PendingRows rows : pendingRowsBySql.values() ) {
+				executeRows( rows );
+				if ( rows == currentRows ) {
+					break;
+				}
+			}
+			batchExecuted = true;
+		}
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		boolean executed = false;
+		for ( PendingRows rows : pendingRowsBySql.values() ) {
+			executed |= executeRows( rows );
+		}
+		if ( !executed && !batchExecuted ) {
+			LOG.debug( "No batched statements to execute" );
+		}
+		pendingRowsBySql.clear();
+	}
+
+	private boolean executeRows(PendingRows rows) {
+		final int rowCount = rows.rowCount;
+		if ( rowCount == 0 ) {
+			return false;
+		}
+		LOG.debugf( "Executing multi-row insert of %s rows", rowCount );
+		final String sql = rows.getSql( rowCount );
+		try {
+			final PreparedStatement statement = rowCount == 1 ? rows.statement : getStatement( sql );
+			rows.bind( statement );
+			final int insertedRowCount = getJdbcCoordinator().getResultSetReturn().executeUpdate( statement );
+			getKey().getExpectation().verifyOutcome( rowCountPerRow( insertedRowCount, rowCount ), statement, -1 );
+			return true;
+		}
+		catch ( SQLException e ) {
+			abortBatch();
+			LOG.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper().convert( e, "could not execute batch", sql );
+		}
+		catch ( RuntimeException re ) {
+			abortBatch();
+			LOG.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+		finally {
+			rows.clear();
+		}
+	}
+
+	/**
+	 * The row count the expectation of a single row verifies for the row count of a multi-row statement: the
+	 * row count of one row if all the rows were inserted, one not matching it otherwise.
+	 */
+	private static int rowCountPerRow(int rowCount, int rowsPerStatement) {
+		if ( rowCount < 0 ) {
+			// SUCCESS_NO_INFO or EXECUTE_FAILED
+			return rowCount;
+		}
+		else if ( rowCount == rowsPerStatement ) {
+			return 1;
+		}
+		else {
+			return rowCount < rowsPerStatement ? 0 : rowCount;
+		}
+	}
+
+	@Override
+	public void release() {
+		pendingRowsBySql.clear();
+		super.release();
+	}
+
+	/**
+	 * Returns the number of parameters of an {@code INSERT ... VALUES (...)} statement, or {@code -1} if it
+	 * has no values list which could be repeated.
+	 */
+	static int countValuesListParameters(String sql) {
+		final int valuesIndex = sql.indexOf( VALUES );
+		if ( valuesIndex < 0 || sql.charAt( sql.length() - 1 ) != ')' ) {
+			return -1;
+		}
+		int parameterCount = 0;
+		boolean quoted = false;
+		for ( int i = valuesIndex + VALUES.length(); i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( c == '?' && !quoted ) {
+				parameterCount++;
+			}
+		}
+		return parameterCount;
+	}
+
+	/**
+	 * Returns the number of rows of a multi-row insert having the given number of parameters per row, the
+	 * configured number of rows as far as the row and parameter limits of the dialect allow it.
+	 */
+	static int maxRowCount(int rowsPerStatement, int parameterCount, Dialect dialect) {
+		int maxRowCount = rowsPerStatement;
+		final int rowLimit = dialect.getMultiRowInsertRowLimit();
+		if ( rowLimit > 0 ) {
+			maxRowCount = Math.min( maxRowCount, rowLimit );
+		}
+		final int parameterLimit = dialect.getParameterCountLimit();
+		if ( parameterLimit > 0 && parameterCount > 0 ) {
+			maxRowCount = Math.min( maxRowCount, parameterLimit / parameterCount );
+		}
+		return Math.max( maxRowCount, 1 );
+	}
+
+	/**
+	 * Renders an {@code INSERT ... VALUES (...)} statement repeating its values list for the given number of rows.
+	 */
+	static String renderMultiRowInsert(String sql, int rowCount) {
+		final int valuesListIndex = sql.indexOf( VALUES ) + VALUES.length() - 1;
+		final String valuesList = sql.substring( valuesListIndex );
+		final StringBuilder buf = new StringBuilder( valuesListIndex + ( valuesList.length() + 2 ) * rowCount );
+		buf.append( sql, 0, valuesListIndex ).append( valuesList );
+		for ( int i = 1; i < rowCount; i++ ) {
+			buf.append( ", " ).append( valuesList );
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * The rows added for one insert SQL and not executed yet, along with the parameters bound for them.
+	 */
+	private static class PendingRows {
+		private final String sql;
+		private final PreparedStatement statement;
+		private final ParameterRecordingStatement recorder;
+		private final int parameterCount;
+		private final int maxRowCount;
+		private final String fullSql;
+
+		private int rowCount;
+
+		private PendingRows(String sql, PreparedStatement statement, int rowsPerStatement, Dialect dialect) {
+			this.sql = sql;
+			this.statement = statement;
+			this.recorder = new ParameterRecordingStatement( statement );
+			this.parameterCount = countValuesListParameters( sql );
+			this.maxRowCount = parameterCount < 0 ? 1 : maxRowCount( rowsPerStatement, parameterCount, dialect );
+			this.fullSql = maxRowCount == 1 ? sql : renderMultiRowInsert( sql, maxRowCount );
+		}
+
+		private String getSql(int rows) {
+			if ( rows == 1 ) {
+				return sql;
+			}
+			return rows == maxRowCount ? fullSql : renderMultiRowInsert( sql, rows );
+		}
+
+		private void bind(PreparedStatement target) throws SQLException {
+			recorder.bind( target );
+		}
+
+		private void addRow() {
+			rowCount++;
+			recorder.setParameterOffset( rowCount * parameterCount );
+		}
+
+		private void clear() {
+			recorder.clear();
+			rowCount = 0;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * BatchKey of entity inserts whose SQL may be rendered as multi-row {@code INSERT ... VALUES (...), (...)}
+ * statements, see {@link MultiRowInsertBatch}.
+ */
+public class MultiRowInsertBatchKey extends BasicBatchKey {
+	private final int rowsPerStatement;
+
+	/**
+	 * Constructs a MultiRowInsertBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param rowsPerStatement The number of rows inserted by each statement
+	 */
+	public MultiRowInsertBatchKey(String comparison, Expectation expectation, int rowsPerStatement) {
+		super( comparison, expectation );
+		this.rowsPerStatement = rowsPerStatement;
+	}
+
+	public int getRowsPerStatement() {
+		return rowsPerStatement;
+	}
+}
@@ -0,0 +1,641 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * A PreparedStatement recording the parameters bound to it, shifted by the {@link #setParameterOffset offset} of
+ * the row being bound, so that they can be bound later to a multi-row statement, see {@link MultiRowInsertBatch}.
+ * Its other methods are delegated to the statement it was created for.
+ */
+final class ParameterRecordingStatement implements PreparedStatement {
+	/**
+	 * A recorded parameter.
+	 */
+	@FunctionalInterface
+	private interface Binding {
+		void bind(PreparedStatement statement) throws SQLException;
+	}
+
+	private final PreparedStatement statement;
+	private final List<Binding> bindings = new ArrayList<>();
+	private int parameterOffset;
+	private int rowStart;
+
+	ParameterRecordingStatement(PreparedStatement statement) {
+		this.statement = statement;
+	}
+
+	/**
+	 * Starts recording the parameters of another row, whose parameters come after the given number of parameters.
+	 */
+	void setParameterOffset(int parameterOffset) {
+		this.parameterOffset = parameterOffset;
+		this.rowStart = bindings.size();
+	}
+
+	/**
+	 * Binds the recorded parameters to the given statement.
+	 */
+	void bind(PreparedStatement target) throws SQLException {
+		for ( Binding binding : bindings ) {
+			binding.bind( target );
+		}
+	}
+
+	/**
+	 * Forgets the recorded parameters.
+	 */
+	void clear() {
+		bindings.clear();
+		parameterOffset = 0;
+		rowStart = 0;
+	}
+
+	/**
+	 * Forgets the parameters recorded for the current row.
+	 */
+	@Override
+	public void clearParameters() {
+		bindings.subList( rowStart, bindings.size() ).clear();
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setNull( index, sqlType ) );
+	}
+
+	@Override
+	public void setBoolean(int parameterIndex, boolean x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setBoolean( index, x ) );
+	}
+
+	@Override
+	public void setByte(int parameterIndex, byte x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setByte( index, x ) );
+	}
+
+	@Override
+	public void setShort(int parameterIndex, short x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setShort( index, x ) );
+	}
+
+	@Override
+	public void setInt(int parameterIndex, int x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setInt( index, x ) );
+	}
+
+	@Override
+	public void setLong(int parameterIndex, long x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setLong( index, x ) );
+	}
+
+	@Override
+	public void setFloat(int parameterIndex, float x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setFloat( index, x ) );
+	}
+
+	@Override
+	public void setDouble(int parameterIndex, double x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setDouble( index, x ) );
+	}
+
+	@Override
+	public void setBigDecimal(int parameterIndex, BigDecimal x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setBigDecimal( index, x ) );
+	}
+
+	@Override
+	public void setString(int parameterIndex, String x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setString( index, x ) );
+	}
+
+	@Override
+	public void setBytes(int parameterIndex, byte[] x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setBytes( index, x ) );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setDate( index, x ) );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setTime( index, x ) );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setTimestamp( index, x ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, int length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setAsciiStream( index, x, length ) );
+	}
+
+	@Override
+	public void setUnicodeStream(int parameterIndex, InputStream x, int length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setUnicodeStream( index, x, length ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, int length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setBinaryStream( index, x, length ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setObject( index, x, targetSqlType ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setObject( index, x ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, int length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setCharacterStream( index, reader, length ) );
+	}
+
+	@Override
+	public void setRef(int parameterIndex, Ref x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setRef( index, x ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, Blob x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setBlob( index, x ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Clob x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setClob( index, x ) );
+	}
+
+	@Override
+	public void setArray(int parameterIndex, Array x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setArray( index, x ) );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x, Calendar cal) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setDate( index, x, cal ) );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x, Calendar cal) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setTime( index, x, cal ) );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setTimestamp( index, x, cal ) );
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType, String typeName) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setNull( index, sqlType, typeName ) );
+	}
+
+	@Override
+	public void setURL(int parameterIndex, URL x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setURL( index, x ) );
+	}
+
+	@Override
+	public void setRowId(int parameterIndex, RowId x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setRowId( index, x ) );
+	}
+
+	@Override
+	public void setNString(int parameterIndex, String value) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setNString( index, value ) );
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value, long length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setNCharacterStream( index, value, length ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, NClob value) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setNClob( index, value ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader, long length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setClob( index, reader, length ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream, long length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setBlob( index, inputStream, length ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader, long length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setNClob( index, reader, length ) );
+	}
+
+	@Override
+	public void setSQLXML(int parameterIndex, SQLXML xmlObject) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setSQLXML( index, xmlObject ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setObject( index, x, targetSqlType, scaleOrLength ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, long length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setAsciiStream( index, x, length ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, long length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setBinaryStream( index, x, length ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, long length) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setCharacterStream( index, reader, length ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setAsciiStream( index, x ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setBinaryStream( index, x ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setCharacterStream( index, reader ) );
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setNCharacterStream( index, value ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setClob( index, reader ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setBlob( index, inputStream ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setNClob( index, reader ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setObject( index, x, targetSqlType, scaleOrLength ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType) {
+		final int index = parameterOffset + parameterIndex;
+		bindings.add( target -> target.setObject( index, x, targetSqlType ) );
+	}
+
+	@Override
+	public ResultSet executeQuery() throws SQLException {
+		return statement.executeQuery();
+	}
+
+	@Override
+	public int executeUpdate() throws SQLException {
+		return statement.executeUpdate();
+	}
+
+	@Override
+	public boolean execute() throws SQLException {
+		return statement.execute();
+	}
+
+	@Override
+	public void addBatch() throws SQLException {
+		statement.addBatch();
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		return statement.getMetaData();
+	}
+
+	@Override
+	public ParameterMetaData getParameterMetaData() throws SQLException {
+		return statement.getParameterMetaData();
+	}
+
+	@Override
+	public ResultSet executeQuery(String sql) throws SQLException {
+		return statement.executeQuery( sql );
+	}
+
+	@Override
+	public int executeUpdate(String sql) throws SQLException {
+		return statement.executeUpdate( sql );
+	}
+
+	@Override
+	public void close() throws SQLException {
+		statement.close();
+	}
+
+	@Override
+	public int getMaxFieldSize() throws SQLException {
+		return statement.getMaxFieldSize();
+	}
+
+	@Override
+	public void setMaxFieldSize(int max) throws SQLException {
+		statement.setMaxFieldSize( max );
+	}
+
+	@Override
+	public int getMaxRows() throws SQLException {
+		return statement.getMaxRows();
+	}
+
+	@Override
+	public void setMaxRows(int max) throws SQLException {
+		statement.setMaxRows( max );
+	}
+
+	@Override
+	public void setEscapeProcessing(boolean enable) throws SQLException {
+		statement.setEscapeProcessing( enable );
+	}
+
+	@Override
+	public int getQueryTimeout() throws SQLException {
+		return statement.getQueryTimeout();
+	}
+
+	@Override
+	public void setQueryTimeout(int seconds) throws SQLException {
+		statement.setQueryTimeout( seconds );
+	}
+
+	@Override
+	public void cancel() throws SQLException {
+		statement.cancel();
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return statement.getWarnings();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		statement.clearWarnings();
+	}
+
+	@Override
+	public void setCursorName(String name) throws SQLException {
+		statement.setCursorName( name );
+	}
+
+	@Override
+	public boolean execute(String sql) throws SQLException {
+		return statement.execute( sql );
+	}
+
+	@Override
+	public ResultSet getResultSet() throws SQLException {
+		return statement.getResultSet();
+	}
+
+	@Override
+	public int getUpdateCount() throws SQLException {
+		return statement.getUpdateCount();
+	}
+
+	@Override
+	public boolean getMoreResults() throws SQLException {
+		return statement.getMoreResults();
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		statement.setFetchDirection( direction );
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		return statement.getFetchDirection();
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		statement.setFetchSize( rows );
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		return statement.getFetchSize();
+	}
+
+	@Override
+	public int getResultSetConcurrency() throws SQLException {
+		return statement.getResultSetConcurrency();
+	}
+
+	@Override
+	public int getResultSetType() throws SQLException {
+		return statement.getResultSetType();
+	}
+
+	@Override
+	public void addBatch(String sql) throws SQLException {
+		statement.addBatch( sql );
+	}
+
+	@Override
+	public void clearBatch() throws SQLException {
+		statement.clearBatch();
+	}
+
+	@Override
+	public int[] executeBatch() throws SQLException {
+		return statement.executeBatch();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return statement.getConnection();
+	}
+
+	@Override
+	public boolean getMoreResults(int current) throws SQLException {
+		return statement.getMoreResults( current );
+	}
+
+	@Override
+	public ResultSet getGeneratedKeys() throws SQLException {
+		return statement.getGeneratedKeys();
+	}
+
+	@Override
+	public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		return statement.executeUpdate( sql, autoGeneratedKeys );
+	}
+
+	@Override
+	public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		return statement.executeUpdate( sql, columnIndexes );
+	}
+
+	@Override
+	public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+		return statement.executeUpdate( sql, columnNames );
+	}
+
+	@Override
+	public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+		return statement.execute( sql, autoGeneratedKeys );
+	}
+
+	@Override
+	public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+		return statement.execute( sql, columnIndexes );
+	}
+
+	@Override
+	public boolean execute(String sql, String[] columnNames) throws SQLException {
+		return statement.execute( sql, columnNames );
+	}
+
+	@Override
+	public int getResultSetHoldability() throws SQLException {
+		return statement.getResultSetHoldability();
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return statement.isClosed();
+	}
+
+	@Override
+	public void setPoolable(boolean poolable) throws SQLException {
+		statement.setPoolable( poolable );
+	}
+
+	@Override
+	public boolean isPoolable() throws SQLException {
+		return statement.isPoolable();
+	}
+
+	@Override
+	public void closeOnCompletion() throws SQLException {
+		statement.closeOnCompletion();
+	}
+
+	@Override
+	public boolean isCloseOnCompletion() throws SQLException {
+		return statement.isCloseOnCompletion();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return statement.unwrap( iface );
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return statement.isWrapperFor( iface );
+	}
+}
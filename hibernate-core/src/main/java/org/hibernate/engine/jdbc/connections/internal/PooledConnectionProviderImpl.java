@@ -0,0 +1,636 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.log.ConnectionPoolingLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * A connection provider opening connections like the {@link DriverManagerConnectionProviderImpl}, but with a
+ * connection pool intended for production use, for deployments which would rather not add a pooling library.
+ * It accepts the same {@link AvailableSettings#POOL_SIZE max size},
+ * {@link DriverManagerConnectionProviderImpl#MIN_SIZE min size},
+ * {@link DriverManagerConnectionProviderImpl#INITIAL_SIZE initial size} and
+ * {@link DriverManagerConnectionProviderImpl#VALIDATION_INTERVAL housekeeping interval} settings, and is
+ * selected by naming it as the {@link AvailableSettings#CONNECTION_PROVIDER}.
+ * <p/>
+ * Borrowing a connection takes no lock: a thread first tries the connection it returned last, then any idle
+ * connection, then opens a new one while the pool is below its max size.  Otherwise it waits, up to the
+ * {@link #ACQUISITION_TIMEOUT}, for a connection handed off by a returning thread.  As waiting never holds a
+ * monitor, virtual threads are not pinned while waiting for a connection.
+ * <p/>
+ * Connections idle for longer than the {@link #VALIDATION_IDLE_TIME} are validated before being handed out,
+ * connections older than the {@link #MAX_LIFETIME} are retired, and connections borrowed for longer than the
+ * {@link #LEAK_DETECTION_THRESHOLD} are logged, along with where they were borrowed, as possible leaks.
+ * Returned connections are rolled back only when they may have uncommitted work, as tracked by the
+ * {@link TransactionTrackingConnection} handed out for them.
+ */
+public class PooledConnectionProviderImpl
+		implements ConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService {
+
+	private static final ConnectionPoolingLogger log = ConnectionPoolingLogger.CONNECTIONS_LOGGER;
+
+	/**
+	 * The maximum time, in milliseconds, to wait for a connection once the pool reached its max size.
+	 * Defaults to 30000.
+	 */
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	/**
+	 * The maximum age, in milliseconds, of a pooled connection, or 0 for no maximum.
+	 * Defaults to 1800000 (30 minutes).
+	 */
+	public static final String MAX_LIFETIME = "hibernate.connection.pool_max_lifetime";
+	/**
+	 * The time, in milliseconds, after which an idle connection is validated before being handed out.
+	 * Defaults to 500.
+	 */
+	public static final String VALIDATION_IDLE_TIME = "hibernate.connection.pool_validation_idle_time";
+	/**
+	 * The time, in milliseconds, a connection may be borrowed before it is logged as a possible leak,
+	 * or 0 (the default) to disable leak detection.
+	 */
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
+
+	private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+	private final CopyOnWriteArrayList<PooledConnection> connections = new CopyOnWriteArrayList<>();
+	// weakly referenced, as the threads returning connections may outlive the pool
+	private final ThreadLocal<WeakReference<PooledConnection>> lastReturned = new ThreadLocal<>();
+	private final SynchronousQueue<PooledConnection> handoff = new SynchronousQueue<>( true );
+	// counts the connections being opened as well
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	private final LongAdder acquisitionCount = new LongAdder();
+	private final LongAdder acquisitionTimeoutCount = new LongAdder();
+	private final LongAdder totalAcquisitionWaitNanos = new LongAdder();
+	private final LongAccumulator maxAcquisitionWaitNanos = new LongAccumulator( Math::max, 0 );
+	private final LongAdder detectedLeakCount = new LongAdder();
+
+	private volatile ServiceRegistryImplementor serviceRegistry;
+
+	private ConnectionCreator connectionCreator;
+	private boolean autoCommit;
+	private int minSize;
+	private int maxSize;
+	private long acquisitionTimeoutNanos;
+	private long maxLifetimeNanos;
+	private long validationIdleNanos;
+	private long leakDetectionThresholdNanos;
+
+	private ScheduledExecutorService housekeeper;
+	private volatile boolean stopped;
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map configurationValues) {
+		log.usingHibernatePooledConnectionProvider();
+		connectionCreator = DriverManagerConnectionProviderImpl.buildCreator( configurationValues, serviceRegistry );
+		autoCommit = ConfigurationHelper.getBoolean( AvailableSettings.AUTOCOMMIT, configurationValues, false );
+		minSize = ConfigurationHelper.getInt( DriverManagerConnectionProviderImpl.MIN_SIZE, configurationValues, 1 );
+		maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
+		final int initialSize = ConfigurationHelper.getInt(
+				DriverManagerConnectionProviderImpl.INITIAL_SIZE,
+				configurationValues,
+				minSize
+		);
+		acquisitionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(
+				ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 30000 )
+		);
+		maxLifetimeNanos = TimeUnit.MILLISECONDS.toNanos(
+				ConfigurationHelper.getLong( MAX_LIFETIME, configurationValues, 1800000 )
+		);
+		validationIdleNanos = TimeUnit.MILLISECONDS.toNanos(
+				ConfigurationHelper.getLong( VALIDATION_IDLE_TIME, configurationValues, 500 )
+		);
+		leakDetectionThresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+				ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 )
+		);
+		CoreLogging.messageLogger( PooledConnectionProviderImpl.class ).hibernateConnectionPoolSize( maxSize, minSize );
+
+		for ( int i = 0; i < Math.min( initialSize, maxSize ); i++ ) {
+			final PooledConnection pooled = openIfBelowMaxSize();
+			if ( pooled != null ) {
+				requite( pooled );
+			}
+		}
+
+		final long housekeepingInterval = ConfigurationHelper.getLong(
+				DriverManagerConnectionProviderImpl.VALIDATION_INTERVAL,
+				configurationValues,
+				30
+		);
+		housekeeper = Executors.newSingleThreadScheduledExecutor( runnable -> {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Connection Pool Housekeeping Thread" );
+			return thread;
+		} );
+		housekeeper.scheduleWithFixedDelay(
+				this::retireExpiredAndFill,
+				housekeepingInterval,
+				housekeepingInterval,
+				TimeUnit.SECONDS
+		);
+		if ( leakDetectionThresholdNanos > 0 ) {
+			housekeeper.scheduleWithFixedDelay(
+					this::detectLeaks,
+					leakDetectionThresholdNanos,
+					leakDetectionThresholdNanos,
+					TimeUnit.NANOSECONDS
+			);
+		}
+	}
+
+
+	// use the pool ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if ( stopped ) {
+			throw new HibernateException( "The connection pool for " + connectionCreator.getUrl() + " has been stopped" );
+		}
+		final long start = System.nanoTime();
+		final PooledConnection pooled = borrow( start );
+
+		final long now = System.nanoTime();
+		acquisitionCount.increment();
+		totalAcquisitionWaitNanos.add( now - start );
+		maxAcquisitionWaitNanos.accumulate( now - start );
+		if ( leakDetectionThresholdNanos > 0 ) {
+			pooled.borrowedNanos = now;
+			pooled.leakReported = false;
+			pooled.borrowedAt = new Exception( "Connection borrowed here" );
+		}
+		return pooled.handle;
+	}
+
+	private PooledConnection borrow(long start) {
+		final PooledConnection last = lastReturned();
+		if ( last != null && last.reserve() && isUsable( last ) ) {
+			return last;
+		}
+
+		final long deadline = start + acquisitionTimeoutNanos;
+		while ( true ) {
+			for ( PooledConnection pooled : connections ) {
+				if ( pooled.reserve() && isUsable( pooled ) ) {
+					return pooled;
+				}
+			}
+
+			final PooledConnection opened = openIfBelowMaxSize();
+			if ( opened != null ) {
+				return opened;
+			}
+
+			final long remaining = deadline - System.nanoTime();
+			if ( remaining <= 0 ) {
+				acquisitionTimeoutCount.increment();
+				maxAcquisitionWaitNanos.accumulate( System.nanoTime() - start );
+				throw new HibernateException(
+						"The internal connection pool has reached its maximum size and no connection became available within "
+								+ TimeUnit.NANOSECONDS.toMillis( acquisitionTimeoutNanos ) + " ms"
+				);
+			}
+
+			beforeWaiting();
+			final PooledConnection reserved;
+			waiting.incrementAndGet();
+			try {
+				// a connection returned since the scan above did not see this thread waiting, and was left idle
+				final PooledConnection idle = reserveIdle();
+				if ( idle != null ) {
+					reserved = idle;
+				}
+				else {
+					final PooledConnection handedOff = handoff.poll( remaining, TimeUnit.NANOSECONDS );
+					reserved = handedOff != null && handedOff.reserve() ? handedOff : null;
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a pooled connection", e );
+			}
+			finally {
+				waiting.decrementAndGet();
+			}
+			// validated once no longer counted as waiting, as retiring the connection would hand its replacement off
+			if ( reserved != null && isUsable( reserved ) ) {
+				return reserved;
+			}
+		}
+	}
+
+	/**
+	 * Called when a thread is about to wait for a connection, once it found no idle connection; a test seam.
+	 */
+	void beforeWaiting() {
+	}
+
+	private PooledConnection reserveIdle() {
+		for ( PooledConnection pooled : connections ) {
+			if ( pooled.reserve() ) {
+				return pooled;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks a just reserved connection, retiring it when too old or no longer valid.
+	 */
+	private boolean isUsable(PooledConnection pooled) {
+		final long now = System.nanoTime();
+		if ( isExpired( pooled, now ) ) {
+			retire( pooled );
+			return false;
+		}
+		if ( now - pooled.lastReturnedNanos > validationIdleNanos && !isValid( pooled.connection ) ) {
+			log.debug( "Retiring pooled connection which failed validation" );
+			retire( pooled );
+			return false;
+		}
+		return true;
+	}
+
+	private boolean isExpired(PooledConnection pooled, long now) {
+		return maxLifetimeNanos > 0 && now - pooled.createdNanos > maxLifetimeNanos;
+	}
+
+	private static boolean isValid(Connection connection) {
+		try {
+			return connection.isValid( VALIDATION_TIMEOUT_SECONDS );
+		}
+		catch (SQLException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Opens a new connection, reserved for the caller, unless the pool reached its max size.
+	 */
+	private PooledConnection openIfBelowMaxSize() {
+		while ( true ) {
+			final int current = size.get();
+			if ( current >= maxSize ) {
+				return null;
+			}
+			if ( size.compareAndSet( current, current + 1 ) ) {
+				break;
+			}
+		}
+
+		try {
+			final PooledConnection pooled = new PooledConnection( openConnection() );
+			connections.add( pooled );
+			return pooled;
+		}
+		catch (RuntimeException e) {
+			size.decrementAndGet();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens a physical connection; a test seam.
+	 */
+	Connection openConnection() {
+		return connectionCreator.createConnection();
+	}
+
+	@Override
+	public void closeConnection(Connection conn) throws SQLException {
+		if ( conn == null ) {
+			return;
+		}
+
+		final PooledConnection pooled = findPooledConnection( conn );
+		if ( pooled == null ) {
+			// retired, or the pool was stopped, while borrowed
+			lastReturned.remove();
+			closePhysically( conn );
+			return;
+		}
+		pooled.borrowedAt = null;
+		lastReturned.set( pooled.reference );
+		requite( pooled );
+	}
+
+	private PooledConnection lastReturned() {
+		final WeakReference<PooledConnection> reference = lastReturned.get();
+		return reference == null ? null : reference.get();
+	}
+
+	private PooledConnection findPooledConnection(Connection conn) {
+		final PooledConnection last = lastReturned();
+		if ( last != null && last.handle == conn ) {
+			return last;
+		}
+		for ( PooledConnection pooled : connections ) {
+			if ( pooled.handle == conn ) {
+				return pooled;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Makes a reserved connection idle again, handing it off directly to a waiting thread if there is one.
+	 */
+	private void requite(PooledConnection pooled) {
+		try {
+			final boolean connectionAutoCommit = pooled.connection.getAutoCommit();
+			if ( !connectionAutoCommit && pooled.handle.hasTransactionalWork() ) {
+				// not to hand uncommitted work, and the locks it holds, to the next borrower
+				pooled.connection.rollback();
+			}
+			pooled.handle.reset();
+			if ( connectionAutoCommit != autoCommit ) {
+				pooled.connection.setAutoCommit( autoCommit );
+			}
+			pooled.connection.clearWarnings();
+		}
+		catch (SQLException e) {
+			log.debug( "Retiring pooled connection which could not be reset", e );
+			retire( pooled );
+			return;
+		}
+
+		final long now = System.nanoTime();
+		if ( isExpired( pooled, now ) ) {
+			retire( pooled );
+			return;
+		}
+		pooled.lastReturnedNanos = now;
+		pooled.release();
+
+		for ( int i = 0; waiting.get() > 0; i++ ) {
+			if ( !pooled.isIdle() || handoff.offer( pooled ) ) {
+				return;
+			}
+			if ( ( i & 0xff ) == 0xff ) {
+				LockSupport.parkNanos( TimeUnit.MICROSECONDS.toNanos( 10 ) );
+			}
+			else {
+				Thread.yield();
+			}
+		}
+	}
+
+	/**
+	 * Removes a reserved connection from the pool and closes it, opening a replacement if threads are waiting.
+	 */
+	private void retire(PooledConnection pooled) {
+		pooled.remove();
+		if ( connections.remove( pooled ) ) {
+			size.decrementAndGet();
+		}
+		closePhysically( pooled.connection );
+
+		if ( waiting.get() > 0 && !stopped ) {
+			try {
+				final PooledConnection replacement = openIfBelowMaxSize();
+				if ( replacement != null ) {
+					requite( replacement );
+				}
+			}
+			catch (RuntimeException e) {
+				log.debug( "Unable to open a replacement for a retired pooled connection", e );
+			}
+		}
+	}
+
+	private static void closePhysically(Connection connection) {
+		try {
+			connection.close();
+		}
+		catch (SQLException e) {
+			log.unableToClosePooledConnection( e );
+		}
+	}
+
+	private void retireExpiredAndFill() {
+		final long now = System.nanoTime();
+		for ( PooledConnection pooled : connections ) {
+			if ( isExpired( pooled, now ) && pooled.reserve() ) {
+				retire( pooled );
+			}
+		}
+
+		try {
+			while ( size.get() < minSize && !stopped ) {
+				final PooledConnection pooled = openIfBelowMaxSize();
+				if ( pooled == null ) {
+					break;
+				}
+				requite( pooled );
+			}
+		}
+		catch (RuntimeException e) {
+			log.debug( "Unable to fill the connection pool up to its min size", e );
+		}
+	}
+
+	private void detectLeaks() {
+		final long now = System.nanoTime();
+		for ( PooledConnection pooled : connections ) {
+			final Throwable borrowedAt = pooled.borrowedAt;
+			final long borrowedNanos = now - pooled.borrowedNanos;
+			if ( borrowedAt != null && !pooled.leakReported && borrowedNanos > leakDetectionThresholdNanos ) {
+				pooled.leakReported = true;
+				detectedLeakCount.increment();
+				log.connectionLeakDetected( TimeUnit.NANOSECONDS.toMillis( borrowedNanos ), borrowedAt );
+			}
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return false;
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class unwrapType) {
+		return ConnectionProvider.class.equals( unwrapType ) ||
+				PooledConnectionProviderImpl.class.isAssignableFrom( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings( {"unchecked"})
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( isUnwrappableAs( unwrapType ) ) {
+			return (T) this;
+		}
+		else {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+
+
+	// metrics ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * @return The number of open connections, idle or borrowed
+	 */
+	public int getSize() {
+		return connections.size();
+	}
+
+	/**
+	 * @return The number of idle connections
+	 */
+	public int getIdleCount() {
+		int idle = 0;
+		for ( PooledConnection pooled : connections ) {
+			if ( pooled.isIdle() ) {
+				idle++;
+			}
+		}
+		return idle;
+	}
+
+	/**
+	 * @return The number of threads waiting for a connection
+	 */
+	public int getWaitingCount() {
+		return waiting.get();
+	}
+
+	/**
+	 * @return The number of connections handed out
+	 */
+	public long getAcquisitionCount() {
+		return acquisitionCount.sum();
+	}
+
+	/**
+	 * @return The number of times no connection became available within the {@link #ACQUISITION_TIMEOUT}
+	 */
+	public long getAcquisitionTimeoutCount() {
+		return acquisitionTimeoutCount.sum();
+	}
+
+	/**
+	 * @return The time spent acquiring the connections handed out, in nanoseconds
+	 */
+	public long getTotalAcquisitionWaitNanos() {
+		return totalAcquisitionWaitNanos.sum();
+	}
+
+	/**
+	 * @return The longest time spent acquiring a connection, including timed out acquisitions, in nanoseconds
+	 */
+	public long getMaxAcquisitionWaitNanos() {
+		return maxAcquisitionWaitNanos.get();
+	}
+
+	/**
+	 * @return The number of connections logged as possible leaks
+	 */
+	public long getDetectedLeakCount() {
+		return detectedLeakCount.sum();
+	}
+
+
+	// destroy the pool ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void stop() {
+		if ( stopped || connectionCreator == null ) {
+			return;
+		}
+		stopped = true;
+		log.cleaningUpConnectionPool( connectionCreator.getUrl() );
+		if ( housekeeper != null ) {
+			housekeeper.shutdownNow();
+		}
+
+		int borrowed = 0;
+		for ( PooledConnection pooled : connections ) {
+			if ( !pooled.remove() ) {
+				borrowed++;
+			}
+			closePhysically( pooled.connection );
+		}
+		connections.clear();
+		size.set( 0 );
+		lastReturned.remove();
+		if ( borrowed > 0 ) {
+			log.error( "Connection leak detected: there are " + borrowed + " unclosed connections upon shutting down pool " + connectionCreator.getUrl() );
+		}
+	}
+
+	private static final class PooledConnection {
+		private static final int IDLE = 0;
+		private static final int RESERVED = 1;
+		private static final int REMOVED = -1;
+
+		private final Connection connection;
+		private final TransactionTrackingConnection handle;
+		private final WeakReference<PooledConnection> reference = new WeakReference<>( this );
+		private final AtomicInteger state = new AtomicInteger( RESERVED );
+		private final long createdNanos = System.nanoTime();
+		private volatile long lastReturnedNanos = createdNanos;
+
+		// only maintained with leak detection
+		private volatile long borrowedNanos;
+		private volatile Throwable borrowedAt;
+		private volatile boolean leakReported;
+
+		private PooledConnection(Connection connection) {
+			this.connection = connection;
+			this.handle = new TransactionTrackingConnection( connection );
+		}
+
+		private boolean reserve() {
+			return state.get() == IDLE && state.compareAndSet( IDLE, RESERVED );
+		}
+
+		private void release() {
+			state.set( IDLE );
+		}
+
+		/**
+		 * @return Whether the connection was idle
+		 */
+		private boolean remove() {
+			return state.getAndSet( REMOVED ) == IDLE;
+		}
+
+		private boolean isIdle() {
+			return state.get() == IDLE;
+		}
+	}
+}
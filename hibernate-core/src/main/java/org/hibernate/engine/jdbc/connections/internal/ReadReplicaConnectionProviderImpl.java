@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * A {@link ReadReplicaConnectionProvider} routing between two connection providers, one for the primary database
+ * and one for its read replica.
+ * <p/>
+ * Unless given the providers to route between, it pools the connections to both databases with
+ * {@link PooledConnectionProviderImpl}s.  The primary is configured by the usual {@code hibernate.connection}
+ * settings, and the replica by the same settings overridden by those with the
+ * {@link AvailableSettings#CONNECTION_REPLICA_PREFIX replica prefix}, e.g. {@code hibernate.connection.replica.url}.
+ */
+public class ReadReplicaConnectionProviderImpl
+		implements ReadReplicaConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService {
+
+	private final boolean managedProviders;
+	private ConnectionProvider primary;
+	private ConnectionProvider replica;
+	private long readYourWritesWindow;
+
+	private ServiceRegistryImplementor serviceRegistry;
+
+	public ReadReplicaConnectionProviderImpl() {
+		this.managedProviders = true;
+	}
+
+	/**
+	 * Routes between the given providers, which are neither configured nor stopped by this provider.
+	 *
+	 * @param primary The provider of connections to the primary database
+	 * @param replica The provider of connections to the read replica
+	 */
+	public ReadReplicaConnectionProviderImpl(ConnectionProvider primary, ConnectionProvider replica) {
+		this.managedProviders = false;
+		this.primary = primary;
+		this.replica = replica;
+	}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void configure(Map configurationValues) {
+		readYourWritesWindow = ConfigurationHelper.getLong(
+				AvailableSettings.CONNECTION_REPLICA_READ_YOUR_WRITES_WINDOW,
+				configurationValues,
+				0
+		);
+		if ( !managedProviders ) {
+			return;
+		}
+
+		final String replicaPrefix = AvailableSettings.CONNECTION_REPLICA_PREFIX + '.';
+		final Map primarySettings = new HashMap();
+		final Map replicaOverrides = new HashMap();
+		for ( Object o : configurationValues.entrySet() ) {
+			final Map.Entry entry = (Map.Entry) o;
+			final Object key = entry.getKey();
+			if ( key instanceof String && ( (String) key ).startsWith( replicaPrefix ) ) {
+				replicaOverrides.put(
+						AvailableSettings.CONNECTION_PREFIX + '.' + ( (String) key ).substring( replicaPrefix.length() ),
+						entry.getValue()
+				);
+			}
+			else if ( !AvailableSettings.CONNECTION_REPLICA_READ_YOUR_WRITES_WINDOW.equals( key ) ) {
+				primarySettings.put( key, entry.getValue() );
+			}
+		}
+		final Map replicaSettings = new HashMap( primarySettings );
+		replicaSettings.putAll( replicaOverrides );
+
+		primary = buildPool( primarySettings );
+		replica = buildPool( replicaSettings );
+	}
+
+	private ConnectionProvider buildPool(Map settings) {
+		final PooledConnectionProviderImpl pool = new PooledConnectionProviderImpl();
+		pool.injectServices( serviceRegistry );
+		pool.configure( settings );
+		return pool;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return primary.getConnection();
+	}
+
+	@Override
+	public void closeConnection(Connection conn) throws SQLException {
+		primary.closeConnection( conn );
+	}
+
+	@Override
+	public Connection getReadOnlyConnection() throws SQLException {
+		return replica.getConnection();
+	}
+
+	@Override
+	public void closeReadOnlyConnection(Connection conn) throws SQLException {
+		replica.closeConnection( conn );
+	}
+
+	@Override
+	public long getReadYourWritesWindow() {
+		return readYourWritesWindow;
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return primary.supportsAggressiveRelease() && replica.supportsAggressiveRelease();
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class unwrapType) {
+		return ConnectionProvider.class.equals( unwrapType ) ||
+				ReadReplicaConnectionProvider.class.equals( unwrapType ) ||
+				ReadReplicaConnectionProviderImpl.class.isAssignableFrom( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings( {"unchecked"})
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( isUnwrappableAs( unwrapType ) ) {
+			return (T) this;
+		}
+		else {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( managedProviders ) {
+			if ( primary instanceof Stoppable ) {
+				( (Stoppable) primary ).stop();
+			}
+			if ( replica instanceof Stoppable ) {
+				( (Stoppable) replica ).stop();
+			}
+		}
+	}
+}
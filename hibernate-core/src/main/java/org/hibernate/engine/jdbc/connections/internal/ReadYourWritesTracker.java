@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.service.Service;
+
+/**
+ * Records when the query spaces of a SessionFactory were last written to, in milliseconds, so that reads of the
+ * spaces written within the {@link org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider#getReadYourWritesWindow()
+ * read-your-writes window} use the primary database rather than a read replica which may not have caught up yet.
+ * <p/>
+ * Writes are recorded when their statements are executed, and again when their transaction completes.  Without a
+ * read replica, or a read-your-writes window, nothing is recorded.
+ */
+public final class ReadYourWritesTracker implements Service {
+	private final long readYourWritesWindow;
+
+	private final ConcurrentHashMap<Serializable, Long> lastWrites = new ConcurrentHashMap<>();
+	private volatile long lastWrite;
+
+	ReadYourWritesTracker(long readYourWritesWindow) {
+		this.readYourWritesWindow = readYourWritesWindow;
+	}
+
+	/**
+	 * Are writes recorded?
+	 */
+	public boolean isEnabled() {
+		return readYourWritesWindow > 0;
+	}
+
+	/**
+	 * Records writes to the given query spaces.
+	 *
+	 * @param querySpaces The written spaces
+	 */
+	public void written(Serializable[] querySpaces) {
+		if ( isEnabled() && querySpaces != null && querySpaces.length > 0 ) {
+			final Long now = System.currentTimeMillis();
+			for ( Serializable querySpace : querySpaces ) {
+				lastWrites.put( querySpace, now );
+			}
+			lastWrite = now;
+		}
+	}
+
+	/**
+	 * Records writes to the given query spaces.
+	 *
+	 * @param querySpaces The written spaces
+	 */
+	public void written(Collection<? extends Serializable> querySpaces) {
+		if ( isEnabled() && !querySpaces.isEmpty() ) {
+			final Long now = System.currentTimeMillis();
+			for ( Serializable querySpace : querySpaces ) {
+				lastWrites.put( querySpace, now );
+			}
+			lastWrite = now;
+		}
+	}
+
+	/**
+	 * Was any of the given query spaces written to within the read-your-writes window?  That's assumed to be the
+	 * case if the spaces are unknown.
+	 *
+	 * @param querySpaces The spaces read
+	 *
+	 * @return {@code true} if reading the spaces from a read replica could miss a write
+	 */
+	public boolean isWrittenWithinWindow(Collection<? extends Serializable> querySpaces) {
+		if ( !isEnabled() ) {
+			return false;
+		}
+		if ( querySpaces.isEmpty() ) {
+			// we can't tell what is read
+			return true;
+		}
+		final long windowStart = System.currentTimeMillis() - readYourWritesWindow;
+		for ( Serializable querySpace : querySpaces ) {
+			final Long lastWrite = lastWrites.get( querySpace );
+			if ( lastWrite != null && lastWrite > windowStart ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Was any query space written to within the read-your-writes window?  Used when what is going to be read is not
+	 * known beforehand, e.g. for a read-only transaction.
+	 *
+	 * @return {@code true} if reading from a read replica could miss a write
+	 */
+	public boolean isAnyWrittenWithinWindow() {
+		return isEnabled() && lastWrite > System.currentTimeMillis() - readYourWritesWindow;
+	}
+}
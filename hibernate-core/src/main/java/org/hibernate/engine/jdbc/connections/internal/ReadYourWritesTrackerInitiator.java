@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Standard initiator for the {@link ReadYourWritesTracker} of a SessionFactory.
+ */
+public class ReadYourWritesTrackerInitiator implements SessionFactoryServiceInitiator<ReadYourWritesTracker> {
+	/**
+	 * Singleton access
+	 */
+	public static final ReadYourWritesTrackerInitiator INSTANCE = new ReadYourWritesTrackerInitiator();
+
+	@Override
+	public ReadYourWritesTracker initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		return buildTracker( sessionFactoryOptions, registry );
+	}
+
+	@Override
+	public ReadYourWritesTracker initiateService(SessionFactoryServiceInitiatorContext context) {
+		return buildTracker( context.getSessionFactoryOptions(), context.getServiceRegistry() );
+	}
+
+	private static ReadYourWritesTracker buildTracker(
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		if ( sessionFactoryOptions.getMultiTenancyStrategy().requiresMultiTenantConnectionProvider() ) {
+			return new ReadYourWritesTracker( 0 );
+		}
+		final ConnectionProvider connectionProvider = registry.getService( ConnectionProvider.class );
+		return new ReadYourWritesTracker(
+				connectionProvider instanceof ReadReplicaConnectionProvider
+						? ( (ReadReplicaConnectionProvider) connectionProvider ).getReadYourWritesWindow()
+						: 0
+		);
+	}
+
+	@Override
+	public Class<ReadYourWritesTracker> getServiceInitiated() {
+		return ReadYourWritesTracker.class;
+	}
+}
@@ -0,0 +1,368 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * The Connection handed out by the {@link PooledConnectionProviderImpl} for a pooled connection, tracking whether
+ * the connection may have open transactional work, so that it is only rolled back when returned to the pool if
+ * it may have.
+ * <p/>
+ * The connection may have open transactional work once a statement was created, as Hibernate executes the
+ * statements it creates within the transaction they were created in, once its database metadata was used, or
+ * once it was unwrapped, until the transaction is committed or rolled back.  Its other methods are delegated to
+ * the pooled connection.
+ */
+class TransactionTrackingConnection implements Connection {
+	private final Connection connection;
+	private boolean transactionalWork;
+
+	TransactionTrackingConnection(Connection connection) {
+		this.connection = connection;
+	}
+
+	/**
+	 * @return Whether the connection may have uncommitted work since it was last {@link #reset}
+	 */
+	boolean hasTransactionalWork() {
+		return transactionalWork;
+	}
+
+	/**
+	 * Forgets about the work done, once the connection was rolled back by the pool.
+	 */
+	void reset() {
+		transactionalWork = false;
+	}
+
+	@Override
+	public Statement createStatement() throws SQLException {
+		transactionalWork = true;
+		return connection.createStatement();
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+		transactionalWork = true;
+		return connection.createStatement( resultSetType, resultSetConcurrency );
+	}
+
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+			throws SQLException {
+		transactionalWork = true;
+		return connection.createStatement( resultSetType, resultSetConcurrency, resultSetHoldability );
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		transactionalWork = true;
+		return connection.prepareStatement( sql );
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+			throws SQLException {
+		transactionalWork = true;
+		return connection.prepareStatement( sql, resultSetType, resultSetConcurrency );
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(
+			String sql,
+			int resultSetType,
+			int resultSetConcurrency,
+			int resultSetHoldability) throws SQLException {
+		transactionalWork = true;
+		return connection.prepareStatement( sql, resultSetType, resultSetConcurrency, resultSetHoldability );
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		transactionalWork = true;
+		return connection.prepareStatement( sql, autoGeneratedKeys );
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+		transactionalWork = true;
+		return connection.prepareStatement( sql, columnIndexes );
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+		transactionalWork = true;
+		return connection.prepareStatement( sql, columnNames );
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql) throws SQLException {
+		transactionalWork = true;
+		return connection.prepareCall( sql );
+	}
+
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency)
+			throws SQLException {
+		transactionalWork = true;
+		return connection.prepareCall( sql, resultSetType, resultSetConcurrency );
+	}
+
+	@Override
+	public CallableStatement prepareCall(
+			String sql,
+			int resultSetType,
+			int resultSetConcurrency,
+			int resultSetHoldability) throws SQLException {
+		transactionalWork = true;
+		return connection.prepareCall( sql, resultSetType, resultSetConcurrency, resultSetHoldability );
+	}
+
+	@Override
+	public DatabaseMetaData getMetaData() throws SQLException {
+		// the queries of the metadata run within the transaction on some databases
+		transactionalWork = true;
+		return connection.getMetaData();
+	}
+
+	@Override
+	public Savepoint setSavepoint() throws SQLException {
+		transactionalWork = true;
+		return connection.setSavepoint();
+	}
+
+	@Override
+	public Savepoint setSavepoint(String name) throws SQLException {
+		transactionalWork = true;
+		return connection.setSavepoint( name );
+	}
+
+	@Override
+	public void commit() throws SQLException {
+		connection.commit();
+		transactionalWork = false;
+	}
+
+	@Override
+	public void rollback() throws SQLException {
+		connection.rollback();
+		transactionalWork = false;
+	}
+
+	@Override
+	public void rollback(Savepoint savepoint) throws SQLException {
+		connection.rollback( savepoint );
+	}
+
+	@Override
+	public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+		connection.releaseSavepoint( savepoint );
+	}
+
+	@Override
+	public void setAutoCommit(boolean autoCommit) throws SQLException {
+		connection.setAutoCommit( autoCommit );
+		if ( autoCommit ) {
+			// switching to auto-commit commits the transaction
+			transactionalWork = false;
+		}
+	}
+
+	@Override
+	public boolean getAutoCommit() throws SQLException {
+		return connection.getAutoCommit();
+	}
+
+	@Override
+	public String nativeSQL(String sql) throws SQLException {
+		return connection.nativeSQL( sql );
+	}
+
+	@Override
+	public void close() throws SQLException {
+		connection.close();
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return connection.isClosed();
+	}
+
+	@Override
+	public void setReadOnly(boolean readOnly) throws SQLException {
+		connection.setReadOnly( readOnly );
+	}
+
+	@Override
+	public boolean isReadOnly() throws SQLException {
+		return connection.isReadOnly();
+	}
+
+	@Override
+	public void setCatalog(String catalog) throws SQLException {
+		connection.setCatalog( catalog );
+	}
+
+	@Override
+	public String getCatalog() throws SQLException {
+		return connection.getCatalog();
+	}
+
+	@Override
+	public void setTransactionIsolation(int level) throws SQLException {
+		connection.setTransactionIsolation( level );
+	}
+
+	@Override
+	public int getTransactionIsolation() throws SQLException {
+		return connection.getTransactionIsolation();
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return connection.getWarnings();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		connection.clearWarnings();
+	}
+
+	@Override
+	public Map<String, Class<?>> getTypeMap() throws SQLException {
+		return connection.getTypeMap();
+	}
+
+	@Override
+	public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+		connection.setTypeMap( map );
+	}
+
+	@Override
+	public void setHoldability(int holdability) throws SQLException {
+		connection.setHoldability( holdability );
+	}
+
+	@Override
+	public int getHoldability() throws SQLException {
+		return connection.getHoldability();
+	}
+
+	@Override
+	public Clob createClob() throws SQLException {
+		return connection.createClob();
+	}
+
+	@Override
+	public Blob createBlob() throws SQLException {
+		return connection.createBlob();
+	}
+
+	@Override
+	public NClob createNClob() throws SQLException {
+		return connection.createNClob();
+	}
+
+	@Override
+	public SQLXML createSQLXML() throws SQLException {
+		return connection.createSQLXML();
+	}
+
+	@Override
+	public boolean isValid(int timeout) throws SQLException {
+		return connection.isValid( timeout );
+	}
+
+	@Override
+	public void setClientInfo(String name, String value) throws SQLClientInfoException {
+		connection.setClientInfo( name, value );
+	}
+
+	@Override
+	public void setClientInfo(Properties properties) throws SQLClientInfoException {
+		connection.setClientInfo( properties );
+	}
+
+	@Override
+	public String getClientInfo(String name) throws SQLException {
+		return connection.getClientInfo( name );
+	}
+
+	@Override
+	public Properties getClientInfo() throws SQLException {
+		return connection.getClientInfo();
+	}
+
+	@Override
+	public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+		return connection.createArrayOf( typeName, elements );
+	}
+
+	@Override
+	public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+		return connection.createStruct( typeName, attributes );
+	}
+
+	@Override
+	public void setSchema(String schema) throws SQLException {
+		connection.setSchema( schema );
+	}
+
+	@Override
+	public String getSchema() throws SQLException {
+		return connection.getSchema();
+	}
+
+	@Override
+	public void abort(Executor executor) throws SQLException {
+		connection.abort( executor );
+	}
+
+	@Override
+	public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+		connection.setNetworkTimeout( executor, milliseconds );
+	}
+
+	@Override
+	public int getNetworkTimeout() throws SQLException {
+		return connection.getNetworkTimeout();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if ( iface.isInstance( this ) ) {
+			return (T) this;
+		}
+		// the work done through the unwrapped connection can't be tracked
+		transactionalWork = true;
+		return connection.unwrap( iface );
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance( this ) || connection.isWrapperFor( iface );
+	}
+}
@@ -35,6 +35,30 @@ public interface JdbcConnectionAccess extends Serializable {
 	 */
 	void releaseConnection(Connection connection) throws SQLException;
 
+	/**
+	 * Obtain a JDBC connection for read-only work, which may be a connection to a read replica.
+	 *
+	 * @return The obtained connection
+	 *
+	 * @throws SQLException Indicates a problem getting the connection
+	 *
+	 * @see ReadReplicaConnectionProvider
+	 */
+	default Connection obtainReadOnlyConnection() throws SQLException {
+		return obtainConnection();
+	}
+
+	/**
+	 * Release a connection obtained from {@link #obtainReadOnlyConnection()}
+	 *
+	 * @param connection The connection to release
+	 *
+	 * @throws SQLException Indicates a problem releasing the connection
+	 */
+	default void releaseReadOnlyConnection(Connection connection) throws SQLException {
+		releaseConnection( connection );
+	}
+
 	/**
 	 * Does the underlying provider of connections support aggressive releasing of connections (and re-acquisition
 	 * of those connections later, if need be) in JTA environments?
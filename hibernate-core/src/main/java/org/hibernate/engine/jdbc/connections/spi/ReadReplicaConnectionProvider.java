@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A {@link ConnectionProvider} also providing connections to a read replica of the database.  Sessions use them
+ * for {@link org.hibernate.query.Query#setReadOnly read-only queries}, and the queries and entity loads of a session
+ * {@link org.hibernate.Session#setDefaultReadOnly read-only by default}, executed outside of a transaction without
+ * pessimistic locks, as well as for the JDBC transactions begun by a session read-only by default.  Everything else
+ * uses the {@link #getConnection() connections to the primary database}.
+ */
+public interface ReadReplicaConnectionProvider extends ConnectionProvider {
+	/**
+	 * Obtains a connection to the read replica.
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 */
+	Connection getReadOnlyConnection() throws SQLException;
+
+	/**
+	 * Release a connection obtained from {@link #getReadOnlyConnection()}.
+	 *
+	 * @param conn The JDBC connection to release
+	 *
+	 * @throws SQLException Indicates a problem closing the connection
+	 */
+	void closeReadOnlyConnection(Connection conn) throws SQLException;
+
+	/**
+	 * The time, in milliseconds, during which reads of written tables keep using the primary database.
+	 *
+	 * @return The read-your-writes window, or 0 to not track writes
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CONNECTION_REPLICA_READ_YOUR_WRITES_WINDOW
+	 */
+	default long getReadYourWritesWindow() {
+		return 0;
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.type.Type;
+
+/**
+ * Grows the fetch size of a {@link ResultSet} geometrically as its rows are read: each time all the rows
+ * fetched so far were read, the size of the next fetch is doubled, up to a maximum.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE_ADAPTIVE
+ */
+public final class AdaptiveFetchSize {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( AdaptiveFetchSize.class );
+
+	/**
+	 * The fetch size to start with when none is configured.
+	 */
+	public static final int DEFAULT_INITIAL_FETCH_SIZE = 16;
+
+	// rough per column cost of a value held by a driver, on top of its own width
+	private static final int COLUMN_OVERHEAD = 16;
+	// estimated width of the rows of queries not loading any entity or collection
+	private static final int DEFAULT_ROW_WIDTH = 256;
+
+	private final ResultSet resultSet;
+	private final int maxFetchSize;
+	private int fetchSize;
+	private int rowsUntilGrowth;
+
+	/**
+	 * @param resultSet The result set read
+	 * @param fetchSize The fetch size the result set was executed with
+	 * @param maxFetchSize The maximum fetch size to grow to
+	 */
+	public AdaptiveFetchSize(ResultSet resultSet, int fetchSize, int maxFetchSize) {
+		this.resultSet = resultSet;
+		this.fetchSize = fetchSize;
+		this.maxFetchSize = maxFetchSize;
+		this.rowsUntilGrowth = fetchSize;
+	}
+
+	/**
+	 * Signals that a row was read from the result set.
+	 */
+	public void rowRead() {
+		if ( --rowsUntilGrowth == 0 && fetchSize < maxFetchSize ) {
+			final int grownFetchSize = (int) Math.min( 2L * fetchSize, maxFetchSize );
+			try {
+				resultSet.setFetchSize( grownFetchSize );
+				fetchSize = grownFetchSize;
+				rowsUntilGrowth = grownFetchSize;
+			}
+			catch (SQLException e) {
+				// only a hint, so keep reading with the current fetch size
+				LOG.debugf( "Unable to grow the fetch size to %s rows: %s", grownFetchSize, e.getMessage() );
+			}
+		}
+	}
+
+	/**
+	 * The fetch size the next fetch from the result set will use.
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * The number of rows whose estimated width fits in the given memory.
+	 *
+	 * @param maxMemory The memory, in bytes
+	 * @param rowWidth The estimated width of a row, in bytes
+	 *
+	 * @return The number of rows, at least 1
+	 */
+	public static int maxFetchSize(int maxMemory, int rowWidth) {
+		return Math.max( 1, maxMemory / rowWidth );
+	}
+
+	/**
+	 * Estimates the width of the rows holding values of the given types.
+	 *
+	 * @param types The types of the values in a row
+	 * @param mapping The mapping the types belong to
+	 *
+	 * @return The estimated width, in bytes
+	 */
+	public static int estimateRowWidth(Type[] types, Mapping mapping) {
+		int width = 0;
+		for ( Type type : types ) {
+			if ( type != null ) {
+				for ( int sqlType : type.sqlTypes( mapping ) ) {
+					width += COLUMN_OVERHEAD + estimateColumnWidth( sqlType );
+				}
+			}
+		}
+		return width == 0 ? DEFAULT_ROW_WIDTH : width;
+	}
+
+	private static int estimateColumnWidth(int sqlType) {
+		switch ( sqlType ) {
+			case Types.BIT:
+			case Types.BOOLEAN:
+			case Types.TINYINT:
+				return 1;
+			case Types.SMALLINT:
+				return 2;
+			case Types.INTEGER:
+			case Types.REAL:
+				return 4;
+			case Types.BIGINT:
+			case Types.DOUBLE:
+			case Types.FLOAT:
+			case Types.DATE:
+			case Types.TIME:
+			case Types.TIMESTAMP:
+				return 8;
+			case Types.NUMERIC:
+			case Types.DECIMAL:
+			case Types.TIME_WITH_TIMEZONE:
+			case Types.TIMESTAMP_WITH_TIMEZONE:
+				return 16;
+			case Types.CHAR:
+			case Types.NCHAR:
+			case Types.VARCHAR:
+			case Types.NVARCHAR:
+			case Types.BINARY:
+			case Types.VARBINARY:
+				return 64;
+			case Types.LONGVARCHAR:
+			case Types.LONGNVARCHAR:
+			case Types.LONGVARBINARY:
+			case Types.CLOB:
+			case Types.NCLOB:
+			case Types.BLOB:
+				return 1024;
+			default:
+				return 32;
+		}
+	}
+}
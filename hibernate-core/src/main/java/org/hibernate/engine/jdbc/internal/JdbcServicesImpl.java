@@ -18,6 +18,7 @@ import org.hibernate.engine.jdbc.env.internal.JdbcEnvironmentInitiator;
 import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCache;
 import org.hibernate.engine.jdbc.spi.ResultSetWrapper;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
@@ -25,13 +26,14 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
 
 /**
  * Standard implementation of the {@link JdbcServices} contract
  *
  * @author Steve Ebersole
  */
-public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable {
+public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareService, Configurable, Stoppable {
 	private ServiceRegistryImplementor serviceRegistry;
 	private JdbcEnvironment jdbcEnvironment;
 
@@ -41,6 +43,8 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 
 	private ResultSetWrapperImpl resultSetWrapper;
 
+	private PreparedStatementCacheImpl preparedStatementCache;
+
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
@@ -60,6 +64,14 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 		this.sqlStatementLogger = new SqlStatementLogger( showSQL, formatSQL, logSlowQuery );
 
 		resultSetWrapper = new ResultSetWrapperImpl( serviceRegistry );
+
+		final int statementCacheSize = ConfigurationHelper.getInt( Environment.STATEMENT_CACHE_SIZE, configValues, 0 );
+		if ( statementCacheSize > 0 ) {
+			preparedStatementCache = new PreparedStatementCacheImpl(
+					statementCacheSize,
+					ConfigurationHelper.getInt( Environment.STATEMENT_CACHE_MAX_CONNECTIONS, configValues, 64 )
+			);
+		}
 	}
 
 	@Override
@@ -113,4 +125,16 @@ public class JdbcServicesImpl implements JdbcServices, ServiceRegistryAwareServi
 	public ResultSetWrapper getResultSetWrapper() {
 		return resultSetWrapper;
 	}
+
+	@Override
+	public PreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
+	@Override
+	public void stop() {
+		if ( preparedStatementCache != null ) {
+			preparedStatementCache.close();
+		}
+	}
 }
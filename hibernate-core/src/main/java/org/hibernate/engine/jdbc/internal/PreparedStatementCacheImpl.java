@@ -0,0 +1,268 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.spi.PreparedStatementCache;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Standard implementation of PreparedStatementCache, keeping the idle statements of each connection in a
+ * map bounded with least recently used eviction.  The connections themselves are bounded the same way, so
+ * that the statements of connections no longer handed out by the pool are eventually closed.
+ * <p/>
+ * The statements of an evicted connection are not closed by the thread evicting it, as the connection may be
+ * in use by another session at that time, but by the next session taking or releasing a statement of that
+ * connection.  The statements of an evicted connection which was closed meanwhile are simply dropped.
+ */
+public class PreparedStatementCacheImpl implements PreparedStatementCache {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PreparedStatementCacheImpl.class );
+
+	private final int maxStatementsPerConnection;
+	private final LinkedHashMap<Connection, ConnectionStatements> connections;
+	// evicted connections whose statements are still to be closed by a session using the connection
+	private final Map<Connection, ConnectionStatements> evictedConnections = new HashMap<>();
+
+	/**
+	 * Constructs a PreparedStatementCacheImpl
+	 *
+	 * @param maxStatementsPerConnection The number of idle statements kept for each connection
+	 * @param maxConnections The number of connections statements are kept for
+	 */
+	public PreparedStatementCacheImpl(int maxStatementsPerConnection, final int maxConnections) {
+		this.maxStatementsPerConnection = maxStatementsPerConnection;
+		this.connections = new LinkedHashMap<Connection, ConnectionStatements>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Connection, ConnectionStatements> eldest) {
+				if ( size() > maxConnections ) {
+					evict( eldest.getKey(), eldest.getValue() );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Called holding the lock on the connections.
+	 */
+	private void evict(Connection connection, ConnectionStatements statements) {
+		evictedConnections.values().removeIf( ConnectionStatements::isConnectionClosed );
+		if ( statements.evict() ) {
+			evictedConnections.put( connection, statements );
+		}
+	}
+
+	@Override
+	public PreparedStatement take(Connection connection, String sql, int resultSetType) {
+		final ConnectionStatements statements;
+		final ConnectionStatements evicted;
+		synchronized ( connections ) {
+			statements = connections.get( connection );
+			evicted = evictedConnections.isEmpty() ? null : evictedConnections.remove( connection );
+		}
+		if ( evicted != null ) {
+			evicted.closeAll();
+		}
+		return statements == null ? null : statements.take( new StatementKey( sql, resultSetType ) );
+	}
+
+	@Override
+	public void release(Connection connection, String sql, int resultSetType, PreparedStatement statement) {
+		if ( !reset( statement ) ) {
+			close( statement );
+			return;
+		}
+		ConnectionStatements statements;
+		final ConnectionStatements evicted;
+		synchronized ( connections ) {
+			evicted = evictedConnections.isEmpty() ? null : evictedConnections.remove( connection );
+			statements = connections.get( connection );
+			if ( statements == null ) {
+				statements = new ConnectionStatements( connection, maxStatementsPerConnection );
+				connections.put( connection, statements );
+			}
+		}
+		if ( evicted != null ) {
+			evicted.closeAll();
+		}
+		if ( !statements.offer( new StatementKey( sql, resultSetType ), statement ) ) {
+			// the connection was evicted meanwhile
+			close( statement );
+		}
+	}
+
+	/**
+	 * Close all the cached statements, once the connections are no longer in use.
+	 */
+	public void close() {
+		synchronized ( connections ) {
+			connections.values().forEach( ConnectionStatements::closeAll );
+			connections.clear();
+			evictedConnections.values().forEach( ConnectionStatements::closeAll );
+			evictedConnections.clear();
+		}
+	}
+
+	/**
+	 * The number of statements currently kept for a connection.
+	 */
+	public int getCachedStatementCount(Connection connection) {
+		final ConnectionStatements statements;
+		synchronized ( connections ) {
+			statements = connections.get( connection );
+		}
+		return statements == null ? 0 : statements.size();
+	}
+
+	/**
+	 * Undo the settings Hibernate may have applied for an execution of the statement.
+	 */
+	private static boolean reset(PreparedStatement statement) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			statement.clearBatch();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			// zero lets the driver choose the fetch size again
+			statement.setFetchSize( 0 );
+			return true;
+		}
+		catch (SQLException e) {
+			LOG.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static void close(PreparedStatement statement) {
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			LOG.debugf( "Unable to release JDBC statement [%s]", e.getMessage() );
+		}
+	}
+
+	private static final class StatementKey {
+		private final String sql;
+		private final int resultSetType;
+
+		private StatementKey(String sql, int resultSetType) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof StatementKey ) ) {
+				return false;
+			}
+			final StatementKey that = (StatementKey) o;
+			return resultSetType == that.resultSetType && sql.equals( that.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * sql.hashCode() + resultSetType;
+		}
+	}
+
+	/**
+	 * The idle statements of one connection, in least recently used order.  Only accessed by the session
+	 * currently using the connection, but guarded anyway as the connection may be evicted concurrently.
+	 */
+	private static final class ConnectionStatements extends LinkedHashMap<StatementKey, PreparedStatement> {
+		private final Connection connection;
+		private final int maxStatements;
+		private boolean evicted;
+
+		private ConnectionStatements(Connection connection, int maxStatements) {
+			super( 16, 0.75f, true );
+			this.connection = connection;
+			this.maxStatements = maxStatements;
+		}
+
+		private synchronized PreparedStatement take(StatementKey key) {
+			return remove( key );
+		}
+
+		/**
+		 * @return {@code false} if the connection was evicted, and the statement is to be closed by the caller
+		 */
+		private synchronized boolean offer(StatementKey key, PreparedStatement statement) {
+			if ( evicted ) {
+				return false;
+			}
+			final PreparedStatement previous = put( key, statement );
+			if ( previous != null ) {
+				// the same SQL was executed twice at the same time, keep one of the statements only
+				close( previous );
+			}
+			return true;
+		}
+
+		/**
+		 * Stop accepting statements, without closing those already kept.
+		 *
+		 * @return {@code false} if the connection was closed, and with it its statements
+		 */
+		private synchronized boolean evict() {
+			evicted = true;
+			if ( isConnectionClosed() ) {
+				clear();
+				return false;
+			}
+			return true;
+		}
+
+		private boolean isConnectionClosed() {
+			try {
+				return connection.isClosed();
+			}
+			catch (SQLException e) {
+				return true;
+			}
+		}
+
+		private synchronized void closeAll() {
+			evicted = true;
+			values().forEach( PreparedStatementCacheImpl::close );
+			clear();
+		}
+
+		@Override
+		public synchronized int size() {
+			return super.size();
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<StatementKey, PreparedStatement> eldest) {
+			if ( super.size() > maxStatements ) {
+				close( eldest.getValue() );
+				return true;
+			}
+			return false;
+		}
+	}
+}
@@ -16,10 +16,12 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.ScrollMode;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCache;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard implementation of StatementPreparer
@@ -82,7 +84,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, isCallable ? NOT_CACHED : ResultSet.TYPE_FORWARD_ONLY ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -131,7 +133,8 @@ class StatementPreparerImpl implements StatementPreparer {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final int resultSetType = scrollMode.toResultSetType();
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, isCallable ? NOT_CACHED : resultSetType ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
@@ -142,7 +145,10 @@ class StatementPreparerImpl implements StatementPreparer {
 			return ps;
 		}
 		else {
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate(
+					sql,
+					isCallable ? NOT_CACHED : ResultSet.TYPE_FORWARD_ONLY
+			) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -154,31 +160,47 @@ class StatementPreparerImpl implements StatementPreparer {
 		}
 	}
 
+	/**
+	 * The result set type of statements which are never taken from or handed to the statement cache.
+	 */
+	private static final int NOT_CACHED = -1;
+
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final PreparedStatementCache cache;
+		private final int cachedResultSetType;
+		private Connection cachedConnection;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, NOT_CACHED );
+		}
+
+		protected StatementPreparationTemplate(String incomingSql, int cachedResultSetType) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.cache = cachedResultSetType == NOT_CACHED ? null : jdbcServices.getPreparedStatementCache();
+			this.cachedResultSetType = cachedResultSetType;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
-					setStatementTimeout( preparedStatement );
-				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				PreparedStatement preparedStatement = takeCachedStatement();
+				if ( preparedStatement == null ) {
+					final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
+				setStatementTimeout( preparedStatement );
 				postProcess( preparedStatement );
 				return preparedStatement;
 			}
@@ -187,10 +209,38 @@ class StatementPreparerImpl implements StatementPreparer {
 			}
 		}
 
+		private PreparedStatement takeCachedStatement() {
+			if ( cache == null ) {
+				return null;
+			}
+			cachedConnection = connection();
+			final PreparedStatement cachedStatement = cache.take( cachedConnection, sql, cachedResultSetType );
+			final StatisticsImplementor statistics = jdbcCoordinator.sessionFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( cachedStatement == null ) {
+					statistics.preparedStatementCacheMiss();
+				}
+				else {
+					statistics.preparedStatementCacheHit();
+				}
+			}
+			return cachedStatement;
+		}
+
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
+			if ( cache == null ) {
+				jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
+			}
+			else {
+				final Connection connection = cachedConnection;
+				jdbcCoordinator.getResourceRegistry().register(
+						preparedStatement,
+						true,
+						statement -> cache.release( connection, sql, cachedResultSetType, (PreparedStatement) statement )
+				);
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
@@ -203,8 +253,8 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
-			super( sql );
+		protected QueryStatementPreparationTemplate(String sql, int cachedResultSetType) {
+			super( sql, cachedResultSetType );
 		}
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
@@ -75,4 +75,15 @@ public interface JdbcServices extends Service {
 	 * @return The ResultSet wrapper.
 	 */
 	ResultSetWrapper getResultSetWrapper();
+
+	/**
+	 * Obtain the cache of prepared statements kept open between the sessions using a connection.
+	 *
+	 * @return The prepared statement cache, or {@code null} if statements are not cached.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default PreparedStatementCache getPreparedStatementCache() {
+		return null;
+	}
 }
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+/**
+ * A cache of the prepared statements of each physical JDBC connection, which keeps statements open between
+ * the sessions using the same (pooled) connection.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+public interface PreparedStatementCache {
+	/**
+	 * Take an idle statement out of the cache, to be executed by the caller.
+	 *
+	 * @param connection The connection the statement was prepared on
+	 * @param sql The SQL of the statement
+	 * @param resultSetType The type of the result sets of the statement
+	 *
+	 * @return The idle statement, or {@code null} if the cache has none
+	 */
+	PreparedStatement take(Connection connection, String sql, int resultSetType);
+
+	/**
+	 * Hand a statement executed by the caller back to the cache, which either keeps it for later executions or
+	 * closes it.
+	 *
+	 * @param connection The connection the statement was prepared on
+	 * @param sql The SQL of the statement
+	 * @param resultSetType The type of the result sets of the statement
+	 * @param statement The statement, whose result sets have been closed
+	 */
+	void release(Connection connection, String sql, int resultSetType, PreparedStatement statement);
+}
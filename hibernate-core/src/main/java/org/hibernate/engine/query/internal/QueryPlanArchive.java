@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.query.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Joinable;
+import org.hibernate.persister.entity.Loadable;
+import org.hibernate.type.Type;
+
+/**
+ * A file listing the HQL queries translated by a {@code SessionFactory}, so that the next {@code SessionFactory}
+ * built for the same mapping can warm its query plan cache up with them, translating them in the background rather
+ * than when they are first executed.
+ * <p/>
+ * The archive records the fingerprint of the mapping it was written for, and is ignored when read for a different
+ * mapping.  Translated plans reference the persisters of their {@code SessionFactory}, so the archive holds the
+ * query strings rather than the plans themselves.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_ARCHIVE
+ */
+public final class QueryPlanArchive {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( QueryPlanArchive.class );
+
+	private static final int MAGIC = 0x48514C41;
+	private static final int FORMAT_VERSION = 1;
+	// the shallow flag and the length of the query string
+	private static final int MIN_ENTRY_SIZE = 5;
+
+	private QueryPlanArchive() {
+	}
+
+	/**
+	 * An archived query.
+	 */
+	public static final class Entry {
+		private final String queryString;
+		private final boolean shallow;
+
+		public Entry(String queryString, boolean shallow) {
+			this.queryString = queryString;
+			this.shallow = shallow;
+		}
+
+		public String getQueryString() {
+			return queryString;
+		}
+
+		public boolean isShallow() {
+			return shallow;
+		}
+	}
+
+	/**
+	 * Reads the queries archived at the given location for the given mapping fingerprint.
+	 *
+	 * @param location The archive location
+	 * @param fingerprint The fingerprint of the mapping, see {@link #fingerprint}
+	 *
+	 * @return The archived queries, empty when there is no archive, when it cannot be read, or when it was written for
+	 * another mapping
+	 */
+	public static List<Entry> read(Path location, String fingerprint) {
+		try ( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( location ) ) ) ) {
+			final long size = Files.size( location );
+			if ( in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION ) {
+				LOG.warnf( "Ignoring query plan archive [%s] written in an unknown format", location );
+				return new ArrayList<>();
+			}
+			if ( !fingerprint.equals( in.readUTF() ) ) {
+				LOG.debugf( "Ignoring query plan archive [%s] written for another mapping", location );
+				return new ArrayList<>();
+			}
+			final int count = checkLength( in.readInt(), size / MIN_ENTRY_SIZE );
+			final List<Entry> entries = new ArrayList<>( count );
+			for ( int i = 0; i < count; i++ ) {
+				final boolean shallow = in.readBoolean();
+				final byte[] queryString = new byte[checkLength( in.readInt(), size )];
+				in.readFully( queryString );
+				entries.add( new Entry( new String( queryString, StandardCharsets.UTF_8 ), shallow ) );
+			}
+			return entries;
+		}
+		catch (NoSuchFileException e) {
+			LOG.debugf( "No query plan archive found at [%s]", location );
+			return new ArrayList<>();
+		}
+		catch (IOException | RuntimeException e) {
+			LOG.warnf( "Unable to read query plan archive [%s]: %s", location, e );
+			return new ArrayList<>();
+		}
+	}
+
+	/**
+	 * Checks a length read from the archive, which is corrupt when it does not fit in the archive.
+	 */
+	private static int checkLength(int length, long max) throws IOException {
+		if ( length < 0 || length > max ) {
+			throw new IOException( "Corrupt archive, invalid length " + length );
+		}
+		return length;
+	}
+
+	/**
+	 * Writes the given queries at the given location, replacing the previous archive.
+	 *
+	 * @param location The archive location
+	 * @param fingerprint The fingerprint of the mapping, see {@link #fingerprint}
+	 * @param entries The queries
+	 */
+	public static void write(Path location, String fingerprint, List<Entry> entries) {
+		try {
+			final Path directory = location.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			// written aside, so that a concurrent read never sees a partial archive
+			final Path temporary = Files.createTempFile( directory, location.getFileName().toString(), ".tmp" );
+			try {
+				try ( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporary ) ) ) ) {
+					out.writeInt( MAGIC );
+					out.writeInt( FORMAT_VERSION );
+					out.writeUTF( fingerprint );
+					out.writeInt( entries.size() );
+					for ( Entry entry : entries ) {
+						final byte[] queryString = entry.getQueryString().getBytes( StandardCharsets.UTF_8 );
+						out.writeBoolean( entry.isShallow() );
+						out.writeInt( queryString.length );
+						out.write( queryString );
+					}
+				}
+				Files.move( temporary, location, StandardCopyOption.REPLACE_EXISTING );
+			}
+			finally {
+				Files.deleteIfExists( temporary );
+			}
+			LOG.debugf( "Wrote %s queries to query plan archive [%s]", entries.size(), location );
+		}
+		catch (IOException e) {
+			LOG.warnf( "Unable to write query plan archive [%s]: %s", location, e );
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of the mapping of the given {@code SessionFactory}, from the Hibernate version, the
+	 * Dialect, and the names, types and tables of the entities and collections.
+	 *
+	 * @param factory The SessionFactory
+	 *
+	 * @return The fingerprint
+	 */
+	public static String fingerprint(SessionFactoryImplementor factory) {
+		final StringBuilder mapping = new StringBuilder();
+		mapping.append( Version.getVersionString() ).append( '\n' );
+		mapping.append( factory.getJdbcServices().getDialect().getClass().getName() ).append( '\n' );
+
+		for ( EntityPersister persister : new TreeMap<>( factory.getMetamodel().entityPersisters() ).values() ) {
+			mapping.append( persister.getEntityName() );
+			if ( persister instanceof Joinable ) {
+				mapping.append( ':' ).append( ( (Joinable) persister ).getTableName() );
+			}
+			mapping.append( '\n' );
+			if ( persister.getIdentifierPropertyName() != null ) {
+				mapping.append( '\t' ).append( persister.getIdentifierPropertyName() );
+			}
+			appendType( mapping, persister.getIdentifierType() );
+			if ( persister instanceof Loadable ) {
+				appendColumns( mapping, ( (Loadable) persister ).getIdentifierColumnNames() );
+			}
+			mapping.append( '\n' );
+			final String[] propertyNames = persister.getPropertyNames();
+			final Type[] propertyTypes = persister.getPropertyTypes();
+			for ( int i = 0; i < propertyNames.length; i++ ) {
+				mapping.append( '\t' ).append( propertyNames[i] );
+				appendType( mapping, propertyTypes[i] );
+				if ( persister instanceof Loadable ) {
+					appendColumns( mapping, ( (Loadable) persister ).getPropertyColumnNames( i ) );
+				}
+				mapping.append( '\n' );
+			}
+		}
+
+		for ( Map.Entry<String, CollectionPersister> entry : new TreeMap<>( factory.getMetamodel().collectionPersisters() ).entrySet() ) {
+			mapping.append( entry.getKey() );
+			if ( entry.getValue() instanceof Joinable ) {
+				mapping.append( ':' ).append( ( (Joinable) entry.getValue() ).getTableName() );
+			}
+			appendType( mapping, entry.getValue().getElementType() );
+			mapping.append( '\n' );
+		}
+
+		return digest( mapping.toString() );
+	}
+
+	private static void appendType(StringBuilder mapping, Type type) {
+		mapping.append( ':' ).append( type.getName() );
+	}
+
+	private static void appendColumns(StringBuilder mapping, String[] columns) {
+		if ( columns != null ) {
+			mapping.append( ':' ).append( String.join( ",", columns ) );
+		}
+	}
+
+	private static String digest(String mapping) {
+		try {
+			final byte[] digest = MessageDigest.getInstance( "SHA-256" ).digest( mapping.getBytes( StandardCharsets.UTF_8 ) );
+			final StringBuilder fingerprint = new StringBuilder( digest.length * 2 );
+			for ( byte b : digest ) {
+				fingerprint.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+			}
+			return fingerprint.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the mapping fingerprint", e );
+		}
+	}
+}
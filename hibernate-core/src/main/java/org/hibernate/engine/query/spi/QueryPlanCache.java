@@ -7,35 +7,55 @@
 package org.hibernate.engine.query.spi;
 
 import java.io.Serializable;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.Filter;
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
 import org.hibernate.cfg.Environment;
+import org.hibernate.engine.query.internal.QueryPlanArchive;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterImpl;
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.internal.util.collections.TinyLfuCache;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.ParameterMetadata;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
+import org.hibernate.query.criteria.internal.compile.RenderedCriteria;
 import org.hibernate.query.internal.ParameterMetadataImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Acts as a cache for compiled query plans, as well as query-parameter metadata.
+ * <p/>
+ * Both caches use the W-TinyLFU eviction policy, see {@link TinyLfuCache}.
+ * <p/>
+ * When a {@link Environment#QUERY_PLAN_CACHE_ARCHIVE query plan archive} is configured, the HQL queries cached
+ * when the SessionFactory is closed are archived, and the next SessionFactory warms its cache up with them: it
+ * translates them in the background once built, rather than when they are first executed.
  *
  * @see Environment#QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE
  * @see Environment#QUERY_PLAN_CACHE_MAX_SIZE
+ * @see Environment#QUERY_PLAN_CACHE_ARCHIVE
  *
  * @author Steve Ebersole
  */
@@ -51,12 +71,15 @@ public class QueryPlanCache implements Serializable {
 	 */
 	public static final int DEFAULT_QUERY_PLAN_MAX_COUNT = 2048;
 
+	// how long closing the SessionFactory waits for the translations of the warm-up in progress
+	private static final long WARM_UP_TERMINATION_TIMEOUT_SECONDS = 10;
+
 	private final SessionFactoryImplementor factory;
 
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap queryPlanCache;
+	private final TinyLfuCache<Object, Object> queryPlanCache;
 
 	/**
 	 * simple cache of param metadata based on query string.  Ideally, the original "user-supplied query"
@@ -66,11 +89,25 @@ public class QueryPlanCache implements Serializable {
 	 * Used solely for caching param metadata for native-sql queries, see {@link #getSQLParameterMetadata} for a
 	 * discussion as to why...
 	 */
-	private final BoundedConcurrentHashMap<ParameterMetadataKey,ParameterMetadataImpl> parameterMetadataCache;
+	private final TinyLfuCache<ParameterMetadataKey,ParameterMetadataImpl> parameterMetadataCache;
+
+	/**
+	 * the JPQL renderings of the JPA criteria queries, keyed by their structure, see {@link CriteriaStructure}
+	 */
+	private final TinyLfuCache<Object,RenderedCriteria> renderedCriteriaCache;
 
 
 	private NativeQueryInterpreter nativeQueryInterpreter;
 
+	private final String archiveLocation;
+	// the fingerprint of the mapping, determined once the metamodel is ready, see startWarmUp
+	private String mappingFingerprint;
+
+	private transient ExecutorService warmUpExecutor;
+	// the archived queries not translated yet, archived again if the SessionFactory is closed before they are
+	private transient Set<QueryPlanArchive.Entry> pendingWarmUp = Collections.emptySet();
+	private transient CompletableFuture<Void> warmUp = CompletableFuture.completedFuture( null );
+
 	/**
 	 * Constructs the QueryPlanCache to be used by the given SessionFactory
 	 *
@@ -103,14 +140,131 @@ public class QueryPlanCache implements Serializable {
 			);
 		}
 
-		queryPlanCache = new BoundedConcurrentHashMap( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		parameterMetadataCache = new BoundedConcurrentHashMap<>(
-				maxParameterMetadataCount,
-				20,
-				BoundedConcurrentHashMap.Eviction.LIRS
-		);
+		queryPlanCache = new TinyLfuCache<>( maxQueryPlanCount );
+		queryPlanCache.setEvictionListener( key -> {
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheEviction();
+			}
+		} );
+		parameterMetadataCache = new TinyLfuCache<>( maxParameterMetadataCount );
+		renderedCriteriaCache = new TinyLfuCache<>( maxQueryPlanCount );
 
 		nativeQueryInterpreter = factory.getServiceRegistry().getService( NativeQueryInterpreter.class );
+
+		archiveLocation = ConfigurationHelper.getString( Environment.QUERY_PLAN_CACHE_ARCHIVE, factory.getProperties() );
+	}
+
+	/**
+	 * Starts warming the cache up with the HQL queries of the configured query plan archive, if any: they are
+	 * translated in the background, and their plans cached unless already translated for a query executed in
+	 * the meantime.  Queries which can no longer be translated are skipped.
+	 * <p/>
+	 * Must be called once the persisters are ready.
+	 *
+	 * @param threads The maximum number of background threads translating the queries in parallel
+	 *
+	 * @see #awaitWarmUp
+	 */
+	public void startWarmUp(int threads) {
+		if ( archiveLocation == null ) {
+			return;
+		}
+		mappingFingerprint = QueryPlanArchive.fingerprint( factory );
+
+		final List<QueryPlanArchive.Entry> entries = QueryPlanArchive.read( Paths.get( archiveLocation ), mappingFingerprint );
+		if ( entries.isEmpty() ) {
+			return;
+		}
+		final AtomicInteger threadCount = new AtomicInteger();
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		warmUpExecutor = Executors.newFixedThreadPool(
+				Math.max( 1, Math.min( threads, entries.size() ) ),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-query-plan-warm-up-" + threadCount.incrementAndGet() );
+					thread.setDaemon( true );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				}
+		);
+		pendingWarmUp = ConcurrentHashMap.newKeySet();
+		pendingWarmUp.addAll( entries );
+		final CompletableFuture<?>[] translations = new CompletableFuture<?>[ entries.size() ];
+		for ( int i = 0; i < translations.length; i++ ) {
+			final QueryPlanArchive.Entry entry = entries.get( i );
+			translations[i] = CompletableFuture.runAsync( () -> loadArchivedQueryPlan( entry ), warmUpExecutor );
+		}
+		warmUp = CompletableFuture.allOf( translations ).whenComplete(
+				(result, failure) -> {
+					warmUpExecutor.shutdown();
+					LOG.debugf( "Translated %s archived queries", entries.size() );
+				}
+		);
+	}
+
+	/**
+	 * Waits for the queries of the query plan archive to be translated, e.g. before accepting requests.
+	 *
+	 * @param timeout The maximum time to wait
+	 * @param unit The unit of the timeout
+	 *
+	 * @return {@code true} if the warm-up is over, or there is none, {@code false} if the timeout elapsed
+	 */
+	public boolean awaitWarmUp(long timeout, TimeUnit unit) {
+		try {
+			warmUp.get( timeout, unit );
+			return true;
+		}
+		catch (TimeoutException e) {
+			return false;
+		}
+		catch (ExecutionException e) {
+			// the queries failing to translate are skipped, the others were translated
+			return true;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void loadArchivedQueryPlan(QueryPlanArchive.Entry entry) {
+		final HQLQueryPlanKey key = new HQLQueryPlanKey( entry.getQueryString(), entry.isShallow(), Collections.emptyMap() );
+		try {
+			if ( queryPlanCache.get( key ) == null ) {
+				queryPlanCache.putIfAbsent(
+						key,
+						new HQLQueryPlan( entry.getQueryString(), entry.isShallow(), Collections.emptyMap(), factory )
+				);
+			}
+			pendingWarmUp.remove( entry );
+		}
+		catch (RuntimeException e) {
+			// queries can't be translated once the SessionFactory is closed, they are archived again then
+			if ( factory.isOpen() ) {
+				LOG.debugf( "Skipping archived query which can no longer be translated (%s): %s", entry.getQueryString(), e );
+				pendingWarmUp.remove( entry );
+			}
+		}
+	}
+
+	private void writeArchive() {
+		final List<QueryPlanArchive.Entry> entries = new ArrayList<>();
+		queryPlanCache.forEachValue( value -> {
+			// filter plans depend on the session filters, and collection filter plans on their collection
+			if ( value.getClass() == HQLQueryPlan.class ) {
+				final HQLQueryPlan plan = (HQLQueryPlan) value;
+				if ( plan.getEnabledFilterNames().isEmpty() ) {
+					entries.add( new QueryPlanArchive.Entry( plan.getSourceQuery(), plan.isShallow() ) );
+				}
+			}
+		} );
+		for ( QueryPlanArchive.Entry entry : pendingWarmUp ) {
+			if ( queryPlanCache.get( new HQLQueryPlanKey( entry.getQueryString(), entry.isShallow(), Collections.emptyMap() ) ) == null ) {
+				entries.add( entry );
+			}
+		}
+		QueryPlanArchive.write( Paths.get( archiveLocation ), mappingFingerprint, entries );
 	}
 
 	/**
@@ -172,6 +326,27 @@ public class QueryPlanCache implements Serializable {
 		return value;
 	}
 
+	/**
+	 * Get the JPQL rendering of the JPA criteria queries of the given structure, if cached
+	 *
+	 * @param structureKey The key of the structure of the criteria query, see {@link CriteriaStructure#getKey()}
+	 *
+	 * @return The JPQL rendering and parameter layout, or {@code null}
+	 */
+	public RenderedCriteria getRenderedCriteria(Object structureKey) {
+		return renderedCriteriaCache.get( structureKey );
+	}
+
+	/**
+	 * Cache the JPQL rendering of the JPA criteria queries of the given structure
+	 *
+	 * @param structureKey The key of the structure of the criteria query, see {@link CriteriaStructure#getKey()}
+	 * @param renderedCriteria The JPQL rendering and parameter layout
+	 */
+	public void cacheRenderedCriteria(Object structureKey, RenderedCriteria renderedCriteria) {
+		renderedCriteriaCache.putIfAbsent( structureKey, renderedCriteria );
+	}
+
 	/**
 	 * Get the query plan for the given collection HQL filter fragment, creating it and caching it if not already cached
 	 *
@@ -234,17 +409,26 @@ public class QueryPlanCache implements Serializable {
 
 	/**
 	 * Clean up the caches when the SessionFactory is closed.
-	 * <p>
-	 * Note that depending on the cache strategy implementation chosen, clearing the cache might not reclaim all the
-	 * memory.
-	 * <p>
-	 * Typically, when using LIRS, clearing the cache only invalidates the entries but the outdated entries are kept in
-	 * memory until they are replaced by others. It is not considered a memory leak as the cache is bounded.
 	 */
 	public void cleanup() {
 		LOG.trace( "Cleaning QueryPlan Cache" );
+		if ( warmUpExecutor != null ) {
+			warmUpExecutor.shutdownNow();
+			try {
+				warmUpExecutor.awaitTermination( WARM_UP_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			// the translations not started yet were cancelled
+			warmUp.complete( null );
+		}
+		if ( mappingFingerprint != null ) {
+			writeArchive();
+		}
 		queryPlanCache.clear();
 		parameterMetadataCache.clear();
+		renderedCriteriaCache.clear();
 	}
 
 	public NativeQueryInterpreter getNativeQueryInterpreter() {
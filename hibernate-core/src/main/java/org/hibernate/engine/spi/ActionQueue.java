@@ -11,13 +11,15 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -43,6 +45,7 @@ import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
+import org.hibernate.engine.jdbc.connections.internal.ReadYourWritesTracker;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metadata.ClassMetadata;
@@ -100,6 +103,10 @@ public class ActionQueue {
 	private AfterTransactionCompletionProcessQueue afterTransactionProcesses;
 	private BeforeTransactionCompletionProcessQueue beforeTransactionProcesses;
 
+	// the spaces written to in the current transaction, when reads of recently written spaces avoid the read replica
+	private ReadYourWritesTracker readYourWritesTracker;
+	private Set<Serializable> writtenQuerySpaces;
+
 	/**
 	 * A LinkedHashMap containing providers for all the ExecutableLists, inserted in execution order
 	 */
@@ -399,6 +406,9 @@ public class ActionQueue {
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 			invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
 		}
+		if ( getReadYourWritesTracker().isEnabled() ) {
+			written( Arrays.asList( executable.getPropertySpaces() ) );
+		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
 				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
@@ -513,6 +523,28 @@ public class ActionQueue {
 				afterTransactionProcesses.afterTransactionCompletion( success );
 			}
 		}
+		if ( writtenQuerySpaces != null && !writtenQuerySpaces.isEmpty() ) {
+			if ( success ) {
+				// the writes only become visible once committed
+				readYourWritesTracker.written( writtenQuerySpaces );
+			}
+			writtenQuerySpaces.clear();
+		}
+	}
+
+	private ReadYourWritesTracker getReadYourWritesTracker() {
+		if ( readYourWritesTracker == null ) {
+			readYourWritesTracker = session.getFactory().getServiceRegistry().getService( ReadYourWritesTracker.class );
+		}
+		return readYourWritesTracker;
+	}
+
+	private void written(Collection<? extends Serializable> querySpaces) {
+		readYourWritesTracker.written( querySpaces );
+		if ( writtenQuerySpaces == null ) {
+			writtenQuerySpaces = new HashSet<>();
+		}
+		writtenQuerySpaces.addAll( querySpaces );
 	}
 
 	/**
@@ -599,25 +631,28 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
+			// consecutive batchable identity inserts of a same entity, executed together
+			final List<EntityIdentityInsertAction> identityInsertBatch = new ArrayList<>();
 			for ( E e : list ) {
+				if ( e instanceof EntityIdentityInsertAction && ( (EntityIdentityInsertAction) e ).isBatchable() ) {
+					final EntityIdentityInsertAction insert = (EntityIdentityInsertAction) e;
+					if ( !identityInsertBatch.isEmpty()
+							&& ( identityInsertBatch.get( 0 ).getPersister() != insert.getPersister()
+							|| identityInsertBatch.size() >= session.getConfiguredJdbcBatchSize() ) ) {
+						executeIdentityInsertBatch( identityInsertBatch );
+					}
+					identityInsertBatch.add( insert );
+					continue;
+				}
+				executeIdentityInsertBatch( identityInsertBatch );
 				try {
 					e.execute();
 				}
 				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
-					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
-					}
+					registerTransactionCompletionProcesses( e );
 				}
 			}
+			executeIdentityInsertBatch( identityInsertBatch );
 		}
 		finally {
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
@@ -627,12 +662,45 @@ public class ActionQueue {
 				Set propertySpaces = list.getQuerySpaces();
 				invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
 			}
+			if ( getReadYourWritesTracker().isEnabled() ) {
+				written( list.getQuerySpaces() );
+			}
 		}
 
 		list.clear();
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void executeIdentityInsertBatch(List<EntityIdentityInsertAction> batch) {
+		if ( batch.isEmpty() ) {
+			return;
+		}
+		try {
+			EntityIdentityInsertAction.executeBatch( batch );
+		}
+		finally {
+			for ( EntityIdentityInsertAction insert : batch ) {
+				registerTransactionCompletionProcesses( insert );
+			}
+			batch.clear();
+		}
+	}
+
+	private void registerTransactionCompletionProcesses(Executable executable) {
+		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
+		}
+		if ( executable.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
+		}
+	}
+
 	private static String[] convertTimestampSpaces(Set spaces) {
 		return (String[]) spaces.toArray( new String[ spaces.size() ] );
 	}
@@ -1022,7 +1090,10 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * Sorts the insert actions using more hashes.
+	 * The actions are grouped into one batch per entity name, and the batches are topologically sorted over the
+	 * dependency graph between the entity names, preferring the order in which the entity names first appear in
+	 * the queue. The time taken is linear in the number of actions and the size of the dependency graph. Should the
+	 * graph contain a cycle, the original order is kept.
 	 * </p>
 	 * NOTE: this class is not thread-safe.
 	 *
@@ -1039,40 +1110,25 @@ public class ActionQueue {
 			private final String entityName;
 			private final String rootEntityName;
 
-			private Set<String> parentEntityNames = new HashSet<>( );
-
-			private Set<String> childEntityNames = new HashSet<>( );
+			// the position of the entity name in order of first appearance.
+			private final int index;
 
-			private BatchIdentifier parent;
+			private final List<AbstractEntityInsertAction> actions = new ArrayList<>();
 
-			BatchIdentifier(String entityName, String rootEntityName) {
-				this.entityName = entityName;
-				this.rootEntityName = rootEntityName;
-			}
+			private final Set<String> parentEntityNames = new HashSet<>( );
 
-			public BatchIdentifier getParent() {
-				return parent;
-			}
+			private final Set<String> childEntityNames = new HashSet<>( );
 
-			public void setParent(BatchIdentifier parent) {
-				this.parent = parent;
-			}
+			// the batches which have to be inserted after this one.
+			private final List<BatchIdentifier> dependents = new ArrayList<>();
 
-			@Override
-			public boolean equals(Object o) {
-				if ( this == o ) {
-					return true;
-				}
-				if ( !( o instanceof BatchIdentifier ) ) {
-					return false;
-				}
-				BatchIdentifier that = (BatchIdentifier) o;
-				return Objects.equals( entityName, that.entityName );
-			}
+			// the number of batches which have to be inserted before this one and are not yet sorted.
+			private int unsortedDependencyCount;
 
-			@Override
-			public int hashCode() {
-				return Objects.hash( entityName );
+			BatchIdentifier(String entityName, String rootEntityName, int index) {
+				this.entityName = entityName;
+				this.rootEntityName = rootEntityName;
+				this.index = index;
 			}
 
 			String getEntityName() {
@@ -1091,50 +1147,14 @@ public class ActionQueue {
 				return childEntityNames;
 			}
 
-			boolean hasAnyParentEntityNames(BatchIdentifier batchIdentifier) {
-				return parentEntityNames.contains( batchIdentifier.getEntityName() ) ||
-						parentEntityNames.contains( batchIdentifier.getRootEntityName() );
-			}
-
-			boolean hasAnyChildEntityNames(BatchIdentifier batchIdentifier) {
-				return childEntityNames.contains( batchIdentifier.getEntityName() );
-			}
-
-			/**
-			 * Check if the this {@link BatchIdentifier} has a parent or grand parent
-			 * matching the given {@link BatchIdentifier} reference.
-			 *
-			 * @param batchIdentifier {@link BatchIdentifier} reference
-			 *
-			 * @return This {@link BatchIdentifier} has a parent matching the given {@link BatchIdentifier} reference
-			 */
-			boolean hasParent(BatchIdentifier batchIdentifier) {
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-					|| ( parentEntityNames.contains( batchIdentifier.getRootEntityName() ) && !this.getEntityName().equals( batchIdentifier.getRootEntityName() ) )
-					|| parent != null && parent.hasParent( batchIdentifier, new ArrayList<>() )
-				);
-			}
-
-			private boolean hasParent(BatchIdentifier batchIdentifier, List<BatchIdentifier> stack) {
-				if ( !stack.contains( this ) && parent != null ) {
-					stack.add( this );
-					return parent.hasParent( batchIdentifier, stack );
+			void addDependent(BatchIdentifier dependent) {
+				if ( dependent != this ) {
+					dependents.add( dependent );
+					dependent.unsortedDependencyCount++;
 				}
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-				);
 			}
 		}
 
-		// the mapping of entity names to their latest batch numbers.
-		private List<BatchIdentifier> latestBatches;
-
-		// the map of batch numbers to EntityInsertAction lists
-		private Map<BatchIdentifier, List<AbstractEntityInsertAction>> actionBatches;
-
 		public InsertActionSorter() {
 		}
 
@@ -1142,111 +1162,92 @@ public class ActionQueue {
 		 * Sort the insert actions.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
-			this.latestBatches = new ArrayList<>( );
-			this.actionBatches = new HashMap<>();
+			// the batches by entity name, in order of first appearance.
+			final Map<String, BatchIdentifier> batchesByEntityName = new LinkedHashMap<>();
 
 			for ( AbstractEntityInsertAction action : insertions ) {
-				BatchIdentifier batchIdentifier = new BatchIdentifier(
-						action.getEntityName(),
-						action.getSession()
-								.getFactory()
-								.getMetamodel()
-								.entityPersister( action.getEntityName() )
-								.getRootEntityName()
-				);
-
-				// the entity associated with the current action.
-				Object currentEntity = action.getInstance();
-				int index = latestBatches.indexOf( batchIdentifier );
-
-				if ( index != -1 )  {
-					batchIdentifier = latestBatches.get( index );
-				}
-				else {
-					latestBatches.add( batchIdentifier );
+				final String entityName = action.getEntityName();
+				BatchIdentifier batchIdentifier = batchesByEntityName.get( entityName );
+				if ( batchIdentifier == null ) {
+					batchIdentifier = new BatchIdentifier(
+							entityName,
+							action.getPersister().getRootEntityName(),
+							batchesByEntityName.size()
+					);
+					batchesByEntityName.put( entityName, batchIdentifier );
 				}
 				addParentChildEntityNames( action, batchIdentifier );
-				addToBatch( batchIdentifier, action );
+				batchIdentifier.actions.add( action );
 			}
 
-			// Examine each entry in the batch list, and build the dependency graph.
-			for ( int i = 0; i < latestBatches.size(); i++ ) {
-				BatchIdentifier batchIdentifier = latestBatches.get( i );
+			if ( batchesByEntityName.size() < 2 ) {
+				return;
+			}
 
-				for ( int j = i - 1; j >= 0; j-- ) {
-					BatchIdentifier prevBatchIdentifier = latestBatches.get( j );
-					if ( prevBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
+			// Build the dependency graph.
+			final Map<String, List<BatchIdentifier>> batchesByRootEntityName = new HashMap<>();
+			for ( BatchIdentifier batchIdentifier : batchesByEntityName.values() ) {
+				batchesByRootEntityName.computeIfAbsent( batchIdentifier.getRootEntityName(), k -> new ArrayList<>() )
+						.add( batchIdentifier );
+			}
+			for ( BatchIdentifier batchIdentifier : batchesByEntityName.values() ) {
+				for ( String parentEntityName : batchIdentifier.getParentEntityNames() ) {
+					final BatchIdentifier parent = batchesByEntityName.get( parentEntityName );
+					if ( parent != null ) {
+						parent.addDependent( batchIdentifier );
 					}
-					if ( batchIdentifier.hasAnyChildEntityNames( prevBatchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
+					if ( !parentEntityName.equals( batchIdentifier.getEntityName() ) ) {
+						final List<BatchIdentifier> parents = batchesByRootEntityName.get( parentEntityName );
+						if ( parents != null ) {
+							for ( BatchIdentifier subclassParent : parents ) {
+								if ( subclassParent != parent ) {
+									subclassParent.addDependent( batchIdentifier );
+								}
+							}
+						}
 					}
 				}
-
-				for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-					BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-					if ( nextBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-					}
-					if ( batchIdentifier.hasAnyChildEntityNames( nextBatchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
+				for ( String childEntityName : batchIdentifier.getChildEntityNames() ) {
+					final BatchIdentifier child = batchesByEntityName.get( childEntityName );
+					if ( child != null ) {
+						batchIdentifier.addDependent( child );
 					}
 				}
 			}
 
-			boolean sorted = false;
-
-			long maxIterations = latestBatches.size() * latestBatches.size();
-			long iterations = 0;
-
-			sort:
-			do {
-				// Examine each entry in the batch list, sorting them based on parent/child association
-				// as depicted by the dependency graph.
-				iterations++;
-
-				for ( int i = 0; i < latestBatches.size(); i++ ) {
-					BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-					// Iterate next batches and make sure that children types are after parents.
-					// Since the outer loop looks at each batch entry individually and the prior loop will reorder
-					// entries as well, we need to look and verify if the current batch is a child of the next
-					// batch or if the current batch is seen as a parent or child of the next batch.
-					for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-						BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-						if ( batchIdentifier.hasParent( nextBatchIdentifier ) ) {
-							if ( nextBatchIdentifier.hasParent( batchIdentifier ) ) {
-								//cycle detected, no need to continue
-								break sort;
-							}
-
-							latestBatches.remove( batchIdentifier );
-							latestBatches.add( j, batchIdentifier );
-
-							continue sort;
-						}
+			// Sort the batches topologically, always taking the first appearing one of those whose
+			// dependencies are already sorted.
+			final PriorityQueue<BatchIdentifier> sortable = new PriorityQueue<>(
+					Comparator.comparingInt( batchIdentifier -> batchIdentifier.index )
+			);
+			for ( BatchIdentifier batchIdentifier : batchesByEntityName.values() ) {
+				if ( batchIdentifier.unsortedDependencyCount == 0 ) {
+					sortable.add( batchIdentifier );
+				}
+			}
+			final List<BatchIdentifier> sortedBatches = new ArrayList<>( batchesByEntityName.size() );
+			while ( !sortable.isEmpty() ) {
+				final BatchIdentifier batchIdentifier = sortable.poll();
+				sortedBatches.add( batchIdentifier );
+				for ( BatchIdentifier dependent : batchIdentifier.dependents ) {
+					if ( --dependent.unsortedDependencyCount == 0 ) {
+						sortable.add( dependent );
 					}
 				}
-				sorted = true;
 			}
-			while ( !sorted && iterations <= maxIterations );
 
-			if ( iterations > maxIterations ) {
-				LOG.warn( "The batch containing " + latestBatches.size() + " statements could not be sorted after " + maxIterations + " iterations. " +
-								"This might indicate a circular entity relationship." );
+			if ( sortedBatches.size() < batchesByEntityName.size() ) {
+				LOG.debugf(
+						"The insertions of %s entity types could not be sorted, this might indicate a circular entity relationship",
+						batchesByEntityName.size()
+				);
+				return;
 			}
 
-			// Now, rebuild the insertions list. There is a batch for each entry in the name list.
-			if ( sorted ) {
-				insertions.clear();
-
-				for ( BatchIdentifier rootIdentifier : latestBatches ) {
-					List<AbstractEntityInsertAction> batch = actionBatches.get( rootIdentifier );
-					insertions.addAll( batch );
-				}
+			// Now, rebuild the insertions list. There is a batch for each entity name.
+			insertions.clear();
+			for ( BatchIdentifier batchIdentifier : sortedBatches ) {
+				insertions.addAll( batchIdentifier.actions );
 			}
 		}
 
@@ -1335,17 +1336,6 @@ public class ActionQueue {
 				}
 			}
 		}
-
-		private void addToBatch(BatchIdentifier batchIdentifier, AbstractEntityInsertAction action) {
-			List<AbstractEntityInsertAction> actions = actionBatches.get( batchIdentifier );
-
-			if ( actions == null ) {
-				actions = new LinkedList<>();
-				actionBatches.put( batchIdentifier, actions );
-			}
-			actions.add( action );
-		}
-
 	}
 
 	private abstract static class ListProvider<T extends Executable & Comparable & Serializable> {
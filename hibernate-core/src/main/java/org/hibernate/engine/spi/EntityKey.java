@@ -15,6 +15,9 @@ import java.util.Objects;
 import org.hibernate.AssertionFailure;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.Type;
 
 /**
  * Uniquely identifies of an entity instance in a particular Session by identifier.
@@ -51,17 +54,63 @@ public final class EntityKey implements Serializable {
 			throw new AssertionFailure( "null identifier" );
 		}
 		this.identifier = id;
-		this.hashCode = generateHashCode();
+		this.hashCode = generateHashCode( id, persister );
 	}
 
-	private int generateHashCode() {
+	/**
+	 * The hash code of the key of the given entity identifier, the same as
+	 * {@code new EntityKey( id, persister ).hashCode()}.
+	 *
+	 * @param id The entity id
+	 * @param persister The entity persister
+	 *
+	 * @return The hash code
+	 */
+	public static int generateHashCode(Serializable id, EntityPersister persister) {
 		int result = 17;
 		final String rootEntityName = persister.getRootEntityName();
 		result = 37 * result + ( rootEntityName != null ? rootEntityName.hashCode() : 0 );
-		result = 37 * result + persister.getIdentifierType().getHashCode( identifier, persister.getFactory() );
+		final Type identifierType = persister.getIdentifierType();
+		if ( isNumericIdentifierType( identifierType ) ) {
+			result = 37 * result + id.hashCode();
+		}
+		else {
+			result = 37 * result + identifierType.getHashCode( id, persister.getFactory() );
+		}
+		return result;
+	}
+
+	/**
+	 * The hash code of the key of the given {@link LongType} or {@link IntegerType} entity identifier,
+	 * the same as {@code new EntityKey( id, persister ).hashCode()} with the boxed identifier.
+	 *
+	 * @param id The entity id
+	 * @param persister The entity persister, whose identifier type is {@link LongType} or {@link IntegerType}
+	 *
+	 * @return The hash code
+	 */
+	public static int generateHashCode(long id, EntityPersister persister) {
+		int result = 17;
+		final String rootEntityName = persister.getRootEntityName();
+		result = 37 * result + ( rootEntityName != null ? rootEntityName.hashCode() : 0 );
+		if ( persister.getIdentifierType() instanceof IntegerType ) {
+			result = 37 * result + Integer.hashCode( (int) id );
+		}
+		else {
+			result = 37 * result + Long.hashCode( id );
+		}
 		return result;
 	}
 
+	/**
+	 * {@link LongType} and {@link IntegerType} delegate hashing and equality to the boxed
+	 * {@code Long} / {@code Integer} identifiers, so keys using them can skip the {@link Type}
+	 * indirection, which is costly as the call sites are megamorphic.
+	 */
+	private static boolean isNumericIdentifierType(Type identifierType) {
+		return identifierType == LongType.INSTANCE || identifierType == IntegerType.INSTANCE;
+	}
+
 	public boolean isBatchLoadable() {
 		return persister.isBatchLoadable();
 	}
@@ -88,21 +137,56 @@ public final class EntityKey implements Serializable {
 		}
 
 		final EntityKey otherKey = (EntityKey) other;
-		return samePersistentType( otherKey )
-				&& sameIdentifier( otherKey );
+		return samePersistentType( otherKey.persister )
+				&& sameIdentifier( otherKey.identifier );
+
+	}
+
+	/**
+	 * Does this key identify the given entity identifier, that is would it be equal to
+	 * {@code new EntityKey( id, persister )}?  Allows probing for a key without building one.
+	 *
+	 * @param id The entity id
+	 * @param persister The entity persister
+	 *
+	 * @return {@code true} if this key matches
+	 */
+	public boolean matches(Serializable id, EntityPersister persister) {
+		return samePersistentType( persister ) && sameIdentifier( id );
+	}
 
+	/**
+	 * Does this key identify the given {@link LongType} or {@link IntegerType} entity identifier, that
+	 * is would it be equal to {@code new EntityKey( id, persister )} with the boxed identifier?
+	 *
+	 * @param id The entity id
+	 * @param persister The entity persister, whose identifier type is {@link LongType} or {@link IntegerType}
+	 *
+	 * @return {@code true} if this key matches
+	 */
+	public boolean matches(long id, EntityPersister persister) {
+		return samePersistentType( persister )
+				&& identifier instanceof Number
+				&& ( (Number) identifier ).longValue() == id;
 	}
 
-	private boolean sameIdentifier(final EntityKey otherKey) {
-		return persister.getIdentifierType().isEqual( otherKey.identifier, this.identifier, persister.getFactory() );
+	private boolean sameIdentifier(final Serializable otherIdentifier) {
+		if ( otherIdentifier == this.identifier ) {
+			return true;
+		}
+		final Type identifierType = persister.getIdentifierType();
+		if ( isNumericIdentifierType( identifierType ) ) {
+			return this.identifier.equals( otherIdentifier );
+		}
+		return identifierType.isEqual( otherIdentifier, this.identifier, persister.getFactory() );
 	}
 
-	private boolean samePersistentType(final EntityKey otherKey) {
-		if ( otherKey.persister == persister ) {
+	private boolean samePersistentType(final EntityPersister otherPersister) {
+		if ( otherPersister == persister ) {
 			return true;
 		}
 		else {
-			return Objects.equals( otherKey.persister.getRootEntityName(), persister.getRootEntityName() );
+			return Objects.equals( otherPersister.getRootEntityName(), persister.getRootEntityName() );
 		}
 	}
 
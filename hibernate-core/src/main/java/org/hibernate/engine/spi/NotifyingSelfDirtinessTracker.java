@@ -0,0 +1,20 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+/**
+ * A self dirtiness tracker which also reports every tracked change to the persistence context the entity
+ * is associated with, through {@link PersistenceContext#entityChanged}.  Flushes can then skip such
+ * entities for as long as they report no dirty attributes.
+ * <p/>
+ * This contract is introduced into the entity by bytecode enhancement; entity classes implementing it
+ * themselves must honor the notification contract described above.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_TRACKED_DIRTY_ENTITIES_ONLY
+ */
+public interface NotifyingSelfDirtinessTracker extends SelfDirtinessTracker {
+}
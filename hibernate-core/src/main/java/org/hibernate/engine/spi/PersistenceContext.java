@@ -8,8 +8,10 @@ package org.hibernate.engine.spi;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -166,6 +168,20 @@ public interface PersistenceContext {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance associated with the given identifier; the same as
+	 * {@code getEntity( session.generateEntityKey( id, persister ) )}, but implementations may
+	 * avoid building the {@link EntityKey}.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	default Object getEntity(Serializable id, EntityPersister persister) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
@@ -462,6 +478,20 @@ public interface PersistenceContext {
 	 */
 	Object getProxy(EntityKey key);
 
+	/**
+	 * Get an existing proxy by identifier; the same as
+	 * {@code getProxy( session.generateEntityKey( id, persister ) )}, but implementations may
+	 * avoid building the {@link EntityKey}.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return The matching proxy, or {@code null}
+	 */
+	default Object getProxy(Serializable id, EntityPersister persister) {
+		return getProxy( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Add a proxy to the session cache
 	 */
@@ -499,6 +529,85 @@ public interface PersistenceContext {
 	 */
 	Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntries();
 
+	/**
+	 * Provides access to the entity/EntityEntry combos a flush has to visit, in the same reentrant-safe
+	 * manner as {@link #reentrantSafeEntityEntries}.  Unless
+	 * {@link org.hibernate.cfg.AvailableSettings#FLUSH_TRACKED_DIRTY_ENTITIES_ONLY} is enabled, these are all
+	 * the entity/EntityEntry combos; otherwise the unchanged {@link NotifyingSelfDirtinessTracker} entities
+	 * are left out.
+	 */
+	default Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntriesToFlush() {
+		return reentrantSafeEntityEntries();
+	}
+
+	/**
+	 * Signals that an attribute of the given managed entity changed.  Called by
+	 * {@link NotifyingSelfDirtinessTracker} entities, so that the next flush visits them.
+	 *
+	 * @param entity The changed entity
+	 */
+	default void entityChanged(Object entity) {
+	}
+
+	/**
+	 * Get the least recently accessed entities which can be evicted without losing any change: entities
+	 * which are neither new, removed nor dirty, which do not own dirty collections, and whose eviction
+	 * would not cascade to other entities.  Entities accessed since the last flush are never returned, as the
+	 * caller of the operation which accessed them may be about to change them.  Access is only tracked when
+	 * {@link org.hibernate.cfg.AvailableSettings#SESSION_MANAGED_ENTITY_LIMIT} is set.
+	 *
+	 * @param maxCount The maximum number of entities to return
+	 *
+	 * @return The entities, or their proxies if any, least recently accessed first
+	 */
+	default List<Object> getLeastRecentlyAccessedEvictableEntities(int maxCount) {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Keep track of an entity about to be evicted because of the
+	 * {@link org.hibernate.cfg.AvailableSettings#SESSION_MANAGED_ENTITY_LIMIT managed entity limit}, along with its
+	 * loaded state, for as long as the entity is reachable: it is reassociated with the session when accessed again
+	 * through its key, or by the next flush if changed since, so that its eviction never loses a change.
+	 *
+	 * @param entity The entity about to be evicted, or its proxy
+	 */
+	default void retainEvictedEntity(Object entity) {
+	}
+
+	/**
+	 * Reassociate the entities {@link #retainEvictedEntity retained when evicted} which were changed since, so
+	 * that the flush about to happen writes their changes.
+	 */
+	default void reattachChangedEvictedEntities() {
+	}
+
+	/**
+	 * Replace the values of the immutable basic properties of an entity being loaded by equal values of
+	 * entities loaded before, so that the entities and their loaded state snapshots share a single instance
+	 * of each value.  Only done when {@link org.hibernate.cfg.AvailableSettings#SESSION_SHARED_LOADED_VALUE_LIMIT}
+	 * is set.
+	 *
+	 * @param persister The persister of the entity being loaded
+	 * @param values The resolved property values of the entity, replaced in place
+	 */
+	default void shareLoadedValues(EntityPersister persister, Object[] values) {
+	}
+
+	/**
+	 * Get the key of the entity with the given {@link org.hibernate.type.LongType} or
+	 * {@link org.hibernate.type.IntegerType} identifier, if it is in this context, without boxing
+	 * the identifier.  The key, and so its boxed identifier, may be reused by the caller.
+	 *
+	 * @param id The entity id
+	 * @param persister The entity persister, whose identifier type is {@code LongType} or {@code IntegerType}
+	 *
+	 * @return The key of the entity, or {@code null} if it is not in this context
+	 */
+	default EntityKey getEntityKey(long id, EntityPersister persister) {
+		return null;
+	}
+
 	/**
 	 * Get the mapping from entity instance to entity entry
 	 *
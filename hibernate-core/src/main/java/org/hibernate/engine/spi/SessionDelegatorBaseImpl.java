@@ -157,6 +157,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.isTransactionInProgress();
 	}
 
+	@Override
+	public boolean isReadOnlyConnectionPreferred() {
+		return delegate.isReadOnlyConnectionPreferred();
+	}
+
+	@Override
+	public boolean isReadOnlyTransactionPreferred() {
+		return delegate.isReadOnlyTransactionPreferred();
+	}
+
 	@Override
 	public void checkTransactionNeededForUpdateOperation(String exceptionMessage) {
 		delegate.checkTransactionNeededForUpdateOperation( exceptionMessage );
@@ -203,6 +203,26 @@ public interface SharedSessionContractImplementor
 		}
 	}
 
+	/**
+	 * Should the physical JDBC connection, if acquired now, be obtained from a read replica?  This is only the
+	 * case while executing read-only queries or loads, outside of any transaction.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider
+	 */
+	default boolean isReadOnlyConnectionPreferred() {
+		return false;
+	}
+
+	/**
+	 * Should the JDBC transaction about to begin use a connection obtained from a read replica?  This is the case
+	 * for the transactions of a session {@link org.hibernate.Session#setDefaultReadOnly read-only by default}.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider
+	 */
+	default boolean isReadOnlyTransactionPreferred() {
+		return false;
+	}
+
 	/**
 	 * Provides access to the underlying transaction or creates a new transaction if
 	 * one does not already exist or is active.  This is primarily for internal or
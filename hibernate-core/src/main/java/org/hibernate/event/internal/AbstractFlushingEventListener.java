@@ -7,6 +7,7 @@
 package org.hibernate.event.internal;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.Map;
 
@@ -28,6 +29,7 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.service.spi.JpaBootstrapSensitive;
 import org.hibernate.event.spi.EventSource;
@@ -76,6 +78,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		EventSource session = event.getSession();
 
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		persistenceContext.reattachChangedEvictedEntities();
 		session.getInterceptor().preFlush( persistenceContext.managedEntitiesIterator() );
 
 		prepareEntityFlushes( session, persistenceContext );
@@ -140,7 +143,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final Object anything = getAnything();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntriesToFlush() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = (EntityEntry) me.getValue();
 			Status status = entry.getStatus();
@@ -205,10 +208,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		LOG.trace( "Flushing entities and processing referenced collections" );
 
 		final EventSource source = event.getSession();
-		final Iterable<FlushEntityEventListener> flushListeners = source.getFactory().getServiceRegistry()
+		final EventListenerGroup<FlushEntityEventListener> flushListenerGroup = source.getFactory().getServiceRegistry()
 				.getService( EventListenerRegistry.class )
-				.getEventListenerGroup( EventType.FLUSH_ENTITY )
-				.listeners();
+				.getEventListenerGroup( EventType.FLUSH_ENTITY );
+		final Iterable<FlushEntityEventListener> flushListeners = flushListenerGroup.listeners();
 
 		// Among other things, updateReachables() will recursively load all
 		// collections that are moving roles. This might cause entities to
@@ -216,20 +219,30 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntriesToFlush();
 		final int count = entityEntries.length;
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		final int parallelDirtyCheckingThreshold = source.getFactory()
+				.getSessionFactoryOptions()
+				.getParallelDirtyCheckingThreshold();
+		if ( parallelDirtyCheckingThreshold > 0
+				&& count >= parallelDirtyCheckingThreshold
+				&& isDefaultFlushEntityEventListenerOnly( flushListenerGroup ) ) {
+			flushEntitiesWithParallelDirtyChecking( source, entityEntries, flushListeners );
+		}
+		else {
+			for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 
-			// Update the status of the object and if necessary, schedule an update
+				// Update the status of the object and if necessary, schedule an update
 
-			EntityEntry entry = me.getValue();
-			Status status = entry.getStatus();
+				EntityEntry entry = me.getValue();
+				Status status = entry.getStatus();
 
-			if ( status != Status.LOADING && status != Status.GONE ) {
-				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
-				for ( FlushEntityEventListener listener : flushListeners ) {
-					listener.onFlushEntity( entityEvent );
+				if ( status != Status.LOADING && status != Status.GONE ) {
+					final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+					for ( FlushEntityEventListener listener : flushListeners ) {
+						listener.onFlushEntity( entityEvent );
+					}
 				}
 			}
 		}
@@ -239,6 +252,54 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	static boolean isDefaultFlushEntityEventListenerOnly(
+			EventListenerGroup<FlushEntityEventListener> flushListenerGroup) {
+		// other listeners might detect changes on their own, or change the entity state
+		if ( flushListenerGroup.count() != 1 ) {
+			return false;
+		}
+		for ( FlushEntityEventListener listener : flushListenerGroup.listeners() ) {
+			return listener instanceof DefaultFlushEntityEventListener;
+		}
+		return false;
+	}
+
+	/**
+	 * Reads and compares the state of the entities with their loaded state in parallel, then lets the listeners
+	 * detect the dirty entities and schedule the updates one entity at a time, in the original order.
+	 * <p/>
+	 * Once an interceptor or a callback was invoked for an entity, it might have changed the other entities, whose
+	 * state is then read again by the listeners.
+	 */
+	private void flushEntitiesWithParallelDirtyChecking(
+			EventSource source,
+			Map.Entry<Object,EntityEntry>[] entityEntries,
+			Iterable<FlushEntityEventListener> flushListeners) {
+		LOG.tracef( "Reading the state of %s entities in parallel", entityEntries.length );
+
+		final FlushEntityEvent[] entityEvents = new FlushEntityEvent[entityEntries.length];
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			entityEvents[i] = new FlushEntityEvent( source, entityEntries[i].getKey(), entityEntries[i].getValue() );
+		}
+
+		Arrays.stream( entityEvents ).parallel().forEach( DefaultFlushEntityEventListener::readPropertyValuesAhead );
+
+		boolean callbacksInvoked = false;
+		for ( FlushEntityEvent entityEvent : entityEvents ) {
+			if ( callbacksInvoked ) {
+				entityEvent.setPropertyValues( null );
+				entityEvent.setPropertyValuesSameAsLoadedState( false );
+			}
+			final Status status = entityEvent.getEntityEntry().getStatus();
+			if ( status != Status.LOADING && status != Status.GONE ) {
+				for ( FlushEntityEventListener listener : flushListeners ) {
+					listener.onFlushEntity( entityEvent );
+				}
+				callbacksInvoked |= entityEvent.isCallbacksInvoked();
+			}
+		}
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -242,7 +242,8 @@ public abstract class AbstractSaveEventListener
 		Serializable id = key == null ? null : key.getIdentifier();
 
 		boolean inTrx = source.isTransactionInProgress();
-		boolean shouldDelayIdentityInserts = !inTrx && !requiresImmediateIdAccess;
+		boolean shouldDelayIdentityInserts = !requiresImmediateIdAccess
+				&& ( !inTrx || useIdentityColumn && isIdentityInsertBatchable( persister, source ) );
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 
 		// Put a placeholder in entries, so we don't recurse back and try to save() the
@@ -315,6 +316,25 @@ public abstract class AbstractSaveEventListener
 		return id;
 	}
 
+	/**
+	 * Can the identity insert be delayed until flush time, to be executed in a JDBC batch?
+	 */
+	private boolean isIdentityInsertBatchable(EntityPersister persister, EventSource source) {
+		return isIdentityInsertBatchingAllowed()
+				&& persister.isIdentityInsertBatchable()
+				&& source.getConfiguredJdbcBatchSize() > 1;
+	}
+
+	/**
+	 * May the inserts of entities with IDENTITY generated identifiers be delayed until flush time within a
+	 * transaction, when {@link org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS batched}?
+	 *
+	 * @return True if the saved entities don't need their identifiers before the flush; false otherwise.
+	 */
+	protected boolean isIdentityInsertBatchingAllowed() {
+		return false;
+	}
+
 	private AbstractEntityInsertAction addInsertAction(
 			Object[] values,
 			Serializable id,
@@ -6,16 +6,42 @@
  */
 package org.hibernate.event.internal;
 
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -29,6 +55,8 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DefaultAutoFlushEventListener.class.getName() );
 
+	private final ConcurrentMap<String, AffectedQuerySpaces> affectedQuerySpacesByEntityName = new ConcurrentHashMap<>();
+
 	/**
 	 * Handle the given auto-flush event.
 	 * 
@@ -43,31 +71,38 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 			eventListenerManager.partialFlushStart();
 
 			if ( flushMightBeNeeded( source ) ) {
-				// Need to get the number of collection removals before flushing to executions
-				// (because flushing to executions can add collection removal actions to the action queue).
-				final ActionQueue actionQueue = source.getActionQueue();
-				final int oldSize = actionQueue.numberOfCollectionRemovals();
-				flushEverythingToExecutions( event );
-				if ( flushIsReallyNeeded( event, source ) ) {
-					LOG.trace( "Need to execute flush" );
-					event.setFlushRequired( true );
-
-					// note: performExecutions() clears all collectionXxxxtion
-					// collections (the collection actions) in the session
-					performExecutions( source );
-					postFlush( source );
-
-					postPostFlush( source );
-
-					final StatisticsImplementor statistics = source.getFactory().getStatistics();
-					if ( statistics.isStatisticsEnabled() ) {
-						statistics.flush();
-					}
+				if ( isQuerySpacesOnlyDirtyCheckApplicable( event, source )
+						&& !mightAffectQuerySpaces( event.getQuerySpaces(), source ) ) {
+					LOG.trace( "Don't need to execute flush, no pending change to the query spaces" );
+					event.setFlushRequired( false );
 				}
 				else {
-					LOG.trace( "Don't need to execute flush" );
-					event.setFlushRequired( false );
-					actionQueue.clearFromFlushNeededCheck( oldSize );
+					// Need to get the number of collection removals before flushing to executions
+					// (because flushing to executions can add collection removal actions to the action queue).
+					final ActionQueue actionQueue = source.getActionQueue();
+					final int oldSize = actionQueue.numberOfCollectionRemovals();
+					flushEverythingToExecutions( event );
+					if ( flushIsReallyNeeded( event, source ) ) {
+						LOG.trace( "Need to execute flush" );
+						event.setFlushRequired( true );
+
+						// note: performExecutions() clears all collectionXxxxtion
+						// collections (the collection actions) in the session
+						performExecutions( source );
+						postFlush( source );
+
+						postPostFlush( source );
+
+						final StatisticsImplementor statistics = source.getFactory().getStatistics();
+						if ( statistics.isStatisticsEnabled() ) {
+							statistics.flush();
+						}
+					}
+					else {
+						LOG.trace( "Don't need to execute flush" );
+						event.setFlushRequired( false );
+						actionQueue.clearFromFlushNeededCheck( oldSize );
+					}
 				}
 			}
 		}
@@ -84,6 +119,217 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	private boolean isQuerySpacesOnlyDirtyCheckApplicable(AutoFlushEvent event, EventSource source) {
+		final SessionFactoryImplementor factory = source.getFactory();
+		return factory.getSessionFactoryOptions().isAutoFlushQuerySpacesOnlyEnabled()
+				&& source.getHibernateFlushMode() != FlushMode.ALWAYS
+				&& !event.getQuerySpaces().isEmpty()
+				&& source.getInterceptor() == EmptyInterceptor.INSTANCE
+				&& factory.getCustomEntityDirtinessStrategy() instanceof DefaultCustomEntityDirtinessStrategy
+				&& isDefaultFlushEntityEventListenerOnly(
+						factory.getServiceRegistry()
+								.getService( EventListenerRegistry.class )
+								.getEventListenerGroup( EventType.FLUSH_ENTITY )
+				);
+	}
+
+	/**
+	 * Might the pending changes of the session affect the given query spaces?  Only dirty checks the entities
+	 * whose tables, or the tables of the collections they own or cascade to, are part of the query spaces, and
+	 * the collections whose tables are.  Unlike a flush, does not change the state of the session.
+	 */
+	private boolean mightAffectQuerySpaces(Set<Serializable> querySpaces, EventSource source) {
+		if ( source.getActionQueue().areTablesToBeUpdated( querySpaces ) ) {
+			return true;
+		}
+
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntriesToFlush() ) {
+			final EntityEntry entry = me.getValue();
+			final Status status = entry.getStatus();
+			if ( status == Status.LOADING || status == Status.GONE ) {
+				continue;
+			}
+			final AffectedQuerySpaces affectedQuerySpaces = getAffectedQuerySpaces( entry.getPersister() );
+			if ( !affectedQuerySpaces.mightAffect( querySpaces ) ) {
+				// changes to this entity never need to be flushed before this query
+				continue;
+			}
+			if ( ( status != Status.MANAGED && status != Status.READ_ONLY )
+					|| affectedQuerySpaces.mightCascadeTo( querySpaces ) ) {
+				return true;
+			}
+			if ( status == Status.MANAGED
+					&& entry.requiresDirtyCheck( me.getKey() )
+					&& !isSameAsLoadedState( me.getKey(), entry ) ) {
+				return true;
+			}
+		}
+
+		final boolean[] collectionChanged = new boolean[1];
+		persistenceContext.forEachCollectionEntry(
+				(collection, collectionEntry) -> {
+					if ( !collectionChanged[0] ) {
+						collectionChanged[0] = mightCollectionAffectQuerySpaces( collection, collectionEntry, querySpaces, source );
+					}
+				},
+				false
+		);
+		return collectionChanged[0];
+	}
+
+	private static boolean isSameAsLoadedState(Object entity, EntityEntry entry) {
+		final Object[] loadedState = entry.getLoadedState();
+		if ( loadedState == null ) {
+			return false;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final Type[] types = persister.getPropertyTypes();
+		final Object[] values = persister.getPropertyValues( entity );
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( !types[i].isSame( loadedState[i], values[i] ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean mightCollectionAffectQuerySpaces(
+			PersistentCollection collection,
+			CollectionEntry collectionEntry,
+			Set<Serializable> querySpaces,
+			EventSource source) {
+		CollectionPersister persister = collectionEntry.getLoadedPersister();
+		if ( persister == null ) {
+			// not flushed yet
+			if ( collection.getRole() == null ) {
+				return true;
+			}
+			persister = source.getFactory().getMetamodel().collectionPersister( collection.getRole() );
+		}
+
+		final boolean versionIncrement = persister.isVersioned()
+				&& containsAny( querySpaces, persister.getOwnerEntityPersister().getPropertySpaces() );
+		if ( !versionIncrement && !containsAny( querySpaces, persister.getCollectionSpaces() ) ) {
+			return false;
+		}
+
+		// same as the dirty checking of CollectionEntry#preFlush()
+		return collectionEntry.getLoadedPersister() == null
+				|| collection.isDirty()
+				|| collection.wasInitialized()
+						&& ( collection.isDirectlyAccessible() || persister.getElementType().isMutable() )
+						&& !collection.equalsSnapshot( persister );
+	}
+
+	private static boolean containsAny(Set<Serializable> querySpaces, Serializable[] spaces) {
+		for ( Serializable space : spaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private AffectedQuerySpaces getAffectedQuerySpaces(EntityPersister persister) {
+		AffectedQuerySpaces affectedQuerySpaces = affectedQuerySpacesByEntityName.get( persister.getEntityName() );
+		if ( affectedQuerySpaces == null ) {
+			affectedQuerySpaces = new AffectedQuerySpaces( persister, getCascadingAction() );
+			affectedQuerySpacesByEntityName.putIfAbsent( persister.getEntityName(), affectedQuerySpaces );
+		}
+		return affectedQuerySpaces;
+	}
+
+	/**
+	 * The query spaces the changes to the entities of a given persister may need to be flushed to.
+	 */
+	private static class AffectedQuerySpaces {
+		private final MetamodelImplementor metamodel;
+		private final CascadingAction cascadingAction;
+
+		// the tables of the entity and of the collections it owns
+		private final Set<Serializable> spaces = new HashSet<>();
+		// the tables of the entities and collections reachable by cascading on flush
+		private final Set<Serializable> cascadeSpaces = new HashSet<>();
+		// whether the cascades reach associations to any entity, whose tables are unknown
+		private boolean cascadeToAnyEntity;
+
+		private AffectedQuerySpaces(EntityPersister persister, CascadingAction cascadingAction) {
+			this.metamodel = persister.getFactory().getMetamodel();
+			this.cascadingAction = cascadingAction;
+			final Set<String> visited = new HashSet<>();
+			visited.add( persister.getEntityName() );
+			collectEntitySpaces( persister, spaces, visited );
+		}
+
+		boolean mightAffect(Set<Serializable> querySpaces) {
+			return cascadeToAnyEntity || intersects( spaces, querySpaces ) || intersects( cascadeSpaces, querySpaces );
+		}
+
+		boolean mightCascadeTo(Set<Serializable> querySpaces) {
+			return cascadeToAnyEntity || intersects( cascadeSpaces, querySpaces );
+		}
+
+		private static boolean intersects(Set<Serializable> spaces, Set<Serializable> querySpaces) {
+			for ( Serializable querySpace : querySpaces ) {
+				if ( spaces.contains( querySpace ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void collectEntitySpaces(EntityPersister persister, Set<Serializable> entitySpaces, Set<String> visited) {
+			Collections.addAll( entitySpaces, persister.getPropertySpaces() );
+			final Type[] types = persister.getPropertyTypes();
+			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+			for ( int i = 0; i < types.length; i++ ) {
+				collectSpaces( types[i], cascadeStyles[i], entitySpaces, visited );
+			}
+		}
+
+		private void collectSpaces(Type type, CascadeStyle cascadeStyle, Set<Serializable> entitySpaces, Set<String> visited) {
+			final boolean cascades = cascadeStyle.doCascade( cascadingAction ) || cascadeStyle.hasOrphanDelete();
+			if ( type.isCollectionType() ) {
+				final CollectionPersister persister = metamodel.collectionPersister( ( (CollectionType) type ).getRole() );
+				Collections.addAll( entitySpaces, persister.getCollectionSpaces() );
+				if ( cascades ) {
+					final Type elementType = persister.getElementType();
+					if ( elementType.isEntityType() ) {
+						collectCascadeSpaces( ( (EntityType) elementType ).getAssociatedEntityName(), visited );
+					}
+					else if ( elementType.isAnyType() ) {
+						cascadeToAnyEntity = true;
+					}
+				}
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType compositeType = (CompositeType) type;
+				final Type[] subtypes = compositeType.getSubtypes();
+				for ( int i = 0; i < subtypes.length; i++ ) {
+					collectSpaces( subtypes[i], compositeType.getCascadeStyle( i ), entitySpaces, visited );
+				}
+			}
+			else if ( cascades ) {
+				if ( type.isEntityType() ) {
+					collectCascadeSpaces( ( (EntityType) type ).getAssociatedEntityName(), visited );
+				}
+				else if ( type.isAnyType() ) {
+					cascadeToAnyEntity = true;
+				}
+			}
+		}
+
+		private void collectCascadeSpaces(String entityName, Set<String> visited) {
+			final EntityPersister persister = metamodel.entityPersister( entityName );
+			for ( Object subclassEntityName : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+				if ( visited.add( (String) subclassEntityName ) ) {
+					collectEntitySpaces( metamodel.entityPersister( (String) subclassEntityName ), cascadeSpaces, visited );
+				}
+			}
+		}
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
@@ -11,6 +11,7 @@ import java.util.Arrays;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.CustomEntityDirtinessStrategy;
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.SessionFactory;
 import org.hibernate.StaleObjectStateException;
@@ -36,6 +37,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
+import org.hibernate.jpa.event.spi.CallbackType;
 import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -159,8 +161,12 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] valuesReadAhead = event.getPropertyValues();
+		final Object[] values = getValues( entity, entry, mightBeDirty, valuesReadAhead, session );
 
+		if ( values != valuesReadAhead ) {
+			event.setPropertyValuesSameAsLoadedState( false );
+		}
 		event.setPropertyValues( values );
 
 		//TODO: avoid this for non-new instances where mightBeDirty==false
@@ -185,7 +191,43 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	/**
+	 * Reads the current state of the entity of the given event ahead of {@link #onFlushEntity}, and compares
+	 * it with the loaded state.  Only relies on {@link Type#isSame}, and does not touch the session, so
+	 * unlike {@link #onFlushEntity} it may be called for several entities concurrently.
+	 * <p/>
+	 * Does nothing for entities which are not dirty checked against their loaded state, or which track
+	 * their own dirtiness.
+	 */
+	static void readPropertyValuesAhead(FlushEntityEvent event) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final Object[] loadedState = entry.getLoadedState();
+		if ( entry.getStatus() != Status.MANAGED
+				|| loadedState == null
+				|| !entry.isModifiableEntity()
+				|| entity instanceof SelfDirtinessTracker
+				|| entity instanceof PersistentAttributeInterceptable ) {
+			return;
+		}
+
+		final EntityPersister persister = entry.getPersister();
+		final Type[] types = persister.getPropertyTypes();
+		final Object[] values = persister.getPropertyValues( entity );
+		boolean same = true;
+		for ( int i = 0; same && i < types.length; i++ ) {
+			same = types[i].isSame( loadedState[i], values[i] );
+		}
+		event.setPropertyValues( values );
+		event.setPropertyValuesSameAsLoadedState( same );
+	}
+
+	private Object[] getValues(
+			Object entity,
+			EntityEntry entry,
+			boolean mightBeDirty,
+			Object[] valuesReadAhead,
+			SessionImplementor session) {
 		final Object[] loadedState = entry.getLoadedState();
 		final Status status = entry.getStatus();
 		final EntityPersister persister = entry.getPersister();
@@ -201,8 +243,8 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			checkId( entity, persister, entry.getId(), session );
 
-			// grab its current state
-			values = persister.getPropertyValues( entity );
+			// grab its current state, unless it was already read by readPropertyValuesAhead()
+			values = valuesReadAhead != null ? valuesReadAhead : persister.getPropertyValues( entity );
 
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 		}
@@ -343,6 +385,11 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		EntityPersister persister = entry.getPersister();
 		Object entity = event.getEntity();
 
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE
+				|| callbackRegistry.hasRegisteredCallbacks( entity.getClass(), CallbackType.PRE_UPDATE ) ) {
+			event.setCallbacksInvoked( true );
+		}
+
 		//give the Interceptor a chance to modify property values
 		final Object[] values = event.getPropertyValues();
 		final boolean intercepted = invokeInterceptor( session, entity, entry, values, persister );
@@ -582,7 +629,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 				dirtyCheckPossible = loadedState != null;
 				if ( dirtyCheckPossible ) {
 					// dirty check against the usual snapshot of the entity
-					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+					dirtyProperties = event.isPropertyValuesSameAsLoadedState()
+							? null
+							: persister.findDirty( values, loadedState, entity, session );
 				}
 				else if ( entry.getStatus() == Status.DELETED && !event.getEntityEntry().isModifiableEntity() ) {
 					// A non-modifiable (e.g., read-only or immutable) entity needs to be have
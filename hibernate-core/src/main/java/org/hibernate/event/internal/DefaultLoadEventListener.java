@@ -95,6 +95,14 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			final LoadEventListener.LoadType loadType) {
 
 		try {
+			if ( !loadType.isNakedEntityReturned() && event.getLockMode() == LockMode.NONE ) {
+				final Object managed = getManagedEntity( event, persister, loadType );
+				if ( managed != null ) {
+					event.setResult( managed );
+					return;
+				}
+			}
+
 			final EventSource session = event.getSession();
 			final EntityKey keyToLoad = session.generateEntityKey( event.getEntityId(), persister );
 			if ( loadType.isNakedEntityReturned() ) {
@@ -118,6 +126,51 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		}
 	}
 
+	/**
+	 * Resolves the load against the entities already managed by the persistence context, probing
+	 * it without building an {@link EntityKey}.  This is by far the most common outcome of loads
+	 * without lock, e.g. of {@code Session#get} or of association resolution, and is allocation free.
+	 * <p/>
+	 * Only handles the case where {@link #proxyOrLoad} would return the managed instance as is;
+	 * proxies, removed entities or instances of an inconsistent type are left to the regular path.
+	 *
+	 * @return The managed entity, or {@code null} if the regular load process is needed
+	 */
+	private Object getManagedEntity(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final LoadEventListener.LoadType options) {
+		final EventSource session = event.getSession();
+		if ( event.getInstanceToLoad() != null || !session.isOpenOrWaitingForAutoClose() ) {
+			return null;
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Serializable id = event.getEntityId();
+		final Object managed = persistenceContext.getEntity( id, persister );
+		if ( managed == null ) {
+			return null;
+		}
+		if ( persister.hasProxy() && persistenceContext.getProxy( id, persister ) != null ) {
+			return null;
+		}
+		final Status status = persistenceContext.getEntry( managed ).getStatus();
+		if ( status != Status.MANAGED && status != Status.READ_ONLY ) {
+			return null;
+		}
+		if ( options.isAllowNulls() && !persister.isInstance( managed ) ) {
+			return null;
+		}
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev(
+					"Entity found in session cache: {0}",
+					MessageHelper.infoString( persister, id, session.getFactory() )
+			);
+		}
+		return managed;
+	}
+
 	private void checkIdClass(
 			final EntityPersister persister,
 			final LoadEvent event,
@@ -45,6 +45,11 @@ public class DefaultPersistEventListener
 		return CascadingActions.PERSIST;
 	}
 
+	@Override
+	protected boolean isIdentityInsertBatchingAllowed() {
+		return true;
+	}
+
 	/**
 	 * Handle the given create event.
 	 *
@@ -19,6 +19,10 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean hasDirtyCollection;
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
+	// the property values were read ahead of the listeners, and found to be the same as the loaded state
+	private boolean propertyValuesSameAsLoadedState;
+	// an interceptor or callback was invoked for the entity, and might have changed the state of other entities
+	private boolean callbacksInvoked;
 	private EntityEntry entityEntry;
 	
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
@@ -72,4 +76,16 @@ public class FlushEntityEvent extends AbstractEvent {
 	public Object getEntity() {
 		return entity;
 	}
+	public boolean isPropertyValuesSameAsLoadedState() {
+		return propertyValuesSameAsLoadedState;
+	}
+	public void setPropertyValuesSameAsLoadedState(boolean propertyValuesSameAsLoadedState) {
+		this.propertyValuesSameAsLoadedState = propertyValuesSameAsLoadedState;
+	}
+	public boolean isCallbacksInvoked() {
+		return callbacksInvoked;
+	}
+	public void setCallbacksInvoked(boolean callbacksInvoked) {
+		this.callbacksInvoked = callbacksInvoked;
+	}
 }
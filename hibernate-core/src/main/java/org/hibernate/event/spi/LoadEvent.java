@@ -68,6 +68,10 @@ public class LoadEvent extends AbstractEvent {
 		return isAssociationFetch;
 	}
 
+	public void setAssociationFetch(boolean isAssociationFetch) {
+		this.isAssociationFetch = isAssociationFetch;
+	}
+
 	private LoadEvent(
 			Serializable entityId,
 			String entityClassName,
@@ -41,6 +41,17 @@ public class ASTQueryTranslatorFactory implements QueryTranslatorFactory {
 			Map filters,
 			SessionFactoryImplementor factory,
 			EntityGraphQueryHint entityGraphQueryHint) {
+		if ( entityGraphQueryHint == null && factory.getSessionFactoryOptions().isSimpleQueryTranslationEnabled() ) {
+			final QueryTranslator simpleQueryTranslator = SimpleQueryTranslator.recognize(
+					queryIdentifier,
+					queryString,
+					filters,
+					factory
+			);
+			if ( simpleQueryTranslator != null ) {
+				return simpleQueryTranslator;
+			}
+		}
 		return new QueryTranslatorImpl( queryIdentifier, queryString, filters, factory, entityGraphQueryHint );
 	}
 
@@ -0,0 +1,628 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.internal.ast;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.QueryException;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.hql.internal.NameGenerator;
+import org.hibernate.hql.internal.QueryExecutionRequestException;
+import org.hibernate.hql.internal.ast.util.AliasGenerator;
+import org.hibernate.hql.spi.ParameterTranslations;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.loader.hql.SimpleQueryLoader;
+import org.hibernate.param.NamedParameterSpecification;
+import org.hibernate.param.ParameterSpecification;
+import org.hibernate.param.PositionalParameterSpecification;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Queryable;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * Translates the simplest HQL queries, which select a single entity and are at most restricted by equality of its
+ * basic properties to parameters, and ordered by its basic properties, such as:
+ * <pre>
+ * from Person p where p.name = :name and p.age = ?1 order by p.id desc
+ * </pre>
+ * The SQL is generated from the entity persister, without building the HQL and SQL ASTs, and is the same as
+ * {@link QueryTranslatorImpl} generates.  Only entities mapped to a single table, without inheritance nor where
+ * clause, are supported.
+ * <p/>
+ * Use {@link #recognize} to obtain a translator for a query, {@code null} being returned for queries needing the
+ * full translation.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_SIMPLE_TRANSLATION
+ */
+public class SimpleQueryTranslator implements QueryTranslator {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( SimpleQueryTranslator.class );
+
+	private static final Set<String> RESERVED_WORDS = new HashSet<>( Arrays.asList(
+			"select", "from", "as", "where", "and", "or", "not", "order", "group", "by", "having", "asc", "desc",
+			"join", "left", "right", "inner", "outer", "full", "cross", "fetch", "with", "on", "in", "is", "null",
+			"like", "between", "distinct", "all", "new", "class", "union", "elements", "indices", "member", "of"
+	) );
+
+	private final String queryIdentifier;
+	private final String hql;
+	private final SessionFactoryImplementor factory;
+
+	private final Queryable persister;
+	private final String classAlias;
+	private final String tableAlias;
+	private final boolean explicitSelect;
+	private final List<Restriction> restrictions;
+	private final List<Ordering> orderings;
+
+	private boolean compiled;
+	private boolean shallowQuery;
+	private String sql;
+	private Type[] returnTypes;
+	private List<ParameterSpecification> parameterSpecifications;
+	private ParameterTranslations parameterTranslations;
+	private SimpleQueryLoader queryLoader;
+
+	private SimpleQueryTranslator(
+			String queryIdentifier,
+			String hql,
+			SessionFactoryImplementor factory,
+			Queryable persister,
+			String classAlias,
+			String tableAlias,
+			boolean explicitSelect,
+			List<Restriction> restrictions,
+			List<Ordering> orderings) {
+		this.queryIdentifier = queryIdentifier;
+		this.hql = hql;
+		this.factory = factory;
+		this.persister = persister;
+		this.classAlias = classAlias;
+		this.tableAlias = tableAlias;
+		this.explicitSelect = explicitSelect;
+		this.restrictions = restrictions;
+		this.orderings = orderings;
+	}
+
+	/**
+	 * Obtains a translator for the given query, if it is simple enough.
+	 *
+	 * @param queryIdentifier The query-identifier (used in stats collection)
+	 * @param query The hql query to translate
+	 * @param enabledFilters Currently enabled filters
+	 * @param factory The session factory
+	 *
+	 * @return The translator, or {@code null} if the query needs to be fully translated
+	 */
+	public static SimpleQueryTranslator recognize(
+			String queryIdentifier,
+			String query,
+			Map enabledFilters,
+			SessionFactoryImplementor factory) {
+		if ( CollectionHelper.isNotEmpty( enabledFilters )
+				|| factory.getSessionFactoryOptions().getJpaCompliance().isJpaQueryComplianceEnabled() ) {
+			return null;
+		}
+		final List<String> tokens = tokenize( query );
+		if ( tokens == null ) {
+			return null;
+		}
+		final Map<?, ?> substitutions = factory.getSessionFactoryOptions().getQuerySubstitutions();
+		if ( CollectionHelper.isNotEmpty( substitutions ) ) {
+			for ( String token : tokens ) {
+				if ( substitutions.containsKey( token ) ) {
+					return null;
+				}
+			}
+		}
+		try {
+			return new Recognizer( queryIdentifier, query, tokens, factory ).recognize();
+		}
+		catch (QueryException | MappingException e) {
+			// the full translation reports the problem
+			LOG.tracev( "Query requires full translation ({0}): {1}", query, e.getMessage() );
+			return null;
+		}
+	}
+
+	/**
+	 * Splits the query into identifiers, paths, parameters, {@code =} and {@code ,}.
+	 *
+	 * @return The tokens, or {@code null} if the query contains anything else
+	 */
+	private static List<String> tokenize(String query) {
+		final List<String> tokens = new ArrayList<>();
+		final int length = query.length();
+		int i = 0;
+		while ( i < length ) {
+			final char c = query.charAt( i );
+			if ( Character.isWhitespace( c ) ) {
+				i++;
+			}
+			else if ( c == '=' || c == ',' ) {
+				tokens.add( String.valueOf( c ) );
+				i++;
+			}
+			else if ( c == ':' || Character.isJavaIdentifierStart( c ) ) {
+				final int start = i++;
+				while ( i < length
+						&& ( Character.isJavaIdentifierPart( query.charAt( i ) ) || query.charAt( i ) == '.' ) ) {
+					i++;
+				}
+				tokens.add( query.substring( start, i ) );
+			}
+			else if ( c == '?' ) {
+				final int start = i++;
+				while ( i < length && Character.isDigit( query.charAt( i ) ) ) {
+					i++;
+				}
+				if ( i == start + 1 ) {
+					// legacy positional parameter, reported by the full translation
+					return null;
+				}
+				tokens.add( query.substring( start, i ) );
+			}
+			else {
+				return null;
+			}
+		}
+		return tokens;
+	}
+
+	private static boolean isParameter(String token) {
+		return token.length() > 1 && ( token.charAt( 0 ) == ':' || token.charAt( 0 ) == '?' ) && token.indexOf( '.' ) < 0;
+	}
+
+	private static boolean isIdentifier(String token) {
+		return Character.isJavaIdentifierStart( token.charAt( 0 ) )
+				&& !token.endsWith( "." )
+				&& !token.contains( ".." )
+				&& !RESERVED_WORDS.contains( token.toLowerCase( Locale.ROOT ) );
+	}
+
+	/**
+	 * A {@code property = parameter} restriction.
+	 */
+	private static class Restriction {
+		private final String column;
+		private final Type type;
+		private final String parameter;
+		private final boolean parameterFirst;
+
+		private Restriction(String column, Type type, String parameter, boolean parameterFirst) {
+			this.column = column;
+			this.type = type;
+			this.parameter = parameter;
+			this.parameterFirst = parameterFirst;
+		}
+	}
+
+	private static class Ordering {
+		private final String column;
+		private final String direction;
+
+		private Ordering(String column, String direction) {
+			this.column = column;
+			this.direction = direction;
+		}
+	}
+
+	/**
+	 * Matches the tokens of a query against:
+	 * <pre>
+	 * [select alias] from entity [[as] alias]
+	 * [where path = parameter [and path = parameter]*]
+	 * [order by path [asc|desc] [, path [asc|desc]]*]
+	 * </pre>
+	 * where the parameters may also come first, and the paths are basic properties, qualified or not by the alias.
+	 */
+	private static class Recognizer {
+		private final String queryIdentifier;
+		private final String query;
+		private final List<String> tokens;
+		private final SessionFactoryImplementor factory;
+		private int position;
+
+		private Queryable persister;
+		private String classAlias;
+		private String tableAlias;
+
+		private Recognizer(String queryIdentifier, String query, List<String> tokens, SessionFactoryImplementor factory) {
+			this.queryIdentifier = queryIdentifier;
+			this.query = query;
+			this.tokens = tokens;
+			this.factory = factory;
+		}
+
+		private SimpleQueryTranslator recognize() {
+			String selectedAlias = null;
+			if ( nextIs( "select" ) ) {
+				selectedAlias = next();
+				if ( selectedAlias == null || !isIdentifier( selectedAlias ) ) {
+					return null;
+				}
+			}
+			if ( !nextIs( "from" ) || !resolveEntity( next() ) ) {
+				return null;
+			}
+			if ( nextIs( "as" ) ) {
+				classAlias = next();
+				if ( classAlias == null || !isIdentifier( classAlias ) || classAlias.indexOf( '.' ) >= 0 ) {
+					return null;
+				}
+			}
+			else if ( peek() != null && isIdentifier( peek() ) && peek().indexOf( '.' ) < 0 ) {
+				classAlias = next();
+			}
+			if ( selectedAlias != null && !selectedAlias.equals( classAlias ) ) {
+				return null;
+			}
+
+			final List<Restriction> restrictions = new ArrayList<>();
+			if ( nextIs( "where" ) ) {
+				do {
+					final Restriction restriction = restriction();
+					if ( restriction == null ) {
+						return null;
+					}
+					restrictions.add( restriction );
+				}
+				while ( nextIs( "and" ) );
+			}
+
+			final List<Ordering> orderings = new ArrayList<>();
+			if ( nextIs( "order" ) ) {
+				if ( !nextIs( "by" ) ) {
+					return null;
+				}
+				do {
+					final String path = next();
+					final String column = path == null ? null : resolveColumn( path );
+					if ( column == null ) {
+						return null;
+					}
+					String direction = null;
+					if ( "asc".equalsIgnoreCase( peek() ) || "desc".equalsIgnoreCase( peek() ) ) {
+						direction = next();
+					}
+					orderings.add( new Ordering( column, direction ) );
+				}
+				while ( nextIs( "," ) );
+			}
+
+			if ( position != tokens.size() ) {
+				return null;
+			}
+			return new SimpleQueryTranslator(
+					queryIdentifier,
+					query,
+					factory,
+					persister,
+					classAlias,
+					tableAlias,
+					selectedAlias != null,
+					restrictions,
+					orderings
+			);
+		}
+
+		private boolean resolveEntity(String entityName) {
+			if ( entityName == null || !isIdentifier( entityName ) ) {
+				return false;
+			}
+			final String importedName = factory.getMetamodel().getImportedClassName( entityName );
+			final EntityPersister entityPersister = importedName == null
+					? null
+					: factory.getMetamodel().entityPersisters().get( importedName );
+			if ( !( entityPersister instanceof Queryable )
+					|| entityPersister.getEntityMetamodel().isInherited()
+					|| entityPersister.getEntityMetamodel().hasSubclasses()
+					|| entityPersister.getIdentifierType().isComponentType() ) {
+				return false;
+			}
+			persister = (Queryable) entityPersister;
+			tableAlias = new AliasGenerator().createName( persister.getEntityName() );
+			// secondary tables, and where clauses
+			return persister.fromJoinFragment( tableAlias, true, true ).isEmpty()
+					&& persister.whereJoinFragment( tableAlias, true, true ).isEmpty()
+					&& persister.filterFragment( tableAlias, Collections.emptyMap() ).isEmpty();
+		}
+
+		private Restriction restriction() {
+			final String left = next();
+			final String operator = next();
+			final String right = next();
+			if ( left == null || !"=".equals( operator ) || right == null ) {
+				return null;
+			}
+			final boolean parameterFirst = isParameter( left );
+			final String path = parameterFirst ? right : left;
+			final String parameter = parameterFirst ? left : right;
+			if ( !isParameter( parameter ) ) {
+				return null;
+			}
+			final String column = resolveColumn( path );
+			if ( column == null ) {
+				return null;
+			}
+			return new Restriction(
+					column,
+					persister.toType( propertyName( path ) ),
+					parameter,
+					parameterFirst
+			);
+		}
+
+		private String propertyName(String path) {
+			return classAlias != null && path.startsWith( classAlias + '.' )
+					? path.substring( classAlias.length() + 1 )
+					: path;
+		}
+
+		/**
+		 * Resolves the column of a basic property.
+		 *
+		 * @return The qualified column, or {@code null} if the path is not a basic property
+		 */
+		private String resolveColumn(String path) {
+			if ( !isIdentifier( path ) || path.equals( classAlias ) ) {
+				return null;
+			}
+			final String propertyName = propertyName( path );
+			if ( propertyName.indexOf( '.' ) >= 0 || "class".equals( propertyName ) ) {
+				return null;
+			}
+			final Type type = persister.toType( propertyName );
+			if ( type.isAssociationType() || type.isComponentType() ) {
+				return null;
+			}
+			final String[] columns = persister.toColumns( tableAlias, propertyName );
+			return columns.length == 1 ? columns[0] : null;
+		}
+
+		private String peek() {
+			return position < tokens.size() ? tokens.get( position ) : null;
+		}
+
+		private String next() {
+			return position < tokens.size() ? tokens.get( position++ ) : null;
+		}
+
+		private boolean nextIs(String keyword) {
+			if ( keyword.equalsIgnoreCase( peek() ) ) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+	}
+
+	@Override
+	public synchronized void compile(Map replacements, boolean shallow) throws QueryException, MappingException {
+		if ( compiled ) {
+			return;
+		}
+		this.shallowQuery = shallow;
+
+		final StringBuilder buffer = new StringBuilder( "select " );
+		if ( shallow ) {
+			buffer.append( persister.toColumns( tableAlias, persister.getIdentifierPropertyName() == null
+					? EntityPersister.ENTITY_ID
+					: persister.getIdentifierPropertyName() )[0] )
+					.append( " as " )
+					.append( NameGenerator.scalarName( 0, 0 ) );
+		}
+		else {
+			buffer.append( trimLeadingComma( persister.identifierSelectFragment( tableAlias, "" ) ) );
+			final String propertySelect = trimLeadingComma( persister.propertySelectFragment( tableAlias, "", false ) );
+			if ( !propertySelect.isEmpty() ) {
+				buffer.append( ", " ).append( propertySelect );
+			}
+		}
+		buffer.append( " from " ).append( persister.getTableName() ).append( ' ' ).append( tableAlias );
+
+		final List<ParameterSpecification> specifications = new ArrayList<>( restrictions.size() );
+		for ( int i = 0; i < restrictions.size(); i++ ) {
+			final Restriction restriction = restrictions.get( i );
+			buffer.append( i == 0 ? " where " : " and " );
+			if ( restriction.parameterFirst ) {
+				buffer.append( "?=" ).append( restriction.column );
+			}
+			else {
+				buffer.append( restriction.column ).append( "=?" );
+			}
+			specifications.add( parameterSpecification( restriction ) );
+		}
+
+		for ( int i = 0; i < orderings.size(); i++ ) {
+			final Ordering ordering = orderings.get( i );
+			buffer.append( i == 0 ? " order by " : ", " ).append( ordering.column );
+			if ( ordering.direction != null ) {
+				buffer.append( ' ' ).append( ordering.direction );
+			}
+		}
+
+		this.sql = buffer.toString();
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf( "HQL: %s", hql );
+			LOG.debugf( "SQL: %s", sql );
+		}
+		this.parameterSpecifications = specifications;
+		this.returnTypes = new Type[] {
+				factory.getTypeResolver().getTypeFactory().manyToOne( persister.getEntityName(), shallow )
+		};
+		this.queryLoader = new SimpleQueryLoader( this, factory );
+		this.compiled = true;
+	}
+
+	private static ParameterSpecification parameterSpecification(Restriction restriction) {
+		// no source location, as there is no HQL AST
+		final ParameterSpecification specification;
+		if ( restriction.parameter.charAt( 0 ) == ':' ) {
+			specification = new NamedParameterSpecification( 0, 0, restriction.parameter.substring( 1 ) );
+		}
+		else {
+			final int label = Integer.parseInt( restriction.parameter.substring( 1 ) );
+			specification = new PositionalParameterSpecification( 0, 0, label, label - 1 );
+		}
+		specification.setExpectedType( restriction.type );
+		return specification;
+	}
+
+	private static String trimLeadingComma(String fragment) {
+		if ( fragment.length() > 0 && fragment.charAt( 0 ) == ',' ) {
+			fragment = fragment.substring( 1 );
+		}
+		return fragment.trim();
+	}
+
+	@Override
+	public List list(SharedSessionContractImplementor session, QueryParameters queryParameters)
+			throws HibernateException {
+		return queryLoader.list( session, queryParameters );
+	}
+
+	@Override
+	public Iterator iterate(QueryParameters queryParameters, EventSource session) throws HibernateException {
+		return queryLoader.iterate( queryParameters, session );
+	}
+
+	@Override
+	public ScrollableResultsImplementor scroll(QueryParameters queryParameters, SharedSessionContractImplementor session)
+			throws HibernateException {
+		return queryLoader.scroll( queryParameters, session );
+	}
+
+	@Override
+	public int executeUpdate(QueryParameters queryParameters, SharedSessionContractImplementor session)
+			throws HibernateException {
+		throw new QueryExecutionRequestException( "Not supported for select queries", hql );
+	}
+
+	@Override
+	public Set<Serializable> getQuerySpaces() {
+		return new HashSet<>( Arrays.asList( persister.getQuerySpaces() ) );
+	}
+
+	@Override
+	public String getQueryIdentifier() {
+		return queryIdentifier;
+	}
+
+	@Override
+	public String getSQLString() {
+		return sql;
+	}
+
+	@Override
+	public List<String> collectSqlStrings() {
+		return Collections.singletonList( sql );
+	}
+
+	@Override
+	public String getQueryString() {
+		return hql;
+	}
+
+	@Override
+	public Map getEnabledFilters() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public Type[] getReturnTypes() {
+		return returnTypes;
+	}
+
+	@Override
+	public String[] getReturnAliases() {
+		// as the full translation, which only knows aliases given in the select clause
+		return explicitSelect ? new String[1] : null;
+	}
+
+	@Override
+	public String[][] getColumnNames() {
+		return new String[][] { { NameGenerator.scalarName( 0, 0 ) } };
+	}
+
+	@Override
+	public ParameterTranslations getParameterTranslations() {
+		if ( parameterTranslations == null ) {
+			parameterTranslations = new ParameterTranslationsImpl( parameterSpecifications );
+		}
+		return parameterTranslations;
+	}
+
+	@Override
+	public void validateScrollability() throws HibernateException {
+		// no collection fetches
+	}
+
+	@Override
+	public boolean containsCollectionFetches() {
+		return false;
+	}
+
+	@Override
+	public boolean isManipulationStatement() {
+		return false;
+	}
+
+	@Override
+	public boolean isUpdateStatement() {
+		return false;
+	}
+
+	@Override
+	public List<String> getPrimaryFromClauseTables() {
+		return Collections.singletonList( persister.getTableName() );
+	}
+
+	@Override
+	public Class getDynamicInstantiationResultType() {
+		return null;
+	}
+
+	// -- for the SimpleQueryLoader --
+
+	public Queryable getPersister() {
+		return persister;
+	}
+
+	public String getClassAlias() {
+		return classAlias;
+	}
+
+	public String getTableAlias() {
+		return tableAlias;
+	}
+
+	public boolean isShallowQuery() {
+		return shallowQuery;
+	}
+
+	public List<ParameterSpecification> getCollectedParameterSpecifications() {
+		return parameterSpecifications;
+	}
+}
@@ -13,7 +13,9 @@ import org.hibernate.MappingException;
 import org.hibernate.Session;
 import org.hibernate.StatelessSession;
 import org.hibernate.TransientObjectException;
+import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.engine.internal.ForeignKeys;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.loader.PropertyPath;
@@ -127,6 +129,12 @@ public class ForeignGenerator implements IdentifierGenerator, Configurable {
 			}
 		}
 
+		if ( id instanceof DelayedPostInsertIdentifier && sessionImplementor instanceof SessionImplementor ) {
+			// the insert of the associated entity was delayed, so execute it to know the identifier it generates
+			( (SessionImplementor) sessionImplementor ).getActionQueue().executeInserts();
+			id = ( (DelayedPostInsertIdentifier) id ).getGeneratedIdentifier();
+		}
+
 		if ( sessionImplementor instanceof Session && ((Session) sessionImplementor).contains( entityName, object ) ) {
 			//abort the save (the object is already saved by a circular cascade)
 			return IdentifierGeneratorHelper.SHORT_CIRCUIT_INDICATOR;
@@ -6,6 +6,8 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.concurrent.Executor;
+
 import org.hibernate.id.IntegralDataTypeHolder;
 
 /**
@@ -28,4 +30,24 @@ public interface AccessCallback {
 	 * @return The tenant identifier
 	 */
 	public String getTenantIdentifier();
+
+	/**
+	 * Build a callback retrieving values from the same underlying source, but outside of the session and transaction
+	 * of this callback, so that it can be used from any thread.
+	 *
+	 * @return The isolated callback, or {@code null} if the underlying source does not support such access.
+	 */
+	default AccessCallback buildIsolatedCallback() {
+		return null;
+	}
+
+	/**
+	 * Obtain the executor using {@link #buildIsolatedCallback() isolated callbacks} in the background, which is shut
+	 * down along with the SessionFactory.
+	 *
+	 * @return The executor, or {@code null} if the isolated callbacks are not to be used in the background.
+	 */
+	default Executor getIsolatedCallbackExecutor() {
+		return null;
+	}
 }
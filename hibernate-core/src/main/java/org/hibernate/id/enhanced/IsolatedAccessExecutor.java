@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The executor using {@link AccessCallback#buildIsolatedCallback() isolated callbacks} in the background, e.g. to
+ * obtain the next pool of values of a {@link PooledLoPrefetchOptimizer}.  It is scoped to a SessionFactory: its
+ * threads are created for that SessionFactory only, and it is shut down when the SessionFactory is closed.
+ */
+public final class IsolatedAccessExecutor implements Executor, Service, Stoppable {
+	private static final Logger log = Logger.getLogger( IsolatedAccessExecutor.class );
+
+	// how long closing the SessionFactory waits for the accesses in progress, which use its connections
+	private static final long TERMINATION_TIMEOUT_SECONDS = 10;
+
+	private final ThreadPoolExecutor executor;
+
+	IsolatedAccessExecutor(String sessionFactoryName) {
+		final AtomicInteger threadCount = new AtomicInteger();
+		final String threadNamePrefix = "hibernate-id-prefetch-" + ( sessionFactoryName == null ? "" : sessionFactoryName + "-" );
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final int poolSize = Math.max( 2, Runtime.getRuntime().availableProcessors() / 2 );
+		this.executor = new ThreadPoolExecutor(
+				poolSize,
+				poolSize,
+				60,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable, threadNamePrefix + threadCount.incrementAndGet() );
+					thread.setDaemon( true );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				}
+		);
+		this.executor.allowCoreThreadTimeOut( true );
+	}
+
+	/**
+	 * Runs the given task in the background.
+	 *
+	 * @throws java.util.concurrent.RejectedExecutionException if this executor is shut down
+	 */
+	@Override
+	public void execute(Runnable task) {
+		executor.execute( task );
+	}
+
+	/**
+	 * Was this executor shut down, along with its SessionFactory?
+	 */
+	public boolean isShutdown() {
+		return executor.isShutdown();
+	}
+
+	@Override
+	public void stop() {
+		executor.shutdown();
+		try {
+			if ( !executor.awaitTermination( TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS ) ) {
+				log.debug( "Isolated accesses still in progress, interrupting them" );
+				executor.shutdownNow();
+			}
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
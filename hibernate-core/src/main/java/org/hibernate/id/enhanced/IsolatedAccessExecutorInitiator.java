@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Standard initiator for the {@link IsolatedAccessExecutor} of a SessionFactory.
+ */
+public class IsolatedAccessExecutorInitiator implements SessionFactoryServiceInitiator<IsolatedAccessExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final IsolatedAccessExecutorInitiator INSTANCE = new IsolatedAccessExecutorInitiator();
+
+	@Override
+	public IsolatedAccessExecutor initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		return new IsolatedAccessExecutor( sessionFactoryOptions.getSessionFactoryName() );
+	}
+
+	@Override
+	public IsolatedAccessExecutor initiateService(SessionFactoryServiceInitiatorContext context) {
+		return new IsolatedAccessExecutor( context.getSessionFactoryOptions().getSessionFactoryName() );
+	}
+
+	@Override
+	public Class<IsolatedAccessExecutor> getServiceInitiated() {
+		return IsolatedAccessExecutor.class;
+	}
+}
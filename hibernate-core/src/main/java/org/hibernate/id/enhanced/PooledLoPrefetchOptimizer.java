@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands out the values of the current pool without locking, and
+ * obtains the next pool in the background once half of the current one is consumed, so that generating a value
+ * does not wait on the underlying source.
+ * <p/>
+ * The next pool is obtained through the {@link AccessCallback#buildIsolatedCallback() isolated callback} of the
+ * source, outside of the session and transaction generating values, on the
+ * {@link AccessCallback#getIsolatedCallbackExecutor() executor} of the SessionFactory.  Sources not supporting it,
+ * as well as tenant specific sources, are accessed when the current pool is exhausted, by a single thread while the
+ * others wait.
+ * <p/>
+ * Values are handled as {@code long}, so the source values must fit into one.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoPrefetchOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoPrefetchOptimizer.class.getName()
+	);
+
+	/**
+	 * A pool of values, from {@code lo} (inclusive) to {@code hi} (exclusive).
+	 */
+	private static class Pool {
+		private final IntegralDataTypeHolder sourceValue;
+		private final long hi;
+		private final long lowWaterMark;
+		private final AtomicLong next;
+
+		private Pool(IntegralDataTypeHolder sourceValue, int incrementSize) {
+			this.sourceValue = sourceValue;
+			final long lo = sourceValue.makeValue().longValue();
+			this.hi = lo + incrementSize;
+			this.lowWaterMark = lo + incrementSize / 2;
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			this.next = new AtomicLong( Math.max( lo, 1 ) );
+		}
+	}
+
+	private class GenerationState {
+		private final AtomicReference<Pool> currentPool = new AtomicReference<>();
+		// the pool being obtained, completing with null when it could not be obtained in the background
+		private final AtomicReference<CompletableFuture<Pool>> nextPool = new AtomicReference<>();
+
+		private Serializable generate(AccessCallback callback) {
+			while ( true ) {
+				final Pool pool = currentPool.get();
+				if ( pool != null ) {
+					final long value = pool.next.getAndIncrement();
+					if ( value < pool.hi ) {
+						if ( value == pool.lowWaterMark ) {
+							prefetch( callback );
+						}
+						return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+								.initialize( value )
+								.makeValue();
+					}
+				}
+				replace( pool, callback );
+			}
+		}
+
+		private void prefetch(AccessCallback callback) {
+			if ( nextPool.get() != null ) {
+				return;
+			}
+			final AccessCallback isolatedCallback = callback.buildIsolatedCallback();
+			if ( isolatedCallback == null ) {
+				return;
+			}
+			final CompletableFuture<Pool> future = new CompletableFuture<>();
+			if ( nextPool.compareAndSet( null, future ) ) {
+				try {
+					final Executor executor = callback.getIsolatedCallbackExecutor();
+					if ( executor == null ) {
+						future.complete( null );
+						return;
+					}
+					executor.execute( () -> future.complete( obtainPool( isolatedCallback ) ) );
+				}
+				catch (RuntimeException e) {
+					LOG.debugf( "Unable to obtain the next pool of values in the background: %s", e );
+					future.complete( null );
+				}
+			}
+		}
+
+		private Pool obtainPool(AccessCallback isolatedCallback) {
+			try {
+				return new Pool( isolatedCallback.getNextValue(), incrementSize );
+			}
+			catch (RuntimeException e) {
+				// obtained again when the current pool is exhausted
+				LOG.debugf( "Unable to obtain the next pool of values in the background: %s", e );
+				return null;
+			}
+		}
+
+		/**
+		 * Replaces the exhausted pool, waiting for the next pool when it is being obtained, or else obtaining it.
+		 */
+		private void replace(Pool exhaustedPool, AccessCallback callback) {
+			CompletableFuture<Pool> future = nextPool.get();
+			if ( currentPool.get() != exhaustedPool ) {
+				// replaced meanwhile
+				return;
+			}
+			if ( future == null ) {
+				final CompletableFuture<Pool> newFuture = new CompletableFuture<>();
+				if ( !nextPool.compareAndSet( null, newFuture ) ) {
+					return;
+				}
+				try {
+					newFuture.complete( new Pool( callback.getNextValue(), incrementSize ) );
+				}
+				catch (RuntimeException e) {
+					nextPool.compareAndSet( newFuture, null );
+					newFuture.completeExceptionally( e );
+					throw e;
+				}
+				future = newFuture;
+			}
+
+			final Pool pool;
+			try {
+				pool = future.join();
+			}
+			catch (CompletionException e) {
+				// thrown to the thread which obtained it, let the waiting ones try again
+				return;
+			}
+			if ( pool == null ) {
+				nextPool.compareAndSet( future, null );
+			}
+			else if ( currentPool.compareAndSet( exhaustedPool, pool ) ) {
+				nextPool.compareAndSet( future, null );
+			}
+		}
+
+		private IntegralDataTypeHolder getLastSourceValue() {
+			final Pool pool = currentPool.get();
+			return pool == null ? null : pool.sourceValue;
+		}
+	}
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a PooledLoPrefetchOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoPrefetchOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final String tenantIdentifier = callback.getTenantIdentifier();
+		final GenerationState generationState = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		return generationState.generate( callback );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.getLastSourceValue();
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+}
@@ -6,9 +6,11 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -17,7 +19,9 @@ import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -130,6 +134,64 @@ public class SequenceStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public AccessCallback buildIsolatedCallback() {
+				if ( session.getTenantIdentifier() != null ) {
+					// the connections obtained outside of a session are not tenant specific
+					return null;
+				}
+				return SequenceStructure.this.buildIsolatedCallback( session.getJdbcServices() );
+			}
+
+			@Override
+			public Executor getIsolatedCallbackExecutor() {
+				return session.getFactory().getServiceRegistry().getService( IsolatedAccessExecutor.class );
+			}
+		};
+	}
+
+	private AccessCallback buildIsolatedCallback(final JdbcServices jdbcServices) {
+		final JdbcConnectionAccess connectionAccess = jdbcServices.getBootstrapJdbcConnectionAccess();
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				accessCounter++;
+				try {
+					final Connection connection = connectionAccess.obtainConnection();
+					try {
+						jdbcServices.getSqlStatementLogger().logStatement( sql );
+						try ( PreparedStatement st = connection.prepareStatement( sql );
+								ResultSet rs = st.executeQuery() ) {
+							rs.next();
+							final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+							value.initialize( rs, 1 );
+							if ( !connection.getAutoCommit() ) {
+								connection.commit();
+							}
+							if ( LOG.isDebugEnabled() ) {
+								LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
+							}
+							return value;
+						}
+					}
+					finally {
+						connectionAccess.releaseConnection( connection );
+					}
+				}
+				catch ( SQLException sqle) {
+					throw jdbcServices.getSqlExceptionHelper().convert(
+							sqle,
+							"could not get next sequence value",
+							sql
+					);
+				}
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
 		};
 	}
 
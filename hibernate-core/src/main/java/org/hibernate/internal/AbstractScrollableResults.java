@@ -18,6 +18,7 @@ import java.util.Locale;
 import java.util.TimeZone;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.internal.AdaptiveFetchSize;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -42,6 +43,7 @@ public abstract class AbstractScrollableResults implements ScrollableResultsImpl
 	private final QueryParameters queryParameters;
 	private final Type[] types;
 	private HolderInstantiator holderInstantiator;
+	private final AdaptiveFetchSize adaptiveFetchSize;
 	private boolean closed;
 
 	protected AbstractScrollableResults(
@@ -61,6 +63,7 @@ public abstract class AbstractScrollableResults implements ScrollableResultsImpl
 		this.holderInstantiator = holderInstantiator != null && holderInstantiator.isRequired()
 				? holderInstantiator
 				: null;
+		this.adaptiveFetchSize = loader == null ? null : loader.adaptFetchSize( rs, queryParameters );
 	}
 
 	protected abstract Object[] getCurrentRow();
@@ -93,6 +96,15 @@ public abstract class AbstractScrollableResults implements ScrollableResultsImpl
 		return holderInstantiator;
 	}
 
+	/**
+	 * Signals that the next row was read, for the fetch size to grow if it is adaptive.
+	 */
+	protected void rowRead() {
+		if ( adaptiveFetchSize != null ) {
+			adaptiveFetchSize.rowRead();
+		}
+	}
+
 	@Override
 	public final void close() {
 		if ( this.closed ) {
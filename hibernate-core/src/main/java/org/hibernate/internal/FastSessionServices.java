@@ -14,8 +14,10 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.internal.ReadYourWritesTracker;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
 import org.hibernate.engine.jdbc.spi.ConnectionObserver;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -112,6 +114,8 @@ final class FastSessionServices {
 	final boolean useStreamForLobBinding;
 	final boolean requiresMultiTenantConnectionProvider;
 	final ConnectionProvider connectionProvider;
+	final ReadReplicaConnectionProvider readReplicaConnectionProvider;
+	final ReadYourWritesTracker readYourWritesTracker;
 	final MultiTenantConnectionProvider multiTenantConnectionProvider;
 	final ClassLoaderService classLoaderService;
 	final TransactionCoordinatorBuilder transactionCoordinatorBuilder;
@@ -120,6 +124,7 @@ final class FastSessionServices {
 	final CacheMode initialSessionCacheMode;
 	final FlushMode initialSessionFlushMode;
 	final boolean discardOnClose;
+	final int managedEntityLimit;
 	final BaselineSessionEventsListenerBuilder defaultSessionEventListeners;
 	final LockOptions defaultLockOptions;
 
@@ -164,6 +169,10 @@ final class FastSessionServices {
 
 		//Some "hot" services:
 		this.connectionProvider = requiresMultiTenantConnectionProvider ? null : sr.getService( ConnectionProvider.class );
+		this.readReplicaConnectionProvider = connectionProvider instanceof ReadReplicaConnectionProvider
+				? (ReadReplicaConnectionProvider) connectionProvider
+				: null;
+		this.readYourWritesTracker = sr.getService( ReadYourWritesTracker.class );
 		this.multiTenantConnectionProvider = requiresMultiTenantConnectionProvider ? sr.getService( MultiTenantConnectionProvider.class ) : null;
 		this.classLoaderService = sr.getService( ClassLoaderService.class );
 		this.transactionCoordinatorBuilder = sr.getService( TransactionCoordinatorBuilder.class );
@@ -176,6 +185,7 @@ final class FastSessionServices {
 		this.defaultCacheRetrieveMode = determineCacheRetrieveMode( defaultSessionProperties );
 		this.initialSessionCacheMode = CacheModeHelper.interpretCacheMode( defaultCacheStoreMode, defaultCacheRetrieveMode );
 		this.discardOnClose = sessionFactoryOptions.isReleaseResourcesOnCloseEnabled();
+		this.managedEntityLimit = sessionFactoryOptions.getManagedEntityLimit();
 		this.defaultJdbcObservers = new ConnectionObserverStatsBridge( sf );
 		this.defaultSessionEventListeners = sessionFactoryOptions.getBaselineSessionEventsListenerBuilder();
 		this.defaultLockOptions = initializeDefaultLockOptions( defaultSessionProperties );
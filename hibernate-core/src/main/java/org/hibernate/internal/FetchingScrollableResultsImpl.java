@@ -89,6 +89,7 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 
 		currentPosition++;
 		currentRow = new Object[] {row};
+		rowRead();
 
 		if ( afterLast ) {
 			if ( maxPosition == null ) {
@@ -11,6 +11,7 @@ import java.sql.Connection;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -20,19 +21,35 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	private final ConnectionObserverStatsBridge observer;
 	private final SessionEventListenerManager eventListenerManager;
 	private final SharedSessionContractImplementor session;
+	private final StatisticsImplementor statistics;
+
+	// start times of the operations being timed, when statistics are enabled
+	private boolean timingConnectionAcquisition;
+	private long connectionAcquisitionStart;
+	private boolean timingStatementExecution;
+	private long statementExecutionStart;
 
 	public JdbcObserverImpl(SharedSessionContractImplementor session, FastSessionServices fastSessionServices) {
 		this.session = session;
 		this.observer = fastSessionServices.getDefaultJdbcObserver();
 		this.eventListenerManager = session.getEventListenerManager();
+		this.statistics = session.getFactory().getStatistics();
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionStart() {
+		timingConnectionAcquisition = statistics.isStatisticsEnabled();
+		if ( timingConnectionAcquisition ) {
+			connectionAcquisitionStart = System.nanoTime();
+		}
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionEnd(Connection connection) {
+		if ( timingConnectionAcquisition ) {
+			statistics.connectionAcquisitionTime( System.nanoTime() - connectionAcquisitionStart );
+			timingConnectionAcquisition = false;
+		}
 		observer.physicalConnectionObtained( connection );
 	}
 
@@ -58,24 +75,42 @@ public final class JdbcObserverImpl implements JdbcObserver {
 
 	@Override
 	public void jdbcExecuteStatementStart() {
+		startStatementExecution();
 		eventListenerManager.jdbcExecuteStatementStart();
 	}
 
 	@Override
 	public void jdbcExecuteStatementEnd() {
+		endStatementExecution();
 		eventListenerManager.jdbcExecuteStatementEnd();
 	}
 
 	@Override
 	public void jdbcExecuteBatchStart() {
+		startStatementExecution();
 		eventListenerManager.jdbcExecuteBatchStart();
 	}
 
 	@Override
 	public void jdbcExecuteBatchEnd() {
+		endStatementExecution();
 		eventListenerManager.jdbcExecuteBatchEnd();
 	}
 
+	private void startStatementExecution() {
+		timingStatementExecution = statistics.isStatisticsEnabled();
+		if ( timingStatementExecution ) {
+			statementExecutionStart = System.nanoTime();
+		}
+	}
+
+	private void endStatementExecution() {
+		if ( timingStatementExecution ) {
+			statistics.statementExecutionTime( System.nanoTime() - statementExecutionStart );
+			timingStatementExecution = false;
+		}
+	}
+
 	@Override
 	public void jdbcReleaseRegistryResourcesStart() {
 		session.getJdbcCoordinator().abortBatch();
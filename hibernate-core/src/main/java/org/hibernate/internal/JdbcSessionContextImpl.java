@@ -27,6 +27,7 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 
 	private final transient ServiceRegistry serviceRegistry;
 	private final transient JdbcObserver jdbcObserver;
+	private final transient SharedSessionContractImplementor session;
 
 	public JdbcSessionContextImpl(
 			SharedSessionContractImplementor session,
@@ -37,6 +38,7 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		this.connectionHandlingMode = settings().getPhysicalConnectionHandlingMode();
 		this.serviceRegistry = sessionFactory.getServiceRegistry();
 		this.jdbcObserver = new JdbcObserverImpl( session, fastSessionServices );
+		this.session = session;
 
 		if ( this.statementInspector == null ) {
 			throw new IllegalArgumentException( "StatementInspector cannot be null" );
@@ -98,6 +100,16 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return this.serviceRegistry;
 	}
 
+	@Override
+	public boolean isReadOnlyConnectionPreferred() {
+		return session.isReadOnlyConnectionPreferred();
+	}
+
+	@Override
+	public boolean isReadOnlyTransactionPreferred() {
+		return session.isReadOnlyTransactionPreferred();
+	}
+
 	private SessionFactoryOptions settings() {
 		return this.sessionFactory.getSessionFactoryOptions();
 	}
@@ -14,6 +14,7 @@ import java.util.Objects;
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
 
 /**
  * @author Steve Ebersole
@@ -53,6 +54,35 @@ public class NonContextualJdbcConnectionAccess implements JdbcConnectionAccess,
 		}
 	}
 
+	@Override
+	public Connection obtainReadOnlyConnection() throws SQLException {
+		if ( !( connectionProvider instanceof ReadReplicaConnectionProvider ) ) {
+			return obtainConnection();
+		}
+		try {
+			listener.jdbcConnectionAcquisitionStart();
+			return ( (ReadReplicaConnectionProvider) connectionProvider ).getReadOnlyConnection();
+		}
+		finally {
+			listener.jdbcConnectionAcquisitionEnd();
+		}
+	}
+
+	@Override
+	public void releaseReadOnlyConnection(Connection connection) throws SQLException {
+		if ( !( connectionProvider instanceof ReadReplicaConnectionProvider ) ) {
+			releaseConnection( connection );
+			return;
+		}
+		try {
+			listener.jdbcConnectionReleaseStart();
+			( (ReadReplicaConnectionProvider) connectionProvider ).closeReadOnlyConnection( connection );
+		}
+		finally {
+			listener.jdbcConnectionReleaseEnd();
+		}
+	}
+
 	@Override
 	public boolean supportsAggressiveRelease() {
 		return connectionProvider.supportsAggressiveRelease();
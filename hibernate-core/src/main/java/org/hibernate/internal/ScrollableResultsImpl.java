@@ -98,6 +98,9 @@ public class ScrollableResultsImpl extends AbstractScrollableResults implements
 	public boolean next() {
 		try {
 			final boolean result = getResultSet().next();
+			if ( result ) {
+				rowRead();
+			}
 			prepareCurrentRow( result );
 			return result;
 		}
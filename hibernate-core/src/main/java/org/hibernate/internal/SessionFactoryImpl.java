@@ -340,6 +340,8 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 				}
 			}
 
+			queryPlanCache.startWarmUp( sessionFactoryOptions.getNamedQueryStartupCheckingThreads() );
+
 			// this needs to happen after persisters are all ready to go...
 			this.fetchProfiles = new HashMap<>();
 			for ( org.hibernate.mapping.FetchProfile mappingProfile : metadata.getFetchProfiles() ) {
@@ -544,7 +546,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	}
 
 	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
-		return namedQueryRepository.checkNamedQueries( queryPlanCache );
+		return namedQueryRepository.checkNamedQueries(
+				queryPlanCache,
+				getSessionFactoryOptions().getNamedQueryStartupCheckingThreads()
+		);
 	}
 
 	@Override
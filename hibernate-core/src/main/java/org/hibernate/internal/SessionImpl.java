@@ -19,6 +19,7 @@ import java.sql.NClob;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -211,6 +212,7 @@ public class SessionImpl
 	private boolean queryParametersValidationEnabled;
 
 	private transient int dontFlushFromFind;
+	private transient boolean readOnlyOperationInProgress;
 
 	private transient LoadEvent loadEvent; //cached LoadEvent instance
 
@@ -991,16 +993,10 @@ public class SessionImpl
 		}
 		LoadEvent event = loadEvent;
 		loadEvent = null;
-		event = recycleEventInstance( event, id, entityName );
+		event = recycleEventInstance( event, id, entityName, true );
 		fireLoadNoChecks( event, LoadEventListener.IMMEDIATE_LOAD );
 		Object result = event.getResult();
-		if ( loadEvent == null ) {
-			event.setEntityClassName( null );
-			event.setEntityId( null );
-			event.setInstanceToLoad( null );
-			event.setResult( null );
-			loadEvent = event;
-		}
+		releaseEventInstance( event );
 		return result;
 	}
 
@@ -1036,7 +1032,7 @@ public class SessionImpl
 			LoadEvent event = loadEvent;
 			loadEvent = null;
 
-			event = recycleEventInstance( event, id, entityName );
+			event = recycleEventInstance( event, id, entityName, true );
 
 			fireLoadNoChecks( event, type );
 
@@ -1046,13 +1042,7 @@ public class SessionImpl
 				UnresolvableObjectException.throwIfNull( result, id, entityName );
 			}
 
-			if ( loadEvent == null ) {
-				event.setEntityClassName( null );
-				event.setEntityId( null );
-				event.setInstanceToLoad( null );
-				event.setResult( null );
-				loadEvent = event;
-			}
+			releaseEventInstance( event );
 			return result;
 		}
 		finally {
@@ -1065,9 +1055,13 @@ public class SessionImpl
 	/**
 	 * Helper to avoid creating many new instances of LoadEvent: it's an allocation hot spot.
 	 */
-	private LoadEvent recycleEventInstance(final LoadEvent event, final Serializable id, final String entityName) {
+	private LoadEvent recycleEventInstance(
+			final LoadEvent event,
+			final Serializable id,
+			final String entityName,
+			final boolean isAssociationFetch) {
 		if ( event == null ) {
-			return new LoadEvent( id, entityName, true, this, getReadOnlyFromLoadQueryInfluencers() );
+			return new LoadEvent( id, entityName, isAssociationFetch, this, getReadOnlyFromLoadQueryInfluencers() );
 		}
 		else {
 			event.setEntityClassName( entityName );
@@ -1076,10 +1070,26 @@ public class SessionImpl
 			event.setLockMode( LoadEvent.DEFAULT_LOCK_MODE );
 			event.setLockScope( LoadEvent.DEFAULT_LOCK_OPTIONS.getScope() );
 			event.setLockTimeout( LoadEvent.DEFAULT_LOCK_OPTIONS.getTimeOut() );
+			event.setAssociationFetch( isAssociationFetch );
+			event.setReadOnly( getReadOnlyFromLoadQueryInfluencers() );
 			return event;
 		}
 	}
 
+	/**
+	 * Makes a LoadEvent obtained from {@link #recycleEventInstance} available for reuse, unless a
+	 * nested load already did.
+	 */
+	private void releaseEventInstance(final LoadEvent event) {
+		if ( loadEvent == null ) {
+			event.setEntityClassName( null );
+			event.setEntityId( null );
+			event.setInstanceToLoad( null );
+			event.setResult( null );
+			loadEvent = event;
+		}
+	}
+
 	@Override
 	public <T> T load(Class<T> entityClass, Serializable id, LockMode lockMode) throws HibernateException {
 		return this.byId( entityClass ).with( new LockOptions( lockMode ) ).getReference( id );
@@ -1162,8 +1172,16 @@ public class SessionImpl
 
 	private void fireLoad(LoadEvent event, LoadType loadType) {
 		checkOpenOrWaitingForAutoClose();
-		fireLoadNoChecks( event, loadType );
+		final boolean readOnlyOperation = readOnlyOperationInProgress;
+		readOnlyOperationInProgress = canLoadFromReplica( event );
+		try {
+			fireLoadNoChecks( event, loadType );
+		}
+		finally {
+			readOnlyOperationInProgress = readOnlyOperation;
+		}
 		delayedAfterCompletion();
+		evictEntitiesOverManagedEntityLimit();
 	}
 
 	//Performance note:
@@ -1303,6 +1321,44 @@ public class SessionImpl
 		delayedAfterCompletion();
 	}
 
+	/**
+	 * Evict the least recently accessed entities which can be evicted without losing any change, as long as
+	 * the session manages more entities than allowed by
+	 * {@link org.hibernate.cfg.AvailableSettings#SESSION_MANAGED_ENTITY_LIMIT}.  The evicted entities are
+	 * {@link org.hibernate.engine.spi.PersistenceContext#retainEvictedEntity retained} as long as reachable.
+	 * Only done at the end of top-level operations, never while cascading, loading or flushing.
+	 */
+	private void evictEntitiesOverManagedEntityLimit() {
+		final int managedEntityLimit = fastSessionServices.managedEntityLimit;
+		if ( managedEntityLimit <= 0 ) {
+			return;
+		}
+		final int excess = persistenceContext.getNumberOfManagedEntities() - managedEntityLimit;
+		if ( excess <= 0
+				|| dontFlushFromFind > 0
+				|| persistenceContext.getCascadeLevel() > 0
+				|| persistenceContext.isFlushing()
+				|| !persistenceContext.isLoadFinished() ) {
+			return;
+		}
+
+		final List<Object> entities = persistenceContext.getLeastRecentlyAccessedEvictableEntities( excess );
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Managing %s entities over the limit of %s, evicting %s of them",
+					excess,
+					managedEntityLimit,
+					entities.size()
+			);
+		}
+		for ( Object entity : entities ) {
+			// reassociated by the next flush if changed meanwhile
+			persistenceContext.retainEvictedEntity( entity );
+			final EvictEvent event = new EvictEvent( entity, this );
+			fastSessionServices.eventListenerGroup_EVICT.fireEventOnEachListener( event, EvictEventListener::onEvict );
+		}
+	}
+
 	/**
 	 * detect in-memory changes, determine if the changes are to tables
 	 * named in the query and, if so, complete execution the flush
@@ -1351,6 +1407,7 @@ public class SessionImpl
 			FlushEvent event = new FlushEvent( this );
 			fastSessionServices.eventListenerGroup_FLUSH.fireEventOnEachListener( event, FlushEventListener::onFlush );
 			delayedAfterCompletion();
+			evictEntitiesOverManagedEntityLimit();
 		}
 		catch ( RuntimeException e ) {
 			throw getExceptionConverter().convert( e );
@@ -1400,18 +1457,75 @@ public class SessionImpl
 		boolean success = false;
 
 		dontFlushFromFind++;   //stops flush being called multiple times if this method is recursively called
+		final boolean readOnlyOperation = readOnlyOperationInProgress;
+		readOnlyOperationInProgress = canQueryFromReplica( plan.getQuerySpaces(), queryParameters );
 		try {
 			results = plan.performList( queryParameters, this );
 			success = true;
 		}
 		finally {
+			readOnlyOperationInProgress = readOnlyOperation;
 			dontFlushFromFind--;
 			afterOperation( success );
 			delayedAfterCompletion();
 		}
+		evictEntitiesOverManagedEntityLimit();
 		return results;
 	}
 
+	@SuppressWarnings("unchecked")
+	private boolean canQueryFromReplica(Set querySpaces, QueryParameters queryParameters) {
+		return fastSessionServices.readReplicaConnectionProvider != null
+				&& canReadFromReplica(
+						querySpaces,
+						queryParameters.isReadOnly( this ),
+						queryParameters.getLockOptions().findGreatestLockMode()
+				);
+	}
+
+	private boolean canLoadFromReplica(LoadEvent event) {
+		if ( fastSessionServices.readReplicaConnectionProvider == null || event.getEntityClassName() == null ) {
+			return false;
+		}
+		final EntityPersister persister = getFactory().getMetamodel().entityPersister( event.getEntityClassName() );
+		return canReadFromReplica(
+				Arrays.asList( persister.getQuerySpaces() ),
+				event.getReadOnly() == null ? isDefaultReadOnly() : event.getReadOnly(),
+				event.getLockMode()
+		);
+	}
+
+	/**
+	 * Can a read-only operation over the given spaces read from the read replica?  That is the case for operations
+	 * acquiring their own connection outside of any transaction, unless they lock what they read or read a space
+	 * written to within the read-your-writes window.
+	 */
+	private boolean canReadFromReplica(Collection<? extends Serializable> querySpaces, boolean readOnly, LockMode lockMode) {
+		return readOnly
+				&& !lockMode.greaterThan( LockMode.READ )
+				&& !isTransactionInProgress()
+				&& !getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected()
+				&& !fastSessionServices.readYourWritesTracker.isWrittenWithinWindow( querySpaces );
+	}
+
+	@Override
+	public boolean isReadOnlyConnectionPreferred() {
+		return readOnlyOperationInProgress;
+	}
+
+	/**
+	 * The transactions of a session read-only by default read from the read replica, from their beginning to their
+	 * completion, unless changes are waiting to be flushed, or anything was written to within the read-your-writes
+	 * window.
+	 */
+	@Override
+	public boolean isReadOnlyTransactionPreferred() {
+		return fastSessionServices.readReplicaConnectionProvider != null
+				&& isDefaultReadOnly()
+				&& !actionQueue.hasAnyQueuedActions()
+				&& !fastSessionServices.readYourWritesTracker.isAnyWrittenWithinWindow();
+	}
+
 	@Override
 	public int executeUpdate(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
@@ -1748,6 +1862,7 @@ public class SessionImpl
 			afterOperation( success );
 			delayedAfterCompletion();
 		}
+		evictEntitiesOverManagedEntityLimit();
 		return results;
 	}
 
@@ -1876,6 +1991,7 @@ public class SessionImpl
 			delayedAfterCompletion();
 		}
 
+		evictEntitiesOverManagedEntityLimit();
 		return results;
 	}
 
@@ -2126,17 +2242,22 @@ public class SessionImpl
 		autoFlushIfRequired( loader.getQuerySpaces() );
 
 		dontFlushFromFind++;
+		final boolean readOnlyOperation = readOnlyOperationInProgress;
+		readOnlyOperationInProgress = canQueryFromReplica( loader.getQuerySpaces(), queryParameters );
 		boolean success = false;
+		final List results;
 		try {
-			List results = loader.list( this, queryParameters );
+			results = loader.list( this, queryParameters );
 			success = true;
-			return results;
 		}
 		finally {
+			readOnlyOperationInProgress = readOnlyOperation;
 			dontFlushFromFind--;
 			delayedAfterCompletion();
 			afterOperation( success );
 		}
+		evictEntitiesOverManagedEntityLimit();
+		return results;
 	}
 
 	@Override
@@ -2734,20 +2855,24 @@ public class SessionImpl
 				return (T) event.getResult();
 			}
 
-			LoadEvent event = new LoadEvent( id, entityPersister.getEntityName(), false, SessionImpl.this, getReadOnlyFromLoadQueryInfluencers() );
+			LoadEvent event = loadEvent;
+			loadEvent = null;
+			event = recycleEventInstance( event, id, entityPersister.getEntityName(), false );
 			boolean success = false;
 			try {
 				fireLoad( event, LoadEventListener.LOAD );
-				if ( event.getResult() == null ) {
+				final Object result = event.getResult();
+				if ( result == null ) {
 					getFactory().getEntityNotFoundDelegate().handleEntityNotFound(
 							entityPersister.getEntityName(),
 							id
 					);
 				}
 				success = true;
-				return (T) event.getResult();
+				return (T) result;
 			}
 			finally {
+				releaseEventInstance( event );
 				afterOperation( success );
 			}
 		}
@@ -2770,19 +2895,24 @@ public class SessionImpl
 				return (T) event.getResult();
 			}
 
-			LoadEvent event = new LoadEvent( id, entityPersister.getEntityName(), false, SessionImpl.this, getReadOnlyFromLoadQueryInfluencers() );
+			LoadEvent event = loadEvent;
+			loadEvent = null;
+			event = recycleEventInstance( event, id, entityPersister.getEntityName(), false );
+			Object result = null;
 			boolean success = false;
 			try {
 				fireLoad( event, LoadEventListener.GET );
+				result = event.getResult();
 				success = true;
 			}
 			catch (ObjectNotFoundException e) {
 				// if session cache contains proxy for non-existing object
 			}
 			finally {
+				releaseEventInstance( event );
 				afterOperation( success );
 			}
-			return (T) event.getResult();
+			return (T) result;
 		}
 	}
 
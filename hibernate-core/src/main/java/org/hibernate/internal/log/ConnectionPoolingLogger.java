@@ -70,4 +70,12 @@ public interface ConnectionPoolingLogger extends BasicLogger {
 	@LogMessage(level = WARN)
 	@Message(value = "Problem closing pooled connection", id = 10001009)
 	void unableToClosePooledConnection(@Cause SQLException e);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Using Hibernate built-in pooled connection provider", id = 10001010)
+	void usingHibernatePooledConnectionProvider();
+
+	@LogMessage(level = WARN)
+	@Message(value = "Possible connection leak: a connection has been borrowed for %s ms without being returned", id = 10001011)
+	void connectionLeakDetected(long borrowedMillis, @Cause Throwable borrowedAt);
 }
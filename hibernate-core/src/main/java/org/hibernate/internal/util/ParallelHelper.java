@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+
+/**
+ * Runs independent tasks, such as the translation of queries during startup, in parallel.
+ */
+public final class ParallelHelper {
+
+	private ParallelHelper() {
+	}
+
+	/**
+	 * Runs the given tasks on at most the given number of threads, created for them and stopped once they are
+	 * done, or from the calling thread when a single thread is requested.  The exceptions thrown by the tasks are
+	 * rethrown, after all the tasks ran.
+	 *
+	 * @param tasks The tasks
+	 * @param threads The maximum number of threads
+	 * @param threadNamePrefix The prefix of the name of the created threads
+	 */
+	public static void runInParallel(List<Runnable> tasks, int threads, String threadNamePrefix) {
+		final int poolSize = Math.min( threads, tasks.size() );
+		if ( poolSize <= 1 ) {
+			tasks.forEach( Runnable::run );
+			return;
+		}
+
+		// the threads are created by the calling thread, and so share its context class loader
+		final AtomicInteger threadCount = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				poolSize,
+				runnable -> {
+					final Thread thread = new Thread( runnable, threadNamePrefix + threadCount.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		try {
+			final List<Future<?>> futures = new ArrayList<>( tasks.size() );
+			for ( Runnable task : tasks ) {
+				futures.add( executor.submit( task ) );
+			}
+			for ( Future<?> future : futures ) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException e) {
+					final Throwable cause = e.getCause();
+					if ( cause instanceof RuntimeException ) {
+						throw (RuntimeException) cause;
+					}
+					if ( cause instanceof Error ) {
+						throw (Error) cause;
+					}
+					throw new HibernateException( cause );
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for parallel tasks", e );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,519 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Map} using open addressing with linear probing, storing keys and values
+ * interleaved in a single array.
+ * <p/>
+ * Compared to {@link java.util.HashMap} no node object is allocated per entry, which
+ * roughly halves the per-entry footprint; this matters for the maps of the persistence
+ * context, which can hold hundreds of thousands of entries in long running sessions.
+ * The keys are expected to cache their hash code (as {@link org.hibernate.engine.spi.EntityKey}
+ * and {@link org.hibernate.engine.spi.CollectionKey} do), since it is re-read when probing
+ * and when resizing.
+ * <p/>
+ * Null keys are not supported, null values are.  Removal uses backward shift deletion, so
+ * the table never contains tombstones.  The iterators are fail-fast and support removal.
+ * This class is not thread-safe.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class LinearProbingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final int MINIMUM_CAPACITY = 8;
+
+	// multiplier of the Fibonacci hashing, spreading consecutive hash codes (e.g. of numeric identifiers)
+	private static final int SPREAD = 0x9E3779B9;
+
+	// keys at even indexes, the associated value at the following odd index
+	private Object[] table;
+	private int shift;
+	private int threshold;
+	private int size;
+	private int modCount;
+
+	private Set<K> keySet;
+	private Collection<V> values;
+	private Set<Map.Entry<K, V>> entrySet;
+
+	public LinearProbingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize The number of entries the map should hold without needing to resize.
+	 */
+	public LinearProbingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor below 2/3
+		final int minimumCapacity = Math.max( MINIMUM_CAPACITY, expectedSize + ( expectedSize >> 1 ) + 1 );
+		if ( minimumCapacity > ( 1 << 29 ) ) {
+			return 1 << 29;
+		}
+		return Integer.highestOneBit( minimumCapacity - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		table = new Object[capacity << 1];
+		shift = Integer.SIZE - Integer.numberOfTrailingZeros( capacity );
+		threshold = capacity - capacity / 3;
+	}
+
+	private int slotFor(int hashCode) {
+		return ( ( hashCode * SPREAD ) >>> shift ) << 1;
+	}
+
+	private int nextSlot(int slot) {
+		return ( slot + 2 ) & ( table.length - 1 );
+	}
+
+	private int slotOf(Object key) {
+		if ( key == null ) {
+			return -1;
+		}
+		final Object[] tab = table;
+		final int hashCode = key.hashCode();
+		int slot = slotFor( hashCode );
+		Object candidate;
+		while ( ( candidate = tab[slot] ) != null ) {
+			if ( candidate == key || ( candidate.hashCode() == hashCode && candidate.equals( key ) ) ) {
+				return slot;
+			}
+			slot = nextSlot( slot );
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int slot = slotOf( key );
+		return slot < 0 ? null : (V) table[slot + 1];
+	}
+
+	/**
+	 * Looks up the value associated with the key matching the given arguments, allowing to probe
+	 * the map without building a key instance.
+	 *
+	 * @param hashCode The hash code of the key looked up
+	 * @param first The first argument passed to the matcher
+	 * @param second The second argument passed to the matcher
+	 * @param matcher Decides whether a key of the map is the one looked up
+	 *
+	 * @return The value, or {@code null} if no key matches
+	 */
+	@SuppressWarnings("unchecked")
+	public <A, B> V get(int hashCode, A first, B second, KeyMatcher<? super K, A, B> matcher) {
+		final Object[] tab = table;
+		int slot = slotFor( hashCode );
+		Object candidate;
+		while ( ( candidate = tab[slot] ) != null ) {
+			if ( candidate.hashCode() == hashCode && matcher.matches( (K) candidate, first, second ) ) {
+				return (V) tab[slot + 1];
+			}
+			slot = nextSlot( slot );
+		}
+		return null;
+	}
+
+	/**
+	 * Looks up the key matching the given arguments, for keys holding a primitive {@code long} which
+	 * the lookup should not box.
+	 *
+	 * @param hashCode The hash code of the key looked up
+	 * @param first The first argument passed to the matcher
+	 * @param second The second argument passed to the matcher
+	 * @param matcher Decides whether a key of the map is the one looked up
+	 *
+	 * @return The key of the map, or {@code null} if no key matches
+	 */
+	@SuppressWarnings("unchecked")
+	public <B> K getKey(int hashCode, long first, B second, LongKeyMatcher<? super K, B> matcher) {
+		final Object[] tab = table;
+		int slot = slotFor( hashCode );
+		Object candidate;
+		while ( ( candidate = tab[slot] ) != null ) {
+			if ( candidate.hashCode() == hashCode && matcher.matches( (K) candidate, first, second ) ) {
+				return (K) candidate;
+			}
+			slot = nextSlot( slot );
+		}
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return slotOf( key ) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Null keys are not supported" );
+		}
+		final Object[] tab = table;
+		final int hashCode = key.hashCode();
+		int slot = slotFor( hashCode );
+		Object candidate;
+		while ( ( candidate = tab[slot] ) != null ) {
+			if ( candidate == key || ( candidate.hashCode() == hashCode && candidate.equals( key ) ) ) {
+				final V previous = (V) tab[slot + 1];
+				tab[slot + 1] = value;
+				return previous;
+			}
+			slot = nextSlot( slot );
+		}
+		modCount++;
+		tab[slot] = key;
+		tab[slot + 1] = value;
+		if ( ++size > threshold ) {
+			resize();
+		}
+		return null;
+	}
+
+	private void resize() {
+		final Object[] oldTable = table;
+		final int oldCapacity = oldTable.length >> 1;
+		if ( oldCapacity == ( 1 << 29 ) ) {
+			if ( size == oldCapacity - 1 ) {
+				throw new IllegalStateException( "Capacity exhausted" );
+			}
+			return;
+		}
+		allocate( oldCapacity << 1 );
+		final Object[] tab = table;
+		for ( int i = 0; i < oldTable.length; i += 2 ) {
+			final Object key = oldTable[i];
+			if ( key != null ) {
+				int slot = slotFor( key.hashCode() );
+				while ( tab[slot] != null ) {
+					slot = nextSlot( slot );
+				}
+				tab[slot] = key;
+				tab[slot + 1] = oldTable[i + 1];
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final int slot = slotOf( key );
+		if ( slot < 0 ) {
+			return null;
+		}
+		final V previous = (V) table[slot + 1];
+		removeSlot( slot, -1, null );
+		return previous;
+	}
+
+	/**
+	 * Empties the given slot, shifting back the entries of the same probe sequence.
+	 *
+	 * @param slot The slot to empty
+	 * @param iteratorSlot The slot last returned by a descending iterator removing the entry, or -1
+	 * @param wrapped Collects the entries shifted from the part of the table the iterator still has
+	 * to visit into the part it has already visited
+	 */
+	private void removeSlot(int slot, int iteratorSlot, ArrayList<Object> wrapped) {
+		modCount++;
+		size--;
+		final Object[] tab = table;
+		int hole = slot;
+		int current = nextSlot( slot );
+		Object key;
+		while ( ( key = tab[current] ) != null ) {
+			final int ideal = slotFor( key.hashCode() );
+			// the entry can move into the hole unless its ideal slot lies cyclically in (hole, current]
+			final boolean movable = hole <= current
+					? ideal <= hole || ideal > current
+					: ideal <= hole && ideal > current;
+			if ( movable ) {
+				if ( iteratorSlot >= 0 && current < iteratorSlot && hole >= iteratorSlot ) {
+					wrapped.add( key );
+					wrapped.add( tab[current + 1] );
+				}
+				tab[hole] = key;
+				tab[hole + 1] = tab[current + 1];
+				hole = current;
+			}
+			current = nextSlot( current );
+		}
+		tab[hole] = null;
+		tab[hole + 1] = null;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			modCount++;
+			Arrays.fill( table, null );
+			size = 0;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final Object[] tab = table;
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < tab.length; i += 2 ) {
+			final Object key = tab[i];
+			if ( key != null ) {
+				action.accept( (K) key, (V) tab[i + 1] );
+			}
+		}
+		if ( modCount != expectedModCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new AbstractSet<K>() {
+				@Override
+				public Iterator<K> iterator() {
+					return new KeyIterator();
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsKey( o );
+				}
+
+				@Override
+				public boolean remove(Object o) {
+					final int slot = slotOf( o );
+					if ( slot < 0 ) {
+						return false;
+					}
+					removeSlot( slot, -1, null );
+					return true;
+				}
+
+				@Override
+				public void clear() {
+					LinearProbingHashMap.this.clear();
+				}
+			};
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( values == null ) {
+			values = new AbstractCollection<V>() {
+				@Override
+				public Iterator<V> iterator() {
+					return new ValueIterator();
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					LinearProbingHashMap.this.clear();
+				}
+			};
+		}
+		return values;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<Map.Entry<K, V>>() {
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					LinearProbingHashMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Matches the keys of the map against lookup arguments, see {@link #get(int, Object, Object, KeyMatcher)}.
+	 */
+	@FunctionalInterface
+	public interface KeyMatcher<K, A, B> {
+		boolean matches(K key, A first, B second);
+	}
+
+	/**
+	 * Matches the keys of the map against a primitive {@code long} lookup argument, see
+	 * {@link #getKey(int, long, Object, LongKeyMatcher)}.
+	 */
+	@FunctionalInterface
+	public interface LongKeyMatcher<K, B> {
+		boolean matches(K key, long first, B second);
+	}
+
+	/**
+	 * Visits the table from the highest slot down, so that the backward shifts of a removal
+	 * only move entries into slots already visited - except for the entries of a probe
+	 * sequence wrapping around the end of the table, which are remembered and returned last.
+	 */
+	private abstract class TableIterator<T> implements Iterator<T> {
+		private int slot = table.length;
+		private int remaining = size;
+		private int expectedModCount = modCount;
+
+		private ArrayList<Object> wrapped;
+		private int wrappedPosition;
+
+		// the slot of the entry last returned, or -1 if it was returned from the wrapped entries
+		private int lastSlot = -1;
+		private Object lastKey;
+		private Object lastValue;
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		protected void advance() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( remaining == 0 ) {
+				throw new NoSuchElementException();
+			}
+			remaining--;
+			final Object[] tab = table;
+			while ( ( slot -= 2 ) >= 0 ) {
+				if ( tab[slot] != null ) {
+					lastSlot = slot;
+					lastKey = tab[slot];
+					lastValue = tab[slot + 1];
+					return;
+				}
+			}
+			lastSlot = -1;
+			lastKey = wrapped.get( wrappedPosition++ );
+			lastValue = wrapped.get( wrappedPosition++ );
+		}
+
+		@SuppressWarnings("unchecked")
+		protected K lastKey() {
+			return (K) lastKey;
+		}
+
+		@SuppressWarnings("unchecked")
+		protected V lastValue() {
+			return (V) lastValue;
+		}
+
+		@Override
+		public void remove() {
+			if ( lastKey == null ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( lastSlot >= 0 ) {
+				if ( wrapped == null ) {
+					wrapped = new ArrayList<>();
+				}
+				removeSlot( lastSlot, lastSlot, wrapped );
+			}
+			else {
+				removeSlot( slotOf( lastKey ), -1, null );
+			}
+			lastKey = null;
+			lastValue = null;
+			expectedModCount = modCount;
+		}
+	}
+
+	private final class KeyIterator extends TableIterator<K> {
+		@Override
+		public K next() {
+			advance();
+			return lastKey();
+		}
+	}
+
+	private final class ValueIterator extends TableIterator<V> {
+		@Override
+		public V next() {
+			advance();
+			return lastValue();
+		}
+	}
+
+	private final class EntryIterator extends TableIterator<Map.Entry<K, V>> {
+		@Override
+		public Map.Entry<K, V> next() {
+			advance();
+			return new Entry( lastKey(), lastValue() );
+		}
+	}
+
+	private final class Entry extends SimpleEntry<K, V> {
+		Entry(K key, V value) {
+			super( key, value );
+		}
+
+		@Override
+		public V setValue(V value) {
+			super.setValue( value );
+			return put( getKey(), value );
+		}
+	}
+}
@@ -0,0 +1,410 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * A bounded concurrent cache using the W-TinyLFU policy: new entries are admitted in a small LRU window, and
+ * entries leaving the window only enter the main space, itself split into a probation and a protected LRU segment,
+ * when they were used more often than the entry they would replace.  Usage frequencies are estimated with a
+ * count-min sketch which is periodically aged, so that one-off keys, such as the ones of a scan, cannot flush the
+ * frequently used entries out of the cache.
+ * <p/>
+ * Reads do not lock: hits are recorded in a lossy buffer which is applied to the policy under a lock, by the first
+ * thread finding it unlocked.  Writes lock to admit the new entry and evict the ones in excess.  The cache may thus
+ * briefly hold more entries than its maximum size.
+ * <p/>
+ * Null keys and values are not supported.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class TinyLfuCache<K, V> implements Serializable {
+	// the percentage of the maximum size given to the window and, within the main space, to the protected segment
+	private static final int WINDOW_PERCENTAGE = 1;
+	private static final int PROTECTED_PERCENTAGE = 80;
+
+	private static final int READ_BUFFER_SIZE = 128;
+	// the reads recorded between two attempts to apply the read buffer
+	private static final int READ_DRAIN_INTERVAL = 32;
+
+	private final int maximumSize;
+	private final int maximumWindowSize;
+	private final int maximumProtectedSize;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+
+	private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+	private final AtomicLong readCount = new AtomicLong();
+
+	// guards the policy state below
+	private final ReentrantLock policyLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrder<K, V> window = new AccessOrder<>();
+	private final AccessOrder<K, V> probation = new AccessOrder<>();
+	private final AccessOrder<K, V> protectedSegment = new AccessOrder<>();
+
+	private final LongAdder evictionCount = new LongAdder();
+	private transient Consumer<K> evictionListener;
+
+	/**
+	 * Constructs a cache holding at most the given number of entries.
+	 *
+	 * @param maximumSize The maximum number of entries
+	 */
+	public TinyLfuCache(int maximumSize) {
+		if ( maximumSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive: " + maximumSize );
+		}
+		this.maximumSize = maximumSize;
+		this.maximumWindowSize = Math.max( 1, maximumSize * WINDOW_PERCENTAGE / 100 );
+		this.maximumProtectedSize = ( maximumSize - maximumWindowSize ) * PROTECTED_PERCENTAGE / 100;
+		this.data = new ConcurrentHashMap<>( CollectionHelper.determineProperSizing( maximumSize ) );
+		this.sketch = new FrequencySketch( maximumSize );
+	}
+
+	/**
+	 * Registers the listener to notify with the key of each evicted entry, from the thread evicting it.
+	 *
+	 * @param evictionListener The listener
+	 */
+	public void setEvictionListener(Consumer<K> evictionListener) {
+		this.evictionListener = evictionListener;
+	}
+
+	/**
+	 * Returns the value cached for the given key.
+	 *
+	 * @param key The key
+	 *
+	 * @return The value, or {@code null} if none is cached
+	 */
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		recordRead( node );
+		return node.value;
+	}
+
+	/**
+	 * Caches the given value unless a value is already cached for the given key.
+	 *
+	 * @param key The key
+	 * @param value The value
+	 *
+	 * @return The value previously cached, or {@code null} if the given value was cached
+	 */
+	public V putIfAbsent(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> previous = data.putIfAbsent( key, node );
+		if ( previous != null ) {
+			recordRead( previous );
+			return previous.value;
+		}
+		policyLock.lock();
+		try {
+			drainReadBuffer();
+			admit( node );
+		}
+		finally {
+			policyLock.unlock();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value cached for the given key, caching the value computed by the given function if there is
+	 * none.  Unlike {@link ConcurrentHashMap#computeIfAbsent}, the value is computed without blocking other
+	 * threads, so it might be computed more than once.
+	 *
+	 * @param key The key
+	 * @param mappingFunction The function computing the value
+	 *
+	 * @return The cached value
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V value = get( key );
+		if ( value != null ) {
+			return value;
+		}
+		final V computed = mappingFunction.apply( key );
+		final V previous = putIfAbsent( key, computed );
+		return previous == null ? computed : previous;
+	}
+
+	/**
+	 * The number of cached entries.
+	 */
+	public int size() {
+		return data.size();
+	}
+
+	/**
+	 * Passes each cached value to the given action, without recording it as used.
+	 *
+	 * @param action The action
+	 */
+	public void forEachValue(Consumer<? super V> action) {
+		for ( Node<K, V> node : data.values() ) {
+			action.accept( node.value );
+		}
+	}
+
+	/**
+	 * The number of entries evicted since this cache was created.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Removes all the entries, keeping the usage frequencies.
+	 */
+	public void clear() {
+		policyLock.lock();
+		try {
+			for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+				readBuffer.set( i, null );
+			}
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private void recordRead(Node<K, V> node) {
+		final long count = readCount.getAndIncrement();
+		// overwrites reads not applied yet when the buffer is full
+		readBuffer.lazySet( (int) ( count & ( READ_BUFFER_SIZE - 1 ) ), node );
+		if ( ( count & ( READ_DRAIN_INTERVAL - 1 ) ) == 0 && policyLock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				policyLock.unlock();
+			}
+		}
+	}
+
+	private void drainReadBuffer() {
+		for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+			final Node<K, V> node = readBuffer.getAndSet( i, null );
+			if ( node != null ) {
+				onRead( node );
+			}
+		}
+	}
+
+	private void onRead(Node<K, V> node) {
+		final AccessOrder<K, V> segment = node.segment;
+		if ( segment == null ) {
+			// evicted or cleared meanwhile
+			return;
+		}
+		sketch.increment( node.key );
+		if ( segment == probation ) {
+			probation.remove( node );
+			protectedSegment.addLast( node );
+			while ( protectedSegment.size > maximumProtectedSize ) {
+				probation.addLast( protectedSegment.removeFirst() );
+			}
+		}
+		else {
+			segment.moveToLast( node );
+		}
+	}
+
+	private void admit(Node<K, V> node) {
+		sketch.increment( node.key );
+		window.addLast( node );
+		while ( window.size > maximumWindowSize ) {
+			final Node<K, V> candidate = window.removeFirst();
+			probation.addLast( candidate );
+			if ( window.size + probation.size + protectedSegment.size > maximumSize ) {
+				final Node<K, V> victim = probation.first;
+				evict( victim == candidate || sketch.frequency( candidate.key ) > sketch.frequency( victim.key )
+						? victim
+						: candidate );
+			}
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		node.segment.remove( node );
+		data.remove( node.key, node );
+		evictionCount.increment();
+		final Consumer<K> listener = evictionListener;
+		if ( listener != null ) {
+			listener.accept( node.key );
+		}
+	}
+
+	private static final class Node<K, V> implements Serializable {
+		private final K key;
+		private final V value;
+
+		// the policy state, guarded by the policy lock
+		private AccessOrder<K, V> segment;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A doubly linked list of nodes, from the least to the most recently used.
+	 */
+	private static final class AccessOrder<K, V> implements Serializable {
+		private Node<K, V> first;
+		private Node<K, V> last;
+		private int size;
+
+		private void addLast(Node<K, V> node) {
+			node.segment = this;
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			size++;
+		}
+
+		private Node<K, V> removeFirst() {
+			final Node<K, V> node = first;
+			remove( node );
+			return node;
+		}
+
+		private void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.segment = null;
+			node.previous = null;
+			node.next = null;
+			size--;
+		}
+
+		private void moveToLast(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		private void clear() {
+			for ( Node<K, V> node = first; node != null; ) {
+				final Node<K, V> next = node.next;
+				node.segment = null;
+				node.previous = null;
+				node.next = null;
+				node = next;
+			}
+			first = null;
+			last = null;
+			size = 0;
+		}
+	}
+
+	/**
+	 * A count-min sketch of 4-bit counters, estimating how often keys were used.  All the counters are halved once
+	 * the number of increments reaches ten times the maximum size of the cache, so that the estimates favor the
+	 * recent usage.  Not thread-safe.
+	 */
+	private static final class FrequencySketch implements Serializable {
+		private static final long[] SEEDS = {
+				0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+		};
+		private static final long HALF_MASK = 0x7777777777777777L;
+		private static final int MAX_COUNT = 15;
+
+		// 16 counters per long
+		private final long[] table;
+		private final int sampleSize;
+		private int incrementCount;
+
+		private FrequencySketch(int maximumSize) {
+			this.table = new long[ MathHelper.ceilingPowerOfTwo( Math.max( maximumSize, 16 ) ) ];
+			this.sampleSize = 10 * Math.max( maximumSize, 16 );
+		}
+
+		private int frequency(Object key) {
+			final int hash = key.hashCode();
+			int frequency = MAX_COUNT;
+			for ( long seed : SEEDS ) {
+				final long position = position( hash, seed );
+				frequency = Math.min( frequency, (int) ( ( table[index( position )] >>> shift( position ) ) & MAX_COUNT ) );
+			}
+			return frequency;
+		}
+
+		private void increment(Object key) {
+			final int hash = key.hashCode();
+			boolean incremented = false;
+			for ( long seed : SEEDS ) {
+				final long position = position( hash, seed );
+				final int index = index( position );
+				final int shift = shift( position );
+				if ( ( ( table[index] >>> shift ) & MAX_COUNT ) < MAX_COUNT ) {
+					table[index] += 1L << shift;
+					incremented = true;
+				}
+			}
+			if ( incremented && ++incrementCount == sampleSize ) {
+				for ( int i = 0; i < table.length; i++ ) {
+					table[i] = ( table[i] >>> 1 ) & HALF_MASK;
+				}
+				incrementCount /= 2;
+			}
+		}
+
+		private static long position(int hash, long seed) {
+			final long position = ( hash + seed ) * seed;
+			return position ^ ( position >>> 29 );
+		}
+
+		private int index(long position) {
+			return (int) ( position >>> 32 ) & ( table.length - 1 );
+		}
+
+		private static int shift(long position) {
+			return ( (int) position & 15 ) << 2;
+		}
+	}
+}
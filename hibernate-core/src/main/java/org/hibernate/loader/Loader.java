@@ -46,6 +46,7 @@ import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.jdbc.ColumnNameCache;
+import org.hibernate.engine.jdbc.internal.AdaptiveFetchSize;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.loading.internal.CollectionLoadContext;
@@ -91,6 +92,7 @@ import org.hibernate.transform.CacheableResultTransformer;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.PrimitiveExtractionAware;
 import org.hibernate.type.Type;
 import org.hibernate.type.VersionType;
 
@@ -117,6 +119,7 @@ public abstract class Loader {
 
 	private final SessionFactoryImplementor factory;
 	private volatile ColumnNameCache columnNameCache;
+	private volatile int estimatedRowWidth;
 
 	private final boolean referenceCachingEnabled;
 	private final boolean enhancementAsProxyEnabled;
@@ -805,12 +808,25 @@ public abstract class Loader {
 
 		for ( int i = 0; i < numberOfPersistersToProcess; i++ ) {
 			final Type idType = persisters[i].getIdentifierType();
-			hydratedKeyState[i] = idType.hydrate(
-					resultSet,
-					getEntityAliases()[i].getSuffixedKeyAliases(),
-					session,
-					null
-			);
+			if ( idType instanceof PrimitiveExtractionAware
+					&& ( (PrimitiveExtractionAware) idType ).canExtractPrimitive( session ) ) {
+				hydratedKeyState[i] = hydratePrimitiveKey(
+						(PrimitiveExtractionAware) idType,
+						i,
+						persisters[i],
+						resultSet,
+						session,
+						keys
+				);
+			}
+			else {
+				hydratedKeyState[i] = idType.hydrate(
+						resultSet,
+						getEntityAliases()[i].getSuffixedKeyAliases(),
+						session,
+						null
+				);
+			}
 		}
 
 		for ( int i = 0; i < numberOfPersistersToProcess; i++ ) {
@@ -880,10 +896,43 @@ public abstract class Loader {
 			else {
 				resolvedId = null;
 			}
-			keys[i] = resolvedId == null ? null : session.generateEntityKey( resolvedId, persisters[i] );
+			if ( resolvedId == null ) {
+				keys[i] = null;
+			}
+			else if ( keys[i] == null || keys[i].getIdentifier() != resolvedId ) {
+				// otherwise the key is the one of the previous row, or of the entity already in the
+				// persistence context, for the very same identifier instance
+				keys[i] = session.generateEntityKey( resolvedId, persisters[i] );
+			}
 		}
 	}
 
+	/**
+	 * Hydrate a numeric identifier without boxing it when the entity is already in the persistence context,
+	 * reusing the identifier and, if possible, the key of the entity: the common case of the rows of a join
+	 * fetch repeating the same entity, or of queries returning entities already loaded.
+	 */
+	private Serializable hydratePrimitiveKey(
+			final PrimitiveExtractionAware idType,
+			final int i,
+			final Loadable persister,
+			final ResultSet resultSet,
+			final SharedSessionContractImplementor session,
+			final EntityKey[] keys) throws SQLException {
+		final long id = idType.extractLong( resultSet, getEntityAliases()[i].getSuffixedKeyAliases()[0] );
+		if ( resultSet.wasNull() ) {
+			return null;
+		}
+		final EntityKey managedKey = session.getPersistenceContextInternal().getEntityKey( id, persister );
+		if ( managedKey == null ) {
+			return idType.wrapLong( id );
+		}
+		if ( managedKey.getPersister() == persister ) {
+			keys[i] = managedKey;
+		}
+		return managedKey.getIdentifier();
+	}
+
 	protected void applyPostLoadLocks(Object[] row, LockMode[] lockModesArray, SharedSessionContractImplementor session) {
 	}
 
@@ -995,6 +1044,8 @@ public abstract class Loader {
 		final ArrayList hydratedObjects = entitySpan == 0 ? null : new ArrayList( entitySpan * 10 );
 		final List results = new ArrayList();
 
+		final AdaptiveFetchSize adaptiveFetchSize = adaptFetchSize( rs, queryParameters );
+
 		handleEmptyCollections( queryParameters.getCollectionKeys(), rs, session );
 		EntityKey[] keys = new EntityKey[entitySpan]; //we can reuse it for each row
 		LOG.trace( "Processing result set" );
@@ -1005,6 +1056,9 @@ public abstract class Loader {
 			if ( debugEnabled ) {
 				LOG.debugf( "Result set row: %s", count );
 			}
+			if ( adaptiveFetchSize != null ) {
+				adaptiveFetchSize.rowRead();
+			}
 			Object result = getRowFromResultSet(
 					rs,
 					session,
@@ -1546,13 +1600,25 @@ public abstract class Loader {
 		if ( version != null ) {
 			// null version means the object is in the process of being loaded somewhere else in the ResultSet
 			final VersionType versionType = persister.getVersionType();
-			final Object currentVersion = versionType.nullSafeGet(
-					rs,
-					getEntityAliases()[i].getSuffixedVersionAliases(),
-					session,
-					null
-			);
-			if ( !versionType.isEqual( version, currentVersion ) ) {
+			final boolean sameVersion;
+			if ( versionType instanceof PrimitiveExtractionAware
+					&& ( (PrimitiveExtractionAware) versionType ).canExtractPrimitive( session ) ) {
+				final long currentVersion = ( (PrimitiveExtractionAware) versionType ).extractLong(
+						rs,
+						getEntityAliases()[i].getSuffixedVersionAliases()[0]
+				);
+				sameVersion = !rs.wasNull() && ( (Number) version ).longValue() == currentVersion;
+			}
+			else {
+				final Object currentVersion = versionType.nullSafeGet(
+						rs,
+						getEntityAliases()[i].getSuffixedVersionAliases(),
+						session,
+						null
+				);
+				sameVersion = versionType.isEqual( version, currentVersion );
+			}
+			if ( !sameVersion ) {
 				final StatisticsImplementor statistics = session.getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.optimisticFailure( persister.getEntityName() );
@@ -2131,6 +2197,9 @@ public abstract class Loader {
 					st.setFetchSize( selection.getFetchSize() );
 				}
 			}
+			if ( isFetchSizeAdaptive( queryParameters ) ) {
+				st.setFetchSize( getInitialAdaptiveFetchSize( queryParameters ) );
+			}
 
 			// handle lock timeout...
 			LockOptions lockOptions = queryParameters.getLockOptions();
@@ -2163,6 +2232,80 @@ public abstract class Loader {
 		return st;
 	}
 
+	private boolean isFetchSizeAdaptive(QueryParameters queryParameters) {
+		final RowSelection selection = queryParameters.getRowSelection();
+		return factory.getSessionFactoryOptions().isAdaptiveJdbcFetchSizeEnabled()
+				&& ( selection == null || selection.getFetchSize() == null );
+	}
+
+	private int getInitialAdaptiveFetchSize(QueryParameters queryParameters) {
+		final Integer configuredFetchSize = factory.getSessionFactoryOptions().getJdbcFetchSize();
+		final int fetchSize = configuredFetchSize == null || configuredFetchSize <= 0
+				? AdaptiveFetchSize.DEFAULT_INITIAL_FETCH_SIZE
+				: configuredFetchSize;
+		return Math.min( fetchSize, getMaxAdaptiveFetchSize( queryParameters ) );
+	}
+
+	private int getMaxAdaptiveFetchSize(QueryParameters queryParameters) {
+		final int maxFetchSize = AdaptiveFetchSize.maxFetchSize(
+				factory.getSessionFactoryOptions().getAdaptiveJdbcFetchSizeMaxMemory(),
+				getEstimatedRowWidth()
+		);
+		final RowSelection selection = queryParameters.getRowSelection();
+		return LimitHelper.hasMaxRows( selection )
+				? Math.min( maxFetchSize, selection.getMaxRows() )
+				: maxFetchSize;
+	}
+
+	/**
+	 * Estimate the width of the rows of this loader's result sets, from the column types of the entities and
+	 * collections it loads.
+	 *
+	 * @return The estimated width, in bytes
+	 */
+	protected int getEstimatedRowWidth() {
+		int width = estimatedRowWidth;
+		if ( width == 0 ) {
+			final List<Type> types = new ArrayList<>();
+			for ( Loadable persister : getEntityPersisters() ) {
+				types.add( persister.getIdentifierType() );
+				Collections.addAll( types, persister.getPropertyTypes() );
+			}
+			final CollectionPersister[] collectionPersisters = getCollectionPersisters();
+			if ( collectionPersisters != null ) {
+				for ( CollectionPersister persister : collectionPersisters ) {
+					types.add( persister.getKeyType() );
+					types.add( persister.getElementType() );
+					if ( persister.hasIndex() ) {
+						types.add( persister.getIndexType() );
+					}
+				}
+			}
+			width = AdaptiveFetchSize.estimateRowWidth( types.toArray( new Type[types.size()] ), factory );
+			estimatedRowWidth = width;
+		}
+		return width;
+	}
+
+	/**
+	 * Obtain the fetch size growing with the rows read from the given result set, when
+	 * {@link org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE_ADAPTIVE adaptive}.
+	 *
+	 * @param resultSet The result set of a query executed by this loader
+	 * @param queryParameters The parameters of that query
+	 *
+	 * @return The adaptive fetch size, or {@code null} if the fetch size does not adapt
+	 */
+	public AdaptiveFetchSize adaptFetchSize(ResultSet resultSet, QueryParameters queryParameters) {
+		return isFetchSizeAdaptive( queryParameters )
+				? new AdaptiveFetchSize(
+						resultSet,
+						getInitialAdaptiveFetchSize( queryParameters ),
+						getMaxAdaptiveFetchSize( queryParameters )
+				)
+				: null;
+	}
+
 	/**
 	 * Bind all parameter values into the prepared statement in preparation
 	 * for execution.
@@ -2364,7 +2507,16 @@ public abstract class Loader {
 		}
 	}
 
-	private ColumnNameCache retrieveColumnNameToIndexCache(final ResultSet rs) throws SQLException {
+	/**
+	 * The cache of column name to index resolutions used for wrapped result sets of this loader.
+	 *
+	 * @param rs The result set to be wrapped
+	 *
+	 * @return The column name cache
+	 *
+	 * @throws SQLException Indicates a problem accessing the result set metadata
+	 */
+	protected ColumnNameCache retrieveColumnNameToIndexCache(final ResultSet rs) throws SQLException {
 		final ColumnNameCache cache = columnNameCache;
 		if ( cache == null ) {
 			//there is no need for a synchronized second check, as in worst case
@@ -23,6 +23,7 @@ import org.hibernate.Session;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -54,6 +55,7 @@ public class CustomLoader extends Loader {
 
 	// Currently *not* cachable if autodiscover types is in effect (e.g. "select * ...")
 
+	private final CustomQuery customQuery;
 	private final String sql;
 	private final Set<Serializable> querySpaces = new HashSet<>();
 
@@ -85,6 +87,7 @@ public class CustomLoader extends Loader {
 	public CustomLoader(CustomQuery customQuery, SessionFactoryImplementor factory) {
 		super( factory );
 
+		this.customQuery = customQuery;
 		this.sql = customQuery.getSQL();
 		this.querySpaces.addAll( customQuery.getQuerySpaces() );
 
@@ -504,6 +507,13 @@ public class CustomLoader extends Loader {
 		}
 	}
 
+	@Override
+	protected ColumnNameCache retrieveColumnNameToIndexCache(ResultSet rs) throws SQLException {
+		// loaders are built per execution, the query itself is kept by its query plan
+		final ColumnNameCache cache = customQuery.getColumnNameCache( rs );
+		return cache == null ? super.retrieveColumnNameToIndexCache( rs ) : cache;
+	}
+
 	private void validateAliases(List<String> aliases) {
 		// lets make sure we did not end up with duplicate aliases.  this can occur when the user supplied query
 		// did not rename same-named columns.  e.g.:
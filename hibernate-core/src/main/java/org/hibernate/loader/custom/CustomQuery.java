@@ -6,9 +6,12 @@
  */
 package org.hibernate.loader.custom;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.param.ParameterBinder;
 
 /**
@@ -46,4 +49,18 @@ public interface CustomQuery {
 	 */
 	List<Return> getCustomQueryReturns();
 
+	/**
+	 * The cache of column name to index resolutions shared by all executions of this query, given
+	 * that the layout of its results never changes.  Used when result sets are wrapped, see
+	 * {@link org.hibernate.cfg.AvailableSettings#WRAP_RESULT_SETS}.
+	 *
+	 * @param resultSet A result set of this query
+	 *
+	 * @return The column name cache, or {@code null} if each execution should resolve the columns itself
+	 *
+	 * @throws SQLException Indicates a problem accessing the result set metadata
+	 */
+	default ColumnNameCache getColumnNameCache(ResultSet resultSet) throws SQLException {
+		return null;
+	}
 }
@@ -7,6 +7,8 @@
 package org.hibernate.loader.custom.sql;
 
 import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -15,6 +17,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.engine.query.spi.sql.NativeSQLQueryReturn;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
@@ -45,6 +48,8 @@ public class SQLCustomQuery implements CustomQuery, Serializable {
 
 	private final List customQueryReturns = new ArrayList();
 
+	private transient volatile ColumnNameCache columnNameCache;
+
 
 	public String getSQL() {
 		return sql;
@@ -63,6 +68,17 @@ public class SQLCustomQuery implements CustomQuery, Serializable {
 		return customQueryReturns;
 	}
 
+	@Override
+	public ColumnNameCache getColumnNameCache(ResultSet resultSet) throws SQLException {
+		final ColumnNameCache cache = columnNameCache;
+		if ( cache == null ) {
+			// as in Loader, a concurrently built cache is simply discarded
+			columnNameCache = new ColumnNameCache( resultSet.getMetaData().getColumnCount() );
+			return columnNameCache;
+		}
+		return cache;
+	}
+
 	public SQLCustomQuery(
 			final String sqlQuery,
 			final NativeSQLQueryReturn[] queryReturns,
@@ -0,0 +1,316 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.hql;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.QueryException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.hql.internal.HolderInstantiator;
+import org.hibernate.hql.internal.ast.SimpleQueryTranslator;
+import org.hibernate.hql.spi.ParameterInformation;
+import org.hibernate.internal.IteratorImpl;
+import org.hibernate.loader.BasicLoader;
+import org.hibernate.loader.spi.AfterLoadAction;
+import org.hibernate.param.ParameterSpecification;
+import org.hibernate.persister.entity.Loadable;
+import org.hibernate.persister.entity.Lockable;
+import org.hibernate.persister.entity.Queryable;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.transform.ResultTransformer;
+import org.hibernate.type.Type;
+
+/**
+ * A delegate that implements the Loader part of {@link SimpleQueryTranslator}, loading the single entity selected
+ * by the query, or its identifier for shallow queries.
+ *
+ * @see QueryLoader
+ */
+public class SimpleQueryLoader extends BasicLoader {
+	private static final boolean[] INCLUDE_IN_RESULT_ROW = { true };
+
+	private final SimpleQueryTranslator queryTranslator;
+
+	private final Queryable[] entityPersisters;
+	private final LockMode[] defaultLockModes = { LockMode.NONE };
+
+	/**
+	 * Creates a new Loader implementation.
+	 *
+	 * @param queryTranslator The query translator that is the delegator.
+	 * @param factory The factory from which this loader is being created.
+	 */
+	public SimpleQueryLoader(SimpleQueryTranslator queryTranslator, SessionFactoryImplementor factory) {
+		super( factory );
+		this.queryTranslator = queryTranslator;
+		// shallow queries select the identifier as a scalar
+		this.entityPersisters = queryTranslator.isShallowQuery()
+				? new Queryable[0]
+				: new Queryable[] { queryTranslator.getPersister() };
+		postInstantiate();
+	}
+
+	// -- Loader implementation --
+
+	@Override
+	public String getSQLString() {
+		return queryTranslator.getSQLString();
+	}
+
+	@Override
+	protected Loadable[] getEntityPersisters() {
+		return entityPersisters;
+	}
+
+	@Override
+	protected String[] getAliases() {
+		return new String[] { queryTranslator.getTableAlias() };
+	}
+
+	@Override
+	protected String[] getSuffixes() {
+		return NO_SUFFIX;
+	}
+
+	@Override
+	protected String[] getCollectionSuffixes() {
+		return null;
+	}
+
+	@Override
+	protected String getQueryIdentifier() {
+		return queryTranslator.getQueryIdentifier();
+	}
+
+	// -- Loader overrides --
+
+	@Override
+	protected boolean isSubselectLoadingEnabled() {
+		return hasSubselectLoadableCollections();
+	}
+
+	@Override
+	protected LockMode[] getLockModes(LockOptions lockOptions) {
+		if ( lockOptions == null
+				|| lockOptions.getAliasLockCount() == 0
+				&& ( lockOptions.getLockMode() == null || LockMode.NONE.equals( lockOptions.getLockMode() ) ) ) {
+			return defaultLockModes;
+		}
+		final LockMode lockMode = lockOptions.getEffectiveLockMode( queryTranslator.getClassAlias() );
+		//NONE, because its the requested lock mode, not the actual!
+		return new LockMode[] { lockMode == null ? LockMode.NONE : lockMode };
+	}
+
+	@Override
+	protected String applyLocks(
+			String sql,
+			QueryParameters parameters,
+			Dialect dialect,
+			List<AfterLoadAction> afterLoadActions) throws QueryException {
+		final LockOptions lockOptions = parameters.getLockOptions();
+		if ( lockOptions == null ||
+				( lockOptions.getLockMode() == LockMode.NONE && lockOptions.getAliasLockCount() == 0 ) ) {
+			return sql;
+		}
+
+		if ( shouldUseFollowOnLocking( parameters, dialect, afterLoadActions ) ) {
+			return sql;
+		}
+
+		final LockOptions locks = new LockOptions( lockOptions.getLockMode() );
+		locks.setScope( lockOptions.getScope() );
+		locks.setTimeOut( lockOptions.getTimeOut() );
+
+		final Lockable persister = (Lockable) queryTranslator.getPersister();
+		final String sqlAlias = persister.getRootTableAlias( queryTranslator.getTableAlias() );
+		locks.setAliasSpecificLockMode( sqlAlias, lockOptions.getEffectiveLockMode( queryTranslator.getClassAlias() ) );
+
+		Map<String, String[]> keyColumnNames = null;
+		if ( dialect.forUpdateOfColumns() ) {
+			keyColumnNames = new HashMap<>();
+			keyColumnNames.put( sqlAlias, persister.getRootTableIdentifierColumnNames() );
+		}
+		return dialect.applyLocksToSql( sql, locks, keyColumnNames );
+	}
+
+	@Override
+	protected boolean upgradeLocks() {
+		return true;
+	}
+
+	@Override
+	protected String[] getResultRowAliases() {
+		return queryTranslator.getReturnAliases();
+	}
+
+	@Override
+	protected ResultTransformer resolveResultTransformer(ResultTransformer resultTransformer) {
+		return HolderInstantiator.resolveResultTransformer( null, resultTransformer );
+	}
+
+	@Override
+	protected boolean[] includeInResultRow() {
+		return INCLUDE_IN_RESULT_ROW;
+	}
+
+	@Override
+	protected Object getResultColumnOrRow(
+			Object[] row,
+			ResultTransformer transformer,
+			ResultSet rs,
+			SharedSessionContractImplementor session)
+			throws SQLException, HibernateException {
+		final Object[] resultRow = getResultRow( row, rs, session );
+		return transformer == null ? resultRow[0] : resultRow;
+	}
+
+	@Override
+	protected Object[] getResultRow(Object[] row, ResultSet rs, SharedSessionContractImplementor session)
+			throws SQLException, HibernateException {
+		if ( queryTranslator.isShallowQuery() ) {
+			return new Object[] {
+					queryTranslator.getReturnTypes()[0].nullSafeGet( rs, queryTranslator.getColumnNames()[0], session, null )
+			};
+		}
+		return row;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	protected List getResultList(List results, ResultTransformer resultTransformer) throws QueryException {
+		final HolderInstantiator holderInstantiator = buildHolderInstantiator( resultTransformer );
+		if ( holderInstantiator.isRequired() ) {
+			for ( int i = 0; i < results.size(); i++ ) {
+				results.set( i, holderInstantiator.instantiate( (Object[]) results.get( i ) ) );
+			}
+			return resultTransformer.transformList( results );
+		}
+		return results;
+	}
+
+	private HolderInstantiator buildHolderInstantiator(ResultTransformer queryLocalResultTransformer) {
+		return HolderInstantiator.getHolderInstantiator(
+				null,
+				queryLocalResultTransformer,
+				queryTranslator.getReturnAliases()
+		);
+	}
+
+	// --- Query translator methods ---
+
+	public List list(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) throws HibernateException {
+		return list( session, queryParameters, queryTranslator.getQuerySpaces(), queryTranslator.getReturnTypes() );
+	}
+
+	public Iterator iterate(
+			QueryParameters queryParameters,
+			EventSource session) throws HibernateException {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0;
+
+		try {
+			if ( queryParameters.isCallable() ) {
+				throw new QueryException( "iterate() not supported for callable statements" );
+			}
+			final SqlStatementWrapper wrapper = executeQueryStatement(
+					queryParameters,
+					false,
+					Collections.emptyList(),
+					session
+			);
+			final Iterator result = new IteratorImpl(
+					wrapper.getResultSet(),
+					(PreparedStatement) wrapper.getStatement(),
+					session,
+					queryParameters.isReadOnly( session ),
+					queryTranslator.getReturnTypes(),
+					queryTranslator.getColumnNames(),
+					buildHolderInstantiator( queryParameters.getResultTransformer() )
+			);
+
+			if ( stats ) {
+				final long milliseconds = TimeUnit.MILLISECONDS.convert( System.nanoTime() - startTime, TimeUnit.NANOSECONDS );
+				statistics.queryExecuted( getQueryIdentifier(), 0, milliseconds );
+			}
+
+			return result;
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not execute query using iterate",
+					getSQLString()
+			);
+		}
+	}
+
+	public ScrollableResultsImplementor scroll(
+			final QueryParameters queryParameters,
+			final SharedSessionContractImplementor session) throws HibernateException {
+		return scroll(
+				queryParameters,
+				queryTranslator.getReturnTypes(),
+				buildHolderInstantiator( queryParameters.getResultTransformer() ),
+				session
+		);
+	}
+
+	/**
+	 * Returns the locations of all occurrences of the named parameter.
+	 */
+	@Override
+	public int[] getNamedParameterLocs(String name) throws QueryException {
+		ParameterInformation info = queryTranslator.getParameterTranslations().getNamedParameterInformation( name );
+		if ( info == null ) {
+			try {
+				info = queryTranslator.getParameterTranslations().getPositionalParameterInformation(
+						Integer.parseInt( name )
+				);
+			}
+			catch (Exception ignore) {
+			}
+		}
+
+		if ( info == null ) {
+			throw new QueryException( "Unrecognized parameter label : " + name );
+		}
+
+		return info.getSourceLocations();
+	}
+
+	@Override
+	protected int bindParameterValues(
+			final PreparedStatement statement,
+			final QueryParameters queryParameters,
+			final int startIndex,
+			final SharedSessionContractImplementor session) throws SQLException {
+		int position = startIndex;
+		for ( ParameterSpecification spec : queryTranslator.getCollectedParameterSpecifications() ) {
+			position += spec.bind( statement, queryParameters, session, position );
+		}
+		return position - startIndex;
+	}
+}
@@ -55,6 +55,7 @@ import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.identity.GetGeneratedKeysDelegate;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.CacheHelper;
@@ -63,6 +64,7 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchKey;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -280,6 +282,7 @@ public abstract class AbstractEntityPersister
 	protected ExecuteUpdateResultCheckStyle[] deleteResultCheckStyles;
 
 	private InsertGeneratedIdentifierDelegate identityDelegate;
+	private boolean identityInsertBatchable;
 
 	private boolean[] tableHasColumns;
 
@@ -3153,6 +3156,22 @@ public abstract class AbstractEntityPersister
 
 	private BasicBatchKey inserBatchKey;
 
+	/**
+	 * Can the rows of this entity be inserted by multi-row statements, that is, is the SQL inserting them
+	 * rendered by Hibernate for a Dialect supporting it?
+	 */
+	private boolean isMultiRowInsertable() {
+		if ( !getFactory().getJdbcServices().getDialect().supportsMultiRowInsert() ) {
+			return false;
+		}
+		for ( int j = 0; j < customSQLInsert.length; j++ ) {
+			if ( customSQLInsert[j] != null || insertCallable[j] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Perform an SQL INSERT.
 	 * <p/>
@@ -3193,10 +3212,10 @@ public abstract class AbstractEntityPersister
 						getIdentifierGenerator().supportsJdbcBatchInserts();
 
 		if ( useBatch && inserBatchKey == null ) {
-			inserBatchKey = new BasicBatchKey(
-					getEntityName() + "#INSERT",
-					expectation
-			);
+			final int multiRowInsertSize = getFactory().getSessionFactoryOptions().getMultiRowInsertSize();
+			inserBatchKey = multiRowInsertSize > 1 && isMultiRowInsertable()
+					? new MultiRowInsertBatchKey( getEntityName() + "#INSERT", expectation, multiRowInsertSize )
+					: new BasicBatchKey( getEntityName() + "#INSERT", expectation );
 		}
 		final boolean callable = isInsertCallable( j );
 
@@ -3742,6 +3761,54 @@ public abstract class AbstractEntityPersister
 		return id;
 	}
 
+	@Override
+	public boolean isIdentityInsertBatchable() {
+		return identityInsertBatchable;
+	}
+
+	@Override
+	public Serializable[] insertBatch(Object[][] fields, Object[] objects, SharedSessionContractImplementor session)
+			throws HibernateException {
+		if ( !identityInsertBatchable ) {
+			throw new AssertionFailure( "no batched identity inserts for " + getEntityName() );
+		}
+
+		final Binder[] binders = new Binder[objects.length];
+		for ( int i = 0; i < objects.length; i++ ) {
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( fields[i], objects[i], session );
+
+			final Object[] entityFields = fields[i];
+			final Object object = objects[i];
+			binders[i] = new Binder() {
+				public void bindValues(PreparedStatement ps) throws SQLException {
+					dehydrate( null, entityFields, getPropertyInsertability(), propertyColumnInsertable, 0, ps, session, false );
+				}
+
+				public Object getEntity() {
+					return object;
+				}
+			};
+		}
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Inserting {0} entities: {1} (native id, batched)", objects.length, getEntityName() );
+		}
+		final Serializable[] ids = ( (GetGeneratedKeysDelegate) identityDelegate ).performBatchInsert(
+				getSQLIdentityInsertString(),
+				session,
+				binders
+		);
+
+		final int span = getTableSpan();
+		for ( int j = 1; j < span; j++ ) {
+			for ( int i = 0; i < objects.length; i++ ) {
+				insert( ids[i], fields[i], getPropertyInsertability(), j, getSQLInsertStrings()[j], objects[i], session );
+			}
+		}
+		return ids;
+	}
+
 	public void insert(Serializable id, Object[] fields, Object object, SharedSessionContractImplementor session) {
 		// apply any pre-insert in-memory value generation
 		preInsertInMemoryValueGeneration( fields, object, session );
@@ -4251,6 +4318,12 @@ public abstract class AbstractEntityPersister
 			sqlIdentityInsertString = customSQLInsert[0] == null
 					? generateIdentityInsertString( getPropertyInsertability() )
 					: substituteBrackets( customSQLInsert[0] );
+			identityInsertBatchable = getFactory().getSessionFactoryOptions().isIdentityInsertBatchingEnabled()
+					&& getFactory().getDialect().getIdentityColumnSupport().supportsBatchedGetGeneratedKeys()
+					&& identityDelegate instanceof GetGeneratedKeysDelegate
+					&& customSQLInsert[0] == null
+					&& !entityMetamodel.isDynamicInsert()
+					&& !hasNaturalIdentifier();
 		}
 		else {
 			sqlIdentityInsertString = null;
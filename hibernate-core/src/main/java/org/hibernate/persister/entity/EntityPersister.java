@@ -427,6 +427,26 @@ public interface EntityPersister extends EntityDefinition {
 	Serializable insert(Object[] fields, Object object, SharedSessionContractImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Can instances be persisted as a JDBC batch using natively generated identifiers,
+	 * by {@link #insertBatch}?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean isIdentityInsertBatchable() {
+		return false;
+	}
+
+	/**
+	 * Persist instances as a JDBC batch, using natively generated identifiers (optional operation)
+	 *
+	 * @return The generated identifiers, in the order of the given instances
+	 */
+	default Serializable[] insertBatch(Object[][] fields, Object[] objects, SharedSessionContractImplementor session)
+	throws HibernateException {
+		throw new UnsupportedOperationException( "Batched identity inserts not supported for " + getEntityName() );
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
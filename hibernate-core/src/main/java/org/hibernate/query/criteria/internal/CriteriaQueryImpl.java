@@ -29,6 +29,7 @@ import org.hibernate.jpa.spi.HibernateEntityManagerImplementor;
 import org.hibernate.query.criteria.internal.compile.CompilableCriteria;
 import org.hibernate.query.criteria.internal.compile.CriteriaInterpretation;
 import org.hibernate.query.criteria.internal.compile.CriteriaQueryTypeQueryAdapter;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.ImplicitParameterBinding;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
@@ -288,6 +289,13 @@ public class CriteriaQueryImpl<T> extends AbstractNode implements CriteriaQuery<
 
 	@Override
 	public CriteriaInterpretation interpret(RenderingContext renderingContext) {
+		return interpret( render( renderingContext ) );
+	}
+
+	/**
+	 * Render this query as JPQL.
+	 */
+	public String render(RenderingContext renderingContext) {
 		final StringBuilder jpaqlBuffer = new StringBuilder();
 
 		queryStructure.render( jpaqlBuffer, renderingContext );
@@ -298,6 +306,40 @@ public class CriteriaQueryImpl<T> extends AbstractNode implements CriteriaQuery<
 
 		log.debugf( "Rendered criteria query -> %s", jpaqlString );
 
+		return jpaqlString;
+	}
+
+	/**
+	 * Append the structure of this query, see {@link Renderable#appendStructure}.
+	 *
+	 * @return {@code false} if the structure of this query cannot be described
+	 */
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( returnType );
+		if ( !queryStructure.appendStructure( structure ) ) {
+			return false;
+		}
+
+		structure.getClauseStack().push( Clause.ORDER );
+		try {
+			structure.append( getOrderList().size() );
+			for ( Order orderSpec : getOrderList() ) {
+				structure.append( orderSpec.isAscending() );
+				if ( !structure.appendNode( orderSpec.getExpression() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		finally {
+			structure.getClauseStack().pop();
+		}
+	}
+
+	/**
+	 * Interpret this query from its JPQL rendering, or from the one of a query of the same structure.
+	 */
+	public CriteriaInterpretation interpret(final String jpaqlString) {
 		return new CriteriaInterpretation() {
 			@Override
 			@SuppressWarnings("unchecked")
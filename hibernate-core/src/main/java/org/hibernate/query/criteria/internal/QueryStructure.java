@@ -28,9 +28,15 @@ import javax.persistence.criteria.Selection;
 import javax.persistence.criteria.Subquery;
 import javax.persistence.metamodel.EntityType;
 
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
+import org.hibernate.query.criteria.internal.path.CollectionAttributeJoin;
+import org.hibernate.query.criteria.internal.path.ListAttributeJoin;
+import org.hibernate.query.criteria.internal.path.MapAttributeJoin;
 import org.hibernate.query.criteria.internal.path.RootImpl;
 import org.hibernate.query.criteria.internal.path.RootImpl.TreatedRoot;
+import org.hibernate.query.criteria.internal.path.SetAttributeJoin;
+import org.hibernate.query.criteria.internal.path.SingularAttributeJoin;
 import org.hibernate.sql.ast.Clause;
 
 /**
@@ -45,6 +51,17 @@ import org.hibernate.sql.ast.Clause;
  * @author Steve Ebersole
  */
 public class QueryStructure<T> implements Serializable {
+	// the joins whose rendering is fully described by their type, attribute, alias and join condition
+	private static final Set<Class<?>> STRUCTURED_JOIN_TYPES = new HashSet<>(
+			Arrays.asList(
+					SingularAttributeJoin.class,
+					CollectionAttributeJoin.class,
+					ListAttributeJoin.class,
+					MapAttributeJoin.class,
+					SetAttributeJoin.class
+			)
+	);
+
 	private final AbstractQuery<T> owner;
 	private final CriteriaBuilderImpl criteriaBuilder;
 	private final boolean isSubQuery;
@@ -240,6 +257,128 @@ public class QueryStructure<T> implements Serializable {
 		renderGroupByClause( jpaqlQuery, renderingContext );
 	}
 
+	/**
+	 * Append the structure of the clauses rendered by {@link #render}, see {@link Renderable#appendStructure}.
+	 *
+	 * @return {@code false} if the structure of the query cannot be described
+	 */
+	public boolean appendStructure(CriteriaStructure structure) {
+		if ( isSubQuery ) {
+			return false;
+		}
+
+		// the FROM clause first, so that the nodes of the other clauses can reference its elements
+		structure.getClauseStack().push( Clause.FROM );
+		try {
+			structure.append( getRoots().size() );
+			for ( Root<?> root : getRoots() ) {
+				if ( root.getClass() != RootImpl.class || !( (RootImpl<?>) root ).getTreats().isEmpty() ) {
+					return false;
+				}
+				structure.registerFrom( root );
+				structure.append( root.getModel().getName() );
+				structure.append( root.getAlias() );
+			}
+			for ( Root<?> root : getRoots() ) {
+				if ( !appendJoinsStructure( structure, root.getJoins(), false )
+						|| !appendJoinsStructure( structure, root.getFetches(), true ) ) {
+					return false;
+				}
+			}
+		}
+		finally {
+			structure.getClauseStack().pop();
+		}
+
+		structure.getClauseStack().push( Clause.SELECT );
+		try {
+			structure.append( isDistinct() );
+			if ( getSelection() == null ) {
+				// the implicit selection of the single root
+				structure.append( null );
+			}
+			else if ( !structure.appendNode( getSelection() ) ) {
+				return false;
+			}
+		}
+		finally {
+			structure.getClauseStack().pop();
+		}
+
+		structure.getClauseStack().push( Clause.WHERE );
+		try {
+			if ( getRestriction() == null ) {
+				structure.append( null );
+			}
+			else if ( !structure.appendNode( getRestriction() ) ) {
+				return false;
+			}
+		}
+		finally {
+			structure.getClauseStack().pop();
+		}
+
+		structure.getClauseStack().push( Clause.GROUP );
+		try {
+			if ( !structure.appendNodes( getGroupings() ) ) {
+				return false;
+			}
+			if ( getGroupings().isEmpty() ) {
+				// the having clause is only rendered along with a group by clause
+				return true;
+			}
+		}
+		finally {
+			structure.getClauseStack().pop();
+		}
+
+		structure.getClauseStack().push( Clause.HAVING );
+		try {
+			if ( getHaving() == null ) {
+				structure.append( null );
+				return true;
+			}
+			return structure.appendNode( getHaving() );
+		}
+		finally {
+			structure.getClauseStack().pop();
+		}
+	}
+
+	private boolean appendJoinsStructure(CriteriaStructure structure, Collection<?> joins, boolean fetches) {
+		structure.append( joins.size() );
+		for ( Object element : joins ) {
+			if ( !STRUCTURED_JOIN_TYPES.contains( element.getClass() ) ) {
+				return false;
+			}
+			final Join<?, ?> join = (Join<?, ?>) element;
+			if ( join.isCorrelated() ) {
+				return false;
+			}
+			structure.registerFrom( join );
+			structure.append( join.getJoinType() );
+			structure.append( join.getAttribute().getName() );
+			structure.append( join.getAlias() );
+			if ( !structure.appendFromReference( join.getParent() ) ) {
+				return false;
+			}
+			if ( join.getOn() == null ) {
+				structure.append( null );
+			}
+			else if ( !structure.appendNode( join.getOn() ) ) {
+				return false;
+			}
+			// the joins of a fetch are not rendered
+			if ( !fetches && !appendJoinsStructure( structure, join.getJoins(), false ) ) {
+				return false;
+			}
+			if ( !appendJoinsStructure( structure, ( (Fetch<?, ?>) join ).getFetches(), true ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	protected void renderSelectClause(StringBuilder jpaqlQuery, RenderingContext renderingContext) {
 		renderingContext.getClauseStack().push( Clause.SELECT );
 
@@ -7,6 +7,7 @@
 package org.hibernate.query.criteria.internal;
 
 
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -21,4 +22,15 @@ public interface Renderable {
 	 * Perform the rendering, returning the rendition
 	 */
 	String render(RenderingContext renderingContext);
+
+	/**
+	 * Append to the given structure what determines the rendering of this node, apart from the values of its
+	 * parameters and of its literals bound as parameters.
+	 *
+	 * @return {@code false} if the structure of this node cannot be described, in which case the query it belongs
+	 * to is rendered each time it is compiled
+	 */
+	default boolean appendStructure(CriteriaStructure structure) {
+		return false;
+	}
 }
@@ -9,6 +9,7 @@ package org.hibernate.query.criteria.internal.compile;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import javax.persistence.TypedQuery;
@@ -16,12 +17,15 @@ import javax.persistence.criteria.ParameterExpression;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.query.criteria.LiteralHandlingMode;
+import org.hibernate.query.criteria.internal.CriteriaQueryImpl;
+import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 import org.hibernate.query.criteria.internal.expression.function.FunctionExpression;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.sql.ast.Clause;
@@ -62,6 +66,41 @@ public class CriteriaCompiler implements Serializable {
 
 		final Dialect dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class ).getDialect();
 
+		// the criteria queries of the same structure share their rendering, only the values of their parameters and
+		// of their literals bound as parameters differ
+		final CriteriaStructure structure = new CriteriaStructure( criteriaLiteralHandlingMode );
+		final Object structureKey = criteria instanceof CriteriaQueryImpl
+				&& ( (CriteriaQueryImpl<?>) criteria ).appendStructure( structure )
+				? structure.getKey()
+				: null;
+		final QueryPlanCache queryPlanCache = sessionFactory.getQueryPlanCache();
+		if ( structureKey != null ) {
+			final RenderedCriteria renderedCriteria = queryPlanCache.getRenderedCriteria( structureKey );
+			if ( renderedCriteria != null ) {
+				for ( int i = 0; i < structure.getParameters().size(); i++ ) {
+					explicitParameterInfoMap.put(
+							structure.getParameters().get( i ),
+							renderedCriteria.getExplicitParameter( i )
+					);
+				}
+				for ( int i = 0; i < structure.getLiterals().size(); i++ ) {
+					final LiteralExpression<?> literal = structure.getLiterals().get( i );
+					for ( String parameterName : renderedCriteria.getLiteralParameterNames( i ) ) {
+						implicitParameterBindings.add(
+								implicitParameterBinding( parameterName, literal.getLiteral(), literal.getJavaType() )
+						);
+					}
+				}
+				return buildCompiledQuery(
+						( (CriteriaQueryImpl<?>) criteria ).interpret( renderedCriteria.getJpaqlString() ),
+						explicitParameterInfoMap,
+						implicitParameterBindings
+				);
+			}
+		}
+
+		final Map<LiteralExpression<?>, List<String>> literalParameterNames = new IdentityHashMap<>();
+
 		RenderingContext renderingContext = new RenderingContext() {
 			private int aliasCount;
 			private int explicitParameterCount;
@@ -122,21 +161,14 @@ public class CriteriaCompiler implements Serializable {
 
 			public String registerLiteralParameterBinding(final Object literal, final Class javaType) {
 				final String parameterName = generateParameterName();
-				final ImplicitParameterBinding binding = new ImplicitParameterBinding() {
-					public String getParameterName() {
-						return parameterName;
-					}
-
-					public Class getJavaType() {
-						return javaType;
-					}
-
-					public void bind(TypedQuery typedQuery) {
-						typedQuery.setParameter( parameterName, literal );
-					}
-				};
+				implicitParameterBindings.add( implicitParameterBinding( parameterName, literal, javaType ) );
+				return parameterName;
+			}
 
-				implicitParameterBindings.add( binding );
+			@Override
+			public String registerLiteralParameterBinding(LiteralExpression<?> literal) {
+				final String parameterName = registerLiteralParameterBinding( literal.getLiteral(), literal.getJavaType() );
+				literalParameterNames.computeIfAbsent( literal, k -> new ArrayList<>() ).add( parameterName );
 				return parameterName;
 			}
 
@@ -162,7 +194,41 @@ public class CriteriaCompiler implements Serializable {
 			}
 		};
 
-		return criteria.interpret( renderingContext ).buildCompiledQuery(
+		if ( structureKey == null ) {
+			return buildCompiledQuery(
+					criteria.interpret( renderingContext ),
+					explicitParameterInfoMap,
+					implicitParameterBindings
+			);
+		}
+
+		final CriteriaQueryImpl<?> criteriaQuery = (CriteriaQueryImpl<?>) criteria;
+		final String jpaqlString = criteriaQuery.render( renderingContext );
+		final QueryImplementor query = buildCompiledQuery(
+				criteriaQuery.interpret( jpaqlString ),
+				explicitParameterInfoMap,
+				implicitParameterBindings
+		);
+
+		// only shared once the rendering proved to build a query
+		final RenderedCriteria renderedCriteria = renderedCriteria(
+				jpaqlString,
+				structure,
+				explicitParameterInfoMap,
+				implicitParameterBindings,
+				literalParameterNames
+		);
+		if ( renderedCriteria != null ) {
+			queryPlanCache.cacheRenderedCriteria( structureKey, renderedCriteria );
+		}
+		return query;
+	}
+
+	private QueryImplementor buildCompiledQuery(
+			CriteriaInterpretation interpretation,
+			final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap,
+			final List<ImplicitParameterBinding> implicitParameterBindings) {
+		return interpretation.buildCompiledQuery(
 				entityManager,
 				new InterpretedParameterMetadata() {
 					@Override
@@ -178,4 +244,66 @@ public class CriteriaCompiler implements Serializable {
 		);
 	}
 
+	private static ImplicitParameterBinding implicitParameterBinding(
+			final String parameterName,
+			final Object literal,
+			final Class javaType) {
+		return new ImplicitParameterBinding() {
+			public String getParameterName() {
+				return parameterName;
+			}
+
+			public Class getJavaType() {
+				return javaType;
+			}
+
+			public void bind(TypedQuery typedQuery) {
+				typedQuery.setParameter( parameterName, literal );
+			}
+		};
+	}
+
+	/**
+	 * The rendering of a criteria query along with the layout of its parameters by slot of its structure, or
+	 * {@code null} if the rendering registered parameters or literals which are not part of the structure.
+	 */
+	private static RenderedCriteria renderedCriteria(
+			String jpaqlString,
+			CriteriaStructure structure,
+			Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap,
+			List<ImplicitParameterBinding> implicitParameterBindings,
+			Map<LiteralExpression<?>, List<String>> literalParameterNames) {
+		final List<ParameterExpression<?>> parameters = structure.getParameters();
+		if ( parameters.size() != explicitParameterInfoMap.size() ) {
+			return null;
+		}
+		final ExplicitParameterInfo<?>[] explicitParameters = new ExplicitParameterInfo<?>[ parameters.size() ];
+		for ( int i = 0; i < explicitParameters.length; i++ ) {
+			explicitParameters[i] = explicitParameterInfoMap.get( parameters.get( i ) );
+			if ( explicitParameters[i] == null ) {
+				return null;
+			}
+		}
+
+		final List<LiteralExpression<?>> literals = structure.getLiterals();
+		if ( literals.size() != literalParameterNames.size() ) {
+			return null;
+		}
+		final String[][] literalNames = new String[ literals.size() ][];
+		int literalBindingCount = 0;
+		for ( int i = 0; i < literalNames.length; i++ ) {
+			final List<String> names = literalParameterNames.get( literals.get( i ) );
+			if ( names == null ) {
+				return null;
+			}
+			literalNames[i] = names.toArray( new String[ names.size() ] );
+			literalBindingCount += names.size();
+		}
+		if ( literalBindingCount != implicitParameterBindings.size() ) {
+			return null;
+		}
+
+		return new RenderedCriteria( jpaqlString, explicitParameters, literalNames );
+	}
+
 }
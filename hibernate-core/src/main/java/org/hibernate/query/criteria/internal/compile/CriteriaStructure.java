@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.criteria.internal.compile;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.ParameterExpression;
+
+import org.hibernate.internal.util.collections.Stack;
+import org.hibernate.internal.util.collections.StandardStack;
+import org.hibernate.query.criteria.LiteralHandlingMode;
+import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.expression.LiteralExpression;
+import org.hibernate.sql.ast.Clause;
+
+/**
+ * Collects the structure of a criteria query: the kinds of its nodes, its entity names, attribute paths, operators
+ * and aliases, and the slots of its parameters and of its literals.  The values of the literals are only part of it
+ * when they are rendered inline, so two queries differing only by the values bound to their parameters share the
+ * same {@link #getKey() key}, and therefore the same JPQL.
+ * <p/>
+ * FROM elements are referenced by their position in the FROM clause rather than by their alias, which is generated
+ * during rendering when missing.
+ *
+ * @see Renderable#appendStructure
+ */
+public class CriteriaStructure {
+	private final LiteralHandlingMode criteriaLiteralHandlingMode;
+	private final Stack<Clause> clauseStack = new StandardStack<>();
+
+	private final List<Object> parts = new ArrayList<>();
+	private final Map<From<?, ?>, Integer> froms = new IdentityHashMap<>();
+	private final Map<ParameterExpression<?>, Integer> parameterSlots = new IdentityHashMap<>();
+	private final List<ParameterExpression<?>> parameters = new ArrayList<>();
+	private final Map<LiteralExpression<?>, Integer> literalSlots = new IdentityHashMap<>();
+	private final List<LiteralExpression<?>> literals = new ArrayList<>();
+
+	public CriteriaStructure(LiteralHandlingMode criteriaLiteralHandlingMode) {
+		this.criteriaLiteralHandlingMode = criteriaLiteralHandlingMode;
+	}
+
+	public LiteralHandlingMode getCriteriaLiteralHandlingMode() {
+		return criteriaLiteralHandlingMode;
+	}
+
+	/**
+	 * The clauses being described, in the same way as {@link RenderingContext#getClauseStack()}.
+	 */
+	public Stack<Clause> getClauseStack() {
+		return clauseStack;
+	}
+
+	/**
+	 * Append a part of the structure: a name, an operator, a flag...
+	 */
+	public void append(Object part) {
+		parts.add( part );
+	}
+
+	/**
+	 * Append the structure of the given node, along with its kind.
+	 *
+	 * @return {@code false} if the structure of the node cannot be described
+	 */
+	public boolean appendNode(Object node) {
+		if ( !( node instanceof Renderable ) ) {
+			return false;
+		}
+		parts.add( node.getClass() );
+		return ( (Renderable) node ).appendStructure( this );
+	}
+
+	/**
+	 * Append the structure of the given nodes, preceded by their count.
+	 *
+	 * @return {@code false} if the structure of one of the nodes cannot be described
+	 */
+	public boolean appendNodes(Collection<?> nodes) {
+		parts.add( nodes.size() );
+		for ( Object node : nodes ) {
+			if ( !appendNode( node ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Register an element of the FROM clause, so that it can be referenced by the other nodes.
+	 */
+	public void registerFrom(From<?, ?> from) {
+		froms.put( from, froms.size() );
+	}
+
+	/**
+	 * Append a reference to an element of the FROM clause.
+	 *
+	 * @return {@code false} if the element was not registered
+	 */
+	public boolean appendFromReference(From<?, ?> from) {
+		final Integer position = froms.get( from );
+		if ( position == null ) {
+			return false;
+		}
+		parts.add( position );
+		return true;
+	}
+
+	/**
+	 * Append the slot of the given parameter, the same for each of its occurrences.
+	 */
+	public void appendParameter(ParameterExpression<?> parameter) {
+		Integer slot = parameterSlots.get( parameter );
+		if ( slot == null ) {
+			slot = parameters.size();
+			parameterSlots.put( parameter, slot );
+			parameters.add( parameter );
+		}
+		parts.add( slot );
+	}
+
+	/**
+	 * Append the slot of the given literal, the same for each of its occurrences.
+	 */
+	public void appendLiteral(LiteralExpression<?> literal) {
+		Integer slot = literalSlots.get( literal );
+		if ( slot == null ) {
+			slot = literals.size();
+			literalSlots.put( literal, slot );
+			literals.add( literal );
+		}
+		parts.add( slot );
+	}
+
+	/**
+	 * The parameters of the query, in the order of their slots.
+	 */
+	public List<ParameterExpression<?>> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * The literals of the query, in the order of their slots.
+	 */
+	public List<LiteralExpression<?>> getLiterals() {
+		return literals;
+	}
+
+	/**
+	 * The key identifying the structure collected so far.
+	 */
+	public Object getKey() {
+		return new Key( parts );
+	}
+
+	private static final class Key implements Serializable {
+		private final Object[] parts;
+		private final int hashCode;
+
+		private Key(List<Object> parts) {
+			this.parts = parts.toArray();
+			this.hashCode = Arrays.hashCode( this.parts );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key that = (Key) o;
+			return hashCode == that.hashCode && Arrays.equals( parts, that.parts );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
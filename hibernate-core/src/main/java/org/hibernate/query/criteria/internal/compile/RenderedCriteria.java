@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.criteria.internal.compile;
+
+import java.io.Serializable;
+
+/**
+ * The JPQL rendering of a criteria query along with the layout of its parameters, shared by the criteria queries
+ * of the same {@link CriteriaStructure structure}.
+ *
+ * @see org.hibernate.engine.query.spi.QueryPlanCache#getRenderedCriteria
+ */
+public final class RenderedCriteria implements Serializable {
+	private final String jpaqlString;
+	private final ExplicitParameterInfo<?>[] explicitParameters;
+	private final String[][] literalParameterNames;
+
+	/**
+	 * @param jpaqlString The JPQL rendering
+	 * @param explicitParameters The explicit parameters, by slot
+	 * @param literalParameterNames The names of the parameters each literal bound as a parameter is bound to, by slot
+	 */
+	public RenderedCriteria(
+			String jpaqlString,
+			ExplicitParameterInfo<?>[] explicitParameters,
+			String[][] literalParameterNames) {
+		this.jpaqlString = jpaqlString;
+		this.explicitParameters = explicitParameters;
+		this.literalParameterNames = literalParameterNames;
+	}
+
+	public String getJpaqlString() {
+		return jpaqlString;
+	}
+
+	public ExplicitParameterInfo<?> getExplicitParameter(int slot) {
+		return explicitParameters[slot];
+	}
+
+	public String[] getLiteralParameterNames(int slot) {
+		return literalParameterNames[slot];
+	}
+}
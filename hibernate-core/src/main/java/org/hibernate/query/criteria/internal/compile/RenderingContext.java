@@ -11,6 +11,7 @@ import javax.persistence.criteria.ParameterExpression;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.query.criteria.LiteralHandlingMode;
+import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 import org.hibernate.query.criteria.internal.expression.function.FunctionExpression;
 import org.hibernate.sql.ast.Clause;
 
@@ -46,6 +47,17 @@ public interface RenderingContext {
 	 */
 	String registerLiteralParameterBinding(Object literal, Class javaType);
 
+	/**
+	 * Register a literal of the criteria query bound as a parameter.
+	 *
+	 * @param literal The literal expression
+	 *
+	 * @return The JPA-QL parameter name
+	 */
+	default String registerLiteralParameterBinding(LiteralExpression<?> literal) {
+		return registerLiteralParameterBinding( literal.getLiteral(), literal.getJavaType() );
+	}
+
 	/**
 	 * Given a java type, determine the proper cast type name.
 	 *
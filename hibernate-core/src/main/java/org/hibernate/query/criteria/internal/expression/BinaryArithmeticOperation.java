@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.predicate.ImplicitNumericExpressionTypeDeterminer;
 
@@ -213,4 +214,11 @@ public class BinaryArithmeticOperation<N extends Number>
 				( (Renderable) getRightHandOperand() ).render( renderingContext )
 		);
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( getOperator() );
+		return structure.appendNode( getLeftHandOperand() )
+				&& structure.appendNode( getRightHandOperand() );
+	}
 }
@@ -15,6 +15,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -76,4 +77,9 @@ public class CoalesceExpression<T> extends ExpressionImpl<T> implements Coalesce
 		}
 		return buffer.append( ")" ).toString();
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		return structure.appendNodes( getExpressions() );
+	}
 }
@@ -18,6 +18,7 @@ import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
 import org.hibernate.query.criteria.internal.TupleElementImplementor;
 import org.hibernate.query.criteria.internal.ValueHandlerFactory;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -90,4 +91,11 @@ public class CompoundSelectionImpl<X>
 
 		return buff.toString();
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( isConstructor );
+		structure.append( getJavaType() );
+		return structure.appendNodes( selectionItems );
+	}
 }
@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -68,4 +69,10 @@ public class ConcatExpression extends ExpressionImpl<String> implements Serializ
 				+ " || "
 				+ ( (Renderable) getString2() ).render( renderingContext ) + ')' ;
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		return structure.appendNode( getString1() )
+				&& structure.appendNode( getString2() );
+	}
 }
@@ -12,8 +12,9 @@ import org.hibernate.query.criteria.LiteralHandlingMode;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.ValueHandlerFactory;
-import org.hibernate.query.criteria.internal.ValueHandlerFactory.ValueHandler;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
+import org.hibernate.sql.ast.Clause;
 
 /**
  * Represents a literal expression.
@@ -50,73 +51,101 @@ public class LiteralExpression<T> extends ExpressionImpl<T> implements Serializa
 
 	@Override
 	public String render(RenderingContext renderingContext) {
+		final Clause clause = renderingContext.getClauseStack().getCurrent();
+		final LiteralHandlingMode literalHandlingMode = renderingContext.getCriteriaLiteralHandlingMode();
+		if ( isBound( clause, literalHandlingMode ) ) {
+			return bindLiteral( renderingContext );
+		}
+
+		switch ( clause ) {
+			case SELECT:
+			case GROUP: {
+				return renderProjection();
+			}
+			default: {
+				return renderInline( renderingContext, literalHandlingMode );
+			}
+		}
+	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		if ( literal == null ) {
+			return false;
+		}
+
+		structure.append( getJavaType() );
+		final boolean bound = isBound(
+				structure.getClauseStack().getCurrent(),
+				structure.getCriteriaLiteralHandlingMode()
+		);
+		structure.append( bound );
+		if ( bound ) {
+			structure.appendLiteral( this );
+		}
+		else {
+			structure.append( literal );
+		}
+		return true;
+	}
+
+	/**
+	 * Is this literal bound as a parameter when rendered in the given clause, rather than rendered inline?
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean isBound(Clause clause, LiteralHandlingMode literalHandlingMode) {
 		// In the case of literals, we currently do not have an easy way to get the value.
 		// That would require some significant infrastructure changes.
-		// For now, we force the normalRender() code path for enums which means we will
+		// For now, we force the parameter binding code path for enums which means we will
 		// always use parameter binding for enum literals.
 		if ( literal instanceof Enum ) {
-			return normalRender( renderingContext, LiteralHandlingMode.BIND );
+			return true;
 		}
 
-		switch ( renderingContext.getClauseStack().getCurrent() ) {
-			case SELECT: {
-				return renderProjection( renderingContext );
-			}
+		switch ( clause ) {
+			case SELECT:
 			case GROUP: {
 				// technically a literal in the group-by clause
 				// would be a reference to the position of a selection
 				//
 				// but this is what the code used to do...
-				return renderProjection( renderingContext );
+				//
+				// some drivers/servers do not like parameters in the select clause
+				return ValueHandlerFactory.determineAppropriateHandler( literal.getClass() ) == null;
 			}
 			default: {
-				return normalRender( renderingContext, renderingContext.getCriteriaLiteralHandlingMode() );
+				switch ( literalHandlingMode ) {
+					case AUTO: {
+						return !ValueHandlerFactory.isNumeric( literal );
+					}
+					case BIND: {
+						return true;
+					}
+					case INLINE: {
+						return ValueHandlerFactory.determineAppropriateHandler( (Class) literal.getClass() ) == null;
+					}
+					default: {
+						throw new IllegalArgumentException( "Unexpected LiteralHandlingMode: " + literalHandlingMode );
+					}
+				}
 			}
 		}
 	}
 
 	@SuppressWarnings("unchecked")
-	private String normalRender(RenderingContext renderingContext, LiteralHandlingMode literalHandlingMode) {
-		switch ( literalHandlingMode ) {
-			case AUTO: {
-				if ( ValueHandlerFactory.isNumeric( literal ) ) {
-					return ValueHandlerFactory.determineAppropriateHandler( (Class) literal.getClass() ).render( literal );
-				}
-				else {
-					return bindLiteral( renderingContext );
-				}
-			}
-			case BIND: {
-				return bindLiteral( renderingContext );
-			}
-			case INLINE: {
-				Object literalValue = literal;
-				if ( String.class.equals( literal.getClass() ) ) {
-					literalValue = renderingContext.getDialect().inlineLiteral( (String) literal );
-				}
-
-				ValueHandler valueHandler = ValueHandlerFactory.determineAppropriateHandler( (Class) literal.getClass() );
-				if ( valueHandler == null ) {
-					return bindLiteral( renderingContext );
-				}
-
-				return ValueHandlerFactory.determineAppropriateHandler( (Class) literal.getClass() ).render( literalValue );
-			}
-			default: {
-				throw new IllegalArgumentException( "Unexpected LiteralHandlingMode: " + literalHandlingMode );
-			}
+	private String renderInline(RenderingContext renderingContext, LiteralHandlingMode literalHandlingMode) {
+		Object literalValue = literal;
+		if ( literalHandlingMode == LiteralHandlingMode.INLINE && String.class.equals( literal.getClass() ) ) {
+			literalValue = renderingContext.getDialect().inlineLiteral( (String) literal );
 		}
+
+		return ValueHandlerFactory.determineAppropriateHandler( (Class) literal.getClass() ).render( literalValue );
 	}
 
-	private String renderProjection(RenderingContext renderingContext) {
-		// some drivers/servers do not like parameters in the select clause
+	private String renderProjection() {
 		final ValueHandlerFactory.ValueHandler handler =
 				ValueHandlerFactory.determineAppropriateHandler( literal.getClass() );
 
-		if ( handler == null ) {
-			return normalRender( renderingContext, LiteralHandlingMode.BIND );
-		}
-
 		if ( ValueHandlerFactory.isCharacter( literal ) ) {
 			return '\'' + handler.render( literal ) + '\'';
 		}
@@ -126,7 +155,7 @@ public class LiteralExpression<T> extends ExpressionImpl<T> implements Serializa
 	}
 
 	private String bindLiteral(RenderingContext renderingContext) {
-		final String parameterName = renderingContext.registerLiteralParameterBinding( getLiteral(), getJavaType() );
+		final String parameterName = renderingContext.registerLiteralParameterBinding( this );
 		return ':' + parameterName;
 	}
 
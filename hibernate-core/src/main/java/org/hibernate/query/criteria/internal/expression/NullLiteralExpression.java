@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.function.CastFunction;
 import org.hibernate.sql.ast.Clause;
@@ -38,4 +39,10 @@ public class NullLiteralExpression<T> extends ExpressionImpl<T> implements Seria
 		// otherwise, just render `null`
 		return "null";
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( getJavaType() );
+		return true;
+	}
 }
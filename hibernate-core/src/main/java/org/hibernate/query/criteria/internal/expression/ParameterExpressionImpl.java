@@ -12,6 +12,7 @@ import javax.persistence.criteria.ParameterExpression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.compile.ExplicitParameterInfo;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -77,4 +78,13 @@ public class ParameterExpressionImpl<T>
 		final ExplicitParameterInfo parameterInfo = renderingContext.registerExplicitParameter( this );
 		return parameterInfo.render();
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( name );
+		structure.append( position );
+		structure.append( getJavaType() );
+		structure.appendParameter( this );
+		return true;
+	}
 }
@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.path.PluralAttributePath;
 
@@ -50,4 +51,9 @@ public class SizeOfPluralAttributeExpression
 	public String render(RenderingContext renderingContext) {
 		return "size(" + getPluralAttributePath().render( renderingContext ) + ")";
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		return structure.appendNode( getPluralAttributePath() );
+	}
 }
@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.ExpressionImpl;
 
@@ -51,4 +52,10 @@ public class BasicFunctionExpression<X>
 	public String render(RenderingContext renderingContext) {
 		return getFunctionName() + "()";
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( getFunctionName() );
+		return true;
+	}
 }
@@ -11,6 +11,7 @@ import java.util.Locale;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.ExpressionImpl;
 
@@ -61,4 +62,10 @@ public class CastFunction<T,Y>
 			renderingContext.getFunctionStack().pop();
 		}
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( getJavaType() );
+		return structure.appendNode( castSource );
+	}
 }
@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 
@@ -108,4 +109,16 @@ public class LocateFunction
 			renderingContext.getFunctionStack().pop();
 		}
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		if ( !structure.appendNode( getPattern() ) || !structure.appendNode( getString() ) ) {
+			return false;
+		}
+		if ( getStart() == null ) {
+			structure.append( null );
+			return true;
+		}
+		return structure.appendNode( getStart() );
+	}
 }
@@ -15,6 +15,7 @@ import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterContainer;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -115,6 +116,13 @@ public class ParameterizedFunctionExpression<X>
 		}
 	}
 
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( getFunctionName() );
+		structure.append( isStandardJpaFunction() );
+		return structure.appendNodes( argumentExpressions );
+	}
+
 	protected void renderArguments(StringBuilder buffer, RenderingContext renderingContext) {
 		String sep = "";
 		for ( Expression argument : argumentExpressions ) {
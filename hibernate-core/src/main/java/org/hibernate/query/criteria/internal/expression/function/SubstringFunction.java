@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 
@@ -112,4 +113,16 @@ public class SubstringFunction
 			renderingContext.getFunctionStack().pop();
 		}
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		if ( !structure.appendNode( getValue() ) || !structure.appendNode( getStart() ) ) {
+			return false;
+		}
+		if ( getLength() == null ) {
+			structure.append( null );
+			return true;
+		}
+		return structure.appendNode( getLength() );
+	}
 }
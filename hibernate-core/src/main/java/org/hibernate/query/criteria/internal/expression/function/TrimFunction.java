@@ -13,6 +13,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 
@@ -129,4 +130,17 @@ public class TrimFunction
 			renderingContext.getFunctionStack().pop();
 		}
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( trimspec );
+		if ( trimCharacter.getClass().isAssignableFrom( LiteralExpression.class ) ) {
+			// rendered inline
+			structure.append( ( (LiteralExpression<Character>) trimCharacter ).getLiteral() );
+		}
+		else if ( !structure.appendNode( trimCharacter ) ) {
+			return false;
+		}
+		return structure.appendNode( trimSource );
+	}
 }
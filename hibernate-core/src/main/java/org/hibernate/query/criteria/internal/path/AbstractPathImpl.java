@@ -21,6 +21,7 @@ import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.PathImplementor;
 import org.hibernate.query.criteria.internal.PathSource;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.ExpressionImpl;
 import org.hibernate.query.criteria.internal.expression.PathTypeExpression;
@@ -247,4 +248,15 @@ public abstract class AbstractPathImpl<X>
 			return getAttribute().getName();
 		}
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( getAttribute().getName() );
+		final PathSource<?> source = getPathSource();
+		if ( source == null ) {
+			structure.append( null );
+			return true;
+		}
+		return structure.appendNode( source );
+	}
 }
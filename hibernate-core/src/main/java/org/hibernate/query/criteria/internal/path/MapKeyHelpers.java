@@ -21,6 +21,7 @@ import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.MapJoinImplementor;
 import org.hibernate.query.criteria.internal.PathImplementor;
 import org.hibernate.query.criteria.internal.PathSource;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.persister.collection.CollectionPersister;
 
@@ -110,6 +111,12 @@ public class MapKeyHelpers {
 			}
 			return "key(" + name + ")";
 		}
+
+		@Override
+		public boolean appendStructure(CriteriaStructure structure) {
+			// the paths of map keys are not described
+			return false;
+		}
 	}
 
 	/**
@@ -176,6 +183,12 @@ public class MapKeyHelpers {
 			mapJoin.prepareAlias( renderingContext );
 		}
 
+		@Override
+		public boolean appendStructure(CriteriaStructure structure) {
+			// the paths of map keys are not described
+			return false;
+		}
+
 	}
 
 	/**
@@ -16,6 +16,7 @@ import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.PathSource;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -112,5 +113,11 @@ public class SingularAttributePath<X> extends AbstractPathImpl<X> implements Ser
 		public String render(RenderingContext renderingContext) {
 			return "treat(" + original.render( renderingContext ) + " as " + treatAsType.getName() + ")";
 		}
+
+		@Override
+		public boolean appendStructure(CriteriaStructure structure) {
+			// treated paths are not described
+			return false;
+		}
 	}
 }
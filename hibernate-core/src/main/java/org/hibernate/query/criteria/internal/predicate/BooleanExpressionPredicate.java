@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -47,4 +48,9 @@ public class BooleanExpressionPredicate
 	public String render(boolean isNegated, RenderingContext renderingContext) {
 		return ( (Renderable) getExpression() ).render( renderingContext );
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		return structure.appendNode( getExpression() );
+	}
 }
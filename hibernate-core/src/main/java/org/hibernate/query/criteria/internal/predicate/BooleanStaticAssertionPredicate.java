@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -47,4 +48,11 @@ public class BooleanStaticAssertionPredicate
 		return isTrue ? "1=1" : "0=1";
 	}
 
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( isNegated() );
+		structure.append( getAssertedValue() );
+		return true;
+	}
+
 }
@@ -16,6 +16,7 @@ import javax.persistence.criteria.Predicate;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -166,6 +167,13 @@ public class CompoundPredicate
 		return buffer.toString();
 	}
 
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		// the negation is already cooked into the expressions and operator
+		structure.append( getOperator() );
+		return structure.appendNodes( getExpressions() );
+	}
+
 	private static String operatorTextWithSeparator(BooleanOperator operator) {
 		return operator == BooleanOperator.AND
 				? " and "
@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -56,4 +57,11 @@ public class ExplicitTruthValueCheck
 				+ ( isNegated ? " <> " : " = " )
 				+ ( getTruthValue() == TruthValue.TRUE ? "true" : "false" );
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( isNegated() );
+		structure.append( getTruthValue() );
+		return structure.appendNode( getBooleanExpression() );
+	}
 }
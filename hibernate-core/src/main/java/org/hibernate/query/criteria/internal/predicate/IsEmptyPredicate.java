@@ -11,6 +11,7 @@ import java.util.Collection;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.UnaryOperatorExpression;
 import org.hibernate.query.criteria.internal.path.PluralAttributePath;
@@ -48,4 +49,10 @@ public class IsEmptyPredicate<C extends Collection>
 		final String operator = isNegated ? " is not empty" : " is empty";
 		return getOperand().render( renderingContext ) + operator;
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( isNegated() );
+		return structure.appendNode( getOperand() );
+	}
 }
@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 
@@ -120,4 +121,17 @@ public class LikePredicate extends AbstractSimplePredicate implements Serializab
 		}
 		return buffer.toString();
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( isNegated() );
+		if ( !structure.appendNode( getMatchExpression() ) || !structure.appendNode( getPattern() ) ) {
+			return false;
+		}
+		if ( escapeCharacter == null ) {
+			structure.append( null );
+			return true;
+		}
+		return structure.appendNode( getEscapeCharacter() );
+	}
 }
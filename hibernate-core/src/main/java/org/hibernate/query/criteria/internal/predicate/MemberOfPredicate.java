@@ -13,6 +13,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 import org.hibernate.query.criteria.internal.path.PluralAttributePath;
@@ -69,4 +70,11 @@ public class MemberOfPredicate<E, C extends Collection<E>>
 				+ ( isNegated ? " not" : "" ) + " member of "
 				+ getCollectionPath().render( renderingContext );
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( isNegated() );
+		return structure.appendNode( elementExpression )
+				&& structure.appendNode( getCollectionPath() );
+	}
 }
@@ -16,6 +16,7 @@ import javax.persistence.criteria.Predicate;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterContainer;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaStructure;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.ExpressionImpl;
 
@@ -102,4 +103,17 @@ public class NegatedPredicateWrapper extends ExpressionImpl<Boolean> implements
 	public String render(RenderingContext renderingContext) {
 		return render( isNegated(), renderingContext );
 	}
+
+	@Override
+	public boolean appendStructure(CriteriaStructure structure) {
+		structure.append( isJunction() );
+		if ( isJunction() ) {
+			structure.append( getOperator() );
+			return structure.appendNodes( getExpressions() );
+		}
+		else {
+			structure.append( isNegated() );
+			return structure.appendNode( predicate );
+		}
+	}
 }
@@ -6,9 +6,12 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
@@ -18,6 +21,7 @@ import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedSQLQueryDefinition;
+import org.hibernate.internal.util.ParallelHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.procedure.ProcedureCallMemento;
 
@@ -145,58 +149,87 @@ public class NamedQueryRepository {
 	}
 
 	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache) {
-		Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
+		return checkNamedQueries( queryPlanCache, 1 );
+	}
+
+	/**
+	 * Checks the named queries, translating them through the given query plan cache.
+	 *
+	 * @param queryPlanCache The query plan cache
+	 * @param threads The number of threads checking the queries in parallel, the queries being checked by the
+	 * calling thread when 1
+	 *
+	 * @return The errors of the failing queries, by query name
+	 */
+	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache, int threads) {
+		final Map<String,HibernateException> errors = new ConcurrentHashMap<>();
+		final List<Runnable> checks = new ArrayList<>( namedQueryDefinitionMap.size() + namedSqlQueryDefinitionMap.size() );
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", namedQueryDefinitionMap.size() );
 		for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
-				//TODO: BUG! this currently fails for named queries for non-POJO entities
-				queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
-			}
-			catch ( HibernateException e ) {
-				errors.put( namedQueryDefinition.getName(), e );
-			}
-
-
+			checks.add( () -> checkNamedQuery( namedQueryDefinition, queryPlanCache, errors ) );
 		}
 
 		// Check native-sql queries
 		log.debugf( "Checking %s named SQL queries", namedSqlQueryDefinitionMap.size() );
 		for ( NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
-				// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
-				// currently not doable though because of the resultset-ref stuff...
-				NativeSQLQuerySpecification spec;
-				if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
-					ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
-					if ( definition == null ) {
-						throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
-					}
-					spec = new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							definition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
-				}
-				else {
-					spec =  new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							namedSQLQueryDefinition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
+			checks.add( () -> checkNamedSQLQuery( namedSQLQueryDefinition, queryPlanCache, errors ) );
+		}
+
+		// unexpected exceptions fail as the check of the calling thread would
+		ParallelHelper.runInParallel( checks, threads, "hibernate-named-query-check-" );
+
+		return errors;
+	}
+
+	private void checkNamedQuery(
+			NamedQueryDefinition namedQueryDefinition,
+			QueryPlanCache queryPlanCache,
+			Map<String,HibernateException> errors) {
+		// this will throw an error if there's something wrong.
+		try {
+			log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
+			//TODO: BUG! this currently fails for named queries for non-POJO entities
+			queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
+		}
+		catch ( HibernateException e ) {
+			errors.put( namedQueryDefinition.getName(), e );
+		}
+	}
+
+	private void checkNamedSQLQuery(
+			NamedSQLQueryDefinition namedSQLQueryDefinition,
+			QueryPlanCache queryPlanCache,
+			Map<String,HibernateException> errors) {
+		// this will throw an error if there's something wrong.
+		try {
+			log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
+			// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
+			// currently not doable though because of the resultset-ref stuff...
+			NativeSQLQuerySpecification spec;
+			if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
+				ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
+				if ( definition == null ) {
+					throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
 				}
-				queryPlanCache.getNativeSQLQueryPlan( spec );
+				spec = new NativeSQLQuerySpecification(
+						namedSQLQueryDefinition.getQueryString(),
+						definition.getQueryReturns(),
+						namedSQLQueryDefinition.getQuerySpaces()
+				);
 			}
-			catch ( HibernateException e ) {
-				errors.put( namedSQLQueryDefinition.getName(), e );
+			else {
+				spec =  new NativeSQLQuerySpecification(
+						namedSQLQueryDefinition.getQueryString(),
+						namedSQLQueryDefinition.getQueryReturns(),
+						namedSQLQueryDefinition.getQuerySpaces()
+				);
 			}
+			queryPlanCache.getNativeSQLQueryPlan( spec );
+		}
+		catch ( HibernateException e ) {
+			errors.put( namedSQLQueryDefinition.getName(), e );
 		}
-
-		return errors;
 	}
 }
@@ -11,6 +11,7 @@ import java.sql.Clob;
 import java.sql.NClob;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.function.Consumer;
 
 /**
  * A registry for tracking JDBC resources
@@ -36,6 +37,18 @@ public interface ResourceRegistry {
 	 */
 	void register(Statement statement, boolean cancelable);
 
+	/**
+	 * Register a JDBC statement which is handed to the given action instead of being closed when released,
+	 * once its result sets have been closed.
+	 *
+	 * @param statement The statement to register.
+	 * @param cancelable Is the statement being registered capable of being cancelled?
+	 * @param releaseAction The action releasing the statement.
+	 */
+	default void register(Statement statement, boolean cancelable, Consumer<Statement> releaseAction) {
+		register( statement, cancelable );
+	}
+
 	/**
 	 * Release a previously registered statement.
 	 *
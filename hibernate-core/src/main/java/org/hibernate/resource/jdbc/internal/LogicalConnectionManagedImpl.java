@@ -40,7 +40,10 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 	private final transient PhysicalConnectionHandlingMode connectionHandlingMode;
 
+	private final transient JdbcSessionContext jdbcSessionContext;
+
 	private transient Connection physicalConnection;
+	private transient boolean physicalConnectionReadOnly;
 	private boolean closed;
 
 	private boolean providerDisablesAutoCommit;
@@ -51,6 +54,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			ResourceRegistry resourceRegistry,
 			JdbcServices jdbcServices) {
 		this.jdbcConnectionAccess = jdbcConnectionAccess;
+		this.jdbcSessionContext = jdbcSessionContext;
 		this.observer = jdbcSessionContext.getObserver();
 		this.resourceRegistry = resourceRegistry;
 
@@ -100,8 +104,15 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private Connection acquireConnectionIfNeeded() {
 		if ( physicalConnection == null ) {
 			// todo : is this the right place for these observer calls?
+			observer.jdbcConnectionAcquisitionStart();
 			try {
-				physicalConnection = jdbcConnectionAccess.obtainConnection();
+				if ( readOnlyTransaction || jdbcSessionContext.isReadOnlyConnectionPreferred() ) {
+					physicalConnection = jdbcConnectionAccess.obtainReadOnlyConnection();
+					physicalConnectionReadOnly = true;
+				}
+				else {
+					physicalConnection = jdbcConnectionAccess.obtainConnection();
+				}
 			}
 			catch (SQLException e) {
 				throw sqlExceptionHelper.convert( e, "Unable to acquire JDBC Connection" );
@@ -159,6 +170,11 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			log.debug( "Initiating JDBC connection release from afterTransaction" );
 			releaseConnection();
 		}
+		else if ( physicalConnectionReadOnly && !getResourceRegistry().hasRegisteredResources() ) {
+			// the connection to the read replica is only kept for the read-only transaction or operation
+			log.debug( "Initiating read-only JDBC connection release from afterTransaction" );
+			releaseConnection();
+		}
 	}
 
 	@Override
@@ -189,7 +205,12 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			if ( !physicalConnection.isClosed() ) {
 				sqlExceptionHelper.logAndClearWarnings( physicalConnection );
 			}
-			jdbcConnectionAccess.releaseConnection( physicalConnection );
+			if ( physicalConnectionReadOnly ) {
+				jdbcConnectionAccess.releaseReadOnlyConnection( physicalConnection );
+			}
+			else {
+				jdbcConnectionAccess.releaseConnection( physicalConnection );
+			}
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "Unable to release JDBC Connection" );
@@ -197,6 +218,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		finally {
 			observer.jdbcConnectionReleaseEnd();
 			physicalConnection = null;
+			physicalConnectionReadOnly = false;
 			getResourceRegistry().releaseResources();
 		}
 	}
@@ -251,9 +273,17 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	}
 
 	boolean initiallyAutoCommit;
+	private boolean readOnlyTransaction;
 
 	@Override
 	public void begin() {
+		readOnlyTransaction = jdbcSessionContext.isReadOnlyTransactionPreferred();
+		if ( physicalConnection != null && physicalConnectionReadOnly != readOnlyTransaction
+				&& !getResourceRegistry().hasRegisteredResources() ) {
+			// the connection is held across transactions, get the one of the database this transaction reads or writes
+			log.debug( "Initiating JDBC connection release to begin transaction" );
+			releaseConnection();
+		}
 		initiallyAutoCommit = !doConnectionsFromProviderHaveAutoCommitDisabled() && determineInitialAutoCommitMode(
 				getConnectionForTransactionManagement() );
 		super.begin();
@@ -263,6 +293,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	protected void afterCompletion() {
 		resetConnection( initiallyAutoCommit );
 		initiallyAutoCommit = false;
+		readOnlyTransaction = false;
 
 		afterTransaction();
 	}
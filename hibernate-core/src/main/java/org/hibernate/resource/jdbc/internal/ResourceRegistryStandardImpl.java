@@ -14,6 +14,8 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
@@ -58,6 +60,8 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private ArrayList<Clob> clobs;
 	private ArrayList<NClob> nclobs;
 
+	private IdentityHashMap<Statement, Consumer<Statement>> releaseActions;
+
 	private Statement lastQuery;
 
 	public ResourceRegistryStandardImpl() {
@@ -92,6 +96,15 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	@Override
+	public void register(Statement statement, boolean cancelable, Consumer<Statement> releaseAction) {
+		register( statement, cancelable );
+		if ( releaseActions == null ) {
+			releaseActions = new IdentityHashMap<>();
+		}
+		releaseActions.put( statement, releaseAction );
+	}
+
 	@Override
 	public void release(Statement statement) {
 		log.tracev( "Releasing statement [{0}]", statement );
@@ -106,7 +119,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		closeOrRelease( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -151,9 +164,19 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
+	private void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
 		closeAll( r );
-		close( s );
+		closeOrRelease( s );
+	}
+
+	private void closeOrRelease(Statement statement) {
+		final Consumer<Statement> releaseAction = releaseActions == null ? null : releaseActions.remove( statement );
+		if ( releaseAction == null ) {
+			close( statement );
+		}
+		else {
+			releaseAction.accept( statement );
+		}
 	}
 
 	@SuppressWarnings({"unchecked"})
@@ -320,8 +343,9 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcObserver.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		xref.forEach( this::releaseXref );
 		xref.clear();
+		releaseActions = null;
 
 		closeAll( unassociatedResultSets );
 
@@ -49,4 +49,24 @@ public interface JdbcSessionContext {
 	SessionFactoryImplementor getSessionFactory();
 
 	ServiceRegistry getServiceRegistry();
+
+	/**
+	 * Whether the physical connection about to be acquired will only be used for reading, in which case it
+	 * may be obtained through {@link org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess#obtainReadOnlyConnection()}.
+	 *
+	 * @return {@code true} if a read-only connection should be acquired
+	 */
+	default boolean isReadOnlyConnectionPreferred() {
+		return false;
+	}
+
+	/**
+	 * Whether the JDBC transaction about to begin will only read, in which case its physical connection may be
+	 * obtained through {@link org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess#obtainReadOnlyConnection()}.
+	 *
+	 * @return {@code true} if the transaction should use a read-only connection
+	 */
+	default boolean isReadOnlyTransactionPreferred() {
+		return false;
+	}
 }
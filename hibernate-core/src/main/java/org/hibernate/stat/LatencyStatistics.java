@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * The distribution of the durations of some recurring operation, such as obtaining JDBC connections.
+ * <p/>
+ * Durations are in nanoseconds.  Percentiles are approximated, within 1/16th of the actual duration.
+ */
+public interface LatencyStatistics extends Serializable {
+	/**
+	 * How many durations have been recorded?
+	 */
+	long getCount();
+
+	/**
+	 * What is the sum of all recorded durations?
+	 */
+	long getTotalTime();
+
+	/**
+	 * What is the longest recorded duration?
+	 */
+	long getMaxTime();
+
+	/**
+	 * The duration which the given percentage of recorded durations do not exceed.
+	 *
+	 * @param percentile The percentage, between 0 and 100
+	 *
+	 * @return The duration, or 0 if no duration was recorded
+	 */
+	long getPercentile(double percentile);
+
+	/**
+	 * What is the average recorded duration?
+	 */
+	default long getMeanTime() {
+		final long count = getCount();
+		return count == 0 ? 0 : getTotalTime() / count;
+	}
+
+	/**
+	 * What is the median recorded duration?
+	 */
+	default long getMedian() {
+		return getPercentile( 50 );
+	}
+
+	/**
+	 * The duration which 95% of recorded durations do not exceed.
+	 */
+	default long getPercentile95() {
+		return getPercentile( 95 );
+	}
+
+	/**
+	 * The duration which 99% of recorded durations do not exceed.
+	 */
+	default long getPercentile99() {
+		return getPercentile( 99 );
+	}
+
+	/**
+	 * The duration which 99.9% of recorded durations do not exceed.
+	 */
+	default long getPercentile999() {
+		return getPercentile( 99.9 );
+	}
+}
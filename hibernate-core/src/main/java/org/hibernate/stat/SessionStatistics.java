@@ -33,5 +33,14 @@ public interface SessionStatistics {
 	 * @see org.hibernate.engine.spi.CollectionKey
 	 */
 	Set getCollectionKeys();
+
+	/**
+	 * Get the number of entity instances the session may manage before evicting the least recently
+	 * accessed clean ones, {@code 0} if unlimited
+	 * @see org.hibernate.cfg.AvailableSettings#SESSION_MANAGED_ENTITY_LIMIT
+	 */
+	default int getManagedEntityLimit() {
+		return 0;
+	}
 	
 }
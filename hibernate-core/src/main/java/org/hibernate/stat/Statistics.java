@@ -386,4 +386,52 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the global number of query plans evicted from the cache to make room for others
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * Get the global number of prepared statements reused from the statement cache
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * Get the global number of prepared statements *not* found in the statement cache
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * Get the distribution of the time taken to obtain JDBC connections from the
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}, which grows when
+	 * the connection pool runs out of connections.
+	 *
+	 * @return The latency statistics, or {@code null} if not recorded by this implementation
+	 */
+	default LatencyStatistics getConnectionAcquisitionLatency() {
+		return null;
+	}
+
+	/**
+	 * Get the distribution of the time taken to execute JDBC statements and batches, not counting
+	 * the time taken to read the results.
+	 *
+	 * @return The latency statistics, or {@code null} if not recorded by this implementation
+	 */
+	default LatencyStatistics getStatementExecutionLatency() {
+		return null;
+	}
 }
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyStatistics;
+
+/**
+ * Lock-free {@link LatencyStatistics} counting durations in log-linear buckets: each power of two is split in
+ * 16 buckets, so that recording is a single atomic increment, and the buckets of all the durations a long can hold
+ * take less than 8 KB.
+ */
+public class LatencyHistogram implements LatencyStatistics {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	// durations below 2 * SUB_BUCKET_COUNT get a bucket each, the others share a bucket with the durations having
+	// the same highest bit and SUB_BUCKET_BITS next bits
+	private static final int BUCKET_COUNT = ( Long.SIZE - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+	private final AtomicLong maxTime = new AtomicLong();
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanos The duration, in nanoseconds
+	 */
+	public void record(long nanos) {
+		final long time = nanos < 0 ? 0 : nanos;
+		buckets.incrementAndGet( bucketIndex( time ) );
+		count.increment();
+		totalTime.add( time );
+		for ( long old = maxTime.get(); time > old && !maxTime.compareAndSet( old, time ); old = maxTime.get() ) {
+		}
+	}
+
+	static int bucketIndex(long time) {
+		if ( time < 2 * SUB_BUCKET_COUNT ) {
+			return (int) time;
+		}
+		final int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros( time );
+		final int shift = highestBit - SUB_BUCKET_BITS;
+		return ( shift + 1 ) * SUB_BUCKET_COUNT + (int) ( ( time >>> shift ) & ( SUB_BUCKET_COUNT - 1 ) );
+	}
+
+	/**
+	 * The longest duration counted in the given bucket.
+	 */
+	static long bucketMaxTime(int index) {
+		if ( index < 2 * SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKET_COUNT - 1;
+		final long lowest = (long) ( SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT ) << shift;
+		return lowest + ( ( 1L << shift ) - 1 );
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		final long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = buckets.get( i );
+			total += counts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+
+		final long rank = Math.max( 1, (long) Math.ceil( total * percentile / 100 ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			seen += counts[i];
+			if ( seen >= rank ) {
+				return Math.min( bucketMaxTime( i ), getMaxTime() );
+			}
+		}
+		return getMaxTime();
+	}
+
+	/**
+	 * Forget all recorded durations.
+	 */
+	public void clear() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			buckets.set( i, 0 );
+		}
+		count.reset();
+		totalTime.reset();
+		maxTime.set( 0 );
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram"
+				+ "[count=" + getCount()
+				+ ",meanTime=" + getMeanTime()
+				+ ",median=" + getMedian()
+				+ ",percentile99=" + getPercentile99()
+				+ ",maxTime=" + getMaxTime()
+				+ ']';
+	}
+}
@@ -39,11 +39,16 @@ public class SessionStatisticsImpl implements SessionStatistics {
 		return Collections.unmodifiableSet( session.getPersistenceContextInternal().getCollectionsByKey().keySet() );
 	}
 	
+	public int getManagedEntityLimit() {
+		return session.getFactory().getSessionFactoryOptions().getManagedEntityLimit();
+	}
+	
 	public String toString() {
 		return new StringBuilder()
 			.append("SessionStatistics[")
 			.append("entity count=").append( getEntityCount() )
 			.append(",collection count=").append( getCollectionCount() )
+			.append(",managed entity limit=").append( getManagedEntityLimit() )
 			.append(']')
 			.toString();
 	}
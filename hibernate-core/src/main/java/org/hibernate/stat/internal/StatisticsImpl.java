@@ -22,6 +22,7 @@ import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 import org.hibernate.service.spi.Manageable;
+import org.hibernate.stat.LatencyStatistics;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -87,6 +88,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
+
+	private final LatencyHistogram connectionAcquisitionLatency = new LatencyHistogram();
+	private final LatencyHistogram statementExecutionLatency = new LatencyHistogram();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -191,6 +199,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
+
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
+
+		connectionAcquisitionLatency.clear();
+		statementExecutionLatency.clear();
 
 		startTime = System.currentTimeMillis();
 	}
@@ -795,6 +810,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -813,6 +833,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -893,6 +918,46 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
+	@Override
+	public LatencyStatistics getConnectionAcquisitionLatency() {
+		return connectionAcquisitionLatency;
+	}
+
+	@Override
+	public LatencyStatistics getStatementExecutionLatency() {
+		return statementExecutionLatency;
+	}
+
+	@Override
+	public void connectionAcquisitionTime(long nanos) {
+		connectionAcquisitionLatency.record( nanos );
+	}
+
+	@Override
+	public void statementExecutionTime(long nanos) {
+		statementExecutionLatency.record( nanos );
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -986,6 +1051,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
 				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
+				.append( ",prepared statement cache hits=" ).append( preparedStatementCacheHitCount )
+				.append( ",prepared statement cache misses=" ).append( preparedStatementCacheMissCount )
+				.append( ",connection acquisition latency=" ).append( connectionAcquisitionLatency )
+				.append( ",statement execution latency=" ).append( statementExecutionLatency )
 				.append( ']' )
 				.toString();
 	}
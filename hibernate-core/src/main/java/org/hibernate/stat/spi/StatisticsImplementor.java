@@ -266,4 +266,39 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating a query plan was evicted from the query plan cache.
+	 */
+	default void queryPlanCacheEviction() {
+	}
+
+	/**
+	 * Callback indicating a prepared statement was reused from the statement cache.
+	 */
+	default void preparedStatementCacheHit() {
+	}
+
+	/**
+	 * Callback indicating a prepared statement was not found in the statement cache.
+	 */
+	default void preparedStatementCacheMiss() {
+	}
+
+	/**
+	 * Callback about the time taken to obtain a connection from the
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}.
+	 *
+	 * @param nanos The time taken, in nanoseconds
+	 */
+	default void connectionAcquisitionTime(long nanos) {
+	}
+
+	/**
+	 * Callback about the time taken to execute a JDBC statement or batch.
+	 *
+	 * @param nanos The time taken, in nanoseconds
+	 */
+	default void statementExecutionTime(long nanos) {
+	}
 }
@@ -21,12 +21,16 @@ import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.spi.Mapping;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
 import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 
+import org.jboss.logging.Logger;
+
 /**
  * Convenience base class for {@link BasicType} implementations
  *
@@ -37,6 +41,7 @@ public abstract class AbstractStandardBasicType<T>
 		implements BasicType, StringRepresentableType<T>, ProcedureParameterExtractionAware<T>, ProcedureParameterNamedBinder {
 
 	private static final Size DEFAULT_SIZE = new Size( 19, 2, 255, Size.LobMultiplier.NONE ); // to match legacy behavior
+	private static final Logger EXTRACTION_LOG = CoreLogging.logger( BasicExtractor.class );
 	private final Size dictatedSize = new Size();
 
 	// Don't use final here.  Need to initialize after-the-fact
@@ -122,6 +127,20 @@ public abstract class AbstractStandardBasicType<T>
 		this.sqlTypes = new int[] { sqlTypeDescriptor.getSqlType() };
 	}
 
+	/**
+	 * Can values be read with the primitive getter of the given descriptors, bypassing their extractor?  Only if
+	 * this type still uses these descriptors, the dialect does not remap the SQL one and extractions are not logged.
+	 */
+	protected final boolean isPrimitiveExtractionPossible(
+			SqlTypeDescriptor expectedSqlTypeDescriptor,
+			JavaTypeDescriptor<T> expectedJavaTypeDescriptor,
+			WrapperOptions options) {
+		return sqlTypeDescriptor == expectedSqlTypeDescriptor
+				&& javaTypeDescriptor == expectedJavaTypeDescriptor
+				&& options.remapSqlTypeDescriptor( sqlTypeDescriptor ) == sqlTypeDescriptor
+				&& !EXTRACTION_LOG.isTraceEnabled();
+	}
+
 	@Override
 	public final Class getReturnedClass() {
 		return javaTypeDescriptor.getJavaType();
@@ -7,10 +7,13 @@
 package org.hibernate.type;
 
 import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Comparator;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.IntegerTypeDescriptor;
 
 /**
@@ -20,7 +23,7 @@ import org.hibernate.type.descriptor.java.IntegerTypeDescriptor;
  * @author Steve Ebersole
  */
 public class IntegerType extends AbstractSingleColumnStandardBasicType<Integer>
-		implements PrimitiveType<Integer>, DiscriminatorType<Integer>, VersionType<Integer> {
+		implements PrimitiveType<Integer>, DiscriminatorType<Integer>, VersionType<Integer>, PrimitiveExtractionAware {
 
 	public static final IntegerType INSTANCE = new IntegerType();
 
@@ -74,4 +77,21 @@ public class IntegerType extends AbstractSingleColumnStandardBasicType<Integer>
 	public Comparator<Integer> getComparator() {
 		return getJavaTypeDescriptor().getComparator();
 	}
+
+	@Override
+	public boolean canExtractPrimitive(WrapperOptions options) {
+		// subclasses may extract differently
+		return getClass() == IntegerType.class
+				&& isPrimitiveExtractionPossible( org.hibernate.type.descriptor.sql.IntegerTypeDescriptor.INSTANCE, IntegerTypeDescriptor.INSTANCE, options );
+	}
+
+	@Override
+	public long extractLong(ResultSet rs, String name) throws SQLException {
+		return rs.getInt( name );
+	}
+
+	@Override
+	public Serializable wrapLong(long value) {
+		return Integer.valueOf( (int) value );
+	}
 }
@@ -7,10 +7,13 @@
 package org.hibernate.type;
 
 import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Comparator;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.LongTypeDescriptor;
 import org.hibernate.type.descriptor.sql.BigIntTypeDescriptor;
 
@@ -22,7 +25,7 @@ import org.hibernate.type.descriptor.sql.BigIntTypeDescriptor;
  */
 public class LongType
 		extends AbstractSingleColumnStandardBasicType<Long>
-		implements PrimitiveType<Long>, DiscriminatorType<Long>, VersionType<Long> {
+		implements PrimitiveType<Long>, DiscriminatorType<Long>, VersionType<Long>, PrimitiveExtractionAware {
 
 	public static final LongType INSTANCE = new LongType();
 
@@ -76,4 +79,21 @@ public class LongType
 	public String objectToSQLString(Long value, Dialect dialect) throws Exception {
 		return value.toString();
 	}
+
+	@Override
+	public boolean canExtractPrimitive(WrapperOptions options) {
+		// subclasses may extract differently
+		return getClass() == LongType.class
+				&& isPrimitiveExtractionPossible( BigIntTypeDescriptor.INSTANCE, LongTypeDescriptor.INSTANCE, options );
+	}
+
+	@Override
+	public long extractLong(ResultSet rs, String name) throws SQLException {
+		return rs.getLong( name );
+	}
+
+	@Override
+	public Serializable wrapLong(long value) {
+		return Long.valueOf( value );
+	}
 }
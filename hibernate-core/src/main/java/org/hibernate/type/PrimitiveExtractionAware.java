@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type;
+
+import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * Optional {@link Type} contract for integral types whose values can be extracted from a {@link ResultSet}
+ * as primitive {@code long}s, so that callers which only need to compare or look up the values, such as
+ * the identifiers of entities already in the persistence context, do not box them.
+ */
+public interface PrimitiveExtractionAware {
+	/**
+	 * Can values currently be extracted as primitive {@code long}s?  Not the case when the dialect remaps the
+	 * JDBC type, or when the extracted values are to be logged.
+	 *
+	 * @param options The options of the extraction, usually the session
+	 *
+	 * @return {@code true} indicates that {@link #extractLong} extracts the same value as {@code nullSafeGet()}
+	 */
+	boolean canExtractPrimitive(WrapperOptions options);
+
+	/**
+	 * Perform the extraction
+	 *
+	 * @param rs The result set from which to extract the value
+	 * @param name The name of the column
+	 *
+	 * @return The extracted value, meaningless if the column is SQL NULL as reported by {@link ResultSet#wasNull()}
+	 *
+	 * @throws SQLException Indicates an issue calling into the ResultSet
+	 */
+	long extractLong(ResultSet rs, String name) throws SQLException;
+
+	/**
+	 * Box an extracted value, giving the value {@code nullSafeGet()} would have returned.
+	 *
+	 * @param value The extracted value
+	 *
+	 * @return The boxed value
+	 */
+	Serializable wrapLong(long value);
+}
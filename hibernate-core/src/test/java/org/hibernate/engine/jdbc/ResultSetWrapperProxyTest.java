@@ -7,6 +7,7 @@
 package org.hibernate.engine.jdbc;
 
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,16 +24,20 @@ import org.mockito.Mockito;
 
 public class ResultSetWrapperProxyTest {
 
+	private ServiceRegistry serviceRegistry;
+
+	private ColumnNameCache columnNameCache;
+
 	private ResultSet resultSet;
 
 	private ResultSet resultSetProxy;
 
 	@Before
 	public void initialize() throws SQLException {
-		ServiceRegistry serviceRegistry = Mockito.mock( ServiceRegistry.class );
+		serviceRegistry = Mockito.mock( ServiceRegistry.class );
 		when( serviceRegistry.getService( eq( ClassLoaderService.class ) ) ).thenReturn( new ClassLoaderServiceImpl() );
 
-		ColumnNameCache columnNameCache = new ColumnNameCache( 2 );
+		columnNameCache = new ColumnNameCache( 2 );
 
 		resultSet = Mockito.mock( ResultSet.class );
 		when( resultSet.findColumn( eq( "myColumn" ) ) ).thenReturn( 1 );
@@ -75,6 +80,28 @@ public class ResultSetWrapperProxyTest {
 		verify( resultSet, times( 1 ) ).updateInt( 23, 19 );
 	}
 
+	@Test
+	public void testColumnResolvedOnceForSharedCache() throws SQLException {
+		resultSetProxy.getString( "myColumn" );
+
+		ResultSet otherResultSet = Mockito.mock( ResultSet.class );
+		ResultSet otherResultSetProxy = ResultSetWrapperProxy.generateProxy( otherResultSet, columnNameCache, serviceRegistry );
+		otherResultSetProxy.getString( "myColumn" );
+		otherResultSetProxy.getString( "myColumn" );
+
+		verify( resultSet, times( 1 ) ).findColumn( "myColumn" );
+		verify( otherResultSet, never() ).findColumn( "myColumn" );
+		verify( otherResultSet, times( 2 ) ).getString( 1 );
+	}
+
+	@Test
+	public void testFindColumn() throws SQLException {
+		resultSetProxy.findColumn( "myColumn" );
+		resultSetProxy.findColumn( "myColumn" );
+
+		verify( resultSet, times( 1 ) ).findColumn( "myColumn" );
+	}
+
 	@Test
 	public void testStandardMethod() throws SQLException {
 		resultSetProxy.getFetchSize();
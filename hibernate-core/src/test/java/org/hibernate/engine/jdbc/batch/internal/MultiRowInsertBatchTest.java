@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL82Dialect;
+import org.hibernate.dialect.SQLServer2008Dialect;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * The width of the statements of a {@link MultiRowInsertBatch}, and the parameters recorded for their rows.
+ */
+public class MultiRowInsertBatchTest extends BaseUnitTestCase {
+
+	@Test
+	public void testRowCountIsCappedByDialectLimits() {
+		assertEquals( 100, MultiRowInsertBatch.maxRowCount( 100, 30, new H2Dialect() ) );
+		// 2100 parameters at most
+		assertEquals( 70, MultiRowInsertBatch.maxRowCount( 100, 30, new SQLServer2008Dialect() ) );
+		// 1000 rows at most
+		assertEquals( 1000, MultiRowInsertBatch.maxRowCount( 5000, 2, new SQLServer2008Dialect() ) );
+		assertEquals( 1, MultiRowInsertBatch.maxRowCount( 100, 3000, new SQLServer2008Dialect() ) );
+		assertEquals( 1092, MultiRowInsertBatch.maxRowCount( 5000, 30, new PostgreSQL82Dialect() ) );
+	}
+
+	@Test
+	public void testParametersAreShiftedToTheirRow() throws Exception {
+		final PreparedStatement statement = mock( PreparedStatement.class );
+		final ParameterRecordingStatement recorder = new ParameterRecordingStatement( statement );
+		recorder.setLong( 1, 1L );
+		recorder.setString( 2, "first" );
+		recorder.setParameterOffset( 2 );
+		recorder.setLong( 1, 2L );
+		recorder.setString( 2, "discarded" );
+		recorder.clearParameters();
+		recorder.setLong( 1, 2L );
+		recorder.setNull( 2, Types.VARCHAR );
+		verify( statement, never() ).setLong( 1, 1L );
+
+		final PreparedStatement target = mock( PreparedStatement.class );
+		recorder.bind( target );
+		final InOrder inOrder = inOrder( target );
+		inOrder.verify( target ).setLong( 1, 1L );
+		inOrder.verify( target ).setString( 2, "first" );
+		inOrder.verify( target ).setLong( 3, 2L );
+		inOrder.verify( target ).setNull( 4, Types.VARCHAR );
+		verifyNoMoreInteractions( target );
+
+		// the other calls are passed on
+		recorder.setQueryTimeout( 5 );
+		verify( statement ).setQueryTimeout( 5 );
+	}
+}
@@ -0,0 +1,321 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PooledConnectionProviderTest {
+
+	private PooledConnectionProviderImpl provider;
+
+	@After
+	public void stopProvider() {
+		if ( provider != null ) {
+			provider.stop();
+		}
+	}
+
+	private PooledConnectionProviderImpl buildProvider(int maxSize, String... settings) {
+		return buildProvider( new PooledConnectionProviderImpl(), maxSize, settings );
+	}
+
+	private PooledConnectionProviderImpl buildProvider(
+			PooledConnectionProviderImpl provider,
+			int maxSize,
+			String... settings) {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "pooled" );
+		properties.put( AvailableSettings.POOL_SIZE, Integer.toString( maxSize ) );
+		for ( int i = 0; i < settings.length; i += 2 ) {
+			properties.put( settings[i], settings[i + 1] );
+		}
+		this.provider = provider;
+		provider.configure( properties );
+		return provider;
+	}
+
+	@Test
+	public void testReturnedConnectionIsReused() throws Exception {
+		buildProvider( 5 );
+		final Connection connection = provider.getConnection();
+		provider.closeConnection( connection );
+		assertSame( connection, provider.getConnection() );
+		assertEquals( 1, provider.getSize() );
+		provider.closeConnection( connection );
+		assertEquals( 1, provider.getIdleCount() );
+		assertEquals( 2, provider.getAcquisitionCount() );
+	}
+
+	@Test
+	public void testConcurrentBorrowing() throws Exception {
+		buildProvider( 8 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 64 );
+		try {
+			runQueries( executor, 64, 200 );
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertTrue( provider.getSize() <= 8 );
+		assertEquals( provider.getSize(), provider.getIdleCount() );
+		assertEquals( 64 * 200, provider.getAcquisitionCount() );
+		assertEquals( 0, provider.getAcquisitionTimeoutCount() );
+		assertTrue( provider.getMaxAcquisitionWaitNanos() <= provider.getTotalAcquisitionWaitNanos() );
+	}
+
+	@Test
+	public void testConcurrentBorrowingFromVirtualThreads() throws Exception {
+		final Method newVirtualThreadPerTaskExecutor;
+		try {
+			newVirtualThreadPerTaskExecutor = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+		}
+		catch (NoSuchMethodException e) {
+			Assume.assumeNoException( "Virtual threads are not available", e );
+			return;
+		}
+
+		buildProvider( 8 );
+		final ExecutorService executor = (ExecutorService) newVirtualThreadPerTaskExecutor.invoke( null );
+		try {
+			runQueries( executor, 1000, 20 );
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertTrue( provider.getSize() <= 8 );
+		assertEquals( 1000 * 20, provider.getAcquisitionCount() );
+	}
+
+	private void runQueries(ExecutorService executor, int tasks, int queriesPerTask) throws Exception {
+		final List<Future<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < tasks; i++ ) {
+			futures.add( executor.submit( () -> {
+				for ( int j = 0; j < queriesPerTask; j++ ) {
+					final Connection connection = provider.getConnection();
+					try ( Statement statement = connection.createStatement();
+							ResultSet resultSet = statement.executeQuery( "select 1" ) ) {
+						assertTrue( resultSet.next() );
+					}
+					finally {
+						provider.closeConnection( connection );
+					}
+				}
+				return null;
+			} ) );
+		}
+		for ( Future<?> future : futures ) {
+			future.get( 60, TimeUnit.SECONDS );
+		}
+	}
+
+	@Test
+	public void testAcquisitionTimesOut() throws Exception {
+		buildProvider( 1, PooledConnectionProviderImpl.ACQUISITION_TIMEOUT, "100" );
+		final Connection connection = provider.getConnection();
+		try {
+			provider.getConnection();
+			fail( "Expected the acquisition to time out" );
+		}
+		catch (HibernateException expected) {
+			assertEquals( 1, provider.getAcquisitionTimeoutCount() );
+			assertTrue( provider.getMaxAcquisitionWaitNanos() >= TimeUnit.MILLISECONDS.toNanos( 100 ) );
+		}
+		provider.closeConnection( connection );
+	}
+
+	@Test
+	public void testWaitingThreadGetsReturnedConnection() throws Exception {
+		buildProvider( 1 );
+		final Connection connection = provider.getConnection();
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<Connection> waiter = executor.submit( () -> provider.getConnection() );
+			while ( provider.getWaitingCount() == 0 ) {
+				Thread.sleep( 1 );
+			}
+			provider.closeConnection( connection );
+			final Connection handedOff = waiter.get( 10, TimeUnit.SECONDS );
+			assertSame( connection, handedOff );
+			provider.closeConnection( handedOff );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testConnectionReturnedBeforeWaitingIsNotMissed() throws Exception {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final Connection[] connection = new Connection[1];
+		// returns the connection once the borrowing thread found no idle connection, before it waits for one
+		buildProvider(
+				new PooledConnectionProviderImpl() {
+					@Override
+					void beforeWaiting() {
+						try {
+							executor.submit( () -> {
+								closeConnection( connection[0] );
+								return null;
+							} ).get( 10, TimeUnit.SECONDS );
+						}
+						catch (Exception e) {
+							throw new AssertionError( e );
+						}
+					}
+				},
+				1,
+				PooledConnectionProviderImpl.ACQUISITION_TIMEOUT, "2000"
+		);
+		try {
+			connection[0] = provider.getConnection();
+			final long start = System.nanoTime();
+			assertSame( connection[0], provider.getConnection() );
+			assertTrue( System.nanoTime() - start < TimeUnit.SECONDS.toNanos( 1 ) );
+			assertEquals( 0, provider.getAcquisitionTimeoutCount() );
+			provider.closeConnection( connection[0] );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testUncommittedWorkIsRolledBack() throws Exception {
+		buildProvider( 1 );
+		final Connection connection = provider.getConnection();
+		try ( Statement statement = connection.createStatement() ) {
+			statement.execute( "create table pooled_rollback (id integer)" );
+		}
+		try {
+			try ( Statement statement = connection.createStatement() ) {
+				statement.executeUpdate( "insert into pooled_rollback values (1)" );
+			}
+			provider.closeConnection( connection );
+
+			final Connection next = provider.getConnection();
+			assertSame( connection, next );
+			try ( Statement statement = next.createStatement();
+					ResultSet resultSet = statement.executeQuery( "select count(*) from pooled_rollback" ) ) {
+				assertTrue( resultSet.next() );
+				assertEquals( 0, resultSet.getInt( 1 ) );
+			}
+		}
+		finally {
+			try ( Statement statement = connection.createStatement() ) {
+				statement.execute( "drop table pooled_rollback" );
+			}
+			provider.closeConnection( connection );
+		}
+	}
+
+	@Test
+	public void testOnlyConnectionWithUncommittedWorkIsRolledBack() throws Exception {
+		final List<Connection> opened = new ArrayList<>();
+		buildProvider(
+				new PooledConnectionProviderImpl() {
+					@Override
+					Connection openConnection() {
+						final Connection connection = Mockito.spy( super.openConnection() );
+						opened.add( connection );
+						return connection;
+					}
+				},
+				1
+		);
+
+		provider.closeConnection( provider.getConnection() );
+		final Connection connection = provider.getConnection();
+		selectOne( connection );
+		connection.commit();
+		provider.closeConnection( connection );
+		assertEquals( 1, opened.size() );
+		verify( opened.get( 0 ), never() ).rollback();
+
+		selectOne( provider.getConnection() );
+		provider.closeConnection( connection );
+		verify( opened.get( 0 ), times( 1 ) ).rollback();
+	}
+
+	private static void selectOne(Connection connection) throws Exception {
+		try ( Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery( "select 1" ) ) {
+			assertTrue( resultSet.next() );
+		}
+	}
+
+	@Test
+	public void testExpiredConnectionIsRetired() throws Exception {
+		buildProvider( 2, PooledConnectionProviderImpl.MAX_LIFETIME, "50" );
+		final Connection connection = provider.getConnection();
+		Thread.sleep( 100 );
+		provider.closeConnection( connection );
+		assertTrue( connection.isClosed() );
+		assertEquals( 0, provider.getSize() );
+
+		final Connection replacement = provider.getConnection();
+		assertNotSame( connection, replacement );
+		provider.closeConnection( replacement );
+	}
+
+	@Test
+	public void testInvalidIdleConnectionIsRetired() throws Exception {
+		buildProvider( 2, PooledConnectionProviderImpl.VALIDATION_IDLE_TIME, "0" );
+		final Connection connection = provider.getConnection();
+		provider.closeConnection( connection );
+		// breaks the idle connection behind the pool's back
+		connection.close();
+
+		final Connection replacement = provider.getConnection();
+		assertNotSame( connection, replacement );
+		assertTrue( replacement.isValid( 1 ) );
+		assertEquals( 1, provider.getSize() );
+		provider.closeConnection( replacement );
+	}
+
+	@Test
+	public void testLeakIsDetected() throws Exception {
+		buildProvider(
+				2,
+				PooledConnectionProviderImpl.LEAK_DETECTION_THRESHOLD, "50",
+				DriverManagerConnectionProviderImpl.INITIAL_SIZE, "0"
+		);
+		final Connection connection = provider.getConnection();
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( provider.getDetectedLeakCount() == 0 && System.nanoTime() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertEquals( 1, provider.getDetectedLeakCount() );
+		provider.closeConnection( connection );
+	}
+}
@@ -6,14 +6,29 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.junit.Ignore;
 import org.junit.Test;
 
 import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IdentifierGeneratorHelper.BasicHolder;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -294,6 +309,77 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 
 	}
 
+	@Test
+	public void testBasicPooledLoPrefetchOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 3 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		for ( int i = 1; i <= 3; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+			assertEquals( 1, sequence.getTimesCalled() );
+			assertEquals( 1, sequence.getCurrentValue() );
+		}
+
+		// force a "clock over", the mock not supporting access from another thread
+		final Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPooledLoPrefetchOptimizerObtainsNextPoolInBackground() throws Exception {
+		final ConcurrentSourceMock sequence = new ConcurrentSourceMock( 10 );
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 10 );
+
+		for ( int i = 1; i <= 6; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		// half of the pool is consumed
+		sequence.awaitTimesCalledInBackground( 1 );
+
+		for ( int i = 7; i <= 15; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 11, ( (BasicHolder) optimizer.getLastSourceValue() ).getActualLongValue() );
+	}
+
+	@Test
+	public void testPooledLoPrefetchOptimizerConcurrentUsage() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 5000;
+		final ConcurrentSourceMock sequence = new ConcurrentSourceMock( 50 );
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 50 );
+
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						values.add( (Long) optimizer.generate( sequence ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals( threads * valuesPerThread, values.size() );
+		// at most the pools obtained in advance are skipped
+		assertTrue( Collections.max( values ) <= threads * valuesPerThread + 2 * 50 );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -314,6 +400,10 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoPrefetchOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_PREFETCH, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -381,4 +471,66 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		}
 	}
 
+	/**
+	 * A sequence starting with 1, supporting access from any thread.
+	 */
+	private static class ConcurrentSourceMock implements AccessCallback {
+		private final int increment;
+		private final AtomicInteger timesCalled = new AtomicInteger();
+		private final AtomicInteger timesCalledInBackground = new AtomicInteger();
+		private final AtomicLong nextValue = new AtomicLong( 1 );
+
+		public ConcurrentSourceMock(int increment) {
+			this.increment = increment;
+		}
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			timesCalled.incrementAndGet();
+			return nextHolder();
+		}
+
+		private IntegralDataTypeHolder nextHolder() {
+			return new BasicHolder( Long.class ).initialize( nextValue.getAndAdd( increment ) );
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+
+		@Override
+		public AccessCallback buildIsolatedCallback() {
+			return new AccessCallback() {
+				@Override
+				public IntegralDataTypeHolder getNextValue() {
+					timesCalledInBackground.incrementAndGet();
+					return nextHolder();
+				}
+
+				@Override
+				public String getTenantIdentifier() {
+					return null;
+				}
+			};
+		}
+
+		@Override
+		public Executor getIsolatedCallbackExecutor() {
+			return ForkJoinPool.commonPool();
+		}
+
+		public int getTimesCalled() {
+			return timesCalled.get();
+		}
+
+		public void awaitTimesCalledInBackground(int times) throws InterruptedException {
+			final long deadline = System.currentTimeMillis() + 10_000;
+			while ( timesCalledInBackground.get() < times ) {
+				assertTrue( "Not called in background", System.currentTimeMillis() < deadline );
+				Thread.sleep( 10 );
+			}
+		}
+	}
+
 }
@@ -0,0 +1,229 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpa.test.criteria;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaBuilder.In;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.test.BaseEntityManagerFunctionalTestCase;
+import org.hibernate.query.criteria.LiteralHandlingMode;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Criteria queries of the same structure share their JPQL rendering.  A query whose rendering is shared is not
+ * rendered, so the aliases of its roots are not generated.
+ */
+public class CriteriaStructureCachingTest extends BaseEntityManagerFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Player.class, Team.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE, LiteralHandlingMode.BIND );
+	}
+
+	@Before
+	public void createPlayers() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.createQuery( "delete from Player" ).executeUpdate();
+			entityManager.createQuery( "delete from Team" ).executeUpdate();
+			final Team team = new Team( 1L, "blue" );
+			entityManager.persist( team );
+			entityManager.persist( new Player( 1L, "first", 10, team ) );
+			entityManager.persist( new Player( 2L, "second", 20, team ) );
+			entityManager.persist( new Player( 3L, "third", 30, null ) );
+		} );
+	}
+
+	@Test
+	public void testQueriesBuiltAgainShareTheRenderingWithOtherLiterals() {
+		final CriteriaBuilder builder = entityManagerFactory().getCriteriaBuilder();
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final CriteriaQuery<Player> first = builder.createQuery( Player.class );
+			final Root<Player> firstPlayer = first.from( Player.class );
+			first.where(
+					builder.greaterThanOrEqualTo( firstPlayer.get( "score" ), 20 ),
+					builder.notEqual( firstPlayer.get( "name" ), "none" )
+			).orderBy( builder.asc( firstPlayer.get( "id" ) ) );
+			assertEquals( 2, entityManager.createQuery( first ).getResultList().size() );
+			assertNotNull( firstPlayer.getAlias() );
+
+			final CriteriaQuery<Player> second = builder.createQuery( Player.class );
+			final Root<Player> secondPlayer = second.from( Player.class );
+			second.where(
+					builder.greaterThanOrEqualTo( secondPlayer.get( "score" ), 10 ),
+					builder.notEqual( secondPlayer.get( "name" ), "second" )
+			).orderBy( builder.asc( secondPlayer.get( "id" ) ) );
+			final List<Player> players = entityManager.createQuery( second ).getResultList();
+			assertNull( secondPlayer.getAlias() );
+			assertEquals( 2, players.size() );
+			assertEquals( "first", players.get( 0 ).name );
+			assertEquals( "third", players.get( 1 ).name );
+		} );
+	}
+
+	@Test
+	public void testQueriesBuiltAgainShareTheRenderingWithOtherParameters() {
+		final CriteriaBuilder builder = entityManagerFactory().getCriteriaBuilder();
+		for ( int minScore = 10; minScore <= 30; minScore += 10 ) {
+			final int boundScore = minScore;
+			final int expectedCount = 4 - minScore / 10;
+			final boolean firstExecution = minScore == 10;
+			doInJPA( this::entityManagerFactory, entityManager -> {
+				final CriteriaQuery<Player> criteria = builder.createQuery( Player.class );
+				final Root<Player> player = criteria.from( Player.class );
+				final Join<Player, Team> team = player.join( "team", JoinType.LEFT );
+				team.on( builder.equal( team.get( "name" ), "blue" ) );
+				final ParameterExpression<Integer> score = builder.parameter( Integer.class );
+				criteria.where( builder.greaterThanOrEqualTo( player.get( "score" ), score ) );
+
+				final List<Player> players = entityManager.createQuery( criteria )
+						.setParameter( score, boundScore )
+						.getResultList();
+				assertEquals( expectedCount, players.size() );
+				if ( firstExecution ) {
+					assertNotNull( player.getAlias() );
+				}
+				else {
+					assertNull( player.getAlias() );
+				}
+			} );
+		}
+	}
+
+	@Test
+	public void testQueriesOfAnotherStructureAreRendered() {
+		final CriteriaBuilder builder = entityManagerFactory().getCriteriaBuilder();
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final CriteriaQuery<Player> byName = builder.createQuery( Player.class );
+			final Root<Player> byNamePlayer = byName.from( Player.class );
+			byName.where( builder.equal( byNamePlayer.get( "name" ), "first" ) );
+			assertEquals( 1, entityManager.createQuery( byName ).getResultList().size() );
+
+			// another operator
+			final CriteriaQuery<Player> byOtherName = builder.createQuery( Player.class );
+			final Root<Player> byOtherNamePlayer = byOtherName.from( Player.class );
+			byOtherName.where( builder.notEqual( byOtherNamePlayer.get( "name" ), "first" ) );
+			assertEquals( 2, entityManager.createQuery( byOtherName ).getResultList().size() );
+			assertNotNull( byOtherNamePlayer.getAlias() );
+
+			// another attribute
+			final CriteriaQuery<Player> byScore = builder.createQuery( Player.class );
+			final Root<Player> byScorePlayer = byScore.from( Player.class );
+			byScore.where( builder.equal( byScorePlayer.get( "score" ), 30 ) );
+			assertEquals( 3L, (long) entityManager.createQuery( byScore ).getSingleResult().id );
+			assertNotNull( byScorePlayer.getAlias() );
+		} );
+	}
+
+	@Test
+	public void testLiteralsRenderedInlineArePartOfTheStructure() {
+		final CriteriaBuilder builder = entityManagerFactory().getCriteriaBuilder();
+		for ( String label : new String[] { "player", "member" } ) {
+			doInJPA( this::entityManagerFactory, entityManager -> {
+				// literals are rendered inline in the select clause, even when binding the others
+				final CriteriaQuery<Tuple> criteria = builder.createTupleQuery();
+				final Root<Player> player = criteria.from( Player.class );
+				criteria.multiselect( player.get( "id" ).alias( "id" ), builder.literal( label ) )
+						.where( builder.equal( player.get( "name" ), "second" ) );
+				final List<Tuple> tuples = entityManager.createQuery( criteria ).getResultList();
+				assertEquals( 1, tuples.size() );
+				assertEquals( 2L, (long) tuples.get( 0 ).get( "id", Long.class ) );
+				assertEquals( label, tuples.get( 0 ).get( 1 ) );
+				assertNotNull( player.getAlias() );
+			} );
+		}
+	}
+
+	@Test
+	public void testQueryModifiedAfterExecution() {
+		final CriteriaBuilder builder = entityManagerFactory().getCriteriaBuilder();
+		final CriteriaQuery<Player> criteria = builder.createQuery( Player.class );
+		final Root<Player> player = criteria.from( Player.class );
+		final Join<Player, Team> team = player.join( "team", JoinType.LEFT );
+		team.on( builder.equal( team.get( "name" ), "blue" ) );
+		final In<String> names = builder.in( player.get( "name" ) );
+		names.value( "first" );
+		criteria.where( names, builder.isNotNull( team.get( "id" ) ) );
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			assertEquals( 1, entityManager.createQuery( criteria ).getResultList().size() );
+
+			// the values of a nested predicate are changed in place
+			names.value( "second" );
+			assertEquals( 2, entityManager.createQuery( criteria ).getResultList().size() );
+
+			// the condition of an existing join is replaced in place
+			team.on( builder.equal( team.get( "name" ), "red" ) );
+			assertEquals( 0, entityManager.createQuery( criteria ).getResultList().size() );
+		} );
+	}
+
+	@Entity(name = "Player")
+	@Table(name = "structure_player")
+	public static class Player {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private int score;
+
+		@ManyToOne
+		private Team team;
+
+		public Player() {
+		}
+
+		public Player(Long id, String name, int score, Team team) {
+			this.id = id;
+			this.name = name;
+			this.score = score;
+			this.team = team;
+		}
+	}
+
+	@Entity(name = "Team")
+	@Table(name = "structure_team")
+	public static class Team {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Team() {
+		}
+
+		public Team(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Set;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.LatencyStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JdbcLatencyStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Event.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.JMX_ENABLED, "true" );
+		settings.put( AvailableSettings.JMX_PLATFORM_SERVER, "true" );
+		settings.put( AvailableSettings.JMX_SF_NAME, "JdbcLatencyStatisticsTest" );
+	}
+
+	@Test
+	public void testLatenciesAreRecorded() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				session.persist( new Event( i ) );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Event" ).list();
+		} );
+
+		final LatencyStatistics connectionAcquisition = statistics.getConnectionAcquisitionLatency();
+		assertEquals( statistics.getConnectCount(), connectionAcquisition.getCount() );
+		assertEquals( 2, connectionAcquisition.getCount() );
+		assertTrue( connectionAcquisition.getMaxTime() >= connectionAcquisition.getMedian() );
+
+		final LatencyStatistics statementExecution = statistics.getStatementExecutionLatency();
+		assertTrue( statementExecution.getCount() >= 2 );
+		assertTrue( statementExecution.getTotalTime() > 0 );
+		assertTrue( statementExecution.getPercentile99() <= statementExecution.getMaxTime() );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getStatementExecutionLatency().getCount() );
+	}
+
+	@Test
+	public void testLatenciesAreNotRecordedWhenDisabled() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		statistics.setStatisticsEnabled( false );
+		try {
+			doInHibernate( this::sessionFactory, session -> {
+				session.createQuery( "from Event" ).list();
+			} );
+			assertEquals( 0, statistics.getConnectionAcquisitionLatency().getCount() );
+			assertEquals( 0, statistics.getStatementExecutionLatency().getCount() );
+		}
+		finally {
+			statistics.setStatisticsEnabled( true );
+		}
+	}
+
+	@Test
+	public void testLatenciesAreExposedThroughJmx() throws Exception {
+		sessionFactory().getStatistics().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Event" ).list();
+		} );
+
+		final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		final Set<ObjectName> names = mBeanServer.queryNames(
+				new ObjectName( "org.hibernate.core:sessionFactory=JdbcLatencyStatisticsTest,serviceRole=*,serviceType=*" ),
+				null
+		);
+		ObjectName statisticsName = null;
+		for ( ObjectName name : names ) {
+			if ( StatisticsImpl.class.getName().equals( name.getKeyProperty( "serviceType" ) ) ) {
+				statisticsName = name;
+			}
+		}
+		assertTrue( "Statistics MBean not registered: " + names, statisticsName != null );
+
+		final CompositeData latency = (CompositeData) mBeanServer.getAttribute(
+				statisticsName,
+				"StatementExecutionLatency"
+		);
+		assertEquals( 1L, latency.get( "count" ) );
+		assertTrue( (Long) latency.get( "percentile99" ) > 0 );
+		assertEquals( 1L, mBeanServer.getAttribute( statisticsName, "ConnectCount" ) );
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+		@Id
+		private Long id;
+
+		public Event() {
+		}
+
+		public Event(Long id) {
+			this.id = id;
+		}
+	}
+}
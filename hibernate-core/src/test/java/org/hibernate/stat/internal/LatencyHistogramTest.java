@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testBucketsCoverAllDurations() {
+		long previousMax = -1;
+		for ( int i = 0; LatencyHistogram.bucketMaxTime( i ) > previousMax && i < 2000; i++ ) {
+			final long lowest = previousMax + 1;
+			final long highest = LatencyHistogram.bucketMaxTime( i );
+			assertEquals( i, LatencyHistogram.bucketIndex( lowest ) );
+			assertEquals( i, LatencyHistogram.bucketIndex( highest ) );
+			// within 1/16th
+			assertTrue( highest - lowest <= lowest / 16 );
+			previousMax = highest;
+			if ( highest == Long.MAX_VALUE ) {
+				return;
+			}
+		}
+		throw new AssertionError( "Buckets do not cover all durations, last one ending at " + previousMax );
+	}
+
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals( 0, histogram.getPercentile( 99 ) );
+
+		for ( int i = 1; i <= 1000; i++ ) {
+			histogram.record( TimeUnit.MICROSECONDS.toNanos( i ) );
+		}
+		assertEquals( 1000, histogram.getCount() );
+		assertEquals( TimeUnit.MICROSECONDS.toNanos( 1000 ), histogram.getMaxTime() );
+		assertEquals( TimeUnit.MICROSECONDS.toNanos( 500500 ), histogram.getTotalTime() );
+		assertApproximately( TimeUnit.MICROSECONDS.toNanos( 500 ), histogram.getMedian() );
+		assertApproximately( TimeUnit.MICROSECONDS.toNanos( 950 ), histogram.getPercentile95() );
+		assertApproximately( TimeUnit.MICROSECONDS.toNanos( 990 ), histogram.getPercentile99() );
+		assertEquals( TimeUnit.MICROSECONDS.toNanos( 1000 ), histogram.getPercentile( 100 ) );
+		assertApproximately( TimeUnit.MICROSECONDS.toNanos( 1 ), histogram.getPercentile( 0 ) );
+
+		histogram.clear();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getMaxTime() );
+		assertEquals( 0, histogram.getMedian() );
+	}
+
+	private static void assertApproximately(long expected, long actual) {
+		assertTrue( "Expected about " + expected + " but was " + actual, Math.abs( expected - actual ) <= expected / 16 );
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidPercentile() {
+		new LatencyHistogram().getPercentile( 101 );
+	}
+
+	@Test
+	public void testConcurrentRecording() throws Exception {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < 8; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < 10000; j++ ) {
+						histogram.record( j );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 30, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertEquals( 80000, histogram.getCount() );
+		assertEquals( 9999, histogram.getMaxTime() );
+		assertApproximately( 5000, histogram.getMedian() );
+	}
+}
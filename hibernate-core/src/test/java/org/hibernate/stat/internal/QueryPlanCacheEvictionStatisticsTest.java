@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+public class QueryPlanCacheEvictionStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int MAX_SIZE = 10;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Employee.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, String.valueOf( MAX_SIZE ) );
+	}
+
+	@Test
+	public void testEvictionsAreCounted() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < MAX_SIZE; i++ ) {
+				session.createQuery( "from Employee e where e.id = " + i ).list();
+			}
+			assertEquals( 0, statistics.getQueryPlanCacheEvictionCount() );
+
+			for ( int i = MAX_SIZE; i < 3 * MAX_SIZE; i++ ) {
+				session.createQuery( "from Employee e where e.id = " + i ).list();
+			}
+		} );
+
+		assertEquals( 3 * MAX_SIZE, statistics.getQueryPlanCacheMissCount() );
+		assertEquals( 2 * MAX_SIZE, statistics.getQueryPlanCacheEvictionCount() );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.annotations.query;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedNativeQuery;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.SessionFactoryRegistry;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Named queries checked in parallel, see {@link AvailableSettings#QUERY_STARTUP_CHECKING_THREADS}.
+ */
+public class NamedQueryStartupCheckingTest extends BaseUnitTestCase {
+
+	@Test
+	public void testValidQueriesCheckedInParallel() {
+		final StandardServiceRegistry serviceRegistry = buildServiceRegistry( 4 );
+		try {
+			final SessionFactory sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Ticket.class )
+					.buildMetadata()
+					.buildSessionFactory();
+			try {
+				doInHibernate( () -> sessionFactory, session -> {
+					assertEquals( 0, session.getNamedQuery( "Ticket.byNumber" )
+							.setParameter( "number", "1" )
+							.list()
+							.size() );
+				} );
+			}
+			finally {
+				sessionFactory.close();
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Test
+	public void testErrorsCollectedInParallel() {
+		assertErrorsReported( 4 );
+	}
+
+	@Test
+	public void testErrorsCollectedSerially() {
+		assertErrorsReported( 1 );
+	}
+
+	private void assertErrorsReported(int threads) {
+		final StandardServiceRegistry serviceRegistry = buildServiceRegistry( threads );
+		try {
+			new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Ticket.class )
+					.addAnnotatedClass( InvalidQueries.class )
+					.buildMetadata()
+					.buildSessionFactory()
+					.close();
+			fail( "Invalid named queries were not reported" );
+		}
+		catch (HibernateException e) {
+			assertTrue( e.getMessage(), e.getMessage().startsWith( "Errors in named queries" ) );
+			assertTrue( e.getMessage(), e.getMessage().contains( "InvalidQueries.unknownEntity failed" ) );
+			assertTrue( e.getMessage(), e.getMessage().contains( "InvalidQueries.unknownProperty failed" ) );
+			assertFalse( e.getMessage(), e.getMessage().contains( "Ticket." ) );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+		assertFalse( SessionFactoryRegistry.INSTANCE.hasRegistrations() );
+	}
+
+	private StandardServiceRegistry buildServiceRegistry(int threads) {
+		return new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECKING_THREADS, threads )
+				.build();
+	}
+
+	@Entity(name = "Ticket")
+	@NamedQueries({
+			@NamedQuery(name = "Ticket.all", query = "from Ticket"),
+			@NamedQuery(name = "Ticket.byNumber", query = "from Ticket t where t.number = :number"),
+			@NamedQuery(name = "Ticket.count", query = "select count(t) from Ticket t"),
+			@NamedQuery(name = "Ticket.numbers", query = "select t.number from Ticket t order by t.number"),
+			@NamedQuery(name = "Ticket.deleteAll", query = "delete from Ticket")
+	})
+	@NamedNativeQuery(name = "Ticket.native", query = "select * from Ticket", resultClass = Ticket.class)
+	public static class Ticket {
+		@Id
+		private Long id;
+
+		private String number;
+	}
+
+	@Entity(name = "InvalidQueries")
+	@NamedQueries({
+			@NamedQuery(name = "InvalidQueries.unknownEntity", query = "from UnknownEntity"),
+			@NamedQuery(name = "InvalidQueries.unknownProperty", query = "select t.unknown from Ticket t")
+	})
+	public static class InvalidQueries {
+		@Id
+		private Long id;
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchBuilderImpl;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderMXBean;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.mockito.internal.util.MockUtil;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Batches of a size tuned by their execution time, see {@link AvailableSettings#STATEMENT_BATCH_ADAPTIVE}.
+ * The execution time of the batches is simulated by the statements of the connections.
+ */
+public class AdaptiveBatchSizeFunctionalTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int INITIAL_SIZE = 8;
+
+	private final SlowBatchConnectionProvider connectionProvider = new SlowBatchConnectionProvider();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Measurement.class, Sample.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( INITIAL_SIZE ) );
+		settings.put( AvailableSettings.STATEMENT_BATCH_ADAPTIVE, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_MIN_SIZE, "2" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_MAX_SIZE, "32" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testSizeGrowsWhenRoundTripsDominate() {
+		final BatchBuilder batchBuilder = serviceRegistry().getService( BatchBuilder.class );
+		assertTrue( batchBuilder instanceof AdaptiveBatchBuilderImpl );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 400; i++ ) {
+				session.persist( new Measurement( i, i * 0.5 ) );
+			}
+		} );
+
+		final int insertBatchSize = insertBatchSize( batchBuilder, Measurement.class );
+		assertTrue( "size " + insertBatchSize, insertBatchSize > INITIAL_SIZE );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 400L, session.createQuery( "select count(m) from Measurement m" ).uniqueResult() );
+			assertEquals( 100.0, session.get( Measurement.class, 200 ).reading, 0 );
+		} );
+	}
+
+	@Test
+	public void testSizeShrinksWhenLargeBatchesAreSlow() {
+		final BatchBuilder batchBuilder = serviceRegistry().getService( BatchBuilder.class );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 400; i++ ) {
+				session.persist( new Sample( i, i * 0.5 ) );
+			}
+		} );
+
+		final int insertBatchSize = insertBatchSize( batchBuilder, Sample.class );
+		assertTrue( "size " + insertBatchSize, insertBatchSize < INITIAL_SIZE );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 400L, session.createQuery( "select count(s) from Sample s" ).uniqueResult() );
+		} );
+	}
+
+	private static int insertBatchSize(BatchBuilder batchBuilder, Class<?> entityClass) {
+		final Map<String, Integer> batchSizes = ( (BatchBuilderMXBean) batchBuilder ).getJdbcBatchSizes();
+		final Integer insertBatchSize = batchSizes.get( entityClass.getName() + "#INSERT" );
+		assertTrue( batchSizes.toString(), insertBatchSize != null );
+		return insertBatchSize;
+	}
+
+	/**
+	 * Delays the execution of batches: the batches inserting measurements take a fixed round trip of 10ms, and
+	 * those inserting samples 500µs per square of their row count.
+	 */
+	private static class SlowBatchConnectionProvider extends ConnectionProviderDelegate {
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection pooledConnection = super.getConnection();
+			if ( MockUtil.isMock( pooledConnection ) ) {
+				// returned to the pool once instrumented
+				return pooledConnection;
+			}
+			final Connection connection = Mockito.spy( pooledConnection );
+			Mockito.doAnswer( invocation -> {
+				final PreparedStatement statement = Mockito.spy( (PreparedStatement) invocation.callRealMethod() );
+				final String sql = ( (String) invocation.getArguments()[0] ).toLowerCase( Locale.ROOT );
+				Mockito.doAnswer( batchInvocation -> {
+					final int[] rowCounts = (int[]) batchInvocation.callRealMethod();
+					if ( sql.startsWith( "insert into measurement" ) ) {
+						LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 10 ) );
+					}
+					else if ( sql.startsWith( "insert into sample" ) ) {
+						LockSupport.parkNanos( TimeUnit.MICROSECONDS.toNanos( 500L * rowCounts.length * rowCounts.length ) );
+					}
+					return rowCounts;
+				} ).when( statement ).executeBatch();
+				return statement;
+			} ).when( connection ).prepareStatement( ArgumentMatchers.anyString() );
+			return connection;
+		}
+	}
+
+	@Entity(name = "Measurement")
+	@Table(name = "measurement")
+	public static class Measurement {
+		@Id
+		private Integer id;
+
+		private double reading;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, double reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+	}
+
+	@Entity(name = "Sample")
+	@Table(name = "sample")
+	public static class Sample {
+		@Id
+		private Integer id;
+
+		private double reading;
+
+		public Sample() {
+		}
+
+		public Sample(Integer id, double reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+	}
+}
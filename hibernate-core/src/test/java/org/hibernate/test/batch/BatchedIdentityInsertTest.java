@@ -0,0 +1,301 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Inserts of IDENTITY keyed entities executed as JDBC batches, see {@link AvailableSettings#BATCH_IDENTITY_INSERTS}.
+ */
+@RequiresDialectFeature({
+		DialectChecks.SupportsJdbcDriverProxying.class,
+		DialectChecks.SupportsIdentityColumns.class,
+		DialectChecks.SupportsBatchedGetGeneratedKeys.class
+})
+public class BatchedIdentityInsertTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( true, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class, Publication.class, Magazine.class, Library.class, Shelf.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		settings.put( AvailableSettings.BATCH_IDENTITY_INSERTS, "true" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( String entityName : new String[] { "Shelf", "Library", "Book", "Author", "Publication" } ) {
+				session.createQuery( "delete from " + entityName ).executeUpdate();
+			}
+		} );
+	}
+
+	@Test
+	public void testPersistedEntitiesAreInsertedInBatches() throws Exception {
+		final List<Author> authors = new ArrayList<>();
+		doInHibernate( this::sessionFactory, session -> {
+			connectionProvider.clear();
+			for ( int i = 0; i < 8; i++ ) {
+				final Author author = new Author( "author " + i );
+				session.persist( author );
+				authors.add( author );
+			}
+			// delayed until flush time
+			assertNull( authors.get( 0 ).id );
+			assertEquals( 0, connectionProvider.getPreparedStatements().size() );
+		} );
+
+		final Set<Long> ids = new HashSet<>();
+		for ( Author author : authors ) {
+			assertNotNull( author.id );
+			ids.add( author.id );
+		}
+		assertEquals( 8, ids.size() );
+
+		final List<PreparedStatement> inserts = connectionProvider.getPreparedStatements(
+				connectionProvider.getPreparedSQLStatements().get( 0 )
+		);
+		assertEquals( 2, inserts.size() );
+		for ( PreparedStatement insert : inserts ) {
+			verify( insert ).executeBatch();
+			verify( insert, never() ).executeUpdate();
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Author author : authors ) {
+				assertEquals( author.name, session.get( Author.class, author.id ).name );
+			}
+		} );
+	}
+
+	@Test
+	public void testAssociatedEntitiesReferenceGeneratedIds() {
+		final Long authorId = doInHibernate( this::sessionFactory, session -> {
+			final Author author = new Author( "author" );
+			for ( int i = 0; i < 3; i++ ) {
+				author.books.add( new Book( author, "book " + i ) );
+			}
+			session.persist( author );
+			return author;
+		} ).id;
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Author author = session.get( Author.class, authorId );
+			assertEquals( 3, author.books.size() );
+			for ( Book book : author.books ) {
+				assertSame( author, book.author );
+			}
+		} );
+	}
+
+	@Test
+	public void testBackrefHoldsGeneratedOwnerId() {
+		final Long libraryId = doInHibernate( this::sessionFactory, session -> {
+			final Library library = new Library();
+			for ( int i = 0; i < 3; i++ ) {
+				library.shelves.add( new Shelf( "shelf " + i ) );
+			}
+			session.persist( library );
+			return library;
+		} ).id;
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 3, session.get( Library.class, libraryId ).shelves.size() );
+		} );
+	}
+
+	@Test
+	public void testQueryFlushesDelayedInserts() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Author author = new Author( "author" );
+			session.persist( author );
+			assertEquals( 1L, session.createQuery( "select count(a) from Author a" ).uniqueResult() );
+			assertNotNull( author.id );
+		} );
+	}
+
+	@Test
+	public void testSaveInsertsImmediately() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Author author = new Author( "author" );
+			assertNotNull( session.save( author ) );
+			assertNotNull( author.id );
+		} );
+	}
+
+	@Test
+	public void testSubclassTablesAreInsertedWithGeneratedIds() {
+		final List<Magazine> magazines = new ArrayList<>();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 4; i++ ) {
+				final Magazine magazine = new Magazine( "magazine " + i, i + 1 );
+				session.persist( magazine );
+				magazines.add( magazine );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Magazine magazine : magazines ) {
+				final Magazine loaded = (Magazine) session.get( Publication.class, magazine.id );
+				assertEquals( magazine.title, loaded.title );
+				assertEquals( magazine.issue, loaded.issue );
+			}
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "batched_author")
+	public static class Author {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "batched_book")
+	public static class Book {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		@ManyToOne
+		private Author author;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Author author, String title) {
+			this.author = author;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Library")
+	@Table(name = "batched_library")
+	public static class Library {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		@OneToMany(cascade = CascadeType.ALL)
+		@JoinColumn(name = "library_id", nullable = false)
+		private List<Shelf> shelves = new ArrayList<>();
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "batched_shelf")
+	public static class Shelf {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		public Shelf() {
+		}
+
+		public Shelf(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Publication")
+	@Table(name = "batched_publication")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Publication {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		protected Long id;
+
+		protected String title;
+
+		public Publication() {
+		}
+
+		public Publication(String title) {
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Magazine")
+	@Table(name = "batched_magazine")
+	public static class Magazine extends Publication {
+		private int issue;
+
+		public Magazine() {
+		}
+
+		public Magazine(String title, int issue) {
+			super( title );
+			this.issue = issue;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Batched inserts sent as multi-row statements, see {@link AvailableSettings#MULTI_ROW_INSERT_SIZE}.
+ */
+@RequiresDialectFeature({
+		DialectChecks.SupportsJdbcDriverProxying.class,
+		DialectChecks.SupportsMultiRowInsert.class
+})
+public class MultiRowInsertTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( true, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Category.class, Item.class, SpecialItem.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.MULTI_ROW_INSERT_SIZE, "4" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testRowsAreInsertedByMultiRowStatements() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Category( i, "category " + i ) );
+			}
+			connectionProvider.clear();
+		} );
+
+		// the statement of single rows only records their parameters
+		final List<String> inserts = connectionProvider.getPreparedSQLStatements();
+		assertEquals( 3, inserts.size() );
+		assertEquals( 1, valuesListCount( inserts.get( 0 ) ) );
+		assertEquals( 4, valuesListCount( inserts.get( 1 ) ) );
+		assertEquals( 2, valuesListCount( inserts.get( 2 ) ) );
+		verify( connectionProvider.getPreparedStatement( inserts.get( 0 ) ), never() ).executeUpdate();
+		verify( connectionProvider.getPreparedStatement( inserts.get( 0 ) ), never() ).executeBatch();
+		verify( connectionProvider.getPreparedStatement( inserts.get( 1 ) ), times( 2 ) ).executeUpdate();
+		verify( connectionProvider.getPreparedStatement( inserts.get( 2 ) ), times( 1 ) ).executeUpdate();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Category> categories = session.createQuery( "from Category order by id", Category.class )
+					.list();
+			assertEquals( 10, categories.size() );
+			for ( int i = 0; i < 10; i++ ) {
+				assertEquals( "category " + i, categories.get( i ).name );
+			}
+		} );
+	}
+
+	@Test
+	public void testRowsReferencingEachOther() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Category category = new Category( 1, "category" );
+			session.persist( category );
+			session.flush();
+			Item parent = null;
+			for ( int i = 0; i < 7; i++ ) {
+				final Item item = new SpecialItem( i, category, parent, "special " + i );
+				session.persist( item );
+				parent = item;
+			}
+			connectionProvider.clear();
+		} );
+
+		// the rows of both tables are inserted four at a time
+		assertEquals( 6, connectionProvider.getPreparedSQLStatements().size() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			assertEquals( 7, items.size() );
+			for ( int i = 1; i < 7; i++ ) {
+				assertSame( items.get( i - 1 ), items.get( i ).parent );
+			}
+			assertTrue( items.get( 6 ) instanceof SpecialItem );
+			assertEquals( "special 6", ( (SpecialItem) items.get( 6 ) ).detail );
+		} );
+	}
+
+	@Test
+	public void testEntityWithNullValues() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				session.persist( new Category( i, i % 2 == 0 ? null : "category " + i ) );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					2L,
+					session.createQuery( "select count(c) from Category c where c.name is not null" ).uniqueResult()
+			);
+		} );
+	}
+
+	private static int valuesListCount(String sql) {
+		return sql.split( "\\), \\(" ).length;
+	}
+
+	@Entity(name = "Category")
+	@Table(name = "category")
+	public static class Category {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "item")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Item {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Category category;
+
+		@ManyToOne
+		private Item parent;
+
+		public Item() {
+		}
+
+		public Item(Integer id, Category category, Item parent) {
+			this.id = id;
+			this.category = category;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "SpecialItem")
+	@Table(name = "special_item")
+	public static class SpecialItem extends Item {
+		private String detail;
+
+		public SpecialItem() {
+		}
+
+		public SpecialItem(Integer id, Category category, Item parent, String detail) {
+			super( id, category, parent );
+			this.detail = detail;
+		}
+	}
+}
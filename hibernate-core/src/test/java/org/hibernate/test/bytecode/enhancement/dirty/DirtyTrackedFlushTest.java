@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.NotifyingSelfDirtinessTracker;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Flushes only visiting the changed entities, see {@link AvailableSettings#FLUSH_TRACKED_DIRTY_ENTITIES_ONLY}.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+public class DirtyTrackedFlushTest extends BaseCoreFunctionalTestCase {
+
+    private static final int ITEM_COUNT = 10;
+
+    @Override
+    public Class<?>[] getAnnotatedClasses() {
+        return new Class<?>[]{ Item.class, Basket.class };
+    }
+
+    @Override
+    protected void configure(Configuration configuration) {
+        configuration.setProperty( AvailableSettings.FLUSH_TRACKED_DIRTY_ENTITIES_ONLY, "true" );
+    }
+
+    @Before
+    public void prepare() {
+        doInHibernate( this::sessionFactory, s -> {
+            s.createQuery( "delete from Basket" ).executeUpdate();
+            s.createQuery( "delete from Item" ).executeUpdate();
+            for ( int i = 0; i < ITEM_COUNT; i++ ) {
+                s.persist( new Item( i, "item " + i ) );
+            }
+            s.persist( new Basket( 1 ) );
+        } );
+    }
+
+    @Test
+    public void testOnlyChangedEntitiesAreVisited() {
+        doInHibernate( this::sessionFactory, s -> {
+            final List<Item> items = s.createQuery( "from Item order by id", Item.class ).list();
+            assertEquals( ITEM_COUNT, items.size() );
+            assertTrue( items.get( 0 ) instanceof NotifyingSelfDirtinessTracker );
+
+            s.flush();
+            assertEquals( 0, entriesToFlush( s ).length );
+
+            items.get( 3 ).name = "changed";
+            final Map.Entry<Object, EntityEntry>[] entries = entriesToFlush( s );
+            assertEquals( 1, entries.length );
+            assertSame( items.get( 3 ), entries[0].getKey() );
+        } );
+
+        doInHibernate( this::sessionFactory, s -> {
+            assertEquals( "changed", s.get( Item.class, 3 ).name );
+            assertEquals( "item 4", s.get( Item.class, 4 ).name );
+        } );
+    }
+
+    @Test
+    public void testChangesAreFlushed() {
+        doInHibernate( this::sessionFactory, s -> {
+            s.createQuery( "from Item", Item.class ).list();
+            s.flush();
+
+            s.get( Item.class, 1 ).name = "first";
+            s.flush();
+            s.get( Item.class, 2 ).name = "second";
+            // auto flush
+            assertEquals(
+                    2L,
+                    s.createQuery( "select count(i) from Item i where i.name in ('first', 'second')" ).uniqueResult()
+            );
+        } );
+    }
+
+    @Test
+    public void testRemoveUnchangedEntity() {
+        doInHibernate( this::sessionFactory, s -> {
+            s.createQuery( "from Item", Item.class ).list();
+            s.flush();
+            s.remove( s.get( Item.class, 5 ) );
+        } );
+
+        doInHibernate( this::sessionFactory, s -> {
+            assertNull( s.get( Item.class, 5 ) );
+        } );
+    }
+
+    @Test
+    public void testEvictedEntityIsNotVisited() {
+        doInHibernate( this::sessionFactory, s -> {
+            final Item item = s.get( Item.class, 6 );
+            s.flush();
+            s.evict( item );
+            item.name = "evicted";
+            assertEquals( 0, entriesToFlush( s ).length );
+        } );
+
+        doInHibernate( this::sessionFactory, s -> {
+            assertEquals( "item 6", s.get( Item.class, 6 ).name );
+        } );
+    }
+
+    @Test
+    public void testCollectionOwnerIsAlwaysVisited() {
+        doInHibernate( this::sessionFactory, s -> {
+            final Basket basket = s.get( Basket.class, 1 );
+            s.flush();
+            assertEquals( 1, entriesToFlush( s ).length );
+
+            basket.items.add( s.get( Item.class, 7 ) );
+        } );
+
+        doInHibernate( this::sessionFactory, s -> {
+            assertEquals( 1, s.get( Basket.class, 1 ).items.size() );
+        } );
+    }
+
+    private static Map.Entry<Object, EntityEntry>[] entriesToFlush(Session session) {
+        return ( (SessionImplementor) session ).getPersistenceContext().reentrantSafeEntityEntriesToFlush();
+    }
+
+    // --- //
+
+    @Entity( name = "Item" )
+    @Table( name = "ITEM" )
+    private static class Item {
+
+        @Id
+        Integer id;
+
+        String name;
+
+        Item() {
+        }
+
+        Item(Integer id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity( name = "Basket" )
+    @Table( name = "BASKET" )
+    private static class Basket {
+
+        @Id
+        Integer id;
+
+        @OneToMany
+        List<Item> items = new ArrayList<>();
+
+        Basket() {
+        }
+
+        Basket(Integer id) {
+            this.id = id;
+        }
+    }
+}
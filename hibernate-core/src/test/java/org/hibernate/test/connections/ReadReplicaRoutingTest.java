@@ -0,0 +1,295 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.connections;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.ReadReplicaConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ReadReplicaConnectionProvider;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Routes queries between two H2 databases, the primary holding "primary" rows and the replica "replica" ones.
+ */
+@RequiresDialect(H2Dialect.class)
+public class ReadReplicaRoutingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class, Note.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, ReadReplicaConnectionProviderImpl.class.getName() );
+		settings.put( AvailableSettings.CONNECTION_REPLICA_PREFIX + ".url", "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1" );
+		settings.put( AvailableSettings.CONNECTION_REPLICA_READ_YOUR_WRITES_WINDOW, "60000" );
+	}
+
+	@Before
+	public void prepareDatabases() throws SQLException {
+		final ReadReplicaConnectionProvider provider = serviceRegistry().getService( ConnectionProvider.class )
+				.unwrap( ReadReplicaConnectionProvider.class );
+
+		final Connection replicaConnection = provider.getReadOnlyConnection();
+		try {
+			execute(
+					replicaConnection,
+					"create table if not exists rr_item (id bigint not null, name varchar(255), primary key (id))",
+					"create table if not exists rr_note (id bigint not null, name varchar(255), primary key (id))",
+					"delete from rr_item",
+					"delete from rr_note",
+					"insert into rr_item (id, name) values (1, 'replica')",
+					"insert into rr_note (id, name) values (1, 'replica')"
+			);
+		}
+		finally {
+			provider.closeReadOnlyConnection( replicaConnection );
+		}
+
+		final Connection primaryConnection = provider.getConnection();
+		try {
+			execute(
+					primaryConnection,
+					"delete from rr_item",
+					"delete from rr_note",
+					"insert into rr_item (id, name) values (1, 'primary')",
+					"insert into rr_note (id, name) values (1, 'primary')"
+			);
+		}
+		finally {
+			provider.closeConnection( primaryConnection );
+		}
+	}
+
+	private static void execute(Connection connection, String... statements) throws SQLException {
+		try ( Statement statement = connection.createStatement() ) {
+			for ( String sql : statements ) {
+				statement.executeUpdate( sql );
+			}
+		}
+		if ( !connection.getAutoCommit() ) {
+			connection.commit();
+		}
+	}
+
+	@Test
+	public void testReadOnlyQueryReadsReplica() {
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "primary", session.createQuery( "select i.name from Item i", String.class ).uniqueResult() );
+		} );
+
+		inSession( session -> {
+			final String name = session.createQuery( "select i.name from Item i", String.class )
+					.setReadOnly( true )
+					.uniqueResult();
+			assertEquals( "replica", name );
+
+			// not read-only, so from the primary
+			assertEquals( "primary", session.createQuery( "select i.name from Item i", String.class ).uniqueResult() );
+		} );
+	}
+
+	@Test
+	public void testDefaultReadOnlySessionReadsReplica() {
+		inSession( session -> {
+			session.setDefaultReadOnly( true );
+			final Item item = session.createQuery( "from Item", Item.class ).uniqueResult();
+			assertEquals( "replica", item.name );
+			assertTrue( session.isReadOnly( item ) );
+		} );
+	}
+
+	@Test
+	public void testReadOnlyQueryInTransactionReadsPrimary() {
+		doInHibernate( this::sessionFactory, session -> {
+			final String name = session.createQuery( "select i.name from Item i", String.class )
+					.setReadOnly( true )
+					.uniqueResult();
+			assertEquals( "primary", name );
+		} );
+	}
+
+	@Test
+	public void testLoadOfDefaultReadOnlySessionReadsReplica() {
+		inSession( session -> {
+			session.setDefaultReadOnly( true );
+			assertEquals( "replica", session.get( Item.class, 1L ).name );
+		} );
+
+		inSession( session -> {
+			assertEquals( "primary", session.get( Item.class, 1L ).name );
+		} );
+
+		inSession( session -> {
+			session.setDefaultReadOnly( true );
+			assertEquals( "primary", session.get( Item.class, 1L, LockMode.PESSIMISTIC_WRITE ).name );
+		} );
+	}
+
+	@Test
+	public void testTransactionsOfDefaultReadOnlySessionReadReplica() {
+		inSession( session -> {
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			try {
+				assertEquals( "replica", session.get( Item.class, 1L ).name );
+				assertEquals( "replica", session.createQuery( "select n.name from Note n", String.class ).uniqueResult() );
+			}
+			finally {
+				session.getTransaction().commit();
+			}
+			session.clear();
+
+			// the connection is acquired again for each transaction
+			session.setDefaultReadOnly( false );
+			session.getTransaction().begin();
+			try {
+				assertEquals( "primary", session.get( Item.class, 1L ).name );
+			}
+			finally {
+				session.getTransaction().commit();
+			}
+			session.clear();
+
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			try {
+				assertEquals( "replica", session.get( Item.class, 1L ).name );
+			}
+			finally {
+				session.getTransaction().commit();
+			}
+		} );
+	}
+
+	@Test
+	public void testLockingQueryReadsPrimary() {
+		inSession( session -> {
+			final Item item = session.createQuery( "from Item i", Item.class )
+					.setReadOnly( true )
+					.setLockMode( "i", LockMode.PESSIMISTIC_WRITE )
+					.uniqueResult();
+			assertEquals( "primary", item.name );
+		} );
+	}
+
+	@Test
+	public void testNativeQueryReadsReplica() {
+		inSession( session -> {
+			final Object name = session.createNativeQuery( "select name from rr_item" )
+					.addSynchronizedEntityClass( Item.class )
+					.setReadOnly( true )
+					.uniqueResult();
+			assertEquals( "replica", name );
+
+			// without query spaces, the read-your-writes window can't be checked
+			final Object unsynchronized = session.createNativeQuery( "select name from rr_item" )
+					.setReadOnly( true )
+					.uniqueResult();
+			assertEquals( "primary", unsynchronized );
+		} );
+	}
+
+	@Test
+	public void testReadYourWritesWindow() {
+		inSession( session -> {
+			assertEquals( 1, readOnlyNoteNames( session ).size() );
+			assertEquals( "replica", readOnlyNoteNames( session ).get( 0 ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Note( 2L, "written" ) );
+		} );
+
+		// the replica may not have caught up with the write yet
+		inSession( session -> {
+			final List<String> names = readOnlyNoteNames( session );
+			assertEquals( 2, names.size() );
+			assertTrue( names.contains( "written" ) );
+
+			// notes were written, items were not
+			final String name = session.createQuery( "select i.name from Item i", String.class )
+					.setReadOnly( true )
+					.uniqueResult();
+			assertEquals( "replica", name );
+
+			session.setDefaultReadOnly( true );
+			assertEquals( "written", session.get( Note.class, 2L ).name );
+			assertEquals( "replica", session.get( Item.class, 1L ).name );
+		} );
+
+		// what a read-only transaction reads isn't known beforehand
+		inSession( session -> {
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			try {
+				assertEquals( "primary", session.get( Item.class, 1L ).name );
+			}
+			finally {
+				session.getTransaction().commit();
+			}
+		} );
+
+		// forget about the write
+		rebuildSessionFactory();
+	}
+
+	private static List<String> readOnlyNoteNames(Session session) {
+		return session.createQuery( "select n.name from Note n", String.class )
+				.setReadOnly( true )
+				.list();
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "rr_item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+
+	@Entity(name = "Note")
+	@Table(name = "rr_note")
+	public static class Note {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Note() {
+		}
+
+		public Note(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Auto flushes only dirty checking the entities which may affect the query spaces, see
+ * {@link AvailableSettings#AUTO_FLUSH_QUERY_SPACES_ONLY}.
+ */
+public class AutoFlushQuerySpacesOnlyTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private Long publisherId;
+	private Long unrelatedEntityId;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Publisher.class, Author.class, Book.class, UnrelatedEntity.class };
+	}
+
+	@Override
+	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
+		super.configureStandardServiceRegistryBuilder( ssrb );
+		ssrb.applySetting( AvailableSettings.GENERATE_STATISTICS, Boolean.TRUE.toString() );
+		ssrb.applySetting( AvailableSettings.AUTO_FLUSH_QUERY_SPACES_ONLY, Boolean.TRUE.toString() );
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.createQuery( "delete from Author" ).executeUpdate();
+			session.createQuery( "delete from Publisher" ).executeUpdate();
+			session.createQuery( "delete from UnrelatedEntity" ).executeUpdate();
+
+			final Publisher publisher = new Publisher( "publisher" );
+			session.persist( publisher );
+			final UnrelatedEntity unrelatedEntity = new UnrelatedEntity();
+			unrelatedEntity.setName( "unrelated" );
+			session.persist( unrelatedEntity );
+			publisherId = publisher.getId();
+			unrelatedEntityId = unrelatedEntity.getId();
+		} );
+	}
+
+	@Test
+	public void testChangeIsOnlyFlushedBeforeQueryOfItsTable() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( UnrelatedEntity.class, unrelatedEntityId );
+			session.get( Publisher.class, publisherId ).setName( "changed" );
+			final Statistics statistics = sessionFactory().getStatistics();
+			statistics.clear();
+
+			assertEquals( 1, session.createQuery( "from UnrelatedEntity" ).list().size() );
+			assertEquals( 0, statistics.getFlushCount() );
+
+			assertEquals( 1, session.createQuery( "from Publisher where name = 'changed'" ).list().size() );
+			assertEquals( 1, statistics.getFlushCount() );
+		} );
+	}
+
+	@Test
+	public void testChangeOfQueriedEntityIsFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( UnrelatedEntity.class, unrelatedEntityId ).setName( "changed" );
+			session.get( Publisher.class, publisherId );
+
+			assertEquals( 1, session.createQuery( "from UnrelatedEntity where name = 'changed'" ).list().size() );
+		} );
+	}
+
+	@Test
+	public void testCascadedNewEntityIsFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Publisher publisher = session.get( Publisher.class, publisherId );
+			final Author author = new Author( "author" );
+			author.setPublisher( publisher );
+			publisher.getAuthors().add( author );
+			final Statistics statistics = sessionFactory().getStatistics();
+			statistics.clear();
+
+			// the cascade from the publisher only happens with the flush
+			assertEquals( 1, session.createQuery( "from UnrelatedEntity" ).list().size() );
+			assertEquals( 0, statistics.getFlushCount() );
+			assertEquals( 2, session.getStatistics().getEntityCount() );
+
+			assertEquals( 1, session.createQuery( "from Author" ).list().size() );
+			assertEquals( 1, statistics.getFlushCount() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 1, session.get( Publisher.class, publisherId ).getAuthors().size() );
+		} );
+	}
+
+	@Test
+	public void testRemovedEntityIsFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.remove( session.get( UnrelatedEntity.class, unrelatedEntityId ) );
+
+			assertEquals( 1, session.createQuery( "from Publisher" ).list().size() );
+			assertEquals( 0, session.createQuery( "from UnrelatedEntity" ).list().size() );
+		} );
+	}
+}
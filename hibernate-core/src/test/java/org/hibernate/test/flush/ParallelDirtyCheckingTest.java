@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Flushes with the entity state read ahead in parallel, see
+ * {@link AvailableSettings#FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD}.
+ */
+public class ParallelDirtyCheckingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int CHILD_COUNT = 20;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Parent.class, Child.class, Note.class };
+	}
+
+	@Override
+	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
+		super.configureStandardServiceRegistryBuilder( ssrb );
+		ssrb.applySetting( AvailableSettings.GENERATE_STATISTICS, Boolean.TRUE.toString() );
+		ssrb.applySetting( AvailableSettings.FLUSH_PARALLEL_DIRTY_CHECKING_THRESHOLD, "1" );
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Note" ).executeUpdate();
+			session.createQuery( "delete from Child" ).executeUpdate();
+			session.createQuery( "delete from Parent" ).executeUpdate();
+			final Parent first = new Parent( 1, "first" );
+			session.persist( first );
+			session.persist( new Parent( 2, "second" ) );
+			for ( int i = 0; i < CHILD_COUNT; i++ ) {
+				session.persist( new Child( i, "child " + i, first ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testOnlyChangedEntitiesAreUpdated() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Child> children = session.createQuery( "from Child order by id", Child.class ).list();
+			final Statistics statistics = sessionFactory().getStatistics();
+			statistics.clear();
+
+			session.flush();
+			assertEquals( 0, statistics.getEntityUpdateCount() );
+
+			children.get( 3 ).name = "changed";
+			children.get( 7 ).name = "changed";
+			session.flush();
+			assertEquals( 2, statistics.getEntityUpdateCount() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					2L,
+					session.createQuery( "select count(c) from Child c where c.name = 'changed'" ).uniqueResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testChangedAssociationIsUpdated() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Child", Child.class ).list();
+			session.get( Child.class, 5 ).parent = session.load( Parent.class, 2 );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertSame( session.get( Parent.class, 2 ), session.get( Child.class, 5 ).parent );
+		} );
+	}
+
+	@Test
+	public void testRemovedEntityIsDeleted() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Child> children = session.createQuery( "from Child", Child.class ).list();
+			session.remove( children.get( 0 ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNull( session.get( Child.class, 0 ) );
+			assertEquals(
+					(long) CHILD_COUNT - 1,
+					session.createQuery( "select count(c) from Child c" ).uniqueResult()
+			);
+		} );
+	}
+
+	@Test
+	public void testChangeByCallbackOfEntityVisitedBeforeIsFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Note( 1, "note", session.load( Parent.class, 2 ) ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			// the note is visited before its parent, whose state was read ahead
+			final Note note = session.get( Note.class, 1 );
+			session.get( Parent.class, 2 );
+			note.text = "changed";
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "noted changed", session.get( Parent.class, 2 ).name );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, String name, Parent parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Note")
+	@Table(name = "note")
+	public static class Note {
+		@Id
+		private Integer id;
+
+		private String text;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String text, Parent parent) {
+			this.id = id;
+			this.text = text;
+			this.parent = parent;
+		}
+
+		@PreUpdate
+		public void renameParent() {
+			parent.name = "noted " + text;
+		}
+	}
+}
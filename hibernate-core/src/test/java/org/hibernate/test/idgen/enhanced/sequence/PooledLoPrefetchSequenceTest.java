@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.idgen.enhanced.sequence;
+
+import org.junit.Test;
+
+import org.hibernate.id.enhanced.IsolatedAccessExecutor;
+import org.hibernate.id.enhanced.PooledLoPrefetchOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.BasicHolder;
+import static org.hibernate.testing.junit4.ExtraAssertions.assertClassAssignability;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RequiresDialectFeature(DialectChecks.SupportsSequences.class)
+public class PooledLoPrefetchSequenceTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "idgen/enhanced/sequence/PooledLoPrefetch.hbm.xml" };
+	}
+
+	@Test
+	public void testNextPoolObtainedInBackground() throws Exception {
+		EntityPersister persister = sessionFactory().getEntityPersister( Entity.class.getName() );
+		assertClassAssignability( SequenceStyleGenerator.class, persister.getIdentifierGenerator().getClass() );
+		SequenceStyleGenerator generator = ( SequenceStyleGenerator ) persister.getIdentifierGenerator();
+		assertClassAssignability( PooledLoPrefetchOptimizer.class, generator.getOptimizer().getClass() );
+		PooledLoPrefetchOptimizer optimizer = (PooledLoPrefetchOptimizer) generator.getOptimizer();
+
+		int increment = optimizer.getIncrementSize();
+		Entity[] entities = new Entity[ increment * 2 ];
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i <= increment / 2; i++ ) {
+				entities[i] = new Entity( "" + ( i + 1 ) );
+				session.save( entities[i] );
+			}
+		} );
+
+		// the low water mark was crossed, so the next pool is obtained through another connection
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while ( generator.getDatabaseStructure().getTimesAccessed() < 2 ) {
+			assertTrue( "Next pool not obtained", System.currentTimeMillis() < deadline );
+			Thread.sleep( 10 );
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = increment / 2 + 1; i < entities.length; i++ ) {
+				entities[i] = new Entity( "" + ( i + 1 ) );
+				session.save( entities[i] );
+			}
+			assertEquals( increment + 1, ( (BasicHolder) optimizer.getLastSourceValue() ).getActualLongValue() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < entities.length; i++ ) {
+				assertEquals( i + 1, entities[i].getId().intValue() );
+				session.delete( entities[i] );
+			}
+		} );
+	}
+
+	@Test
+	public void testExecutorIsShutDownWithSessionFactory() {
+		IsolatedAccessExecutor executor = sessionFactory().getServiceRegistry().getService( IsolatedAccessExecutor.class );
+		assertFalse( executor.isShutdown() );
+		rebuildSessionFactory();
+		assertTrue( executor.isShutdown() );
+	}
+}
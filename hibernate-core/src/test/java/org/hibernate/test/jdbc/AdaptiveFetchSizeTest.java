@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.internal.AdaptiveFetchSize;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Fetch sizes growing with the rows read, see {@link AvailableSettings#STATEMENT_FETCH_SIZE_ADAPTIVE}.
+ */
+public class AdaptiveFetchSizeTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int ROWS = 100;
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( true, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Reading.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_FETCH_SIZE_ADAPTIVE, "true" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Reading" ).executeUpdate();
+			for ( int i = 0; i < ROWS; i++ ) {
+				session.persist( new Reading( i, "reading " + i ) );
+			}
+		} );
+		connectionProvider.clear();
+	}
+
+	@Test
+	public void testFetchSizeDoublesUpToMaximum() {
+		final List<Integer> fetchSizes = new ArrayList<>();
+		final ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class[] { ResultSet.class },
+				(proxy, method, args) -> {
+					if ( method.getName().equals( "setFetchSize" ) ) {
+						fetchSizes.add( (Integer) args[0] );
+					}
+					return null;
+				}
+		);
+
+		final AdaptiveFetchSize fetchSize = new AdaptiveFetchSize( resultSet, 16, 100 );
+		for ( int i = 0; i < 500; i++ ) {
+			fetchSize.rowRead();
+		}
+		assertEquals( asList( 32, 64, 100 ), fetchSizes );
+		assertEquals( 100, fetchSize.getFetchSize() );
+	}
+
+	@Test
+	public void testMaxFetchSizeFitsInMemory() {
+		assertEquals( 1000, AdaptiveFetchSize.maxFetchSize( 100_000, 100 ) );
+		assertEquals( 1, AdaptiveFetchSize.maxFetchSize( 100, 1000 ) );
+	}
+
+	@Test
+	public void testListStartsWithInitialFetchSize() throws SQLException {
+		final String hql = "from Reading order by id";
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( ROWS, session.createQuery( hql, Reading.class ).list().size() );
+		} );
+		verifyFetchSize( AdaptiveFetchSize.DEFAULT_INITIAL_FETCH_SIZE );
+	}
+
+	@Test
+	public void testScrollReadsAllRows() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			int count = 0;
+			try ( ScrollableResults results = session.createQuery( "from Reading order by id" )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					assertEquals( count++, ( (Reading) results.get( 0 ) ).id );
+				}
+			}
+			assertEquals( ROWS, count );
+		} );
+		verifyFetchSize( AdaptiveFetchSize.DEFAULT_INITIAL_FETCH_SIZE );
+	}
+
+	@Test
+	public void testMaxResultsCapFetchSize() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 5, session.createQuery( "from Reading order by id", Reading.class )
+					.setMaxResults( 5 )
+					.list()
+					.size() );
+		} );
+		verifyFetchSize( 5 );
+	}
+
+	@Test
+	public void testExplicitFetchSizeIsHonored() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( ROWS, session.createQuery( "from Reading", Reading.class )
+					.setFetchSize( 7 )
+					.list()
+					.size() );
+		} );
+		final PreparedStatement statement = connectionProvider.getPreparedStatements().get( 0 );
+		verify( statement ).setFetchSize( 7 );
+		verify( statement, never() ).setFetchSize( AdaptiveFetchSize.DEFAULT_INITIAL_FETCH_SIZE );
+	}
+
+	private void verifyFetchSize(int fetchSize) throws SQLException {
+		verify( connectionProvider.getPreparedStatements().get( 0 ) ).setFetchSize( fetchSize );
+	}
+
+	@Entity(name = "Reading")
+	@Table(name = "adaptive_reading")
+	public static class Reading {
+		@Id
+		private int id;
+
+		private String value;
+
+		public Reading() {
+		}
+
+		public Reading(int id, String value) {
+			this.id = id;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.internal.PreparedStatementCacheImpl;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Prepared statements reused between sessions, see {@link AvailableSettings#STATEMENT_CACHE_SIZE}.
+ */
+public class PreparedStatementCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int CACHE_SIZE = 3;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.STATEMENT_CACHE_SIZE, Integer.toString( CACHE_SIZE ) );
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Product" ).executeUpdate();
+			for ( int i = 0; i < 5; i++ ) {
+				session.persist( new Product( i, "product " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testStatementIsReusedByLaterSession() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "product 1", session.get( Product.class, 1 ).name );
+		} );
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "product 2", session.get( Product.class, 2 ).name );
+		} );
+		assertEquals( 1, statistics.getPreparedStatementCacheHitCount() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testReusedStatementIsBoundAgain() {
+		final String hql = "from Product where id >= :id order by id";
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 2, session.createQuery( hql, Product.class ).setParameter( "id", 3 ).list().size() );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Product> products = session.createQuery( hql, Product.class )
+					.setParameter( "id", 1 )
+					.setFetchSize( 1 )
+					.list();
+			assertEquals( 4, products.size() );
+			assertEquals( "product 1", products.get( 0 ).name );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Product.class, 4 ).name = "changed";
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed", session.get( Product.class, 4 ).name );
+		} );
+		assertTrue( sessionFactory().getStatistics().getPreparedStatementCacheHitCount() > 0 );
+	}
+
+	@Test
+	public void testCacheIsBoundedPerConnection() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				session.createQuery( "from Product where id > " + i ).list();
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final PreparedStatementCacheImpl cache = (PreparedStatementCacheImpl) serviceRegistry()
+					.getService( JdbcServices.class )
+					.getPreparedStatementCache();
+			assertEquals(
+					CACHE_SIZE,
+					(int) session.doReturningWork( cache::getCachedStatementCount )
+			);
+		} );
+	}
+
+	@Test
+	public void testStatementsOfEvictedConnectionAreClosedByItsNextUse() throws Exception {
+		final String url = String.format( ConnectionProviderBuilder.URL_FORMAT, "statement_cache" );
+		final PreparedStatementCacheImpl cache = new PreparedStatementCacheImpl( CACHE_SIZE, 1 );
+		try ( Connection first = DriverManager.getConnection( url, ConnectionProviderBuilder.USER, ConnectionProviderBuilder.PASS );
+				Connection second = DriverManager.getConnection( url, ConnectionProviderBuilder.USER, ConnectionProviderBuilder.PASS ) ) {
+			final PreparedStatement firstStatement = first.prepareStatement( "select 1" );
+			cache.release( first, "select 1", ResultSet.TYPE_FORWARD_ONLY, firstStatement );
+			final PreparedStatement secondStatement = second.prepareStatement( "select 1" );
+			cache.release( second, "select 1", ResultSet.TYPE_FORWARD_ONLY, secondStatement );
+
+			// evicted by the thread using the second connection, but still open as the first one may be in use
+			assertFalse( firstStatement.isClosed() );
+			assertEquals( 0, cache.getCachedStatementCount( first ) );
+
+			assertNull( cache.take( first, "select 1", ResultSet.TYPE_FORWARD_ONLY ) );
+			assertTrue( firstStatement.isClosed() );
+			assertFalse( secondStatement.isClosed() );
+
+			cache.close();
+			assertTrue( secondStatement.isClosed() );
+		}
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSize;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tunes batch sizes by simulated execution times.
+ */
+public class AdaptiveBatchSizeTest extends BaseUnitTestCase {
+
+	@Test
+	public void testSizeGrowsWhileRoundTripsDominate() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize( 10, 1, 200 );
+		// a round trip of 1ms and 10µs per row
+		execute( batchSize, 40, size -> 1_000_000L + 10_000L * size );
+		assertEquals( 200, batchSize.getSize() );
+	}
+
+	@Test
+	public void testSizeShrinksWhenLargeBatchesAreSlow() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize( 160, 1, 1000 );
+		// rows get slower beyond 20 rows per batch
+		execute( batchSize, 40, AdaptiveBatchSizeTest::costWithOptimumAt20 );
+		assertTrue( "size " + batchSize.getSize(), batchSize.getSize() >= 10 && batchSize.getSize() <= 40 );
+	}
+
+	@Test
+	public void testSizeSettlesAtTheOptimum() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize( 20, 1, 1000 );
+		int periodsAtOptimum = 0;
+		for ( int i = 0; i < 200; i++ ) {
+			execute( batchSize, 1, AdaptiveBatchSizeTest::costWithOptimumAt20 );
+			if ( batchSize.getSize() == 20 ) {
+				periodsAtOptimum++;
+			}
+		}
+		// steps away from the optimum are probed less and less often
+		assertTrue( "periods at optimum " + periodsAtOptimum, periodsAtOptimum > 150 );
+	}
+
+	@Test
+	public void testSizeStaysWithinBounds() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize( 500, 5, 50 );
+		assertEquals( 50, batchSize.getSize() );
+		execute( batchSize, 40, size -> 1_000_000L * size * size );
+		assertTrue( batchSize.getSize() >= 5 && batchSize.getSize() <= 50 );
+	}
+
+	private static long costWithOptimumAt20(int size) {
+		return 100_000L + 10_000L * size + ( size > 20 ? 2_000L * ( size - 20 ) * ( size - 20 ) : 0 );
+	}
+
+	/**
+	 * Executes the given number of sample periods of full batches.
+	 */
+	private static void execute(AdaptiveBatchSize batchSize, int periods, Cost cost) {
+		for ( int i = 0; i < periods * AdaptiveBatchSize.SAMPLE_COUNT; i++ ) {
+			final int size = batchSize.getSize();
+			batchSize.batchExecuted( size, cost.nanos( size ) );
+		}
+	}
+
+	private interface Cost {
+		long nanos(int size);
+	}
+}
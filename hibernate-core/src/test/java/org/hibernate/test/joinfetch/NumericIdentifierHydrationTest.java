@@ -0,0 +1,185 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.joinfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.LockModeType;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.PersistenceException;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Loads entities with {@code long} and {@code int} identifiers and versions, which are extracted
+ * as primitives for the entities already in the persistence context.
+ */
+public class NumericIdentifierHydrationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private final Logger extractorLogger = LogManager.getLogger( BasicExtractor.class );
+	private Level extractorLogLevel;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Parent.class, Child.class };
+	}
+
+	@Before
+	public void disableExtractionLogging() {
+		// logged extractions are never primitive
+		extractorLogLevel = extractorLogger.getLevel();
+		extractorLogger.setLevel( Level.INFO );
+	}
+
+	@After
+	public void restoreExtractionLogging() {
+		extractorLogger.setLevel( extractorLogLevel );
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Child" ).executeUpdate();
+			session.createQuery( "delete from Parent" ).executeUpdate();
+			final Parent first = new Parent( 1L, "first" );
+			session.persist( first );
+			session.persist( new Parent( 2L, "second" ) );
+			for ( int i = 0; i < 3; i++ ) {
+				session.persist( new Child( i, first ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testJoinFetchRepeatingEntity() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Parent> parents = session.createQuery(
+					"select p from Parent p left join fetch p.children order by p.id",
+					Parent.class
+			).list();
+			assertEquals( 4, parents.size() );
+			assertSame( parents.get( 0 ), parents.get( 2 ) );
+			assertEquals( 3, parents.get( 0 ).children.size() );
+			assertEquals( "second", parents.get( 3 ).name );
+			assertTrue( parents.get( 3 ).children.isEmpty() );
+		} );
+	}
+
+	@Test
+	public void testEntitiesAlreadyLoaded() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Parent parent = session.get( Parent.class, 1L );
+			final Child child = session.get( Child.class, 2 );
+
+			final List<Child> children = session.createQuery(
+					"select c from Child c join fetch c.parent order by c.id",
+					Child.class
+			).list();
+			assertEquals( 3, children.size() );
+			assertSame( child, children.get( 2 ) );
+			for ( Child each : children ) {
+				assertSame( parent, each.parent );
+			}
+		} );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testStaleVersionIsDetectedOnLockUpgrade() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Parent parent = session.get( Parent.class, 1L );
+			final Parent other = session.get( Parent.class, 2L );
+
+			// the version is unchanged
+			session.createQuery( "from Parent where id = 2", Parent.class )
+					.setLockMode( LockModeType.PESSIMISTIC_WRITE )
+					.list();
+
+			doInHibernate( this::sessionFactory, otherSession -> {
+				otherSession.get( Parent.class, 1L ).name = "changed";
+			} );
+
+			try {
+				session.createQuery( "from Parent where id = 1", Parent.class )
+						.setLockMode( LockModeType.PESSIMISTIC_WRITE )
+						.list();
+				fail( "the change of the version should have been detected" );
+			}
+			catch (PersistenceException e) {
+				assertTrue( e.getCause() instanceof StaleObjectStateException );
+			}
+			assertEquals( "first", parent.name );
+			assertEquals( "second", other.name );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "parent")
+	public static class Parent {
+		@Id
+		private Long id;
+
+		@Version
+		private long version;
+
+		private String name;
+
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@Version
+		private int version;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
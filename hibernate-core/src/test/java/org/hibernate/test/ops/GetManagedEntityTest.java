@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops;
+
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Loads by identifier resolved from the entities already managed by the persistence context.
+ */
+public class GetManagedEntityTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Pet.class };
+	}
+
+	@Override
+	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
+		super.configureStandardServiceRegistryBuilder( ssrb );
+		ssrb.applySetting( AvailableSettings.GENERATE_STATISTICS, Boolean.TRUE.toString() );
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Pet" ).executeUpdate();
+			session.createQuery( "delete from Owner" ).executeUpdate();
+			final Owner owner = new Owner( 1L, "John" );
+			session.persist( owner );
+			session.persist( new Owner( 2L, "Jane" ) );
+			session.persist( new Pet( 1, "Rex", owner ) );
+		} );
+	}
+
+	@Test
+	public void testGetManagedEntity() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 1L );
+			final Statistics statistics = sessionFactory().getStatistics();
+			statistics.clear();
+
+			assertSame( owner, session.get( Owner.class, 1L ) );
+			assertSame( owner, session.find( Owner.class, 1L ) );
+			assertSame( owner, session.load( Owner.class, 1L ) );
+			assertEquals( 0, statistics.getEntityLoadCount() );
+		} );
+	}
+
+	@Test
+	public void testPersistenceContextLookupByIdentifier() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 1L );
+			final PersistenceContext persistenceContext = session.unwrap( SessionImplementor.class )
+					.getPersistenceContext();
+			final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Owner.class );
+
+			assertSame( owner, persistenceContext.getEntity( 1L, persister ) );
+			assertNull( persistenceContext.getEntity( 2L, persister ) );
+			assertNull( persistenceContext.getProxy( 1L, persister ) );
+		} );
+	}
+
+	@Test
+	public void testGetRemovedEntity() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 2L );
+			session.remove( owner );
+			assertNull( session.get( Owner.class, 2L ) );
+		} );
+	}
+
+	@Test
+	public void testGetWithExistingProxy() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner proxy = session.load( Owner.class, 1L );
+			assertFalse( Hibernate.isInitialized( proxy ) );
+
+			final Owner owner = session.get( Owner.class, 1L );
+			assertSame( proxy, owner );
+			assertTrue( owner instanceof HibernateProxy );
+			assertTrue( Hibernate.isInitialized( owner ) );
+
+			// the entity is now managed, but the proxy keeps being returned
+			assertSame( proxy, session.get( Owner.class, 1L ) );
+		} );
+	}
+
+	@Test
+	public void testGetWithIncompatibleSubtype() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Owner.class, 1L );
+			// Pet is not part of the Owner hierarchy, its identifier of the same value must not match
+			assertEquals( "Rex", session.get( Pet.class, 1 ).getName() );
+		} );
+	}
+
+	@Test
+	public void testRecycledLoadEventIsNotCountedAsFetch() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Statistics statistics = sessionFactory().getStatistics();
+			final Pet pet = session.get( Pet.class, 1 );
+			// initializing the owner proxy goes through an association fetch, recycling the session load event
+			Hibernate.initialize( pet.getOwner() );
+			statistics.clear();
+
+			session.get( Owner.class, 2L );
+			assertEquals( 1, statistics.getEntityLoadCount() );
+			assertEquals( 0, statistics.getEntityFetchCount() );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "owner")
+	public static class Owner {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Pet")
+	@Table(name = "pet")
+	public static class Pet {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+}
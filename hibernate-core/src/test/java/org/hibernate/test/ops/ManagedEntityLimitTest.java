@@ -0,0 +1,240 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.FlushMode;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Evicts the least recently accessed clean entities over the
+ * {@link AvailableSettings#SESSION_MANAGED_ENTITY_LIMIT managed entity limit}.
+ */
+public class ManagedEntityLimitTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int LIMIT = 5;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
+		super.configureStandardServiceRegistryBuilder( ssrb );
+		ssrb.applySetting( AvailableSettings.SESSION_MANAGED_ENTITY_LIMIT, Integer.toString( LIMIT ) );
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createNativeQuery( "delete from item_tag" ).executeUpdate();
+			session.createQuery( "delete from Item" ).executeUpdate();
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Item item = new Item( i, "item " + i );
+				item.tags.add( "tag " + i );
+				session.persist( item );
+			}
+		} );
+	}
+
+	@Test
+	public void testLeastRecentlyAccessedEntitiesAreEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( LIMIT, session.getStatistics().getManagedEntityLimit() );
+
+			final Item first = session.get( Item.class, 0 );
+			// the entity loaded before the auto flush of the query is evicted, those returned by the query are kept
+			final List<Item> items = session.createQuery( "from Item where id > 0 order by id", Item.class ).list();
+			assertEquals( 9, session.getStatistics().getEntityCount() );
+			assertFalse( session.contains( first ) );
+			assertTrue( session.contains( items.get( 0 ) ) );
+
+			session.flush();
+			assertEquals( LIMIT, session.getStatistics().getEntityCount() );
+			assertFalse( session.contains( items.get( 3 ) ) );
+			assertTrue( session.contains( items.get( 4 ) ) );
+			assertTrue( session.contains( items.get( 8 ) ) );
+
+			// accessing an entity makes it the most recently accessed one
+			assertSame( items.get( 4 ), session.get( Item.class, 5 ) );
+			session.get( Item.class, 0 );
+			assertTrue( session.contains( items.get( 4 ) ) );
+			assertFalse( session.contains( items.get( 5 ) ) );
+		} );
+	}
+
+	@Test
+	public void testDirtyEntityIsNotEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Item first = session.createQuery( "from Item where id < 5 order by id", Item.class ).list().get( 0 );
+			session.flush();
+			first.name = "changed";
+			session.createQuery( "from Item where id >= 5", Item.class ).setHibernateFlushMode( FlushMode.COMMIT ).list();
+			assertEquals( LIMIT + 1, session.getStatistics().getEntityCount() );
+			assertTrue( session.contains( first ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed", session.get( Item.class, 0 ).name );
+		} );
+	}
+
+	@Test
+	public void testChangesToEntitiesOverTheLimitReturnedByQueryAreFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			assertEquals( 10, items.size() );
+			for ( Item item : items ) {
+				assertTrue( session.contains( item ) );
+				item.name = "changed " + item.id;
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed 0", session.get( Item.class, 0 ).name );
+			assertEquals( 10L, session.createQuery( "select count(i) from Item i where i.name like 'changed %'" ).uniqueResult() );
+		} );
+	}
+
+	@Test
+	public void testChangesToEntitiesEvictedBetweenPeriodicFlushesAreFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 10; i < 20; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			assertEquals( 20, items.size() );
+			for ( int i = 0; i < items.size(); i++ ) {
+				// the items not changed yet were evicted by the previous flushes
+				assertEquals( i <= 3, session.contains( items.get( i ) ) );
+				items.get( i ).name = "changed " + items.get( i ).id;
+				if ( i % 4 == 3 ) {
+					session.flush();
+					assertEquals( LIMIT, session.getStatistics().getEntityCount() );
+				}
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed 19", session.get( Item.class, 19 ).name );
+			assertEquals( 20L, session.createQuery( "select count(i) from Item i where i.name like 'changed %'" ).uniqueResult() );
+		} );
+	}
+
+	@Test
+	public void testEvictedEntityIsReassociatedWhenAccessed() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			session.flush();
+			final Item first = items.get( 0 );
+			assertFalse( session.contains( first ) );
+
+			first.name = "changed";
+			assertSame( first, session.get( Item.class, 0 ) );
+			assertTrue( session.contains( first ) );
+			assertSame( items.get( 1 ), session.createQuery( "from Item where id = 1", Item.class ).uniqueResult() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed", session.get( Item.class, 0 ).name );
+		} );
+	}
+
+	@Test
+	public void testCollectionChangesOfEvictedEntitiesAreFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).list();
+			for ( Item item : items ) {
+				item.tags.size();
+			}
+			session.flush();
+			final List<Item> evicted = new ArrayList<>();
+			for ( Item item : items ) {
+				if ( !session.contains( item ) ) {
+					evicted.add( item );
+				}
+			}
+			assertEquals( 10 - LIMIT, evicted.size() );
+
+			evicted.get( 0 ).tags.add( "added" );
+			evicted.get( 1 ).tags = new ArrayList<>();
+			evicted.get( 1 ).tags.add( "replaced" );
+			session.flush();
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item i where size(i.tags) = 2", Item.class ).list();
+			assertEquals( 1, items.size() );
+			assertEquals( "added", items.get( 0 ).tags.get( 1 ) );
+			assertEquals( 1L, session.createQuery( "select count(i) from Item i join i.tags t where t = 'replaced'" ).uniqueResult() );
+			assertEquals( 11, ( (Number) session.createNativeQuery( "select count(*) from item_tag" ).uniqueResult() ).intValue() );
+		} );
+	}
+
+	@Test
+	public void testNewEntitiesAreEvictedOnceFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Item.class, 0 );
+			for ( int i = 10; i < 20; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+			assertEquals( 11, session.getStatistics().getEntityCount() );
+
+			session.flush();
+			assertEquals( LIMIT, session.getStatistics().getEntityCount() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 20L, session.createQuery( "select count(i) from Item i" ).uniqueResult() );
+		} );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ElementCollection
+		@CollectionTable(name = "item_tag")
+		private List<String> tags = new ArrayList<>();
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
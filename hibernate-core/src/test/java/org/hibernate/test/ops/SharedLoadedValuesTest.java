@@ -0,0 +1,194 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops;
+
+import java.util.Date;
+import java.util.List;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Shares equal immutable values between loaded entities, see
+ * {@link AvailableSettings#SESSION_SHARED_LOADED_VALUE_LIMIT}.
+ */
+public class SharedLoadedValuesTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int LIMIT = 3;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Order.class };
+	}
+
+	@Override
+	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
+		super.configureStandardServiceRegistryBuilder( ssrb );
+		ssrb.applySetting( AvailableSettings.SESSION_SHARED_LOADED_VALUE_LIMIT, Integer.toString( LIMIT ) );
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Order" ).executeUpdate();
+			final Date created = new Date( 0 );
+			for ( int i = 0; i < 10; i++ ) {
+				final Order order = new Order( i, i % 2 == 0 ? "open" : "closed", 1000L + i % 2, 100_000L + i, created );
+				order.code = new Code( i % 2 == 0 ? "A" : "a" );
+				session.persist( order );
+			}
+		} );
+	}
+
+	@Test
+	public void testEqualValuesAreShared() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Order> orders = session.createQuery( "from Order order by id", Order.class ).list();
+			assertSame( orders.get( 0 ).amount, orders.get( 2 ).amount );
+			assertSame( orders.get( 1 ).amount, orders.get( 9 ).amount );
+
+			// the snapshot of the primitive property shares the boxed value
+			assertSame( loadedQuantity( session, orders.get( 0 ) ), loadedQuantity( session, orders.get( 8 ) ) );
+
+			// mutable values are not shared
+			assertNotSame( orders.get( 0 ).created, orders.get( 2 ).created );
+		} );
+	}
+
+	@Test
+	public void testConvertedValuesAreNotShared() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Order> orders = session.createQuery( "from Order order by id", Order.class ).list();
+			// the converted values are equal ignoring case, but each entity keeps its own
+			assertEquals( "A", orders.get( 0 ).code.value );
+			assertEquals( "a", orders.get( 1 ).code.value );
+			assertNotSame( orders.get( 0 ).code, orders.get( 2 ).code );
+		} );
+	}
+
+	@Test
+	public void testPropertyWithTooManyDistinctValuesIsNoLongerShared() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Order first = session.createQuery( "from Order order by id", Order.class ).list().get( 0 );
+			session.evict( first );
+
+			final Order reloaded = session.get( Order.class, 0 );
+			assertSame( first.amount, reloaded.amount );
+			assertNotSame( first.number, reloaded.number );
+			assertEquals( first.number, reloaded.number );
+		} );
+	}
+
+	@Test
+	public void testChangeOfSharedValueIsFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Order> orders = session.createQuery( "from Order order by id", Order.class ).list();
+			orders.get( 0 ).status = "closed";
+			orders.get( 1 ).amount = 1000L;
+			orders.get( 2 ).quantity = 1;
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "closed", session.get( Order.class, 0 ).status );
+			assertEquals( "open", session.get( Order.class, 2 ).status );
+			assertEquals( Long.valueOf( 1000L ), session.get( Order.class, 1 ).amount );
+			assertEquals( Long.valueOf( 1001L ), session.get( Order.class, 3 ).amount );
+			assertEquals( 1, session.get( Order.class, 2 ).quantity );
+			assertEquals( 1000, session.get( Order.class, 4 ).quantity );
+		} );
+	}
+
+	private static Object loadedQuantity(Session session, Order order) {
+		return ( (SessionImplementor) session ).getPersistenceContext().getEntry( order ).getLoadedValue( "quantity" );
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "orders")
+	public static class Order {
+		@Id
+		private Integer id;
+
+		private String status;
+
+		private Long amount;
+
+		private Long number;
+
+		private int quantity;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date created;
+
+		@Convert(converter = CodeConverter.class)
+		private Code code;
+
+		public Order() {
+		}
+
+		public Order(Integer id, String status, Long amount, Long number, Date created) {
+			this.id = id;
+			this.status = status;
+			this.amount = amount;
+			this.number = number;
+			this.quantity = 1000;
+			this.created = created;
+		}
+	}
+
+	/**
+	 * An immutable value whose equality ignores case.
+	 */
+	@Immutable
+	public static final class Code {
+		private final String value;
+
+		public Code(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Code && value.equalsIgnoreCase( ( (Code) o ).value );
+		}
+
+		@Override
+		public int hashCode() {
+			return value.toLowerCase().hashCode();
+		}
+	}
+
+	public static class CodeConverter implements AttributeConverter<Code, String> {
+		@Override
+		public String convertToDatabaseColumn(Code code) {
+			return code == null ? null : code.value;
+		}
+
+		@Override
+		public Code convertToEntityAttribute(String value) {
+			return value == null ? null : new Code( value );
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Query plan caches warmed up with the queries of the previous SessionFactory, see
+ * {@link AvailableSettings#QUERY_PLAN_CACHE_ARCHIVE}.
+ */
+public class QueryPlanArchiveTest extends BaseUnitTestCase {
+
+	private static final String[] QUERIES = {
+			"from Item",
+			"select i.name from Item i where i.id = :id",
+			"select count(i) from Item i where i.name like ?1"
+	};
+
+	private Path directory;
+	private Path archive;
+
+	@Before
+	public void createDirectory() throws IOException {
+		directory = Files.createTempDirectory( "query-plan-archive" );
+		archive = directory.resolve( "plans.bin" );
+	}
+
+	@After
+	public void deleteDirectory() throws IOException {
+		Files.deleteIfExists( archive );
+		Files.deleteIfExists( directory );
+	}
+
+	@Test
+	public void testCacheIsWarmedUpWithArchivedQueries() {
+		withSessionFactory( sessionFactory -> translate( sessionFactory, QUERIES ), Item.class );
+
+		withSessionFactory(
+				sessionFactory -> {
+					translate( sessionFactory, QUERIES );
+					final Statistics statistics = sessionFactory.getStatistics();
+					assertEquals( QUERIES.length, statistics.getQueryPlanCacheHitCount() );
+					assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+				},
+				Item.class
+		);
+	}
+
+	@Test
+	public void testArchiveKeepsQueriesOfPreviousRuns() {
+		final String query = "from Item i where i.name = :name";
+		withSessionFactory( sessionFactory -> translate( sessionFactory, QUERIES ), Item.class );
+		withSessionFactory( sessionFactory -> translate( sessionFactory, query ), Item.class );
+
+		withSessionFactory(
+				sessionFactory -> {
+					translate( sessionFactory, QUERIES );
+					translate( sessionFactory, query );
+					assertEquals( QUERIES.length + 1, sessionFactory.getStatistics().getQueryPlanCacheHitCount() );
+					assertEquals( 0, sessionFactory.getStatistics().getQueryPlanCacheMissCount() );
+				},
+				Item.class
+		);
+	}
+
+	@Test
+	public void testQueriesNotWarmedUpYetAreArchivedAgain() {
+		withSessionFactory( sessionFactory -> translate( sessionFactory, QUERIES ), Item.class );
+		// closed right away, whether the warm-up is over or not
+		withSessionFactory( false, sessionFactory -> {}, Item.class );
+
+		withSessionFactory(
+				sessionFactory -> {
+					translate( sessionFactory, QUERIES );
+					assertEquals( QUERIES.length, sessionFactory.getStatistics().getQueryPlanCacheHitCount() );
+				},
+				Item.class
+		);
+	}
+
+	@Test
+	public void testArchiveOfAnotherMappingIsIgnored() {
+		withSessionFactory( sessionFactory -> translate( sessionFactory, QUERIES ), Item.class );
+
+		withSessionFactory(
+				sessionFactory -> {
+					translate( sessionFactory, QUERIES );
+					assertEquals( 0, sessionFactory.getStatistics().getQueryPlanCacheHitCount() );
+					assertEquals( QUERIES.length, sessionFactory.getStatistics().getQueryPlanCacheMissCount() );
+				},
+				Item.class,
+				Order.class
+		);
+	}
+
+	@Test
+	public void testCorruptArchiveIsIgnored() throws IOException {
+		Files.write( archive, "not an archive".getBytes( StandardCharsets.UTF_8 ) );
+
+		withSessionFactory(
+				sessionFactory -> {
+					translate( sessionFactory, QUERIES );
+					assertEquals( QUERIES.length, sessionFactory.getStatistics().getQueryPlanCacheMissCount() );
+				},
+				Item.class
+		);
+	}
+
+	@Test
+	public void testArchiveWithCorruptBodyIsIgnored() throws IOException {
+		withSessionFactory( sessionFactory -> translate( sessionFactory, QUERIES ), Item.class );
+		final byte[] valid = Files.readAllBytes( archive );
+		// after the magic number, the format version and the fingerprint
+		final int countOffset = 10 + ByteBuffer.wrap( valid, 8, 2 ).getShort();
+		final int firstLengthOffset = countOffset + 5;
+
+		for ( int[] corruption : new int[][] {
+				{ countOffset, -1 },
+				{ countOffset, Integer.MAX_VALUE },
+				{ firstLengthOffset, -1 },
+				{ firstLengthOffset, Integer.MAX_VALUE },
+				{ firstLengthOffset, valid.length }
+		} ) {
+			final byte[] corrupt = valid.clone();
+			ByteBuffer.wrap( corrupt ).putInt( corruption[0], corruption[1] );
+			Files.write( archive, corrupt );
+
+			withSessionFactory(
+					sessionFactory -> {
+						translate( sessionFactory, QUERIES );
+						assertEquals( QUERIES.length, sessionFactory.getStatistics().getQueryPlanCacheMissCount() );
+					},
+					Item.class
+			);
+		}
+	}
+
+	private void translate(SessionFactoryImplementor sessionFactory, String... queries) {
+		for ( String query : queries ) {
+			sessionFactory.getQueryPlanCache().getHQLQueryPlan( query, false, Collections.emptyMap() );
+		}
+	}
+
+	private void withSessionFactory(Consumer<SessionFactoryImplementor> action, Class... annotatedClasses) {
+		withSessionFactory( true, action, annotatedClasses );
+	}
+
+	private void withSessionFactory(
+			boolean awaitWarmUp,
+			Consumer<SessionFactoryImplementor> action,
+			Class... annotatedClasses) {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" )
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_ARCHIVE, archive.toString() )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( ssr );
+			for ( Class annotatedClass : annotatedClasses ) {
+				metadataSources.addAnnotatedClass( annotatedClass );
+			}
+			try ( SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) metadataSources.buildMetadata()
+					.buildSessionFactory() ) {
+				if ( awaitWarmUp ) {
+					assertTrue( sessionFactory.getQueryPlanCache().awaitWarmUp( 30, TimeUnit.SECONDS ) );
+				}
+				sessionFactory.getStatistics().clear();
+				action.accept( sessionFactory );
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "archived_item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "archived_order")
+	public static class Order {
+		@Id
+		private Long id;
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.LockMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.annotations.Where;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
+import org.hibernate.hql.internal.ast.SimpleQueryTranslator;
+import org.hibernate.hql.spi.ParameterInformation;
+import org.hibernate.hql.spi.ParameterTranslations;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link SimpleQueryTranslator} translates the queries it recognizes as {@link QueryTranslatorImpl} does.
+ */
+public class SimpleQueryTranslatorTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String[] SIMPLE_QUERIES = {
+			"from Item",
+			"from Item i",
+			"from Item as i",
+			"select i from Item i",
+			"select i from Item as i where i.name = :name",
+			"from org.hibernate.test.queryplan.SimpleQueryTranslatorTest$Item i where i.id = :id",
+			"from Item where name = :name and price = :price",
+			"from Item i where name = :name and i.price = :price",
+			"from Item i where i.name = :name and i.price = :price and i.name = :name",
+			"from Item i where :name = i.name",
+			"from Item i where i.version = ?2 and i.id = ?1",
+			"from Item i where i.name = :name order by i.id",
+			"FROM Item I WHERE I.name=:name ORDER BY I.id DESC, I.name ASC",
+			"from Item i order by i.price desc, name",
+			"from Tag",
+			"from Tag t where t.id = ?1"
+	};
+
+	private static final String[] OTHER_QUERIES = {
+			"select i.name from Item i",
+			"select count(i) from Item i",
+			"select distinct i from Item i",
+			"from Item i join i.owner o",
+			"from Item i where i.name like :name",
+			"from Item i where i.name = 'test'",
+			"from Item i where i.price = 1",
+			"from Item i where i.name = :name or i.price = :price",
+			"from Item i where i.owner = :owner",
+			"from Item i where i.owner.name = :name",
+			"from Item i where i.name is null",
+			"from Item i where i.name = ?",
+			"from Item i where upper(i.name) = :name",
+			"from Item i order by i.owner",
+			"from Item i, Owner o",
+			"select o from Item i",
+			"from Item i group by i.name",
+			"from Item i where i.class = :type",
+			"from Archived a",
+			"from Unknown u"
+	};
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class, Owner.class, Tag.class, Archived.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.QUERY_SIMPLE_TRANSLATION, "true" );
+	}
+
+	@Test
+	public void testTranslationMatchesFullTranslation() {
+		for ( String query : SIMPLE_QUERIES ) {
+			for ( boolean shallow : new boolean[] { false, true } ) {
+				final QueryTranslator simple = SimpleQueryTranslator.recognize( query, query, Collections.emptyMap(), sessionFactory() );
+				assertNotNull( "Not recognized: " + query, simple );
+				simple.compile( Collections.emptyMap(), shallow );
+
+				final QueryTranslator full = new QueryTranslatorImpl( query, query, Collections.emptyMap(), sessionFactory() );
+				full.compile( Collections.emptyMap(), shallow );
+
+				final String message = query + ( shallow ? " (shallow)" : "" );
+				assertEquals( message, full.getSQLString(), simple.getSQLString() );
+				assertReturnTypes( message, full.getReturnTypes(), simple.getReturnTypes() );
+				assertArrayEquals( message, full.getReturnAliases(), simple.getReturnAliases() );
+				assertArrayEquals( message, full.getColumnNames(), simple.getColumnNames() );
+				assertEquals( message, full.getQuerySpaces(), simple.getQuerySpaces() );
+				assertParameterTranslations( message, full.getParameterTranslations(), simple.getParameterTranslations() );
+			}
+		}
+	}
+
+	@Test
+	public void testOtherQueriesAreNotRecognized() {
+		for ( String query : OTHER_QUERIES ) {
+			assertNull( query, SimpleQueryTranslator.recognize( query, query, Collections.emptyMap(), sessionFactory() ) );
+		}
+	}
+
+	@Test
+	public void testQueryExecution() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = new Owner( 1L, "owner" );
+			session.persist( owner );
+			session.persist( new Item( 1L, "first", 10, owner ) );
+			session.persist( new Item( 2L, "second", 20, owner ) );
+			session.persist( new Item( 3L, "second", 30, null ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item i where i.name = :name order by i.price desc", Item.class )
+					.setParameter( "name", "second" )
+					.list();
+			assertEquals( 2, items.size() );
+			assertEquals( 3L, (long) items.get( 0 ).id );
+			assertEquals( 2L, (long) items.get( 1 ).id );
+			assertEquals( "owner", items.get( 1 ).owner.name );
+
+			final Item item = session.createQuery( "select i from Item i where i.id = ?1 and i.name = ?2", Item.class )
+					.setParameter( 1, 1L )
+					.setParameter( 2, "first" )
+					.setLockMode( "i", LockMode.PESSIMISTIC_WRITE )
+					.uniqueResult();
+			assertEquals( 10, item.price );
+			assertEquals( LockMode.PESSIMISTIC_WRITE, session.getCurrentLockMode( item ) );
+
+			assertTrue( session.createQuery( "from Item i where i.name = :name", Item.class )
+					.setParameter( "name", "none" )
+					.list()
+					.isEmpty() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Iterator iterator = session.createQuery( "from Item i where i.name = :name order by i.id" )
+					.setParameter( "name", "second" )
+					.iterate();
+			assertEquals( 2L, session.getIdentifier( iterator.next() ) );
+			assertEquals( 3L, session.getIdentifier( iterator.next() ) );
+			assertFalse( iterator.hasNext() );
+
+			try ( ScrollableResults results = session.createQuery( "from Item order by id" ).scroll() ) {
+				int count = 0;
+				while ( results.next() ) {
+					assertEquals( (long) ++count, session.getIdentifier( results.get( 0 ) ) );
+				}
+				assertEquals( 3, count );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Item" ).executeUpdate();
+			session.createQuery( "delete from Owner" ).executeUpdate();
+		} );
+	}
+
+	private void assertReturnTypes(String message, Type[] expected, Type[] actual) {
+		assertEquals( message, expected.length, actual.length );
+		for ( int i = 0; i < expected.length; i++ ) {
+			assertEquals( message, expected[i].getClass(), actual[i].getClass() );
+			assertEquals( message, expected[i].getName(), actual[i].getName() );
+			assertEquals( message, expected[i].isEntityType(), actual[i].isEntityType() );
+			assertEquals(
+					message,
+					( (EntityType) expected[i] ).isReferenceToPrimaryKey(),
+					( (EntityType) actual[i] ).isReferenceToPrimaryKey()
+			);
+		}
+	}
+
+	private void assertParameterTranslations(String message, ParameterTranslations expected, ParameterTranslations actual) {
+		assertEquals( message, expected.getNamedParameterInformationMap().keySet(), actual.getNamedParameterInformationMap().keySet() );
+		for ( String name : expected.getNamedParameterInformationMap().keySet() ) {
+			assertParameterInformation(
+					message + " :" + name,
+					expected.getNamedParameterInformation( name ),
+					actual.getNamedParameterInformation( name )
+			);
+		}
+		assertEquals( message, expected.getPositionalParameterInformationMap().keySet(), actual.getPositionalParameterInformationMap().keySet() );
+		for ( Integer label : expected.getPositionalParameterInformationMap().keySet() ) {
+			assertParameterInformation(
+					message + " ?" + label,
+					expected.getPositionalParameterInformation( label ),
+					actual.getPositionalParameterInformation( label )
+			);
+		}
+	}
+
+	private void assertParameterInformation(String message, ParameterInformation expected, ParameterInformation actual) {
+		assertEquals( message, expected.getExpectedType(), actual.getExpectedType() );
+		assertEquals( message, Arrays.toString( expected.getSourceLocations() ), Arrays.toString( actual.getSourceLocations() ) );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "simple_item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private int price;
+
+		@Version
+		private int version;
+
+		@ManyToOne
+		private Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, int price, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "simple_owner")
+	public static class Owner {
+		@Id
+		private Long id;
+
+		@Column(name = "owner_name")
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Tag")
+	@Table(name = "simple_tag")
+	public static class Tag {
+		@Id
+		private Long id;
+	}
+
+	@Entity(name = "Archived")
+	@Table(name = "simple_archived")
+	@Where(clause = "archived = 1")
+	public static class Archived {
+		@Id
+		private Long id;
+
+		private boolean archived;
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.sql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.query.spi.sql.NativeSQLQueryReturn;
+import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.loader.custom.CustomQuery;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+/**
+ * Wrapped result sets of a native query share the column name resolutions of its query plan.
+ */
+public class NativeQueryColumnNameCacheTest extends BaseCoreFunctionalTestCase {
+
+	private static final String SQL = "select name, id from TEST_ENTITY order by id";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { TestEntity.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.WRAP_RESULT_SETS, Boolean.TRUE.toString() );
+	}
+
+	@Test
+	public void testColumnNameCacheIsSharedByExecutions() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new TestEntity( 1L, "first" ) );
+			session.persist( new TestEntity( 2L, "second" ) );
+		} );
+
+		for ( int i = 0; i < 2; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				final List<Object[]> rows = session.createNativeQuery( SQL ).list();
+				assertEquals( 2, rows.size() );
+				assertEquals( "first", rows.get( 0 )[0] );
+				assertEquals( "second", rows.get( 1 )[0] );
+			} );
+		}
+
+		final CustomQuery customQuery = sessionFactory().getQueryPlanCache()
+				.getNativeSQLQueryPlan( new NativeSQLQuerySpecification( SQL, new NativeSQLQueryReturn[0], null ) )
+				.getCustomQuery();
+		// already built by the executions, so the result set is not even looked at
+		final ResultSet resultSet = Mockito.mock( ResultSet.class );
+		assertNotNull( customQuery.getColumnNameCache( resultSet ) );
+		verifyZeroInteractions( resultSet );
+	}
+
+	@Entity(name = "TestEntity")
+	@Table(name = "TEST_ENTITY")
+	public static class TestEntity {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.hibernate.internal.util.collections.LinearProbingHashMap;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LinearProbingHashMapTest extends BaseUnitTestCase {
+
+	@Test
+	public void testBasicOperations() {
+		final Map<String, Integer> map = new LinearProbingHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( Integer.valueOf( 1 ), map.put( "a", 3 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( Integer.valueOf( 3 ), map.get( "a" ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertFalse( map.containsKey( "c" ) );
+		assertNull( map.get( null ) );
+		assertEquals( Integer.valueOf( 2 ), map.remove( "b" ) );
+		assertNull( map.remove( "b" ) );
+		assertEquals( 1, map.size() );
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( "a" ) );
+	}
+
+	@Test
+	public void testNullValues() {
+		final Map<String, Object> map = new LinearProbingHashMap<>();
+		map.put( "a", null );
+		assertTrue( map.containsKey( "a" ) );
+		assertNull( map.get( "a" ) );
+		assertEquals( 1, map.size() );
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		final Map<CollidingKey, Integer> map = new LinearProbingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+		assertEquals( 100, map.size() );
+		for ( int i = 0; i < 100; i += 2 ) {
+			assertEquals( Integer.valueOf( i ), map.remove( new CollidingKey( i ) ) );
+		}
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( i % 2 == 0 ? null : Integer.valueOf( i ), map.get( new CollidingKey( i ) ) );
+		}
+	}
+
+	@Test
+	public void testRandomOperationsAgainstHashMap() {
+		final Random random = new Random( 42 );
+		final Map<Long, Long> expected = new HashMap<>();
+		final Map<Long, Long> actual = new LinearProbingHashMap<>();
+		for ( int i = 0; i < 200_000; i++ ) {
+			final Long key = (long) random.nextInt( 5_000 );
+			switch ( random.nextInt( 3 ) ) {
+				case 0:
+					assertEquals( expected.remove( key ), actual.remove( key ) );
+					break;
+				default:
+					final Long value = random.nextLong();
+					assertEquals( expected.put( key, value ), actual.put( key, value ) );
+			}
+			assertEquals( expected.size(), actual.size() );
+		}
+		assertEquals( expected, actual );
+		assertEquals( actual, expected );
+		assertEquals( expected.keySet(), actual.keySet() );
+	}
+
+	@Test
+	public void testIteratorRemoval() {
+		final Random random = new Random( 7 );
+		for ( int round = 0; round < 50; round++ ) {
+			final Map<CollidingKey, Integer> map = new LinearProbingHashMap<>();
+			final Set<Integer> remaining = new HashSet<>();
+			final int count = 1 + random.nextInt( 500 );
+			for ( int i = 0; i < count; i++ ) {
+				// few distinct hash codes, so that probe sequences are long and wrap around the table
+				map.put( new CollidingKey( i, random.nextInt( 16 ) ), i );
+				remaining.add( i );
+			}
+
+			final Set<Integer> seen = new HashSet<>();
+			final Iterator<Map.Entry<CollidingKey, Integer>> iterator = map.entrySet().iterator();
+			while ( iterator.hasNext() ) {
+				final Map.Entry<CollidingKey, Integer> entry = iterator.next();
+				assertTrue( "Entry returned twice : " + entry.getValue(), seen.add( entry.getValue() ) );
+				if ( random.nextBoolean() ) {
+					iterator.remove();
+					remaining.remove( entry.getValue() );
+				}
+			}
+			assertEquals( count, seen.size() );
+			assertEquals( remaining.size(), map.size() );
+			for ( Map.Entry<CollidingKey, Integer> entry : map.entrySet() ) {
+				assertTrue( remaining.contains( entry.getValue() ) );
+				assertEquals( entry.getValue(), map.get( entry.getKey() ) );
+			}
+		}
+	}
+
+	@Test
+	public void testFailFastIterator() {
+		final Map<String, Integer> map = new LinearProbingHashMap<>();
+		map.put( "a", 1 );
+		map.put( "b", 2 );
+		final Iterator<String> iterator = map.keySet().iterator();
+		iterator.next();
+		map.put( "c", 3 );
+		try {
+			iterator.next();
+			fail( "Expecting ConcurrentModificationException" );
+		}
+		catch (ConcurrentModificationException expected) {
+		}
+	}
+
+	@Test
+	public void testEntrySetValue() {
+		final Map<String, Integer> map = new LinearProbingHashMap<>();
+		map.put( "a", 1 );
+		map.entrySet().iterator().next().setValue( 2 );
+		assertEquals( Integer.valueOf( 2 ), map.get( "a" ) );
+	}
+
+	@Test
+	public void testKeyLookupByPrimitive() {
+		final LinearProbingHashMap<CollidingKey, Integer> map = new LinearProbingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+		final LinearProbingHashMap.LongKeyMatcher<CollidingKey, Object> matcher = (key, value, ignored) -> key.value == value;
+		for ( long i = 0; i < 100; i++ ) {
+			final CollidingKey key = map.getKey( (int) ( i % 3 ), i, null, matcher );
+			assertEquals( i, key.value );
+			assertEquals( Integer.valueOf( key.value ), map.get( key ) );
+		}
+		assertNull( map.getKey( 1, 100L, null, matcher ) );
+	}
+
+	private static class CollidingKey {
+		private final int value;
+		private final int hashCode;
+
+		CollidingKey(int value) {
+			this( value, value % 3 );
+		}
+
+		CollidingKey(int value, int hashCode) {
+			this.value = value;
+			this.hashCode = hashCode;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingKey && ( (CollidingKey) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
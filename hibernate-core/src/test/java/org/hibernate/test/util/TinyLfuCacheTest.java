@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.internal.util.collections.TinyLfuCache;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TinyLfuCacheTest extends BaseUnitTestCase {
+
+	@Test
+	public void testBasicOperations() {
+		final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>( 10 );
+		assertNull( cache.get( "a" ) );
+		assertNull( cache.putIfAbsent( "a", 1 ) );
+		assertEquals( Integer.valueOf( 1 ), cache.putIfAbsent( "a", 2 ) );
+		assertEquals( Integer.valueOf( 1 ), cache.get( "a" ) );
+		assertEquals( Integer.valueOf( 3 ), cache.computeIfAbsent( "b", key -> 3 ) );
+		assertEquals( Integer.valueOf( 3 ), cache.computeIfAbsent( "b", key -> 4 ) );
+		assertEquals( 2, cache.size() );
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertNull( cache.get( "a" ) );
+		assertNull( cache.putIfAbsent( "a", 5 ) );
+		assertEquals( Integer.valueOf( 5 ), cache.get( "a" ) );
+	}
+
+	@Test
+	public void testSizeIsBounded() {
+		final List<Integer> evicted = new ArrayList<>();
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 100 );
+		cache.setEvictionListener( evicted::add );
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.putIfAbsent( i, i );
+			assertTrue( cache.size() <= 100 );
+		}
+		assertEquals( 100, cache.size() );
+		assertEquals( 900, cache.getEvictionCount() );
+		assertEquals( 900, evicted.size() );
+		for ( Integer key : evicted ) {
+			assertNull( cache.get( key ) );
+		}
+	}
+
+	@Test
+	public void testSingleEntry() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 1 );
+		for ( int i = 0; i < 10; i++ ) {
+			cache.putIfAbsent( i, i );
+			assertEquals( Integer.valueOf( i ), cache.get( i ) );
+			assertEquals( 1, cache.size() );
+		}
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 100 );
+		for ( int i = 0; i < 80; i++ ) {
+			cache.putIfAbsent( i, i );
+		}
+
+		// each key used once in between two uses of a frequently used key, so that a LRU policy would only keep
+		// the keys used once
+		int misses = 0;
+		for ( int i = 0; i < 10_000; i++ ) {
+			cache.putIfAbsent( 1000 + i, i );
+			if ( cache.get( i % 80 ) == null ) {
+				cache.putIfAbsent( i % 80, i % 80 );
+				misses++;
+			}
+		}
+		assertEquals( 0, misses );
+		for ( int i = 0; i < 80; i++ ) {
+			assertNotNull( cache.get( i ) );
+		}
+		assertEquals( 100, cache.size() );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final int threads = 8;
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 200 );
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					for ( int j = 0; j < 100_000; j++ ) {
+						// a skewed key distribution
+						final int key = random.nextInt( 1 + random.nextInt( 2000 ) );
+						assertEquals( Integer.valueOf( key ), cache.computeIfAbsent( key, k -> k ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals( 200, cache.size() );
+	}
+}
@@ -272,6 +272,18 @@ abstract public class DialectChecks {
 		}
 	}
 
+	public static class SupportsMultiRowInsert implements DialectCheck {
+		public boolean isMatch(Dialect dialect) {
+			return dialect.supportsMultiRowInsert();
+		}
+	}
+
+	public static class SupportsBatchedGetGeneratedKeys implements DialectCheck {
+		public boolean isMatch(Dialect dialect) {
+			return dialect.getIdentityColumnSupport().supportsBatchedGetGeneratedKeys();
+		}
+	}
+
 	public static class SupportsSelectAliasInGroupByClause implements DialectCheck {
 		public boolean isMatch(Dialect dialect) {
 			return dialect.supportsSelectAliasInGroupByClause();